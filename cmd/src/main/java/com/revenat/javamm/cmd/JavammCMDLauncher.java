@@ -19,34 +19,111 @@ package com.revenat.javamm.cmd;
 
 import com.revenat.javamm.code.fragment.SourceCode;
 import com.revenat.javamm.compiler.error.JavammSyntaxError;
+import com.revenat.javamm.interpreter.ExecutionEngine;
 import com.revenat.javamm.interpreter.error.JavammRuntimeError;
 import com.revenat.javamm.vm.VirtualMachine;
 import com.revenat.javamm.vm.VirtualMachineBuilder;
 
 import java.util.Arrays;
+import java.util.Locale;
 
 import static com.revenat.javamm.code.util.ExceptionUtils.wrapCheckedException;
+import static java.lang.String.format;
 
 /**
+ * Launches javamm virtual machine for the source files specified as arguments.
+ * Arguments which start with {@value #OPTION_PREFIX} configure the virtual machine:
+ * <ul>
+ *     <li>{@value #MAX_STACK_SIZE_OPTION}{@code <size>} - max depth of the script call stack;</li>
+ *     <li>{@value #EXECUTION_ENGINE_OPTION}{@code <engine>} - name of the {@linkplain ExecutionEngine
+ *     execution engine}, e.g. {@code register_machine};</li>
+ *     <li>{@value #MEMOIZATION_CACHE_SIZE_OPTION}{@code <size>} - max number of the memoized results
+ *     of the pure functions, memoization is disabled by default;</li>
+ *     <li>{@value #MEMOIZATION_STATISTICS_OPTION} - prints hit and miss counters of the memoization
+ *     cache of the pure functions to the error stream after the run</li>
+ * </ul>
+ *
  * @author Vitaliy Dragun
  */
 public final class JavammCMDLauncher {
 
+    static final String OPTION_PREFIX = "--";
+
+    static final String MAX_STACK_SIZE_OPTION = "--max-stack-size=";
+
+    static final String EXECUTION_ENGINE_OPTION = "--execution-engine=";
+
+    static final String MEMOIZATION_CACHE_SIZE_OPTION = "--memoization-cache-size=";
+
+    static final String MEMOIZATION_STATISTICS_OPTION = "--memoization-statistics";
+
     private JavammCMDLauncher() {
     }
 
     public static void main(final String... args) {
-        final VirtualMachine vm = new VirtualMachineBuilder().build();
+        final VirtualMachine vm;
+        try {
+            vm = buildVirtualMachine(args);
+        } catch (final IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            return;
+        }
 
         try {
             vm.run(sourceCodeFrom(args));
         } catch (final JavammSyntaxError | JavammRuntimeError e) {
             System.err.println(e.getMessage());
         }
+
+        if (Arrays.asList(args).contains(MEMOIZATION_STATISTICS_OPTION)) {
+            System.err.println(format("Memoization statistics: %s", vm.getMemoizationStatistics()));
+        }
+    }
+
+    private static VirtualMachine buildVirtualMachine(final String[] args) {
+        final VirtualMachineBuilder builder = new VirtualMachineBuilder();
+        for (final String arg : args) {
+            if (arg.startsWith(MAX_STACK_SIZE_OPTION)) {
+                builder.setMaxStackSize(parseMaxStackSize(arg.substring(MAX_STACK_SIZE_OPTION.length())));
+            } else if (arg.startsWith(EXECUTION_ENGINE_OPTION)) {
+                builder.setExecutionEngine(parseExecutionEngine(arg.substring(EXECUTION_ENGINE_OPTION.length())));
+            } else if (arg.startsWith(MEMOIZATION_CACHE_SIZE_OPTION)) {
+                builder.setMemoizationCacheSize(
+                    parseMemoizationCacheSize(arg.substring(MEMOIZATION_CACHE_SIZE_OPTION.length())));
+            } else if (arg.startsWith(OPTION_PREFIX) && !arg.equals(MEMOIZATION_STATISTICS_OPTION)) {
+                throw new IllegalArgumentException(format("Unsupported option: %s", arg));
+            }
+        }
+        return builder.build();
+    }
+
+    private static int parseMaxStackSize(final String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (final NumberFormatException e) {
+            throw new IllegalArgumentException(format("Invalid max stack size: %s", value), e);
+        }
+    }
+
+    private static int parseMemoizationCacheSize(final String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (final NumberFormatException e) {
+            throw new IllegalArgumentException(format("Invalid memoization cache size: %s", value), e);
+        }
+    }
+
+    private static ExecutionEngine parseExecutionEngine(final String value) {
+        try {
+            return ExecutionEngine.valueOf(value.toUpperCase(Locale.ENGLISH));
+        } catch (final IllegalArgumentException e) {
+            throw new IllegalArgumentException(format("Invalid execution engine: %s", value), e);
+        }
     }
 
     private static SourceCode[] sourceCodeFrom(final String[] args) {
         return Arrays.stream(args)
+            .filter(arg -> !arg.startsWith(OPTION_PREFIX))
             .map(arg -> wrapCheckedException(() -> new FileSourceCode(arg)))
             .toArray(SourceCode[]::new);
     }
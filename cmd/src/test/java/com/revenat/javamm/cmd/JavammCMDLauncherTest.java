@@ -76,6 +76,63 @@ class JavammCMDLauncherTest {
             .println(contains("Runtime error: Main function not found, please define the main function as: 'function main()'"));
     }
 
+    @Test
+    void shouldLaunchVirtualMachineWithSpecifiedMaxStackSizeAndExecutionEngine(@TempDir Path sourceFileDir)
+        throws IOException {
+        Path testSourceFile = createFileWithContent(sourceFileDir, "test.javamm", List.of(
+            "function main() {",
+            "   sum(5000)",
+            "}",
+            "function sum(n) {",
+            "   if (n == 0) {",
+            "       return 0",
+            "   }",
+            "   return n + sum(n - 1)",
+            "}"));
+
+        JavammCMDLauncher.main("--max-stack-size=10000", "--execution-engine=register_machine",
+            testSourceFile.toString());
+
+        verify(errMock, never()).println(anyString());
+    }
+
+    @Test
+    void shouldPrintMemoizationStatisticsIfRequested(@TempDir Path sourceFileDir) throws IOException {
+        Path testSourceFile = createFileWithContent(sourceFileDir, "test.javamm", List.of(
+            "function main() {",
+            "   square(2)",
+            "   square(2)",
+            "}",
+            "function square(n) {",
+            "   return n * n",
+            "}"));
+
+        JavammCMDLauncher.main("--memoization-cache-size=16", "--memoization-statistics", testSourceFile.toString());
+
+        verify(errMock).println("Memoization statistics: hits=1, misses=1, cached results=1");
+    }
+
+    @Test
+    void shouldFailIfMaxStackSizeIsNotNumber() {
+        JavammCMDLauncher.main("--max-stack-size=deep");
+
+        verify(errMock).println(contains("Invalid max stack size: deep"));
+    }
+
+    @Test
+    void shouldFailIfMemoizationCacheSizeIsNotNumber() {
+        JavammCMDLauncher.main("--memoization-cache-size=large");
+
+        verify(errMock).println(contains("Invalid memoization cache size: large"));
+    }
+
+    @Test
+    void shouldFailIfOptionIsNotSupported() {
+        JavammCMDLauncher.main("--unknown");
+
+        verify(errMock).println(contains("Unsupported option: --unknown"));
+    }
+
     private Path createFileWithContent(final Path fileDir,
                                        final String fileName,
                                        final List<String> fileContent) throws IOException {
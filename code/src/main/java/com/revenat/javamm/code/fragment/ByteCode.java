@@ -33,4 +33,12 @@ public interface ByteCode extends FunctionStorage<DeveloperFunction> {
     default Optional<DeveloperFunction> getMainFunction() {
         return getFunction(getMainFunctionName());
     }
+
+    /**
+     * Returns {@code true} if all functions of this byte code are
+     * {@linkplain DeveloperFunction#isVerified() verified}
+     */
+    default boolean isVerified() {
+        return getAllFunctions().stream().allMatch(DeveloperFunction::isVerified);
+    }
 }
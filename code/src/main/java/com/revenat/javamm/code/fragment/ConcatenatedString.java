@@ -0,0 +1,129 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.code.fragment;
+
+/**
+ * Runtime representation of the long string built by the repeated concatenation.
+ * Characters are stored in the append-only buffer shared by all strings which are
+ * its prefixes, so {@code s += line} appends to the buffer in place instead of
+ * copying the whole string, if no other string has been appended to {@code s} yet.
+ * Otherwise the prefix is copied into the new buffer, so strings never change.
+ *
+ * <p>Such strings are not equal to the {@link String} with the same characters, so
+ * they should be {@linkplain #materialize(Object) materialized} before they are
+ * compared, hashed or used as keys. Short strings are concatenated into the plain
+ * {@link String}, because copying of them is cheaper than the separate buffer.
+ *
+ * @author Vitaliy Dragun
+ */
+public final class ConcatenatedString implements CharSequence {
+
+    /**
+     * Min length of the concatenation result which is stored in the shared buffer
+     */
+    public static final int MIN_LENGTH = 128;
+
+    private final StringBuilder buffer;
+
+    private final int length;
+
+    private String value;
+
+    private ConcatenatedString(final StringBuilder buffer, final int length) {
+        this.buffer = buffer;
+        this.length = length;
+    }
+
+    /**
+     * Returns {@code true} if the specified value is a string of any representation
+     */
+    public static boolean isString(final Object value) {
+        return value instanceof String || value instanceof ConcatenatedString;
+    }
+
+    /**
+     * Returns {@link String} with the characters of the specified concatenated
+     * string or the specified value itself if it is not a concatenated string
+     */
+    public static Object materialize(final Object value) {
+        return value instanceof ConcatenatedString ? value.toString() : value;
+    }
+
+    /**
+     * Concatenates string representations of the specified values
+     */
+    public static Object concat(final Object value1, final Object value2) {
+        final String suffix = String.valueOf(value2);
+        if (value1 instanceof ConcatenatedString) {
+            return ((ConcatenatedString) value1).append(suffix);
+        }
+        final String prefix = String.valueOf(value1);
+        if (prefix.length() + suffix.length() < MIN_LENGTH) {
+            return prefix.concat(suffix);
+        }
+        final StringBuilder buffer = new StringBuilder(2 * (prefix.length() + suffix.length()))
+            .append(prefix)
+            .append(suffix);
+        return new ConcatenatedString(buffer, buffer.length());
+    }
+
+    private ConcatenatedString append(final String suffix) {
+        synchronized (buffer) {
+            if (buffer.length() == length) {
+                buffer.append(suffix);
+                return new ConcatenatedString(buffer, buffer.length());
+            }
+            final StringBuilder copy = new StringBuilder(2 * (length + suffix.length()))
+                .append(buffer, 0, length)
+                .append(suffix);
+            return new ConcatenatedString(copy, copy.length());
+        }
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(final int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("index " + index + ", length " + length);
+        }
+        synchronized (buffer) {
+            return buffer.charAt(index);
+        }
+    }
+
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+        return toString().subSequence(start, end);
+    }
+
+    @Override
+    public String toString() {
+        String result = value;
+        if (result == null) {
+            synchronized (buffer) {
+                result = buffer.substring(0, length);
+            }
+            value = result;
+        }
+        return result;
+    }
+}
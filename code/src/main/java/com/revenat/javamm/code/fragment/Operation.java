@@ -29,4 +29,12 @@ public interface Operation extends CompiledCodeFragment {
      * Returns {@link SourceLine} where this operation is declared
      */
     SourceLine getSourceLine();
+
+    /**
+     * Returns number of the {@linkplain #getSourceLine() source line} where this
+     * operation is declared
+     */
+    default int getLineNumber() {
+        return getSourceLine().getLineNumber();
+    }
 }
@@ -17,12 +17,19 @@
 
 package com.revenat.javamm.code.fragment;
 
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.RandomAccess;
 
 /**
  * Represents line of the compiled code.
  *
+ * <p>Tokens are stored as identifiers in the {@linkplain TokenTable token table} shared by
+ * the lines of the source code, and token lists returned by the line are views over these
+ * identifiers.
+ *
  * @author Vitaliy Dragun
  */
 public class SourceLine implements CompiledCodeFragment, Comparable<SourceLine> {
@@ -32,11 +39,16 @@ public class SourceLine implements CompiledCodeFragment, Comparable<SourceLine>
 
     private final int lineNumber;
 
-    private final List<String> tokens;
+    private final TokenTable tokenTable;
+
+    private final int[] tokenIdentifiers;
 
     /**
      * Creates new {@link SourceLine} instance.
      *
+     * <p>If tokens are the {@linkplain #subList(int, int) sub list} of another source line,
+     * the new line shares the token table of that line, otherwise it gets its own table.
+     *
      * @param moduleName name of the file where this source line is declared
      * @param lineNumber number of the line this source line represents inside the
      *                   module
@@ -46,15 +58,50 @@ public class SourceLine implements CompiledCodeFragment, Comparable<SourceLine>
         super();
         this.moduleName = moduleName;
         this.lineNumber = lineNumber;
-        this.tokens = List.copyOf(tokens);
+        if (tokens instanceof TokenList) {
+            final TokenList tokenList = (TokenList) tokens;
+            this.tokenTable = tokenList.getTokenTable();
+            this.tokenIdentifiers = tokenList.copyTokenIdentifiers();
+        } else {
+            this.tokenTable = new TokenTable(tokens.size());
+            this.tokenIdentifiers = internTokens(tokens, tokenTable);
+        }
+    }
+
+    /**
+     * Creates new {@link SourceLine} instance which stores its tokens in the specified table.
+     *
+     * @param moduleName name of the file where this source line is declared
+     * @param lineNumber number of the line this source line represents inside the
+     *                   module
+     * @param tokens     array of meaningful tokens represented by this source line.
+     * @param tokenTable token table shared by the lines of the source code
+     */
+    public SourceLine(final String moduleName,
+                      final int lineNumber,
+                      final List<String> tokens,
+                      final TokenTable tokenTable) {
+        super();
+        this.moduleName = moduleName;
+        this.lineNumber = lineNumber;
+        this.tokenTable = Objects.requireNonNull(tokenTable);
+        this.tokenIdentifiers = internTokens(tokens, tokenTable);
+    }
+
+    private static int[] internTokens(final List<String> tokens, final TokenTable tokenTable) {
+        final int[] identifiers = new int[tokens.size()];
+        for (int i = 0; i < identifiers.length; i++) {
+            identifiers[i] = tokenTable.intern(tokens.get(i));
+        }
+        return identifiers;
     }
 
     public String getCommand() {
-        return String.join(" ", tokens);
+        return String.join(" ", getTokens());
     }
 
     public String getToken(final int index) {
-        return tokens.get(index);
+        return tokenTable.getToken(tokenIdentifiers[Objects.checkIndex(index, tokenIdentifiers.length)]);
     }
 
     public String getFirst() {
@@ -66,11 +113,12 @@ public class SourceLine implements CompiledCodeFragment, Comparable<SourceLine>
     }
 
     public int getTokenCount() {
-        return tokens.size();
+        return tokenIdentifiers.length;
     }
 
     public List<String> subList(final int start, final int end) {
-        return tokens.subList(start, end);
+        Objects.checkFromToIndex(start, end, tokenIdentifiers.length);
+        return new TokenList(start, end);
     }
 
     public List<String> subList(final int start) {
@@ -78,11 +126,23 @@ public class SourceLine implements CompiledCodeFragment, Comparable<SourceLine>
     }
 
     public boolean contains(final String token) {
-        return tokens.contains(token);
+        return indexOf(token) != -1;
     }
 
     public int indexOf(final String token) {
-        return tokens.indexOf(token);
+        return indexOf(token, 0, tokenIdentifiers.length);
+    }
+
+    private int indexOf(final String token, final int from, final int to) {
+        final int identifier = tokenTable.find(token);
+        if (identifier != TokenTable.NOT_FOUND) {
+            for (int i = from; i < to; i++) {
+                if (tokenIdentifiers[i] == identifier) {
+                    return i;
+                }
+            }
+        }
+        return -1;
     }
 
     @Override
@@ -114,7 +174,7 @@ public class SourceLine implements CompiledCodeFragment, Comparable<SourceLine>
     }
 
     public List<String> getTokens() {
-        return tokens;
+        return new TokenList(0, tokenIdentifiers.length);
     }
 
     @Override
@@ -132,4 +192,53 @@ public class SourceLine implements CompiledCodeFragment, Comparable<SourceLine>
         return String.format("[%s:%s] -> %s", moduleName, lineNumber, getCommand());
     }
 
+    /**
+     * Unmodifiable view over the range of token identifiers of this source line
+     */
+    private final class TokenList extends AbstractList<String> implements RandomAccess {
+
+        private final int from;
+
+        private final int to;
+
+        private TokenList(final int from, final int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public String get(final int index) {
+            return tokenTable.getToken(tokenIdentifiers[from + Objects.checkIndex(index, size())]);
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+
+        @Override
+        public List<String> subList(final int fromIndex, final int toIndex) {
+            Objects.checkFromToIndex(fromIndex, toIndex, size());
+            return new TokenList(from + fromIndex, from + toIndex);
+        }
+
+        @Override
+        public int indexOf(final Object token) {
+            final int index = token instanceof String ? SourceLine.this.indexOf((String) token, from, to) : -1;
+            return index != -1 ? index - from : -1;
+        }
+
+        @Override
+        public boolean contains(final Object token) {
+            return indexOf(token) != -1;
+        }
+
+        private TokenTable getTokenTable() {
+            return tokenTable;
+        }
+
+        private int[] copyTokenIdentifiers() {
+            return Arrays.copyOfRange(tokenIdentifiers, from, to);
+        }
+    }
 }
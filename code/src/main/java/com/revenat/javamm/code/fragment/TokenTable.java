@@ -0,0 +1,94 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.code.fragment;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Table of the distinct tokens of the source code. {@linkplain SourceLine Source lines}
+ * sharing the table keep int identifiers of their tokens instead of the tokens themselves,
+ * so each distinct token is stored only once.
+ *
+ * <p>The table is filled while source code is read and only read afterwards, so it is not
+ * synchronized.
+ *
+ * @author Vitaliy Dragun
+ */
+public final class TokenTable {
+
+    public static final int NOT_FOUND = -1;
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final Map<String, Integer> identifiers = new HashMap<>();
+
+    private String[] tokens;
+
+    public TokenTable() {
+        this(INITIAL_CAPACITY);
+    }
+
+    TokenTable(final int initialCapacity) {
+        tokens = new String[Math.max(1, initialCapacity)];
+    }
+
+    /**
+     * Returns identifier of the specified token, adding the token to this table if it is absent
+     *
+     * @param token token to intern
+     * @return identifier of the token
+     */
+    public int intern(final String token) {
+        final Integer identifier = identifiers.get(requireNonNull(token));
+        return identifier != null ? identifier : add(token);
+    }
+
+    /**
+     * Returns identifier of the specified token without adding it to this table
+     *
+     * @param token token to find
+     * @return identifier of the token or {@link #NOT_FOUND} if this table does not contain it
+     */
+    public int find(final String token) {
+        final Integer identifier = identifiers.get(token);
+        return identifier != null ? identifier : NOT_FOUND;
+    }
+
+    public String getToken(final int identifier) {
+        return tokens[Objects.checkIndex(identifier, size())];
+    }
+
+    public int size() {
+        return identifiers.size();
+    }
+
+    private int add(final String token) {
+        final int identifier = identifiers.size();
+        if (identifier == tokens.length) {
+            tokens = Arrays.copyOf(tokens, identifier * 2);
+        }
+        tokens[identifier] = token;
+        identifiers.put(token, identifier);
+        return identifier;
+    }
+}
@@ -25,4 +25,11 @@ package com.revenat.javamm.code.fragment;
 public interface Variable extends CompiledCodeFragment {
 
     String getName();
+
+    /**
+     * Returns index of the slot reserved for this variable in the frame of the
+     * function where it is used. Slots are assigned by compiler, so variables
+     * with same name within one function share the same slot.
+     */
+    int getSlot();
 }
@@ -18,6 +18,7 @@
 package com.revenat.javamm.code.fragment.expression;
 
 import com.revenat.javamm.code.component.ExpressionContext;
+import com.revenat.javamm.code.fragment.ConcatenatedString;
 import com.revenat.javamm.code.fragment.Expression;
 
 import java.util.Objects;
@@ -30,12 +31,15 @@ import java.util.Set;
  * double
  * string
  *
+ * <p>Interpreters also wrap intermediate results into constant expressions, so
+ * {@linkplain ConcatenatedString concatenated strings} are supported as well.
+ *
  * @author Vitaliy Dragun
  */
 public final class ConstantExpression implements Expression, CaseValueExpression {
 
     private static final Set<Class<?>> SUPPORTED_CLASSES =
-        Set.of(Boolean.class, Integer.class, Double.class, String.class);
+        Set.of(Boolean.class, Integer.class, Double.class, String.class, ConcatenatedString.class);
 
     private static final int POOL_SIZE = 12;
 
@@ -19,6 +19,7 @@ package com.revenat.javamm.code.fragment.expression;
 
 import com.revenat.javamm.code.fragment.Expression;
 import com.revenat.javamm.code.fragment.FunctionName;
+import com.revenat.javamm.code.fragment.function.DeveloperFunction;
 
 import java.util.List;
 
@@ -34,6 +35,8 @@ public class FunctionInvocationExpression implements Expression {
 
     private final List<Expression> arguments;
 
+    private DeveloperFunction linkedFunction;
+
     public FunctionInvocationExpression(final FunctionName functionName, final List<Expression> arguments) {
         this.functionName = requireNonNull(functionName);
         this.arguments = List.copyOf(arguments);
@@ -47,6 +50,25 @@ public class FunctionInvocationExpression implements Expression {
         return arguments;
     }
 
+    /**
+     * Binds this invocation to the function it invokes, so the function does not
+     * have to be looked up by name during each invocation
+     */
+    public void link(final DeveloperFunction function) {
+        this.linkedFunction = requireNonNull(function);
+    }
+
+    public boolean isLinked() {
+        return linkedFunction != null;
+    }
+
+    public DeveloperFunction getLinkedFunction() {
+        if (linkedFunction == null) {
+            throw new IllegalStateException("Function invocation is not linked: " + this);
+        }
+        return linkedFunction;
+    }
+
     @Override
     public String toString() {
         return String.format("%s(%s)",
@@ -0,0 +1,65 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.code.fragment.expression;
+
+import com.revenat.javamm.code.fragment.Expression;
+import com.revenat.javamm.code.fragment.operator.BinaryOperator;
+
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Superinstruction for the postfix expression which applies binary operator to the
+ * local variables and constants, e.g. {@code i < n} or {@code x * 2}. Each operand
+ * is either {@linkplain VariableExpression variable} or {@linkplain ConstantExpression
+ * constant}. Engines which do not know this superinstruction evaluate it as generic
+ * {@linkplain PostfixNotationComplexExpression postfix expression}
+ *
+ * @author Vitaliy Dragun
+ */
+public class LocalBinaryExpression extends PostfixNotationComplexExpression {
+
+    private final Expression operand1;
+
+    private final BinaryOperator operator;
+
+    private final Expression operand2;
+
+    public LocalBinaryExpression(final Expression operand1,
+                                 final BinaryOperator operator,
+                                 final Expression operand2,
+                                 final String originalExpression) {
+        super(List.of(operand1, operand2, operator), originalExpression);
+        this.operand1 = requireNonNull(operand1);
+        this.operator = requireNonNull(operator);
+        this.operand2 = requireNonNull(operand2);
+    }
+
+    public Expression getOperand1() {
+        return operand1;
+    }
+
+    public BinaryOperator getOperator() {
+        return operator;
+    }
+
+    public Expression getOperand2() {
+        return operand2;
+    }
+}
@@ -20,8 +20,12 @@ package com.revenat.javamm.code.fragment.expression;
 import com.revenat.javamm.code.fragment.Lexeme;
 import com.revenat.javamm.code.fragment.operator.BinaryOperator;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
+import static com.revenat.javamm.code.util.LexemeUtils.isBinaryOperator;
+import static com.revenat.javamm.code.util.LexemeUtils.isUnaryOperator;
 import static com.revenat.javamm.code.util.TypeUtils.confirmType;
 
 /**
@@ -33,9 +37,138 @@ import static com.revenat.javamm.code.util.TypeUtils.confirmType;
 public class PostfixNotationComplexExpression extends ComplexExpression {
     private final String originalExpression;
 
+    private final int maxStackDepth;
+
+    private final List<Lexeme> shortCircuitLexemes;
+
     public PostfixNotationComplexExpression(final List<Lexeme> lexemes, final String originalExpression) {
         super(lexemes);
         this.originalExpression = originalExpression;
+        this.maxStackDepth = calculateMaxStackDepth(lexemes);
+        this.shortCircuitLexemes = groupShortCircuitOperands(getLexemes());
+    }
+
+    /**
+     * Groups each complex second operand of the {@code &&} and {@code ||} operators
+     * into the nested postfix expression, so that evaluator which processes lexemes
+     * one by one pushes such operand as a single lexeme and evaluates it only if
+     * the operator needs it
+     */
+    private static List<Lexeme> groupShortCircuitOperands(final List<Lexeme> lexemes) {
+        final int[] shortCircuitOperatorPositions = findShortCircuitOperatorPositions(lexemes);
+        if (shortCircuitOperatorPositions == null) {
+            return lexemes;
+        }
+        final List<Lexeme> result = new ArrayList<>();
+        int i = 0;
+        while (i < lexemes.size()) {
+            final int operatorPosition = shortCircuitOperatorPositions[i];
+            if (operatorPosition > 0) {
+                final List<Lexeme> operand = lexemes.subList(i, operatorPosition);
+                result.add(new PostfixNotationComplexExpression(operand, toInfixString(operand)));
+                i = operatorPosition;
+            } else {
+                result.add(lexemes.get(i++));
+            }
+        }
+        return List.copyOf(result);
+    }
+
+    /**
+     * Returns array which contains position of the short circuit operator at the start position of
+     * its complex second operand and zero at other positions or {@code null} if there is no
+     * such operators
+     */
+    private static int[] findShortCircuitOperatorPositions(final List<Lexeme> lexemes) {
+        final int[] operandStarts = new int[lexemes.size()];
+        int[] operatorPositions = null;
+        int top = 0;
+        for (int i = 0; i < lexemes.size(); i++) {
+            final Lexeme lexeme = lexemes.get(i);
+            if (isBinaryOperator(lexeme)) {
+                if (top < 2) {
+                    return null;
+                }
+                final int secondOperandStart = operandStarts[--top];
+                if (isShortCircuitOperator(lexeme) && secondOperandStart < i - 1) {
+                    if (operatorPositions == null) {
+                        operatorPositions = new int[lexemes.size()];
+                    }
+                    operatorPositions[secondOperandStart] = i;
+                }
+            } else if (!isUnaryOperator(lexeme)) {
+                operandStarts[top++] = i;
+            } else if (top < 1) {
+                return null;
+            }
+        }
+        return operatorPositions;
+    }
+
+    private static boolean isShortCircuitOperator(final Lexeme lexeme) {
+        return lexeme == BinaryOperator.LOGICAL_AND || lexeme == BinaryOperator.LOGICAL_OR;
+    }
+
+    /**
+     * Restores source code of the expression from its lexemes. Operands which are results
+     * of the binary operators are enclosed in parentheses
+     */
+    private static String toInfixString(final List<Lexeme> lexemes) {
+        final String[] operands = new String[lexemes.size()];
+        final boolean[] binary = new boolean[lexemes.size()];
+        int top = 0;
+        for (final Lexeme lexeme : lexemes) {
+            if (isBinaryOperator(lexeme)) {
+                top--;
+                operands[top - 1] = String.format("%s %s %s",
+                    toOperandString(operands, binary, top - 1), lexeme, toOperandString(operands, binary, top));
+                binary[top - 1] = true;
+            } else if (isUnaryOperator(lexeme)) {
+                operands[top - 1] = lexeme + toOperandString(operands, binary, top - 1);
+                binary[top - 1] = false;
+            } else {
+                operands[top] = lexeme.toString();
+                binary[top++] = false;
+            }
+        }
+        return String.join(" ", Arrays.copyOf(operands, top));
+    }
+
+    private static String toOperandString(final String[] operands, final boolean[] binary, final int position) {
+        return binary[position] ? "(" + operands[position] + ")" : operands[position];
+    }
+
+    private static int calculateMaxStackDepth(final List<Lexeme> lexemes) {
+        int depth = 0;
+        int maxDepth = 0;
+        for (final Lexeme lexeme : lexemes) {
+            if (isBinaryOperator(lexeme)) {
+                depth--;
+            } else if (!isUnaryOperator(lexeme)) {
+                depth++;
+                maxDepth = Math.max(maxDepth, depth);
+            }
+        }
+        return maxDepth;
+    }
+
+    /**
+     * Returns the maximum number of operands which are simultaneously present on the
+     * operand stack during evaluation of this expression
+     */
+    public int getMaxStackDepth() {
+        return maxStackDepth;
+    }
+
+    /**
+     * Returns lexemes of this expression in which each complex second operand of the
+     * {@code &&} and {@code ||} operators is replaced by the nested postfix expression.
+     * Evaluation of such lexemes skips the unneeded operands at any nesting depth,
+     * while evaluation of the {@linkplain #getLexemes() plain lexemes} calculates all of
+     * them before the operator is reached
+     */
+    public List<Lexeme> getShortCircuitLexemes() {
+        return shortCircuitLexemes;
     }
 
     public boolean isBinaryAssignmentExpression() {
@@ -20,6 +20,8 @@ package com.revenat.javamm.code.fragment.expression;
 import com.revenat.javamm.code.fragment.Expression;
 import com.revenat.javamm.code.fragment.operator.UnaryOperator;
 
+import java.util.List;
+
 import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
 
@@ -34,6 +36,8 @@ public abstract class UnaryAssignmentExpression implements Expression {
 
     private final UnaryOperator operator;
 
+    private PostfixNotationComplexExpression operationExpression;
+
     protected UnaryAssignmentExpression(final VariableExpression operand, final UnaryOperator operator) {
         this.operand = requireNonNull(operand);
         this.operator = requireAssignmentOperator(operator);
@@ -47,6 +51,20 @@ public abstract class UnaryAssignmentExpression implements Expression {
         return operator;
     }
 
+    /**
+     * Returns expression which applies the operator to the operand. Such expression
+     * is created once per assignment expression, so repeated evaluations (e.g. in
+     * loop update clauses) do not allocate it
+     */
+    protected final PostfixNotationComplexExpression getOperationExpression() {
+        PostfixNotationComplexExpression expression = operationExpression;
+        if (expression == null) {
+            expression = new PostfixNotationComplexExpression(List.of(operand, operator), toString());
+            operationExpression = expression;
+        }
+        return expression;
+    }
+
     private UnaryOperator requireAssignmentOperator(final UnaryOperator operatorToCheck) {
         if (!operatorToCheck.isAssignment()) {
             throw new IllegalArgumentException(format("'%s' is not assignment operator", operatorToCheck));
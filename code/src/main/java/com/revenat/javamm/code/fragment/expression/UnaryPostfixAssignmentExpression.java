@@ -20,8 +20,6 @@ package com.revenat.javamm.code.fragment.expression;
 import com.revenat.javamm.code.component.ExpressionContext;
 import com.revenat.javamm.code.fragment.operator.UnaryOperator;
 
-import java.util.List;
-
 /**
  * Represents expression with assignment unary operator in postfix position
  *
@@ -37,8 +35,7 @@ public class UnaryPostfixAssignmentExpression extends UnaryAssignmentExpression
     public Object getValue(final ExpressionContext expressionContext) {
         final Object oldValue = getOperand().getValue(expressionContext);
 
-        final Object newValue = new PostfixNotationComplexExpression(List.of(getOperand(), getOperator()), toString())
-            .getValue(expressionContext);
+        final Object newValue = getOperationExpression().getValue(expressionContext);
         getOperand().setValue(expressionContext, newValue);
 
         return oldValue;
@@ -20,8 +20,6 @@ package com.revenat.javamm.code.fragment.expression;
 import com.revenat.javamm.code.component.ExpressionContext;
 import com.revenat.javamm.code.fragment.operator.UnaryOperator;
 
-import java.util.List;
-
 /**
  * Represents expression with assignment unary operator in prefix position
  *
@@ -35,8 +33,7 @@ public class UnaryPrefixAssignmentExpression extends UnaryAssignmentExpression {
 
     @Override
     public Object getValue(final ExpressionContext expressionContext) {
-        final Object value = new PostfixNotationComplexExpression(List.of(getOperand(), getOperator()), toString())
-            .getValue(expressionContext);
+        final Object value = getOperationExpression().getValue(expressionContext);
         getOperand().setValue(expressionContext, value);
         return value;
     }
@@ -20,9 +20,11 @@ package com.revenat.javamm.code.fragment.function;
 import com.revenat.javamm.code.fragment.FunctionName;
 import com.revenat.javamm.code.fragment.SourceLine;
 import com.revenat.javamm.code.fragment.Variable;
+import com.revenat.javamm.code.fragment.instruction.FunctionCode;
 import com.revenat.javamm.code.fragment.operation.Block;
 
 import java.util.List;
+import java.util.Optional;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.joining;
@@ -38,14 +40,32 @@ public final class DeveloperFunction extends AbstractFunction {
 
     private final SourceLine declarationSourceLine;
 
+    private final int frameSize;
+
+    private final FunctionCode code;
+
+    private final boolean pure;
+
+    private final boolean verified;
+
+    private LineTable lineTable;
+
     private DeveloperFunction(final FunctionName name,
                               final List<Variable> parameters,
                               final Block body,
-                              final SourceLine declarationSourceLine) {
+                              final SourceLine declarationSourceLine,
+                              final int frameSize,
+                              final FunctionCode code,
+                              final boolean pure,
+                              final boolean verified) {
         super(name);
         this.parameters = List.copyOf(parameters);
         this.body = requireNonNull(body);
         this.declarationSourceLine = requireNonNull(declarationSourceLine);
+        this.frameSize = frameSize;
+        this.code = code;
+        this.pure = pure;
+        this.verified = verified;
     }
 
     public List<Variable> getParameters() {
@@ -60,6 +80,85 @@ public final class DeveloperFunction extends AbstractFunction {
         return declarationSourceLine;
     }
 
+    /**
+     * Returns source line of this function which has specified number. Interpreters
+     * track only numbers of the executed lines, so the line table of this function
+     * is built on the first request
+     */
+    public SourceLine getSourceLine(final int lineNumber) {
+        LineTable table = lineTable;
+        if (table == null) {
+            // line table is immutable, so it is safe to build it concurrently
+            table = new LineTable(this);
+            lineTable = table;
+        }
+        return table.getSourceLine(lineNumber);
+    }
+
+    /**
+     * Returns number of variable slots required by this function frame
+     */
+    public int getFrameSize() {
+        return frameSize;
+    }
+
+    /**
+     * Returns linear code of this function if compiler was able to emit it
+     */
+    public Optional<FunctionCode> getCode() {
+        return Optional.ofNullable(code);
+    }
+
+    /**
+     * Returns {@code true} if result of this function depends only on its arguments
+     * and its invocation has no side effects, so the result can be memoized
+     */
+    public boolean isPure() {
+        return pure;
+    }
+
+    /**
+     * Returns {@code true} if compiler has verified that each variable of this function
+     * is declared once, used only after its declaration within its scope and is not
+     * changed if it is final, so the variables can be accessed without runtime checks
+     */
+    public boolean isVerified() {
+        return verified;
+    }
+
+    /**
+     * Returns copy of this function which has specified body. Linear code of this
+     * function is not copied, since it is emitted for the original body
+     */
+    public DeveloperFunction withBody(final Block functionBody) {
+        return new DeveloperFunction(getName(), parameters, functionBody, declarationSourceLine, frameSize, null,
+            pure, verified);
+    }
+
+    /**
+     * Returns copy of this function which has specified linear code
+     */
+    public DeveloperFunction withCode(final FunctionCode functionCode) {
+        return new DeveloperFunction(getName(), parameters, body, declarationSourceLine, frameSize,
+            requireNonNull(functionCode), pure, verified);
+    }
+
+    /**
+     * Returns copy of this function which is marked as {@linkplain #isPure() pure}
+     */
+    public DeveloperFunction asPure() {
+        return new DeveloperFunction(getName(), parameters, body, declarationSourceLine, frameSize, code, true,
+            verified);
+    }
+
+    /**
+     * Returns copy of this function which is marked as {@linkplain #isVerified() verified}
+     */
+    public DeveloperFunction asVerified() {
+        return new DeveloperFunction(getName(), parameters, body, declarationSourceLine, frameSize, code, pure,
+            true);
+    }
+
     @Override
     public String toString() {
         return String.format("%s(%s)",
@@ -88,6 +187,8 @@ public final class DeveloperFunction extends AbstractFunction {
 
         private SourceLine declarationSourceLine;
 
+        private int frameSize;
+
         public Builder setName(final FunctionName name) {
             this.name = requireNonNull(name);
             return this;
@@ -108,12 +209,24 @@ public final class DeveloperFunction extends AbstractFunction {
             return this;
         }
 
+        public Builder setFrameSize(final int frameSize) {
+            if (frameSize < 0) {
+                throw new IllegalArgumentException("frameSize can not be negative");
+            }
+            this.frameSize = frameSize;
+            return this;
+        }
+
         public DeveloperFunction build() {
             return new DeveloperFunction(
                 name,
                 parameters == null ? List.of() : parameters,
                 body,
-                declarationSourceLine == null ? body.getSourceLine() : declarationSourceLine);
+                declarationSourceLine == null ? body.getSourceLine() : declarationSourceLine,
+                Math.max(frameSize, parameters == null ? 0 : parameters.size()),
+                null,
+                false,
+                false);
         }
     }
 }
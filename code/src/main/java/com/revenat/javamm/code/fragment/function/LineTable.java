@@ -0,0 +1,96 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.revenat.javamm.code.fragment.function;
+
+import com.revenat.javamm.code.fragment.Operation;
+import com.revenat.javamm.code.fragment.SourceLine;
+import com.revenat.javamm.code.fragment.operation.AbstractLoopOperation;
+import com.revenat.javamm.code.fragment.operation.Block;
+import com.revenat.javamm.code.fragment.operation.ForOperation;
+import com.revenat.javamm.code.fragment.operation.IfElseOperation;
+import com.revenat.javamm.code.fragment.operation.SwitchBodyEntry;
+import com.revenat.javamm.code.fragment.operation.SwitchOperation;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static com.revenat.javamm.code.util.TypeUtils.confirmType;
+
+/**
+ * Source lines of the {@linkplain DeveloperFunction developer function} ordered
+ * by their numbers. Interpreters keep only the number of the currently executed
+ * line, and its source line is looked up in this table when it is requested,
+ * e.g. by the stack trace of the runtime error
+ *
+ * @author Vitaliy Dragun
+ */
+final class LineTable {
+
+    private final String moduleName;
+
+    private final int[] lineNumbers;
+
+    private final SourceLine[] sourceLines;
+
+    LineTable(final DeveloperFunction function) {
+        final SourceLine declarationSourceLine = function.getDeclarationSourceLine();
+        final Map<Integer, SourceLine> lines = new TreeMap<>();
+        lines.put(declarationSourceLine.getLineNumber(), declarationSourceLine);
+        collectSourceLines(function.getBody(), lines);
+
+        this.moduleName = declarationSourceLine.getModuleName();
+        this.lineNumbers = lines.keySet().stream().mapToInt(Integer::intValue).toArray();
+        this.sourceLines = lines.values().toArray(new SourceLine[0]);
+    }
+
+    private static void collectSourceLines(final Operation operation, final Map<Integer, SourceLine> lines) {
+        lines.putIfAbsent(operation.getLineNumber(), operation.getSourceLine());
+        if (confirmType(Block.class, operation)) {
+            for (final Operation nested : ((Block) operation).getOperations()) {
+                collectSourceLines(nested, lines);
+            }
+        } else if (confirmType(IfElseOperation.class, operation)) {
+            final IfElseOperation ifElse = (IfElseOperation) operation;
+            collectSourceLines(ifElse.getTrueBlock(), lines);
+            ifElse.getFalseBlock().ifPresent(block -> collectSourceLines(block, lines));
+        } else if (confirmType(ForOperation.class, operation)) {
+            final ForOperation forOperation = (ForOperation) operation;
+            collectSourceLines(forOperation.getInitBlock(), lines);
+            collectSourceLines(forOperation.getUpdateBlock(), lines);
+            collectSourceLines(forOperation.getBody(), lines);
+        } else if (confirmType(AbstractLoopOperation.class, operation)) {
+            collectSourceLines(((AbstractLoopOperation) operation).getBody(), lines);
+        } else if (confirmType(SwitchOperation.class, operation)) {
+            for (final SwitchBodyEntry entry : ((SwitchOperation) operation).getEntries()) {
+                collectSourceLines(entry.getBody(), lines);
+            }
+        }
+    }
+
+    /**
+     * Returns source line which has specified number. Source line without tokens is
+     * returned if there is no operation declared at such line
+     */
+    SourceLine getSourceLine(final int lineNumber) {
+        final int index = Arrays.binarySearch(lineNumbers, lineNumber);
+        return index >= 0 ? sourceLines[index] : new SourceLine(moduleName, lineNumber, List.of());
+    }
+}
@@ -46,25 +46,25 @@ public abstract class OverloadableFunctionName implements FunctionName {
         return name;
     }
 
+    /**
+     * Overloadable function names are equal only when both the names and the
+     * argument counts are equal, so the hash code is consistent with equality
+     * and overloaded functions do not collide in hash based storages.
+     */
     @Override
     public boolean equals(final Object obj) {
-        if (obj == null) {
-            return false;
+        if (this == obj) {
+            return true;
         }
-        if (!(obj instanceof FunctionName)) {
+        if (!(obj instanceof OverloadableFunctionName)) {
             return false;
         }
-        final FunctionName other = (FunctionName) obj;
-        if (other instanceof OverloadableFunctionName) {
-            return uniqueName.contentEquals(((OverloadableFunctionName) obj).uniqueName);
-        } else {
-            return name.equals(other.getName());
-        }
+        return uniqueName.equals(((OverloadableFunctionName) obj).uniqueName);
     }
 
     @Override
     public int hashCode() {
-        return getName().hashCode();
+        return uniqueName.hashCode();
     }
 
     @Override
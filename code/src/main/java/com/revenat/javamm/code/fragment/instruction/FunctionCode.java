@@ -0,0 +1,90 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.code.fragment.instruction;
+
+import java.util.List;
+
+import static java.lang.System.lineSeparator;
+
+/**
+ * Linear register based code of the developer function: flat array of
+ * {@linkplain OpCode instructions} along with the constant pool they refer to.
+ * <p>
+ * Registers hold temporary values of the expressions only, variables are kept
+ * in the slots of the function frame.
+ *
+ * @author Vitaliy Dragun
+ */
+public final class FunctionCode {
+
+    private final int[] instructions;
+
+    private final Object[] constants;
+
+    private final int registerCount;
+
+    public FunctionCode(final int[] instructions, final List<Object> constants, final int registerCount) {
+        if (registerCount < 0) {
+            throw new IllegalArgumentException("registerCount can not be negative");
+        }
+        this.instructions = instructions.clone();
+        this.constants = constants.toArray();
+        this.registerCount = registerCount;
+    }
+
+    /**
+     * Returns instruction array. Returned array is shared, so it must not be modified
+     */
+    public int[] getInstructions() {
+        return instructions;
+    }
+
+    /**
+     * Returns constant pool. Returned array is shared, so it must not be modified
+     */
+    public Object[] getConstants() {
+        return constants;
+    }
+
+    /**
+     * Returns number of registers required to execute this code
+     */
+    public int getRegisterCount() {
+        return registerCount;
+    }
+
+    /**
+     * Returns human readable listing of the instructions
+     */
+    @Override
+    public String toString() {
+        final StringBuilder listing = new StringBuilder();
+        int offset = 0;
+        while (offset < instructions.length) {
+            final int opCode = instructions[offset];
+            listing.append(String.format("%4d: %s", offset, OpCode.getName(opCode)));
+            final int operandCount = OpCode.getOperandCount(opCode);
+            for (int i = 1; i <= operandCount; i++) {
+                listing.append(' ').append(instructions[offset + i]);
+            }
+            listing.append(lineSeparator());
+            offset += operandCount + 1;
+        }
+        return listing.toString();
+    }
+}
@@ -0,0 +1,198 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.code.fragment.instruction;
+
+/**
+ * Operation codes of the {@linkplain FunctionCode linear function code}.
+ * <p>
+ * Each instruction is stored in the instruction array as its operation code
+ * followed by fixed number of integer operands. Operands are register indexes
+ * ({@code r}), constant pool indexes ({@code k}), operator ordinals
+ * ({@code op}), source line numbers ({@code n}) or absolute instruction offsets
+ * ({@code target}).
+ *
+ * @author Vitaliy Dragun
+ */
+public final class OpCode {
+
+    /**
+     * {@code LINE n}: sets number {@code n} of the executed source line as current
+     */
+    public static final int LINE = 0;
+
+    /**
+     * {@code LOAD_CONST r k}: loads constant {@code k} into register {@code r}
+     */
+    public static final int LOAD_CONST = 1;
+
+    /**
+     * {@code LOAD_VAR r k}: loads value of variable {@code k} into register {@code r}
+     */
+    public static final int LOAD_VAR = 2;
+
+    /**
+     * {@code STORE_VAR k r}: stores value of register {@code r} into already defined variable {@code k}
+     */
+    public static final int STORE_VAR = 3;
+
+    /**
+     * {@code CHECK_UNDEFINED k}: fails if variable {@code k} is already defined
+     */
+    public static final int CHECK_UNDEFINED = 4;
+
+    /**
+     * {@code DEFINE_VAR k r}: defines variable {@code k} with value of register {@code r}
+     */
+    public static final int DEFINE_VAR = 5;
+
+    /**
+     * {@code DEFINE_FINAL k r}: defines final variable {@code k} with value of register {@code r}
+     */
+    public static final int DEFINE_FINAL = 6;
+
+    /**
+     * {@code MOVE r1 r2}: copies value of register {@code r2} into register {@code r1}
+     */
+    public static final int MOVE = 7;
+
+    /**
+     * {@code BINARY r op r1 r2}: calculates {@code r1 op r2} and puts result into register {@code r}
+     */
+    public static final int BINARY = 8;
+
+    /**
+     * {@code UNARY r op r1}: calculates {@code op r1} and puts result into register {@code r}
+     */
+    public static final int UNARY = 9;
+
+    /**
+     * {@code CALL r k r1 n}: performs the function invocation {@code k} with {@code n} arguments stored in
+     * registers starting from {@code r1} and puts result into register {@code r}
+     */
+    public static final int CALL = 10;
+
+    /**
+     * {@code JUMP target}
+     */
+    public static final int JUMP = 11;
+
+    /**
+     * {@code JUMP_IF_FALSE r target}: jumps if boolean condition {@code r} is {@code false}
+     */
+    public static final int JUMP_IF_FALSE = 12;
+
+    /**
+     * {@code JUMP_IF_TRUE r target}: jumps if boolean condition {@code r} is {@code true}
+     */
+    public static final int JUMP_IF_TRUE = 13;
+
+    /**
+     * {@code JUMP_IF_BOOLEAN r value target}: jumps if register {@code r} holds boolean {@code value}
+     * ({@code 1} is {@code true}, {@code 0} is {@code false}). Never fails for non boolean values
+     */
+    public static final int JUMP_IF_BOOLEAN = 14;
+
+    /**
+     * {@code ENTER_SCOPE}: creates nested variable scope
+     */
+    public static final int ENTER_SCOPE = 15;
+
+    /**
+     * {@code EXIT_SCOPE}: destroys innermost nested variable scope
+     */
+    public static final int EXIT_SCOPE = 16;
+
+    /**
+     * {@code SWITCH r k}: jumps to the target from {@linkplain SwitchTable switch table} {@code k}
+     * for value of register {@code r}
+     */
+    public static final int SWITCH = 17;
+
+    /**
+     * {@code PRINTLN r}
+     */
+    public static final int PRINTLN = 18;
+
+    /**
+     * {@code PRINTLN_EMPTY}
+     */
+    public static final int PRINTLN_EMPTY = 19;
+
+    /**
+     * {@code RETURN r}
+     */
+    public static final int RETURN = 20;
+
+    /**
+     * {@code RETURN_VOID}
+     */
+    public static final int RETURN_VOID = 21;
+
+    /**
+     * {@code FAIL k}: fails with runtime error message {@code k}
+     */
+    public static final int FAIL = 22;
+
+    /**
+     * {@code TAIL_CALL k r1 n}: completes the function with the function invocation {@code k} from the tail
+     * position with {@code n} arguments stored in registers starting from {@code r1}, which is performed in
+     * place of the current function
+     */
+    public static final int TAIL_CALL = 23;
+
+    private static final String[] NAMES = {
+        "LINE", "LOAD_CONST", "LOAD_VAR", "STORE_VAR", "CHECK_UNDEFINED", "DEFINE_VAR", "DEFINE_FINAL", "MOVE",
+        "BINARY", "UNARY", "CALL", "JUMP", "JUMP_IF_FALSE", "JUMP_IF_TRUE", "JUMP_IF_BOOLEAN", "ENTER_SCOPE",
+        "EXIT_SCOPE", "SWITCH", "PRINTLN", "PRINTLN_EMPTY", "RETURN", "RETURN_VOID", "FAIL",
+        "TAIL_CALL"
+    };
+
+    private static final int[] OPERAND_COUNTS = {
+        1, 2, 2, 2, 1, 2, 2, 2,
+        4, 3, 4, 1, 2, 2, 3, 0,
+        0, 2, 1, 0, 1, 0, 1, 3
+    };
+
+    private OpCode() {
+    }
+
+    /**
+     * Returns number of operands which follow specified operation code
+     *
+     * @throws IllegalArgumentException if specified operation code is unknown
+     */
+    public static int getOperandCount(final int opCode) {
+        return OPERAND_COUNTS[requireValid(opCode)];
+    }
+
+    /**
+     * Returns mnemonic name of specified operation code
+     *
+     * @throws IllegalArgumentException if specified operation code is unknown
+     */
+    public static String getName(final int opCode) {
+        return NAMES[requireValid(opCode)];
+    }
+
+    private static int requireValid(final int opCode) {
+        if (opCode < 0 || opCode >= NAMES.length) {
+            throw new IllegalArgumentException("Unknown operation code: " + opCode);
+        }
+        return opCode;
+    }
+}
@@ -0,0 +1,107 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.code.fragment.instruction;
+
+import com.revenat.javamm.code.fragment.operation.SwitchDispatchTable;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Constant of the {@linkplain FunctionCode function code} which maps case
+ * values of the {@code switch} operation to the instruction offsets of the
+ * corresponding case bodies. Targets are found by the {@linkplain SwitchDispatchTable
+ * dispatch table} built from these case values
+ *
+ * @author Vitaliy Dragun
+ */
+public final class SwitchTable {
+
+    private final Object[] caseValues;
+
+    private final int[] caseTargets;
+
+    private final int defaultTarget;
+
+    private final SwitchDispatchTable dispatchTable;
+
+    /**
+     * @param caseValues    case values in order of declaration
+     * @param caseTargets   instruction offsets of the bodies of corresponding cases
+     * @param defaultTarget instruction offset of the default body or the end of
+     *                      the {@code switch} operation if there is no default body
+     */
+    public SwitchTable(final Object[] caseValues, final int[] caseTargets, final int defaultTarget) {
+        if (caseValues.length != caseTargets.length) {
+            throw new IllegalArgumentException("Each case value should have exactly one target");
+        }
+        this.caseValues = caseValues.clone();
+        this.caseTargets = requireNonNull(caseTargets).clone();
+        this.defaultTarget = defaultTarget;
+        this.dispatchTable = SwitchDispatchTable.create(this.caseValues, this.caseTargets, defaultTarget);
+    }
+
+    /**
+     * Returns instruction offset of the first case which value is equal to the
+     * specified one or default target if there is no such case
+     */
+    public int getTarget(final Object value) {
+        return dispatchTable.getTarget(value);
+    }
+
+    /**
+     * Returns instruction offsets of all case bodies in order of declaration
+     */
+    public int[] getCaseTargets() {
+        return caseTargets.clone();
+    }
+
+    public int getDefaultTarget() {
+        return defaultTarget;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("switch {");
+        for (int i = 0; i < caseValues.length; i++) {
+            builder.append(caseValues[i]).append(" -> ").append(caseTargets[i]).append(", ");
+        }
+        return builder.append("default -> ").append(defaultTarget).append('}').toString();
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final SwitchTable other = (SwitchTable) obj;
+        return defaultTarget == other.defaultTarget &&
+            Arrays.equals(caseValues, other.caseValues) &&
+            Arrays.equals(caseTargets, other.caseTargets);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Objects.hash(defaultTarget, Arrays.hashCode(caseValues)) + Arrays.hashCode(caseTargets);
+    }
+}
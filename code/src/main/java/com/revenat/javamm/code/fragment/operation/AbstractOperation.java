@@ -28,8 +28,11 @@ import static java.util.Objects.requireNonNull;
 abstract class AbstractOperation implements Operation {
     private final SourceLine sourceLine;
 
+    private final int lineNumber;
+
     AbstractOperation(final SourceLine sourceLine) {
         this.sourceLine = requireNonNull(sourceLine);
+        this.lineNumber = sourceLine.getLineNumber();
     }
 
     @Override
@@ -37,6 +40,11 @@ abstract class AbstractOperation implements Operation {
         return sourceLine;
     }
 
+    @Override
+    public final int getLineNumber() {
+        return lineNumber;
+    }
+
     @Override
     public String toString() {
         return sourceLine.toString();
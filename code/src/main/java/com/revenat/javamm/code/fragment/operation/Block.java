@@ -33,6 +33,8 @@ import static java.util.stream.Collectors.joining;
 public final class Block extends AbstractOperation implements Operation {
     private final List<Operation> operations;
 
+    private final boolean variableDeclarationPresent;
+
     /**
      * Creates new byte code block which contains specified operations
      *
@@ -42,6 +44,8 @@ public final class Block extends AbstractOperation implements Operation {
     public Block(final List<Operation> operations, final SourceLine sourceLine) {
         super(sourceLine);
         this.operations = List.copyOf(operations);
+        this.variableDeclarationPresent = this.operations.stream()
+            .anyMatch(operation -> operation instanceof VariableDeclarationOperation);
     }
 
     /**
@@ -61,6 +65,16 @@ public final class Block extends AbstractOperation implements Operation {
         return operations;
     }
 
+    /**
+     * Returns {@code true} if this block declares variables in its own scope, i.e.
+     * contains {@linkplain VariableDeclarationOperation variable declaration}
+     * operations directly. Blocks which do not declare variables can be executed
+     * without nested variable scope
+     */
+    public boolean isVariableDeclarationPresent() {
+        return variableDeclarationPresent;
+    }
+
     @Override
     public String toString() {
         return operations.stream()
@@ -0,0 +1,77 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.code.fragment.operation;
+
+import com.revenat.javamm.code.fragment.Expression;
+import com.revenat.javamm.code.fragment.SourceLine;
+import com.revenat.javamm.code.fragment.Variable;
+import com.revenat.javamm.code.fragment.operator.BinaryOperator;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Superinstruction for the expression operation which applies compound assignment
+ * operator to the local variable and another variable or constant, e.g.
+ * {@code sum += i}. Keeps the original expression, so engines which do not know this
+ * superinstruction execute it as generic {@linkplain ExpressionOperation expression
+ * operation}
+ *
+ * @author Vitaliy Dragun
+ */
+public class CompoundAssignLocalOperation extends ExpressionOperation {
+
+    private final Variable variable;
+
+    private final BinaryOperator operator;
+
+    private final Expression operand;
+
+    public CompoundAssignLocalOperation(final SourceLine sourceLine,
+                                        final Expression expression,
+                                        final Variable variable,
+                                        final BinaryOperator operator,
+                                        final Expression operand) {
+        super(sourceLine, expression);
+        this.variable = requireNonNull(variable);
+        this.operator = requireAssignmentOperator(operator);
+        this.operand = requireNonNull(operand);
+    }
+
+    private BinaryOperator requireAssignmentOperator(final BinaryOperator operatorToCheck) {
+        if (!operatorToCheck.isAssignment()) {
+            throw new IllegalArgumentException(format("'%s' is not assignment operator", operatorToCheck));
+        }
+        return operatorToCheck;
+    }
+
+    public Variable getVariable() {
+        return variable;
+    }
+
+    public BinaryOperator getOperator() {
+        return operator;
+    }
+
+    /**
+     * Returns variable or constant expression which is the second operand of the operator
+     */
+    public Expression getOperand() {
+        return operand;
+    }
+}
@@ -18,9 +18,11 @@
 package com.revenat.javamm.code.fragment.operation;
 
 import com.revenat.javamm.code.fragment.Expression;
+import com.revenat.javamm.code.fragment.Operation;
 import com.revenat.javamm.code.fragment.SourceLine;
 import com.revenat.javamm.code.fragment.expression.ConstantExpression;
 
+import java.util.List;
 import java.util.Optional;
 
 import static java.util.Objects.requireNonNull;
@@ -34,6 +36,10 @@ public final class ForOperation extends AbstractLoopOperation {
 
     private final ForUpdateOperation updateOperation;
 
+    private final Block initBlock;
+
+    private final Block updateBlock;
+
     private ForOperation(final SourceLine sourceLine,
                          final Expression condition,
                          final ForInitOperation initOperation,
@@ -42,6 +48,16 @@ public final class ForOperation extends AbstractLoopOperation {
         super(sourceLine, condition, body);
         this.initOperation = initOperation;
         this.updateOperation = updateOperation;
+        this.initBlock = asBlock(initOperation, sourceLine);
+        this.updateBlock = asBlock(updateOperation, sourceLine);
+    }
+
+    private static Block asBlock(final Operation operation, final SourceLine sourceLine) {
+        if (operation != null) {
+            return new Block(operation, operation.getSourceLine());
+        } else {
+            return new Block(List.of(), sourceLine);
+        }
     }
 
     public Optional<ForInitOperation> getInitOperation() {
@@ -52,6 +68,22 @@ public final class ForOperation extends AbstractLoopOperation {
         return Optional.ofNullable(updateOperation);
     }
 
+    /**
+     * Returns block which contains initialization operation or empty block if
+     * there is no initialization operation
+     */
+    public Block getInitBlock() {
+        return initBlock;
+    }
+
+    /**
+     * Returns block which contains update operation or empty block if there is
+     * no update operation
+     */
+    public Block getUpdateBlock() {
+        return updateBlock;
+    }
+
     public static final class Builder {
 
         private SourceLine sourceLine;
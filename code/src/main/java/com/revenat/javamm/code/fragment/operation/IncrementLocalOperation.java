@@ -0,0 +1,58 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.code.fragment.operation;
+
+import com.revenat.javamm.code.fragment.SourceLine;
+import com.revenat.javamm.code.fragment.Variable;
+import com.revenat.javamm.code.fragment.expression.UnaryAssignmentExpression;
+import com.revenat.javamm.code.fragment.operator.UnaryOperator;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Superinstruction for the expression operation which increments or decrements
+ * local variable, e.g. {@code i++} or {@code --i}. Keeps the original expression, so
+ * engines which do not know this superinstruction execute it as generic
+ * {@linkplain ExpressionOperation expression operation}
+ *
+ * @author Vitaliy Dragun
+ */
+public class IncrementLocalOperation extends ExpressionOperation {
+
+    private final Variable variable;
+
+    private final UnaryOperator operator;
+
+    public IncrementLocalOperation(final SourceLine sourceLine, final UnaryAssignmentExpression expression) {
+        super(sourceLine, expression);
+        this.variable = requireNonNull(expression.getOperand().getVariable());
+        this.operator = requireNonNull(expression.getOperator());
+    }
+
+    public Variable getVariable() {
+        return variable;
+    }
+
+    /**
+     * Returns {@linkplain UnaryOperator#INCREMENT increment} or
+     * {@linkplain UnaryOperator#DECREMENT decrement} operator
+     */
+    public UnaryOperator getOperator() {
+        return operator;
+    }
+}
@@ -19,9 +19,11 @@ package com.revenat.javamm.code.fragment.operation;
 
 import com.revenat.javamm.code.fragment.Expression;
 import com.revenat.javamm.code.fragment.SourceLine;
+import com.revenat.javamm.code.fragment.expression.FunctionInvocationExpression;
 
 import java.util.Optional;
 
+import static com.revenat.javamm.code.util.TypeUtils.confirmType;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -31,17 +33,30 @@ public class ReturnOperation extends AbstractOperation {
 
     private final Expression expression;
 
+    private final boolean tailCall;
+
     public ReturnOperation(final Expression expression, final SourceLine sourceLine) {
         super(sourceLine);
         this.expression = requireNonNull(expression);
+        this.tailCall = confirmType(FunctionInvocationExpression.class, expression);
     }
 
     public ReturnOperation(final SourceLine sourceLine) {
         super(sourceLine);
         this.expression = null;
+        this.tailCall = false;
     }
 
     public Optional<Expression> getExpression() {
         return Optional.ofNullable(expression);
     }
+
+    /**
+     * Returns {@code true} if this operation returns result of the function
+     * invocation as is, so such invocation is in the tail position and can be
+     * performed instead of the current function without growing of the call stack
+     */
+    public boolean isTailCall() {
+        return tailCall;
+    }
 }
@@ -0,0 +1,157 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.code.fragment.operation;
+
+import com.revenat.javamm.code.fragment.ConcatenatedString;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Precomputed dispatch structure of the {@code switch} operation which finds
+ * the target of the first case with value equal to the condition value in constant time.
+ *
+ * <p>If all case values are integers which fill their range densely enough the
+ * targets are stored in the table indexed by the case value, otherwise they are
+ * stored in the hash index over the case values
+ *
+ * @author Vitaliy Dragun
+ */
+public abstract class SwitchDispatchTable {
+
+    /**
+     * Integer case values are stored in the dense table only if the number of
+     * slots of that table does not exceed the number of case values in this number of times
+     */
+    private static final int MAX_DENSE_TABLE_SLOTS_PER_CASE = 2;
+
+    private final int defaultTarget;
+
+    private SwitchDispatchTable(final int defaultTarget) {
+        this.defaultTarget = defaultTarget;
+    }
+
+    /**
+     * @param caseValues    case values in order of declaration
+     * @param caseTargets   targets of the corresponding cases
+     * @param defaultTarget target which is used if there is no case with value
+     *                      equal to the condition value
+     */
+    public static SwitchDispatchTable create(final Object[] caseValues,
+                                             final int[] caseTargets,
+                                             final int defaultTarget) {
+        if (caseValues.length != caseTargets.length) {
+            throw new IllegalArgumentException("Each case value should have exactly one target");
+        }
+        if (isDense(caseValues)) {
+            return new DenseIntegerDispatchTable(caseValues, caseTargets, defaultTarget);
+        } else {
+            return new HashDispatchTable(caseValues, caseTargets, defaultTarget);
+        }
+    }
+
+    private static boolean isDense(final Object[] caseValues) {
+        if (caseValues.length == 0) {
+            return false;
+        }
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (final Object caseValue : caseValues) {
+            if (!(caseValue instanceof Integer)) {
+                return false;
+            }
+            min = Math.min(min, (Integer) caseValue);
+            max = Math.max(max, (Integer) caseValue);
+        }
+        return max - min < (long) caseValues.length * MAX_DENSE_TABLE_SLOTS_PER_CASE;
+    }
+
+    /**
+     * Returns target of the first case which value is equal to the specified
+     * one or default target if there is no such case
+     */
+    public abstract int getTarget(Object value);
+
+    public final int getDefaultTarget() {
+        return defaultTarget;
+    }
+
+    /**
+     * Dispatch table for integer case values which fill their range densely
+     */
+    private static final class DenseIntegerDispatchTable extends SwitchDispatchTable {
+
+        private final int minCaseValue;
+
+        private final int[] targets;
+
+        private DenseIntegerDispatchTable(final Object[] caseValues,
+                                          final int[] caseTargets,
+                                          final int defaultTarget) {
+            super(defaultTarget);
+            int min = Integer.MAX_VALUE;
+            int max = Integer.MIN_VALUE;
+            for (final Object caseValue : caseValues) {
+                min = Math.min(min, (Integer) caseValue);
+                max = Math.max(max, (Integer) caseValue);
+            }
+            this.minCaseValue = min;
+            this.targets = new int[max - min + 1];
+            Arrays.fill(targets, defaultTarget);
+            for (int i = caseValues.length - 1; i >= 0; i--) {
+                targets[(Integer) caseValues[i] - min] = caseTargets[i];
+            }
+        }
+
+        @Override
+        public int getTarget(final Object value) {
+            if (value instanceof Integer) {
+                final long index = (long) (Integer) value - minCaseValue;
+                if (index >= 0 && index < targets.length) {
+                    return targets[(int) index];
+                }
+            }
+            return getDefaultTarget();
+        }
+    }
+
+    /**
+     * Dispatch table for arbitrary case values
+     */
+    private static final class HashDispatchTable extends SwitchDispatchTable {
+
+        private final Map<Object, Integer> targets;
+
+        private HashDispatchTable(final Object[] caseValues,
+                                  final int[] caseTargets,
+                                  final int defaultTarget) {
+            super(defaultTarget);
+            this.targets = new HashMap<>();
+            for (int i = 0; i < caseValues.length; i++) {
+                targets.putIfAbsent(caseValues[i], caseTargets[i]);
+            }
+        }
+
+        @Override
+        public int getTarget(final Object value) {
+            final Integer target = targets.get(ConcatenatedString.materialize(value));
+            return target != null ? target : getDefaultTarget();
+        }
+    }
+}
@@ -20,11 +20,18 @@ package com.revenat.javamm.code.fragment.operation;
 import com.revenat.javamm.code.fragment.Expression;
 import com.revenat.javamm.code.fragment.SourceLine;
 
+import java.util.Arrays;
 import java.util.List;
 
 import static java.util.Objects.requireNonNull;
 
 /**
+ * Represents {@code switch} operation.
+ *
+ * <p>Position of the entry matched by the condition value is found by the
+ * {@linkplain SwitchDispatchTable dispatch table}, which is built together
+ * with the operation
+ *
  * @author Vitaliy Dragun
  */
 public class SwitchOperation extends AbstractOperation {
@@ -33,12 +40,36 @@ public class SwitchOperation extends AbstractOperation {
 
     private final List<SwitchBodyEntry> entries;
 
+    private final SwitchDispatchTable dispatchTable;
+
     public SwitchOperation(final SourceLine sourceLine,
                            final Expression condition,
                            final List<SwitchBodyEntry> entries) {
         super(sourceLine);
         this.entries = List.copyOf(entries);
         this.condition = requireNonNull(condition);
+        this.dispatchTable = createDispatchTable(this.entries);
+    }
+
+    private static SwitchDispatchTable createDispatchTable(final List<SwitchBodyEntry> entries) {
+        final Object[] caseValues = new Object[entries.size()];
+        final int[] caseTargets = new int[entries.size()];
+        int caseCount = 0;
+        int defaultTarget = entries.size();
+        for (int i = 0; i < entries.size(); i++) {
+            final SwitchBodyEntry entry = entries.get(i);
+            if (entry.isDefault()) {
+                defaultTarget = i;
+            } else {
+                caseValues[caseCount] = ((SwitchCaseEntry) entry).getExpression().getValue();
+                caseTargets[caseCount] = i;
+                caseCount++;
+            }
+        }
+        return SwitchDispatchTable.create(
+            Arrays.copyOf(caseValues, caseCount),
+            Arrays.copyOf(caseTargets, caseCount),
+            defaultTarget);
     }
 
     public Expression getCondition() {
@@ -48,4 +79,12 @@ public class SwitchOperation extends AbstractOperation {
     public List<SwitchBodyEntry> getEntries() {
         return entries;
     }
+
+    /**
+     * Returns position of the first entry which should be executed for the specified
+     * condition value or the number of entries if no entry should be executed
+     */
+    public int getMatchedEntryPosition(final Object conditionValue) {
+        return dispatchTable.getTarget(conditionValue);
+    }
 }
@@ -0,0 +1,370 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.code.util;
+
+import com.revenat.javamm.code.fragment.ConcatenatedString;
+import com.revenat.javamm.code.fragment.expression.TypeExpression;
+import com.revenat.javamm.code.fragment.operator.BinaryOperator;
+import com.revenat.javamm.code.fragment.operator.UnaryOperator;
+
+import static com.revenat.javamm.code.util.TypeUtils.confirmType;
+
+/**
+ * Semantics of the operators which do not depend on the runtime state. Interpreter
+ * calculates operators and compiler folds constant expressions using these methods,
+ * so both always produce the same results.
+ *
+ * <p>Compound assignment operators are calculated as the corresponding binary
+ * operators. Operands of the operators other than addition are expected to be
+ * {@linkplain ConcatenatedString#materialize(Object) materialized} strings
+ *
+ * @author Vitaliy Dragun
+ */
+public final class OperatorUtils {
+
+    private OperatorUtils() {
+    }
+
+    /**
+     * Calculates the specified binary operator for the specified operands
+     *
+     * @return result of the operator or {@code null} if the operator is not supported
+     * for the types of the operands
+     * @throws ArithmeticException if integer operand is divided by zero
+     */
+    @SuppressWarnings("checkstyle:CyclomaticComplexity")
+    public static Object calculate(final Object value1, final BinaryOperator operator, final Object value2) {
+        switch (operator) {
+            case ARITHMETIC_ADDITION:
+            case ASSIGNMENT_ADDITION:
+                return calculateAddition(value1, operator, value2);
+            case ARITHMETIC_SUBTRACTION:
+            case ARITHMETIC_MULTIPLICATION:
+            case ARITHMETIC_DIVISION:
+            case ARITHMETIC_MODULUS:
+            case ASSIGNMENT_SUBTRACTION:
+            case ASSIGNMENT_MULTIPLICATION:
+            case ASSIGNMENT_DIVISION:
+            case ASSIGNMENT_MODULUS:
+                return calculateArithmetic(value1, operator, value2);
+            case PREDICATE_GREATER_THAN:
+            case PREDICATE_GREATER_THAN_OR_EQUALS:
+            case PREDICATE_LESS_THAN:
+            case PREDICATE_LESS_THAN_OR_EQUALS:
+                return calculateComparison(value1, operator, value2);
+            case PREDICATE_EQUALS:
+                return calculateEquals(value1, value2);
+            case PREDICATE_NOT_EQUALS:
+                final Boolean equals = calculateEquals(value1, value2);
+                return equals == null ? null : !equals;
+            case PREDICATE_TYPEOF:
+                return calculateTypeOf(value1, value2);
+            case BITWISE_AND:
+            case BITWISE_OR:
+            case BITWISE_XOR:
+            case ASSIGNMENT_BITWISE_AND:
+            case ASSIGNMENT_BITWISE_OR:
+            case ASSIGNMENT_BITWISE_XOR:
+                return calculateBitwise(value1, operator, value2);
+            case LOGICAL_AND:
+            case LOGICAL_OR:
+                return areBooleans(value1, value2)
+                    ? (Object) calculateForBooleans((Boolean) value1, operator, (Boolean) value2)
+                    : null;
+            case BITWISE_SHIFT_LEFT:
+            case BITWISE_SHIFT_RIGHT:
+            case BITWISE_SHIFT_RIGHT_ZERO_FILL:
+            case ASSIGNMENT_BITWISE_SHIFT_LEFT:
+            case ASSIGNMENT_BITWISE_SHIFT_RIGHT:
+            case ASSIGNMENT_BITWISE_SHIFT_RIGHT_ZERO_FILL:
+                return areIntegers(value1, value2)
+                    ? (Object) calculateForIntegers((Integer) value1, operator, (Integer) value2)
+                    : null;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Calculates the specified arithmetic, bitwise or shift operator for the integer operands
+     *
+     * @throws ArithmeticException if operand is divided by zero
+     */
+    @SuppressWarnings("checkstyle:CyclomaticComplexity")
+    public static int calculateForIntegers(final int value1, final BinaryOperator operator, final int value2) {
+        switch (operator) {
+            case ARITHMETIC_ADDITION:
+            case ASSIGNMENT_ADDITION:
+                return value1 + value2;
+            case ARITHMETIC_SUBTRACTION:
+            case ASSIGNMENT_SUBTRACTION:
+                return value1 - value2;
+            case ARITHMETIC_MULTIPLICATION:
+            case ASSIGNMENT_MULTIPLICATION:
+                return value1 * value2;
+            case ARITHMETIC_DIVISION:
+            case ASSIGNMENT_DIVISION:
+                return value1 / value2;
+            case ARITHMETIC_MODULUS:
+            case ASSIGNMENT_MODULUS:
+                return value1 % value2;
+            case BITWISE_AND:
+            case ASSIGNMENT_BITWISE_AND:
+                return value1 & value2;
+            case BITWISE_OR:
+            case ASSIGNMENT_BITWISE_OR:
+                return value1 | value2;
+            case BITWISE_XOR:
+            case ASSIGNMENT_BITWISE_XOR:
+                return value1 ^ value2;
+            case BITWISE_SHIFT_LEFT:
+            case ASSIGNMENT_BITWISE_SHIFT_LEFT:
+                return value1 << value2;
+            case BITWISE_SHIFT_RIGHT:
+            case ASSIGNMENT_BITWISE_SHIFT_RIGHT:
+                return value1 >> value2;
+            case BITWISE_SHIFT_RIGHT_ZERO_FILL:
+            case ASSIGNMENT_BITWISE_SHIFT_RIGHT_ZERO_FILL:
+                return value1 >>> value2;
+            default:
+                throw createNotSupportedOperatorError(operator, "integer");
+        }
+    }
+
+    /**
+     * Calculates the specified arithmetic operator for the double operands
+     */
+    public static double calculateForDoubles(final double value1,
+                                             final BinaryOperator operator,
+                                             final double value2) {
+        switch (operator) {
+            case ARITHMETIC_ADDITION:
+            case ASSIGNMENT_ADDITION:
+                return value1 + value2;
+            case ARITHMETIC_SUBTRACTION:
+            case ASSIGNMENT_SUBTRACTION:
+                return value1 - value2;
+            case ARITHMETIC_MULTIPLICATION:
+            case ASSIGNMENT_MULTIPLICATION:
+                return value1 * value2;
+            case ARITHMETIC_DIVISION:
+            case ASSIGNMENT_DIVISION:
+                return value1 / value2;
+            case ARITHMETIC_MODULUS:
+            case ASSIGNMENT_MODULUS:
+                return value1 % value2;
+            default:
+                throw createNotSupportedOperatorError(operator, "double");
+        }
+    }
+
+    /**
+     * Calculates the specified bitwise, logical or equality operator for the boolean operands
+     */
+    @SuppressWarnings("checkstyle:CyclomaticComplexity")
+    public static boolean calculateForBooleans(final boolean value1,
+                                               final BinaryOperator operator,
+                                               final boolean value2) {
+        switch (operator) {
+            case BITWISE_AND:
+            case ASSIGNMENT_BITWISE_AND:
+            case LOGICAL_AND:
+                return value1 & value2;
+            case BITWISE_OR:
+            case ASSIGNMENT_BITWISE_OR:
+            case LOGICAL_OR:
+                return value1 | value2;
+            case BITWISE_XOR:
+            case ASSIGNMENT_BITWISE_XOR:
+                return value1 ^ value2;
+            case PREDICATE_EQUALS:
+                return value1 == value2;
+            case PREDICATE_NOT_EQUALS:
+                return value1 != value2;
+            default:
+                throw createNotSupportedOperatorError(operator, "boolean");
+        }
+    }
+
+    /**
+     * Compares the numeric operands using the specified comparison or equality operator.
+     * Greater than and less than operators are calculated as negation of the opposite
+     * operators, so they are {@code true} if any operand is {@code NaN}
+     */
+    public static boolean compare(final double value1, final BinaryOperator operator, final double value2) {
+        switch (operator) {
+            case PREDICATE_GREATER_THAN:
+                return !(value1 <= value2);
+            case PREDICATE_GREATER_THAN_OR_EQUALS:
+                return value1 >= value2;
+            case PREDICATE_LESS_THAN:
+                return !(value1 >= value2);
+            case PREDICATE_LESS_THAN_OR_EQUALS:
+                return value1 <= value2;
+            case PREDICATE_EQUALS:
+                return value1 == value2;
+            case PREDICATE_NOT_EQUALS:
+                return value1 != value2;
+            default:
+                throw createNotSupportedOperatorError(operator, "number");
+        }
+    }
+
+    /**
+     * Calculates the specified unary operator for the specified operand.
+     * Increment, decrement and hash code operators are not calculated by this method
+     *
+     * @return result of the operator or {@code null} if the operator is not supported
+     * for the type of the operand
+     */
+    public static Object calculate(final UnaryOperator operator, final Object value) {
+        switch (operator) {
+            case ARITHMETICAL_UNARY_PLUS:
+                return confirmType(Number.class, value) ? value : null;
+            case ARITHMETICAL_UNARY_MINUS:
+                if (value instanceof Integer) {
+                    return calculateForInteger(operator, (Integer) value);
+                } else if (value instanceof Double) {
+                    return calculateForDouble(operator, (Double) value);
+                } else {
+                    return null;
+                }
+            case BITWISE_INVERSE:
+                return value instanceof Integer ? (Object) calculateForInteger(operator, (Integer) value) : null;
+            case LOGICAL_NOT:
+                return value instanceof Boolean ? (Object) !(Boolean) value : null;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Calculates the specified arithmetic or bitwise unary operator for the integer operand
+     */
+    public static int calculateForInteger(final UnaryOperator operator, final int value) {
+        switch (operator) {
+            case ARITHMETICAL_UNARY_PLUS:
+                return value;
+            case ARITHMETICAL_UNARY_MINUS:
+                return -value;
+            case BITWISE_INVERSE:
+                return ~value;
+            default:
+                throw createNotSupportedOperatorError(operator, "integer");
+        }
+    }
+
+    /**
+     * Calculates the specified arithmetic unary operator for the double operand
+     */
+    public static double calculateForDouble(final UnaryOperator operator, final double value) {
+        switch (operator) {
+            case ARITHMETICAL_UNARY_PLUS:
+                return value;
+            case ARITHMETICAL_UNARY_MINUS:
+                return -value;
+            default:
+                throw createNotSupportedOperatorError(operator, "double");
+        }
+    }
+
+    private static Object calculateAddition(final Object value1, final BinaryOperator operator, final Object value2) {
+        if (areNumbers(value1, value2)) {
+            return calculateArithmetic(value1, operator, value2);
+        } else if (ConcatenatedString.isString(value1) || ConcatenatedString.isString(value2)) {
+            return ConcatenatedString.concat(value1, value2);
+        } else {
+            return null;
+        }
+    }
+
+    private static Object calculateArithmetic(final Object value1,
+                                              final BinaryOperator operator,
+                                              final Object value2) {
+        if (areIntegers(value1, value2)) {
+            return calculateForIntegers((Integer) value1, operator, (Integer) value2);
+        } else if (areNumbers(value1, value2)) {
+            return calculateForDoubles(((Number) value1).doubleValue(), operator, ((Number) value2).doubleValue());
+        } else {
+            return null;
+        }
+    }
+
+    private static Boolean calculateComparison(final Object value1,
+                                               final BinaryOperator operator,
+                                               final Object value2) {
+        if (areNumbers(value1, value2)) {
+            return compare(((Number) value1).doubleValue(), operator, ((Number) value2).doubleValue());
+        } else {
+            return null;
+        }
+    }
+
+    private static Boolean calculateEquals(final Object value1, final Object value2) {
+        if (value1 instanceof Boolean != value2 instanceof Boolean) {
+            return null;
+        } else if (areNumbers(value1, value2)) {
+            return compare(((Number) value1).doubleValue(), BinaryOperator.PREDICATE_EQUALS,
+                ((Number) value2).doubleValue());
+        } else if (value1 != null && value2 != null) {
+            return value1.equals(value2);
+        } else {
+            return value1 == value2;
+        }
+    }
+
+    private static Boolean calculateTypeOf(final Object value, final Object type) {
+        if (value == null) {
+            return false;
+        } else if (type instanceof TypeExpression) {
+            return value.getClass().equals(((TypeExpression) type).getType());
+        } else {
+            return null;
+        }
+    }
+
+    private static Object calculateBitwise(final Object value1,
+                                           final BinaryOperator operator,
+                                           final Object value2) {
+        if (areIntegers(value1, value2)) {
+            return calculateForIntegers((Integer) value1, operator, (Integer) value2);
+        } else if (areBooleans(value1, value2)) {
+            return calculateForBooleans((Boolean) value1, operator, (Boolean) value2);
+        } else {
+            return null;
+        }
+    }
+
+    private static boolean areIntegers(final Object value1, final Object value2) {
+        return confirmType(Integer.class, value1, value2);
+    }
+
+    private static boolean areNumbers(final Object value1, final Object value2) {
+        return confirmType(Number.class, value1, value2);
+    }
+
+    private static boolean areBooleans(final Object value1, final Object value2) {
+        return confirmType(Boolean.class, value1, value2);
+    }
+
+    private static IllegalArgumentException createNotSupportedOperatorError(final Object operator,
+                                                                           final String type) {
+        return new IllegalArgumentException(String.format("Operator '%s' is not supported for %s operands",
+            operator, type));
+    }
+}
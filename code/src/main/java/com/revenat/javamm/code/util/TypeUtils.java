@@ -17,6 +17,8 @@
 
 package com.revenat.javamm.code.util;
 
+import com.revenat.javamm.code.fragment.ConcatenatedString;
+
 /**
  * @author Vitaliy Dragun
  */
@@ -30,6 +32,9 @@ public final class TypeUtils {
     }
 
     public static String getType(final Class<?> value) {
+        if (value == ConcatenatedString.class) {
+            return getType(String.class);
+        }
         return value != null ? value.getSimpleName().toLowerCase() : "null";
     }
 
@@ -45,10 +50,26 @@ public final class TypeUtils {
      */
     public static boolean confirmType(final Class<?> type, final Object... values) {
         for (final Object value : values) {
-            if (value == null || !type.isAssignableFrom(value.getClass())) {
+            if (!type.isInstance(value)) {
                 return false;
             }
         }
         return true;
     }
+
+    /**
+     * Single value version of {@link #confirmType(Class, Object...)} which does not
+     * allocate varargs array on the hot paths of the calculators
+     */
+    public static boolean confirmType(final Class<?> type, final Object value) {
+        return type.isInstance(value);
+    }
+
+    /**
+     * Two values version of {@link #confirmType(Class, Object...)} which does not
+     * allocate varargs array on the hot paths of the calculators
+     */
+    public static boolean confirmType(final Class<?> type, final Object value1, final Object value2) {
+        return type.isInstance(value1) && type.isInstance(value2);
+    }
 }
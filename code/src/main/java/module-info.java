@@ -24,6 +24,7 @@ module javamm.code {
     exports com.revenat.javamm.code.fragment.expression;
     exports com.revenat.javamm.code.fragment.operator;
     exports com.revenat.javamm.code.fragment.function;
+    exports com.revenat.javamm.code.fragment.instruction;
     exports com.revenat.javamm.code.component;
     exports com.revenat.javamm.code.exception;
     exports com.revenat.javamm.code.syntax;
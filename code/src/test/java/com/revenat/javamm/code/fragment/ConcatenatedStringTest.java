@@ -0,0 +1,102 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.code.fragment;
+
+import com.revenat.juinit.addons.ReplaceCamelCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayNameGeneration(ReplaceCamelCase.class)
+@DisplayName("a concatenated string")
+class ConcatenatedStringTest {
+
+    private static final String LONG_TEXT = "x".repeat(ConcatenatedString.MIN_LENGTH);
+
+    @Test
+    @Order(1)
+    void shouldConcatenateShortStringsIntoPlainString() {
+        final Object result = ConcatenatedString.concat("a", 1);
+
+        assertThat(result, equalTo("a1"));
+    }
+
+    @Test
+    @Order(2)
+    void shouldConcatenateLongStringsIntoConcatenatedString() {
+        final Object result = ConcatenatedString.concat(LONG_TEXT, null);
+
+        assertTrue(result instanceof ConcatenatedString);
+        assertThat(result.toString(), equalTo(LONG_TEXT + "null"));
+        assertThat(((CharSequence) result).length(), equalTo(LONG_TEXT.length() + 4));
+    }
+
+    @Test
+    @Order(3)
+    void shouldNotChangeStringWhenItsPrefixIsConcatenatedWithAnotherValue() {
+        final Object prefix = ConcatenatedString.concat(LONG_TEXT, "-");
+
+        final Object first = ConcatenatedString.concat(prefix, "first");
+        final Object second = ConcatenatedString.concat(prefix, 2.5);
+        final Object third = ConcatenatedString.concat(first, true);
+
+        assertThat(prefix.toString(), equalTo(LONG_TEXT + "-"));
+        assertThat(first.toString(), equalTo(LONG_TEXT + "-first"));
+        assertThat(second.toString(), equalTo(LONG_TEXT + "-2.5"));
+        assertThat(third.toString(), equalTo(LONG_TEXT + "-firsttrue"));
+    }
+
+    @Test
+    @Order(4)
+    void shouldConcatenateStringWithItself() {
+        final Object value = ConcatenatedString.concat(LONG_TEXT, "!");
+
+        final Object result = ConcatenatedString.concat(value, value);
+
+        assertThat(result.toString(), equalTo(LONG_TEXT + "!" + LONG_TEXT + "!"));
+    }
+
+    @Test
+    @Order(5)
+    void shouldMaterializeOnlyConcatenatedStrings() {
+        final Object value = ConcatenatedString.concat(LONG_TEXT, "");
+        final Object other = new Object();
+
+        assertThat(ConcatenatedString.materialize(value), equalTo(LONG_TEXT));
+        assertSame(other, ConcatenatedString.materialize(other));
+    }
+
+    @Test
+    @Order(6)
+    void shouldRecognizeAllStringRepresentations() {
+        assertTrue(ConcatenatedString.isString("text"));
+        assertTrue(ConcatenatedString.isString(ConcatenatedString.concat(LONG_TEXT, "")));
+        assertFalse(ConcatenatedString.isString(1));
+        assertFalse(ConcatenatedString.isString(null));
+    }
+}
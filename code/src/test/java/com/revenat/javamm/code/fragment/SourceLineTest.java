@@ -34,6 +34,8 @@ import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 @DisplayNameGeneration(ReplaceCamelCase.class)
@@ -181,6 +183,45 @@ class SourceLineTest {
         assertThat(sourceLine.toString(), equalTo("[test:1] -> var a = 10"));
     }
 
+    @Test
+    @Order(15)
+    void shouldStoreEqualTokensOfLinesSharingTokenTableOnce() {
+        final TokenTable tokenTable = new TokenTable();
+        final SourceLine first = new SourceLine(MODULE_NAME, 1, List.of("var", new String("a"), "=", "10"), tokenTable);
+        final SourceLine second = new SourceLine(MODULE_NAME, 2, List.of(new String("a"), "=", "20"), tokenTable);
+
+        assertSame(first.getToken(1), second.getToken(0));
+        assertThat(tokenTable.size(), equalTo(5));
+    }
+
+    @Test
+    @Order(16)
+    void shouldAllowToGetSubListOfTokens() {
+        final List<String> subList = sourceLine.subList(1, 3);
+
+        assertThat(subList, equalTo(List.of("a", "=")));
+        assertThat(subList.indexOf("="), equalTo(1));
+        assertThat(subList.contains("var"), is(false));
+        assertThat(subList.subList(1, 2), equalTo(List.of("=")));
+        assertThat(sourceLine.subList(2), equalTo(List.of("=", "10")));
+    }
+
+    @Test
+    @Order(17)
+    void shouldNotAllowToModifyTokens() {
+        assertThrows(UnsupportedOperationException.class, () -> sourceLine.getTokens().set(0, "final"));
+    }
+
+    @Test
+    @Order(18)
+    void shouldCreateSourceLineFromSubListOfAnotherSourceLine() {
+        final SourceLine another = new SourceLine(MODULE_NAME, LINE_NUMBER, sourceLine.subList(1, 4));
+
+        assertThat(another.getTokens(), equalTo(List.of("a", "=", "10")));
+        assertThat(another.indexOf("10"), equalTo(2));
+        assertSame(sourceLine.getToken(1), another.getFirst());
+    }
+
     void assertGreaterThan(final SourceLine first, final SourceLine second) {
         assertThat(first.compareTo(second), greaterThan(0));
     }
@@ -0,0 +1,95 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.code.fragment;
+
+import com.revenat.juinit.addons.ReplaceCamelCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayNameGeneration(ReplaceCamelCase.class)
+@DisplayName("a token table")
+class TokenTableTest {
+
+    private final TokenTable tokenTable = new TokenTable();
+
+    @Test
+    @Order(1)
+    void shouldReturnSameIdentifierForEqualTokens() {
+        final int first = tokenTable.intern(new String("var"));
+        final int second = tokenTable.intern(new String("var"));
+
+        assertThat(first, equalTo(second));
+        assertThat(tokenTable.size(), equalTo(1));
+    }
+
+    @Test
+    @Order(2)
+    void shouldReturnDifferentIdentifiersForDifferentTokens() {
+        assertThat(tokenTable.intern("("), not(equalTo(tokenTable.intern(")"))));
+        assertThat(tokenTable.size(), equalTo(2));
+    }
+
+    @Test
+    @Order(3)
+    void shouldStoreFirstInternedInstanceOfToken() {
+        final String token = new String("println");
+        final int identifier = tokenTable.intern(token);
+        tokenTable.intern(new String("println"));
+
+        assertSame(token, tokenTable.getToken(identifier));
+    }
+
+    @Test
+    @Order(4)
+    void shouldFindTokenWithoutAddingIt() {
+        final int identifier = tokenTable.intern("a");
+
+        assertThat(tokenTable.find("a"), equalTo(identifier));
+        assertThat(tokenTable.find("b"), equalTo(TokenTable.NOT_FOUND));
+        assertThat(tokenTable.size(), equalTo(1));
+    }
+
+    @Test
+    @Order(5)
+    void shouldGrowBeyondInitialCapacity() {
+        for (int i = 0; i < 1000; i++) {
+            assertThat(tokenTable.intern("token" + i), equalTo(i));
+        }
+
+        assertThat(tokenTable.getToken(999), equalTo("token999"));
+    }
+
+    @Test
+    @Order(6)
+    void shouldNotAllowToGetUnknownIdentifier() {
+        tokenTable.intern("a");
+
+        assertThrows(IndexOutOfBoundsException.class, () -> tokenTable.getToken(1));
+    }
+}
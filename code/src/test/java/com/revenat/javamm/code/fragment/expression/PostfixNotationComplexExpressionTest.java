@@ -43,9 +43,13 @@ import java.util.stream.Stream;
 import static com.revenat.javamm.code.fragment.expression.ConstantExpression.valueOf;
 import static com.revenat.javamm.code.fragment.operator.BinaryOperator.ARITHMETIC_ADDITION;
 import static com.revenat.javamm.code.fragment.operator.BinaryOperator.ASSIGNMENT_ADDITION;
+import static com.revenat.javamm.code.fragment.operator.BinaryOperator.LOGICAL_AND;
+import static com.revenat.javamm.code.fragment.operator.BinaryOperator.LOGICAL_OR;
 import static com.revenat.javamm.code.fragment.operator.UnaryOperator.DECREMENT;
 import static com.revenat.javamm.code.fragment.operator.UnaryOperator.INCREMENT;
 import static com.revenat.javamm.code.test.helper.MockUtils.variable;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
@@ -73,6 +77,40 @@ class PostfixNotationComplexExpressionTest {
         assertFalse(expression.isBinaryAssignmentExpression());
     }
 
+    @Test
+    @Order(3)
+    void shouldCalculateMaxStackDepthRequiredForEvaluation() {
+        assertThat(createPostfixExpression("a++", variable("a"), INCREMENT).getMaxStackDepth(), is(1));
+        assertThat(createPostfixExpression("1 + 2 + 3", valueOf(1), valueOf(2), ARITHMETIC_ADDITION, valueOf(3),
+            ARITHMETIC_ADDITION).getMaxStackDepth(), is(2));
+        assertThat(createPostfixExpression("1 + (2 + (3 + 4))", valueOf(1), valueOf(2), valueOf(3), valueOf(4),
+            ARITHMETIC_ADDITION, ARITHMETIC_ADDITION, ARITHMETIC_ADDITION).getMaxStackDepth(), is(4));
+    }
+
+    @Test
+    @Order(4)
+    void shouldKeepLexemesIfThereIsNoComplexSecondOperandOfShortCircuitOperator() {
+        final PostfixNotationComplexExpression expression = createPostfixExpression("a && b || c",
+            variable("a"), variable("b"), LOGICAL_AND, variable("c"), LOGICAL_OR);
+
+        assertThat(expression.getShortCircuitLexemes().size(), is(5));
+    }
+
+    @Test
+    @Order(5)
+    void shouldGroupComplexSecondOperandOfShortCircuitOperatorIntoNestedExpression() {
+        final PostfixNotationComplexExpression expression = createPostfixExpression("a && (b || c + 1)",
+            variable("a"), variable("b"), variable("c"), valueOf(1), ARITHMETIC_ADDITION, LOGICAL_OR, LOGICAL_AND);
+
+        final List<Lexeme> lexemes = expression.getShortCircuitLexemes();
+        assertThat(lexemes.size(), is(3));
+        assertThat(lexemes.get(2), is(LOGICAL_AND));
+        final PostfixNotationComplexExpression secondOperand = (PostfixNotationComplexExpression) lexemes.get(1);
+        assertThat(secondOperand.toString(), is("b || (c + 1)"));
+        assertThat(secondOperand.getShortCircuitLexemes().size(), is(3));
+        assertThat(secondOperand.getShortCircuitLexemes().get(1).toString(), is("c + 1"));
+    }
+
     private PostfixNotationComplexExpression createPostfixExpression(final String originalExpression, final Lexeme... lexemesInPostfixNotation) {
         return new PostfixNotationComplexExpression(List.of(lexemesInPostfixNotation), originalExpression);
     }
@@ -0,0 +1,99 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.revenat.javamm.code.fragment.function;
+
+import com.revenat.javamm.code.fragment.SourceLine;
+import com.revenat.javamm.code.fragment.operation.Block;
+import com.revenat.javamm.code.fragment.operation.IfElseOperation;
+import com.revenat.javamm.code.fragment.operation.PrintlnOperation;
+import com.revenat.javamm.code.fragment.operation.WhileOperation;
+import com.revenat.javamm.code.test.doubles.ExpressionDummy;
+import com.revenat.juinit.addons.ReplaceCamelCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayNameGeneration(ReplaceCamelCase.class)
+@DisplayName("a line table")
+class LineTableTest {
+    private static final SourceLine DECLARATION_LINE = sourceLine(1, "function", "test", "(", ")", "{");
+
+    private static final SourceLine WHILE_LINE = sourceLine(2, "while", "(", "true", ")", "{");
+
+    private static final SourceLine IF_LINE = sourceLine(3, "if", "(", "true", ")", "{");
+
+    private static final SourceLine PRINTLN_LINE = sourceLine(4, "println", "(", ")");
+
+    private final LineTable lineTable = new LineTable(createFunction());
+
+    private static SourceLine sourceLine(final int lineNumber, final String... tokens) {
+        return new SourceLine("test", lineNumber, List.of(tokens));
+    }
+
+    private static DeveloperFunction createFunction() {
+        final Block ifBody = new Block(new PrintlnOperation(PRINTLN_LINE), IF_LINE);
+        final Block whileBody = new Block(new IfElseOperation(IF_LINE, new ExpressionDummy(), ifBody), WHILE_LINE);
+        return new DeveloperFunction.Builder()
+            .setName(new SimpleFunctionName())
+            .setDeclarationSourceLine(DECLARATION_LINE)
+            .setBody(new Block(new WhileOperation(WHILE_LINE, new ExpressionDummy(), whileBody), DECLARATION_LINE))
+            .build();
+    }
+
+    @Test
+    @Order(1)
+    void shouldProvideDeclarationSourceLine() {
+        assertThat(lineTable.getSourceLine(1), sameInstance(DECLARATION_LINE));
+    }
+
+    @Test
+    @Order(2)
+    void shouldProvideSourceLinesOfNestedOperations() {
+        assertThat(lineTable.getSourceLine(2), sameInstance(WHILE_LINE));
+        assertThat(lineTable.getSourceLine(3), sameInstance(IF_LINE));
+        assertThat(lineTable.getSourceLine(4), sameInstance(PRINTLN_LINE));
+    }
+
+    @Test
+    @Order(3)
+    void shouldProvideSourceLineWithoutTokensIfThereIsNoOperationAtSpecifiedLine() {
+        final SourceLine sourceLine = lineTable.getSourceLine(10);
+
+        assertThat(sourceLine.getModuleName(), is("test"));
+        assertThat(sourceLine.getLineNumber(), is(10));
+        assertThat(sourceLine.getTokenCount(), is(0));
+    }
+
+    private static class SimpleFunctionName extends OverloadableFunctionName {
+
+        private SimpleFunctionName() {
+            super("test", 0);
+        }
+    }
+}
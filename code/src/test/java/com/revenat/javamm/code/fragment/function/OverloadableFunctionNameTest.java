@@ -93,13 +93,13 @@ class OverloadableFunctionNameTest {
 
     @Test
     @Order(5)
-    void shouldBeEqualToNonOverloadableFunctionNameWithSameNameRegardlessOfArgumentCount() {
+    void shouldNotBeEqualToNonOverloadableFunctionNameWithSameName() {
         final OverloadableFunctionName overloadableWithoutArgs = createOverloadableName("f", 0);
         final OverloadableFunctionName overloadableWith2Args = createOverloadableName("f", 2);
         final FunctionName simple = createSimpleName("f");
 
-        assertThat(overloadableWithoutArgs, equalTo(simple));
-        assertThat(overloadableWith2Args, equalTo(simple));
+        assertThat(overloadableWithoutArgs, is(not(equalTo(simple))));
+        assertThat(overloadableWith2Args, is(not(equalTo(simple))));
     }
 
     @Test
@@ -119,9 +119,11 @@ class OverloadableFunctionNameTest {
 
     @Test
     @Order(8)
-    void shouldHaveSameHashcodeForSameNameRegardlessOfArgumentCount() {
-        assertEqualHashcode(createOverloadableName("a", 0), createOverloadableName("a", 5));
-        assertEqualHashcode(createOverloadableName("aaa", 5), createOverloadableName("aaa", 100));
+    void shouldHaveSameHashcodeForSameNameAndArgumentCount() {
+        assertEqualHashcode(createOverloadableName("a", 0), createOverloadableName("a", 0));
+        assertEqualHashcode(createOverloadableName("aaa", 5), createOverloadableName("aaa", 5));
+
+        assertNotEqualHashcode(createOverloadableName("a", 0), createOverloadableName("a", 5));
 
         assertNotEqualHashcode(createOverloadableName("aab", 0), createOverloadableName("aba", 0));
     }
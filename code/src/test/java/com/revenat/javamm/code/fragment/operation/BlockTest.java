@@ -19,6 +19,8 @@ package com.revenat.javamm.code.fragment.operation;
 
 import com.revenat.javamm.code.fragment.Operation;
 import com.revenat.javamm.code.fragment.SourceLine;
+import com.revenat.javamm.code.test.doubles.ExpressionDummy;
+import com.revenat.javamm.code.test.doubles.VariableDummy;
 import com.revenat.juinit.addons.ReplaceCamelCase;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -34,7 +36,9 @@ import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 @DisplayNameGeneration(ReplaceCamelCase.class)
@@ -93,6 +97,31 @@ class BlockTest {
         assertThat(block.toString(), containsString(blockOperationB.toString()));
     }
 
+    @Test
+    @Order(6)
+    void shouldNotRequireNestedScopeIfContainsNoVariableDeclarations() {
+        assertFalse(block.isVariableDeclarationPresent());
+    }
+
+    @Test
+    @Order(7)
+    void shouldRequireNestedScopeIfContainsVariableDeclaration() {
+        final Operation declaration =
+            new VariableDeclarationOperation(OPERATION_A_LINE, false, new VariableDummy(), new ExpressionDummy());
+
+        assertTrue(new Block(List.of(blockOperationB, declaration), BLOCK_STARTING_LINE).isVariableDeclarationPresent());
+    }
+
+    @Test
+    @Order(8)
+    void shouldNotRequireNestedScopeIfVariableIsDeclaredInNestedBlock() {
+        final Operation declaration =
+            new VariableDeclarationOperation(OPERATION_A_LINE, false, new VariableDummy(), new ExpressionDummy());
+        final Block nestedBlock = new Block(declaration, OPERATION_A_LINE);
+
+        assertFalse(new Block(nestedBlock, BLOCK_STARTING_LINE).isVariableDeclarationPresent());
+    }
+
     private static class OperationStub implements Operation {
         private final SourceLine sourceLine;
 
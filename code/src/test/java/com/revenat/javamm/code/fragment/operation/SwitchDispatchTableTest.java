@@ -0,0 +1,120 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.code.fragment.operation;
+
+import com.revenat.juinit.addons.ReplaceCamelCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayNameGeneration(ReplaceCamelCase.class)
+@DisplayName("a switch dispatch table")
+class SwitchDispatchTableTest {
+
+    private static final int DEFAULT_TARGET = 100;
+
+    @Test
+    @Order(1)
+    void canNotBeCreatedIfNumberOfCaseValuesDiffersFromNumberOfTargets() {
+        assertThrows(IllegalArgumentException.class,
+            () -> SwitchDispatchTable.create(new Object[]{1, 2}, new int[]{0}, DEFAULT_TARGET));
+    }
+
+    @Test
+    @Order(2)
+    void shouldReturnDefaultTargetIfThereAreNoCases() {
+        final SwitchDispatchTable table = SwitchDispatchTable.create(new Object[0], new int[0], DEFAULT_TARGET);
+
+        assertThat(table.getTarget(1), equalTo(DEFAULT_TARGET));
+        assertThat(table.getTarget(null), equalTo(DEFAULT_TARGET));
+    }
+
+    @Test
+    @Order(3)
+    void shouldFindTargetsOfContiguousIntegerCases() {
+        final SwitchDispatchTable table =
+            SwitchDispatchTable.create(new Object[]{3, 1, 2, 5}, new int[]{10, 11, 12, 13}, DEFAULT_TARGET);
+
+        assertThat(table.getTarget(3), equalTo(10));
+        assertThat(table.getTarget(1), equalTo(11));
+        assertThat(table.getTarget(2), equalTo(12));
+        assertThat(table.getTarget(5), equalTo(13));
+        assertThat(table.getTarget(4), equalTo(DEFAULT_TARGET));
+        assertThat(table.getTarget(0), equalTo(DEFAULT_TARGET));
+        assertThat(table.getTarget(6), equalTo(DEFAULT_TARGET));
+        assertThat(table.getTarget(Integer.MIN_VALUE), equalTo(DEFAULT_TARGET));
+        assertThat(table.getTarget(Integer.MAX_VALUE), equalTo(DEFAULT_TARGET));
+    }
+
+    @Test
+    @Order(4)
+    void shouldNotMatchIntegerCasesWithValuesOfOtherTypes() {
+        final SwitchDispatchTable table =
+            SwitchDispatchTable.create(new Object[]{1, 2}, new int[]{10, 11}, DEFAULT_TARGET);
+
+        assertThat(table.getTarget(1.0), equalTo(DEFAULT_TARGET));
+        assertThat(table.getTarget("1"), equalTo(DEFAULT_TARGET));
+        assertThat(table.getTarget(null), equalTo(DEFAULT_TARGET));
+    }
+
+    @Test
+    @Order(5)
+    void shouldFindTargetsOfSparseIntegerCases() {
+        final SwitchDispatchTable table = SwitchDispatchTable.create(
+            new Object[]{Integer.MIN_VALUE, 0, Integer.MAX_VALUE}, new int[]{10, 11, 12}, DEFAULT_TARGET);
+
+        assertThat(table.getTarget(Integer.MIN_VALUE), equalTo(10));
+        assertThat(table.getTarget(0), equalTo(11));
+        assertThat(table.getTarget(Integer.MAX_VALUE), equalTo(12));
+        assertThat(table.getTarget(1), equalTo(DEFAULT_TARGET));
+    }
+
+    @Test
+    @Order(6)
+    void shouldFindTargetsOfCasesOfDifferentTypes() {
+        final SwitchDispatchTable table = SwitchDispatchTable.create(
+            new Object[]{"a", 1, 2.5, true, null}, new int[]{10, 11, 12, 13, 14}, DEFAULT_TARGET);
+
+        assertThat(table.getTarget("a"), equalTo(10));
+        assertThat(table.getTarget(1), equalTo(11));
+        assertThat(table.getTarget(2.5), equalTo(12));
+        assertThat(table.getTarget(true), equalTo(13));
+        assertThat(table.getTarget(null), equalTo(14));
+        assertThat(table.getTarget("b"), equalTo(DEFAULT_TARGET));
+    }
+
+    @Test
+    @Order(7)
+    void shouldReturnTargetOfTheFirstCaseIfCaseValuesAreDuplicated() {
+        final SwitchDispatchTable denseTable =
+            SwitchDispatchTable.create(new Object[]{1, 2, 1}, new int[]{10, 11, 12}, DEFAULT_TARGET);
+        final SwitchDispatchTable hashTable =
+            SwitchDispatchTable.create(new Object[]{"a", "b", "a"}, new int[]{10, 11, 12}, DEFAULT_TARGET);
+
+        assertThat(denseTable.getTarget(1), equalTo(10));
+        assertThat(hashTable.getTarget("a"), equalTo(10));
+    }
+}
@@ -0,0 +1,98 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.code.util;
+
+import com.revenat.javamm.code.fragment.expression.TypeExpression;
+import com.revenat.juinit.addons.ReplaceCamelCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import static com.revenat.javamm.code.fragment.operator.BinaryOperator.ARITHMETIC_ADDITION;
+import static com.revenat.javamm.code.fragment.operator.BinaryOperator.ARITHMETIC_DIVISION;
+import static com.revenat.javamm.code.fragment.operator.BinaryOperator.ASSIGNMENT_MODULUS;
+import static com.revenat.javamm.code.fragment.operator.BinaryOperator.LOGICAL_AND;
+import static com.revenat.javamm.code.fragment.operator.BinaryOperator.PREDICATE_EQUALS;
+import static com.revenat.javamm.code.fragment.operator.BinaryOperator.PREDICATE_GREATER_THAN;
+import static com.revenat.javamm.code.fragment.operator.BinaryOperator.PREDICATE_TYPEOF;
+import static com.revenat.javamm.code.fragment.operator.UnaryOperator.ARITHMETICAL_UNARY_MINUS;
+import static com.revenat.javamm.code.fragment.operator.UnaryOperator.INCREMENT;
+import static com.revenat.javamm.code.fragment.operator.UnaryOperator.LOGICAL_NOT;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayNameGeneration(ReplaceCamelCase.class)
+@DisplayName("operator utils")
+class OperatorUtilsTest {
+
+    @Test
+    @Order(1)
+    void shouldCalculateIntegerResultForIntegerOperandsOnly() {
+        assertThat(OperatorUtils.calculate(7, ARITHMETIC_DIVISION, 2), equalTo(3));
+        assertThat(OperatorUtils.calculate(7, ARITHMETIC_DIVISION, 2.0), equalTo(3.5));
+        assertThat(OperatorUtils.calculate(7, ASSIGNMENT_MODULUS, 4), equalTo(3));
+    }
+
+    @Test
+    @Order(2)
+    void shouldConcatenateIfEitherOperandIsString() {
+        assertThat(OperatorUtils.calculate("a", ARITHMETIC_ADDITION, 1), equalTo("a1"));
+        assertThat(OperatorUtils.calculate(null, ARITHMETIC_ADDITION, "a"), equalTo("nulla"));
+    }
+
+    @Test
+    @Order(3)
+    void shouldReturnNullIfOperatorIsNotSupportedForTypesOfOperands() {
+        assertNull(OperatorUtils.calculate(true, ARITHMETIC_ADDITION, 1));
+        assertNull(OperatorUtils.calculate(true, PREDICATE_EQUALS, 1));
+        assertNull(OperatorUtils.calculate(1, LOGICAL_AND, true));
+        assertNull(OperatorUtils.calculate(1, PREDICATE_TYPEOF, 1));
+        assertNull(OperatorUtils.calculate(LOGICAL_NOT, 1));
+        assertNull(OperatorUtils.calculate(INCREMENT, 1));
+    }
+
+    @Test
+    @Order(4)
+    void shouldThrowArithmeticExceptionIfIntegerIsDividedByZero() {
+        assertThrows(ArithmeticException.class, () -> OperatorUtils.calculate(1, ARITHMETIC_DIVISION, 0));
+        assertThat(OperatorUtils.calculate(1, ARITHMETIC_DIVISION, 0.0), equalTo(Double.POSITIVE_INFINITY));
+    }
+
+    @Test
+    @Order(5)
+    void shouldCompareNumbersOfDifferentTypes() {
+        assertThat(OperatorUtils.calculate(1, PREDICATE_EQUALS, 1.0), equalTo(true));
+        assertThat(OperatorUtils.calculate(2, PREDICATE_GREATER_THAN, 1.5), equalTo(true));
+        assertThat(OperatorUtils.compare(Double.NaN, PREDICATE_GREATER_THAN, 1), equalTo(true));
+    }
+
+    @Test
+    @Order(6)
+    void shouldCalculateTypeOfAndUnaryOperators() {
+        assertThat(OperatorUtils.calculate("a", PREDICATE_TYPEOF, TypeExpression.STRING), equalTo(true));
+        assertThat(OperatorUtils.calculate(null, PREDICATE_TYPEOF, TypeExpression.STRING), equalTo(false));
+        assertThat(OperatorUtils.calculate(ARITHMETICAL_UNARY_MINUS, 2.5), equalTo(-2.5));
+        assertThat(OperatorUtils.calculate(LOGICAL_NOT, true), equalTo(false));
+    }
+}
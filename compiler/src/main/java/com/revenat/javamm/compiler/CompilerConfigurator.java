@@ -26,8 +26,14 @@ import com.revenat.javamm.compiler.component.ComplexLexemeValidator;
 import com.revenat.javamm.compiler.component.ExpressionBuilder;
 import com.revenat.javamm.compiler.component.ExpressionOperationBuilder;
 import com.revenat.javamm.compiler.component.ExpressionResolver;
+import com.revenat.javamm.compiler.component.FrameSlotAllocator;
+import com.revenat.javamm.compiler.component.FunctionCodeEmitter;
 import com.revenat.javamm.compiler.component.FunctionDefinitionsReader;
+import com.revenat.javamm.compiler.component.FunctionLinker;
 import com.revenat.javamm.compiler.component.FunctionNameBuilder;
+import com.revenat.javamm.compiler.component.FunctionOptimizer;
+import com.revenat.javamm.compiler.component.FunctionPurityAnalyzer;
+import com.revenat.javamm.compiler.component.FunctionScopeAnalyzer;
 import com.revenat.javamm.compiler.component.FunctionParametersBuilder;
 import com.revenat.javamm.compiler.component.FunctionReader;
 import com.revenat.javamm.compiler.component.LexemeAmbiguityResolver;
@@ -44,7 +50,11 @@ import com.revenat.javamm.compiler.component.impl.CompilerImpl;
 import com.revenat.javamm.compiler.component.impl.ComplexLexemeValidatorImpl;
 import com.revenat.javamm.compiler.component.impl.ExpressionOperationBuilderImpl;
 import com.revenat.javamm.compiler.component.impl.ExpressionResolverImpl;
+import com.revenat.javamm.compiler.component.impl.FrameSlotAllocatorImpl;
 import com.revenat.javamm.compiler.component.impl.FunctionDefinitionsReaderImpl;
+import com.revenat.javamm.compiler.component.impl.FunctionLinkerImpl;
+import com.revenat.javamm.compiler.component.impl.FunctionPurityAnalyzerImpl;
+import com.revenat.javamm.compiler.component.impl.FunctionScopeAnalyzerImpl;
 import com.revenat.javamm.compiler.component.impl.FunctionNameBuilderImpl;
 import com.revenat.javamm.compiler.component.impl.FunctionParametersBuilderImpl;
 import com.revenat.javamm.compiler.component.impl.FunctionReaderImpl;
@@ -54,7 +64,9 @@ import com.revenat.javamm.compiler.component.impl.OperatorPrecedenceResolverImpl
 import com.revenat.javamm.compiler.component.impl.SourceLineReaderImpl;
 import com.revenat.javamm.compiler.component.impl.UnaryAssignmentExpressionResolverImpl;
 import com.revenat.javamm.compiler.component.impl.VariableBuilderImpl;
+import com.revenat.javamm.compiler.component.impl.code.FunctionCodeEmitterImpl;
 import com.revenat.javamm.compiler.component.impl.expression.builder.PostfixNotationComplexExpressionBuilder;
+import com.revenat.javamm.compiler.component.impl.optimizer.FunctionOptimizerImpl;
 import com.revenat.javamm.compiler.component.impl.expression.builder.SingleTokenExpressionBuilderImpl;
 import com.revenat.javamm.compiler.component.impl.operation.CaseValueExpressionResolver;
 import com.revenat.javamm.compiler.component.impl.operation.ForInitOperationReader;
@@ -196,7 +208,9 @@ public class CompilerConfigurator {
 
     private final SourceLineReader sourceLineReader = new SourceLineReaderImpl(tokenParser);
 
-    private final VariableBuilder variableBuilder = new VariableBuilderImpl();
+    private final FrameSlotAllocator frameSlotAllocator = new FrameSlotAllocatorImpl();
+
+    private final VariableBuilder variableBuilder = new VariableBuilderImpl(frameSlotAllocator);
 
     private final OperatorPrecedenceResolver operatorPrecedenceResolver =
         new OperatorPrecedenceResolverImpl(OPERATOR_PRECEDENCE_REGISTRY);
@@ -298,13 +312,40 @@ public class CompilerConfigurator {
         new FunctionParametersBuilderImpl(variableBuilder);
 
     private final FunctionReader functionReader =
-        new FunctionReaderImpl(functionNameBuilder, functionParametersBuilder, blockOperationReader);
+        new FunctionReaderImpl(functionNameBuilder, functionParametersBuilder, blockOperationReader,
+            frameSlotAllocator);
 
     private final FunctionDefinitionsReader functionDefinitionsReader =
         new FunctionDefinitionsReaderImpl(functionReader);
 
-    private final Compiler compiler =
-        new CompilerImpl(sourceLineReader, functionNameBuilder, functionDefinitionsReader);
+    private final FunctionCodeEmitter functionCodeEmitter = new FunctionCodeEmitterImpl();
+
+    private final FunctionLinker functionLinker = new FunctionLinkerImpl();
+
+    private final FunctionPurityAnalyzer functionPurityAnalyzer = new FunctionPurityAnalyzerImpl();
+
+    private final FunctionOptimizer functionOptimizer;
+
+    private final Compiler compiler;
+
+    public CompilerConfigurator() {
+        this(true, true);
+    }
+
+    /**
+     * @param superinstructionsEnabled whether common operation shapes are compiled into the
+     *                                 superinstructions or kept generic
+     * @param scopeVerificationEnabled whether variable scopes are verified at compile time,
+     *                                 so the byte code is run without the runtime checks
+     */
+    public CompilerConfigurator(final boolean superinstructionsEnabled, final boolean scopeVerificationEnabled) {
+        functionOptimizer = new FunctionOptimizerImpl(superinstructionsEnabled);
+        final FunctionScopeAnalyzer functionScopeAnalyzer = scopeVerificationEnabled
+            ? new FunctionScopeAnalyzerImpl()
+            : function -> false;
+        compiler = new CompilerImpl(sourceLineReader, functionNameBuilder, functionDefinitionsReader,
+            functionCodeEmitter, functionLinker, functionOptimizer, functionPurityAnalyzer, functionScopeAnalyzer);
+    }
 
     public Compiler getCompiler() {
         return compiler;
@@ -0,0 +1,44 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.compiler.component;
+
+/**
+ * Responsible for assigning frame slots to the local variables of the
+ * function which is being compiled
+ *
+ * @author Vitaliy Dragun
+ */
+public interface FrameSlotAllocator {
+
+    /**
+     * Starts layout of new function frame. All slots allocated for previous
+     * function frame are discarded
+     */
+    void startFrame();
+
+    /**
+     * Returns slot for variable with specified name within current function
+     * frame, allocating next free slot if such name has not been met yet
+     */
+    int allocate(String variableName);
+
+    /**
+     * Returns number of slots allocated within current function frame
+     */
+    int getFrameSize();
+}
@@ -0,0 +1,38 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.compiler.component;
+
+import com.revenat.javamm.code.fragment.function.DeveloperFunction;
+import com.revenat.javamm.code.fragment.instruction.FunctionCode;
+
+import java.util.Optional;
+
+/**
+ * Responsible for emitting {@linkplain FunctionCode linear code} for already
+ * read developer functions
+ *
+ * @author Vitaliy Dragun
+ */
+public interface FunctionCodeEmitter {
+
+    /**
+     * Returns linear code for body of specified function or empty optional if
+     * such body contains constructions which can not be expressed by linear code
+     */
+    Optional<FunctionCode> emit(DeveloperFunction function);
+}
@@ -0,0 +1,38 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.compiler.component;
+
+import com.revenat.javamm.code.fragment.ByteCode;
+import com.revenat.javamm.code.fragment.expression.FunctionInvocationExpression;
+
+/**
+ * Responsible for binding each {@linkplain FunctionInvocationExpression function invocation}
+ * of the compiled byte code to the function it invokes
+ *
+ * @author Vitaliy Dragun
+ */
+public interface FunctionLinker {
+
+    /**
+     * Links all function invocations of the specified byte code
+     *
+     * @throws com.revenat.javamm.compiler.component.error.JavammLineSyntaxError if
+     *                                                                          invoked function is not defined
+     */
+    void link(ByteCode byteCode);
+}
@@ -0,0 +1,39 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.compiler.component;
+
+import com.revenat.javamm.code.fragment.FunctionName;
+import com.revenat.javamm.code.fragment.function.DeveloperFunction;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Responsible for finding the functions which result depends only on their
+ * arguments and which invocation has no side effects
+ *
+ * @author Vitaliy Dragun
+ */
+public interface FunctionPurityAnalyzer {
+
+    /**
+     * Returns names of the pure functions among the specified functions of the
+     * single byte code
+     */
+    Set<FunctionName> findPureFunctions(List<DeveloperFunction> functions);
+}
@@ -0,0 +1,44 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.revenat.javamm.compiler.component;
+
+import com.revenat.javamm.code.fragment.function.DeveloperFunction;
+
+/**
+ * Responsible for resolving variable declarations of the function blocks at
+ * compile time
+ *
+ * @author Vitaliy Dragun
+ */
+public interface FunctionScopeAnalyzer {
+
+    /**
+     * Verifies that each variable of the specified function is declared only once
+     * within visible scopes, is used only after its declaration within the scope
+     * of the declaration and is not changed if it is final
+     *
+     * @return {@code true} if the function has been verified, so its variables can
+     *         be accessed without runtime checks, or {@code false} if the function
+     *         contains operations or expressions the analyzer does not model, so its
+     *         variables should be checked at runtime
+     * @throws com.revenat.javamm.compiler.component.error.JavammLineSyntaxError if
+     *                                                                          any variable violates these rules
+     */
+    boolean verify(DeveloperFunction function);
+}
@@ -24,13 +24,19 @@ import com.revenat.javamm.code.fragment.SourceCode;
 import com.revenat.javamm.code.fragment.SourceLine;
 import com.revenat.javamm.code.fragment.function.DeveloperFunction;
 import com.revenat.javamm.compiler.Compiler;
+import com.revenat.javamm.compiler.component.FunctionCodeEmitter;
 import com.revenat.javamm.compiler.component.FunctionDefinitionsReader;
+import com.revenat.javamm.compiler.component.FunctionLinker;
 import com.revenat.javamm.compiler.component.FunctionNameBuilder;
+import com.revenat.javamm.compiler.component.FunctionOptimizer;
+import com.revenat.javamm.compiler.component.FunctionPurityAnalyzer;
+import com.revenat.javamm.compiler.component.FunctionScopeAnalyzer;
 import com.revenat.javamm.compiler.component.SourceLineReader;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static com.revenat.javamm.code.fragment.SourceLine.EMPTY_SOURCE_LINE;
@@ -51,21 +57,59 @@ public class CompilerImpl implements Compiler {
 
     private final FunctionDefinitionsReader functionDefinitionsReader;
 
+    private final FunctionCodeEmitter functionCodeEmitter;
+
+    private final FunctionLinker functionLinker;
+
+    private final FunctionOptimizer functionOptimizer;
+
+    private final FunctionPurityAnalyzer functionPurityAnalyzer;
+
+    private final FunctionScopeAnalyzer functionScopeAnalyzer;
+
     public CompilerImpl(final SourceLineReader sourceLineReader,
                         final FunctionNameBuilder functionNameBuilder,
-                        final FunctionDefinitionsReader functionDefinitionsReader) {
+                        final FunctionDefinitionsReader functionDefinitionsReader,
+                        final FunctionCodeEmitter functionCodeEmitter,
+                        final FunctionLinker functionLinker,
+                        final FunctionOptimizer functionOptimizer,
+                        final FunctionPurityAnalyzer functionPurityAnalyzer,
+                        final FunctionScopeAnalyzer functionScopeAnalyzer) {
         this.sourceLineReader = requireNonNull(sourceLineReader);
         this.functionNameBuilder = requireNonNull(functionNameBuilder);
         this.functionDefinitionsReader = requireNonNull(functionDefinitionsReader);
+        this.functionCodeEmitter = requireNonNull(functionCodeEmitter);
+        this.functionLinker = requireNonNull(functionLinker);
+        this.functionOptimizer = requireNonNull(functionOptimizer);
+        this.functionPurityAnalyzer = requireNonNull(functionPurityAnalyzer);
+        this.functionScopeAnalyzer = requireNonNull(functionScopeAnalyzer);
     }
 
     @Override
     public ByteCode compile(final SourceCode... sourceCodes) {
         final FunctionName mainFunctionName = functionNameBuilder.build("main", List.of(), EMPTY_SOURCE_LINE);
         final List<SourceLine> aggregateSourceLines = getAggregateSourceLines(sourceCodes);
-        final List<DeveloperFunction> definedFunctions = functionDefinitionsReader.read(aggregateSourceLines);
+        final List<DeveloperFunction> functions = functionDefinitionsReader.read(aggregateSourceLines).stream()
+            .map(this::verifyScopes)
+            .map(functionOptimizer::optimize)
+            .collect(toList());
+        final Set<FunctionName> pureFunctionNames = functionPurityAnalyzer.findPureFunctions(functions);
+        final List<DeveloperFunction> definedFunctions = functions.stream()
+            .map(function -> pureFunctionNames.contains(function.getName()) ? function.asPure() : function)
+            .map(this::emitCode)
+            .collect(toList());
+
+        final ByteCode byteCode = new ByteCodeImpl(asMap(definedFunctions), mainFunctionName);
+        functionLinker.link(byteCode);
+        return byteCode;
+    }
+
+    private DeveloperFunction verifyScopes(final DeveloperFunction function) {
+        return functionScopeAnalyzer.verify(function) ? function.asVerified() : function;
+    }
 
-        return new ByteCodeImpl(asMap(definedFunctions), mainFunctionName);
+    private DeveloperFunction emitCode(final DeveloperFunction function) {
+        return functionCodeEmitter.emit(function).map(function::withCode).orElse(function);
     }
 
     private List<SourceLine> getAggregateSourceLines(final SourceCode... sourceCodes) {
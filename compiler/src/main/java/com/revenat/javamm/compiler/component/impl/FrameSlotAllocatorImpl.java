@@ -0,0 +1,52 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.compiler.component.impl;
+
+import com.revenat.javamm.compiler.component.FrameSlotAllocator;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Allocates one slot per variable name: since variable with same name can not
+ * be redeclared within nested scope, a name refers to at most one live variable
+ * of a function at any time
+ *
+ * @author Vitaliy Dragun
+ */
+public class FrameSlotAllocatorImpl implements FrameSlotAllocator {
+
+    private final Map<String, Integer> slots = new HashMap<>();
+
+    @Override
+    public void startFrame() {
+        slots.clear();
+    }
+
+    @Override
+    public int allocate(final String variableName) {
+        return slots.computeIfAbsent(requireNonNull(variableName), name -> slots.size());
+    }
+
+    @Override
+    public int getFrameSize() {
+        return slots.size();
+    }
+}
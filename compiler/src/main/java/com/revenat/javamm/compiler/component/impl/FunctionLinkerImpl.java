@@ -0,0 +1,152 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.compiler.component.impl;
+
+import com.revenat.javamm.code.fragment.ByteCode;
+import com.revenat.javamm.code.fragment.Expression;
+import com.revenat.javamm.code.fragment.Lexeme;
+import com.revenat.javamm.code.fragment.Operation;
+import com.revenat.javamm.code.fragment.SourceLine;
+import com.revenat.javamm.code.fragment.expression.ComplexExpression;
+import com.revenat.javamm.code.fragment.expression.FunctionInvocationExpression;
+import com.revenat.javamm.code.fragment.expression.TernaryConditionalExpression;
+import com.revenat.javamm.code.fragment.function.DeveloperFunction;
+import com.revenat.javamm.code.fragment.operation.AbstractLoopOperation;
+import com.revenat.javamm.code.fragment.operation.Block;
+import com.revenat.javamm.code.fragment.operation.ExpressionOperation;
+import com.revenat.javamm.code.fragment.operation.ForOperation;
+import com.revenat.javamm.code.fragment.operation.IfElseOperation;
+import com.revenat.javamm.code.fragment.operation.PrintlnOperation;
+import com.revenat.javamm.code.fragment.operation.ReturnOperation;
+import com.revenat.javamm.code.fragment.operation.SwitchBodyEntry;
+import com.revenat.javamm.code.fragment.operation.SwitchOperation;
+import com.revenat.javamm.code.fragment.operation.VariableAssignmentOperation;
+import com.revenat.javamm.code.fragment.operation.VariableDeclarationOperation;
+import com.revenat.javamm.compiler.component.FunctionLinker;
+import com.revenat.javamm.compiler.component.error.JavammLineSyntaxError;
+
+import java.util.Optional;
+
+import static com.revenat.javamm.code.util.TypeUtils.confirmType;
+
+/**
+ * Walks bodies of all functions of the byte code and binds each function invocation
+ * to the function with the same {@linkplain com.revenat.javamm.code.fragment.FunctionName name}
+ *
+ * @author Vitaliy Dragun
+ */
+public class FunctionLinkerImpl implements FunctionLinker {
+
+    @Override
+    public void link(final ByteCode byteCode) {
+        for (final DeveloperFunction function : byteCode.getAllFunctions()) {
+            linkBlock(byteCode, function.getBody());
+        }
+    }
+
+    private void linkBlock(final ByteCode byteCode, final Block block) {
+        for (final Operation operation : block.getOperations()) {
+            linkOperation(byteCode, operation);
+        }
+    }
+
+    @SuppressWarnings("checkstyle:CyclomaticComplexity")
+    private void linkOperation(final ByteCode byteCode, final Operation operation) {
+        final SourceLine sourceLine = operation.getSourceLine();
+        if (confirmType(Block.class, operation)) {
+            linkBlock(byteCode, (Block) operation);
+        } else if (confirmType(ExpressionOperation.class, operation)) {
+            linkExpression(byteCode, sourceLine, ((ExpressionOperation) operation).getExpression());
+        } else if (confirmType(VariableDeclarationOperation.class, operation)) {
+            linkExpression(byteCode, sourceLine, ((VariableDeclarationOperation) operation).getExpression());
+        } else if (confirmType(VariableAssignmentOperation.class, operation)) {
+            linkExpression(byteCode, sourceLine, ((VariableAssignmentOperation) operation).getValueExpression());
+        } else if (confirmType(PrintlnOperation.class, operation)) {
+            linkOptionalExpression(byteCode, sourceLine, ((PrintlnOperation) operation).getExpression());
+        } else if (confirmType(ReturnOperation.class, operation)) {
+            linkOptionalExpression(byteCode, sourceLine, ((ReturnOperation) operation).getExpression());
+        } else if (confirmType(IfElseOperation.class, operation)) {
+            linkIfElse(byteCode, (IfElseOperation) operation);
+        } else if (confirmType(ForOperation.class, operation)) {
+            linkFor(byteCode, (ForOperation) operation);
+        } else if (confirmType(AbstractLoopOperation.class, operation)) {
+            linkLoop(byteCode, (AbstractLoopOperation) operation);
+        } else if (confirmType(SwitchOperation.class, operation)) {
+            linkSwitch(byteCode, (SwitchOperation) operation);
+        }
+    }
+
+    private void linkIfElse(final ByteCode byteCode, final IfElseOperation operation) {
+        linkExpression(byteCode, operation.getSourceLine(), operation.getCondition());
+        linkBlock(byteCode, operation.getTrueBlock());
+        operation.getFalseBlock().ifPresent(falseBlock -> linkBlock(byteCode, falseBlock));
+    }
+
+    private void linkFor(final ByteCode byteCode, final ForOperation operation) {
+        operation.getInitOperation().ifPresent(init -> linkOperation(byteCode, init));
+        linkLoop(byteCode, operation);
+        operation.getUpdateOperation().ifPresent(update -> linkOperation(byteCode, update));
+    }
+
+    private void linkLoop(final ByteCode byteCode, final AbstractLoopOperation operation) {
+        linkExpression(byteCode, operation.getSourceLine(), operation.getCondition());
+        linkBlock(byteCode, operation.getBody());
+    }
+
+    private void linkSwitch(final ByteCode byteCode, final SwitchOperation operation) {
+        linkExpression(byteCode, operation.getSourceLine(), operation.getCondition());
+        for (final SwitchBodyEntry entry : operation.getEntries()) {
+            linkBlock(byteCode, entry.getBody());
+        }
+    }
+
+    private void linkOptionalExpression(final ByteCode byteCode,
+                                        final SourceLine sourceLine,
+                                        final Optional<Expression> expression) {
+        expression.ifPresent(value -> linkExpression(byteCode, sourceLine, value));
+    }
+
+    private void linkExpression(final ByteCode byteCode, final SourceLine sourceLine, final Expression expression) {
+        if (confirmType(FunctionInvocationExpression.class, expression)) {
+            linkFunctionInvocation(byteCode, sourceLine, (FunctionInvocationExpression) expression);
+        } else if (confirmType(ComplexExpression.class, expression)) {
+            for (final Lexeme lexeme : ((ComplexExpression) expression).getLexemes()) {
+                if (confirmType(Expression.class, lexeme)) {
+                    linkExpression(byteCode, sourceLine, (Expression) lexeme);
+                }
+            }
+        } else if (confirmType(TernaryConditionalExpression.class, expression)) {
+            final TernaryConditionalExpression ternary = (TernaryConditionalExpression) expression;
+            linkExpression(byteCode, sourceLine, ternary.getPredicateOperand());
+            linkExpression(byteCode, sourceLine, ternary.getTrueClauseOperand());
+            linkExpression(byteCode, sourceLine, ternary.getFalseClauseOperand());
+        }
+    }
+
+    private void linkFunctionInvocation(final ByteCode byteCode,
+                                        final SourceLine sourceLine,
+                                        final FunctionInvocationExpression expression) {
+        for (final Expression argument : expression.getArguments()) {
+            linkExpression(byteCode, sourceLine, argument);
+        }
+        final DeveloperFunction function = byteCode.getFunction(expression.getFunctionName())
+            .orElseThrow(() -> new JavammLineSyntaxError(sourceLine, "Function '%s' is not defined",
+                expression.getFunctionName()));
+        expression.link(function);
+    }
+}
@@ -0,0 +1,200 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.compiler.component.impl;
+
+import com.revenat.javamm.code.fragment.Expression;
+import com.revenat.javamm.code.fragment.FunctionName;
+import com.revenat.javamm.code.fragment.Lexeme;
+import com.revenat.javamm.code.fragment.Operation;
+import com.revenat.javamm.code.fragment.expression.ComplexExpression;
+import com.revenat.javamm.code.fragment.expression.ConstantExpression;
+import com.revenat.javamm.code.fragment.expression.FunctionInvocationExpression;
+import com.revenat.javamm.code.fragment.expression.NullValueExpression;
+import com.revenat.javamm.code.fragment.expression.TernaryConditionalExpression;
+import com.revenat.javamm.code.fragment.expression.TypeExpression;
+import com.revenat.javamm.code.fragment.expression.UnaryAssignmentExpression;
+import com.revenat.javamm.code.fragment.expression.VariableExpression;
+import com.revenat.javamm.code.fragment.function.DeveloperFunction;
+import com.revenat.javamm.code.fragment.operation.AbstractLoopOperation;
+import com.revenat.javamm.code.fragment.operation.Block;
+import com.revenat.javamm.code.fragment.operation.BreakOperation;
+import com.revenat.javamm.code.fragment.operation.ContinueOperation;
+import com.revenat.javamm.code.fragment.operation.ExpressionOperation;
+import com.revenat.javamm.code.fragment.operation.ForOperation;
+import com.revenat.javamm.code.fragment.operation.IfElseOperation;
+import com.revenat.javamm.code.fragment.operation.PrintlnOperation;
+import com.revenat.javamm.code.fragment.operation.ReturnOperation;
+import com.revenat.javamm.code.fragment.operation.SwitchBodyEntry;
+import com.revenat.javamm.code.fragment.operation.SwitchOperation;
+import com.revenat.javamm.code.fragment.operation.VariableAssignmentOperation;
+import com.revenat.javamm.code.fragment.operation.VariableDeclarationOperation;
+import com.revenat.javamm.compiler.component.FunctionPurityAnalyzer;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static com.revenat.javamm.code.util.TypeUtils.confirmType;
+
+/**
+ * Function is pure if it does not print anything and invokes only pure functions.
+ * All variables of the function are local, so such function can not depend on
+ * anything except its arguments.
+ *
+ * <p>Functions are assumed to be pure first and the functions which print or
+ * invoke the impure or undefined functions are excluded until nothing changes,
+ * so the recursive functions remain pure.
+ *
+ * <p>A function with any operation or expression which is not modeled by the
+ * analyzer is impure, so new operations are not memoized before they are reviewed.
+ *
+ * @author Vitaliy Dragun
+ */
+public class FunctionPurityAnalyzerImpl implements FunctionPurityAnalyzer {
+
+    @Override
+    public Set<FunctionName> findPureFunctions(final List<DeveloperFunction> functions) {
+        final Map<FunctionName, Set<FunctionName>> invokedFunctions = new HashMap<>();
+        for (final DeveloperFunction function : functions) {
+            final FunctionBodyVisitor visitor = new FunctionBodyVisitor();
+            visitor.visitBlock(function.getBody());
+            if (!visitor.impure) {
+                invokedFunctions.put(function.getName(), visitor.invokedFunctions);
+            }
+        }
+        return excludeFunctionsWhichInvokeImpureOnes(invokedFunctions);
+    }
+
+    private Set<FunctionName> excludeFunctionsWhichInvokeImpureOnes(
+        final Map<FunctionName, Set<FunctionName>> invokedFunctions) {
+        final Set<FunctionName> pureFunctions = new HashSet<>(invokedFunctions.keySet());
+        boolean changed = true;
+        while (changed) {
+            changed = pureFunctions.removeIf(name -> !pureFunctions.containsAll(invokedFunctions.get(name)));
+        }
+        return pureFunctions;
+    }
+
+    /**
+     * Collects names of the functions invoked by the function body and detects
+     * whether the body prints anything or contains anything which is not modeled
+     */
+    private static final class FunctionBodyVisitor {
+
+        private final Set<FunctionName> invokedFunctions = new HashSet<>();
+
+        private boolean impure;
+
+        private void visitBlock(final Block block) {
+            for (final Operation operation : block.getOperations()) {
+                visitOperation(operation);
+            }
+        }
+
+        @SuppressWarnings("checkstyle:CyclomaticComplexity")
+        private void visitOperation(final Operation operation) {
+            if (confirmType(Block.class, operation)) {
+                visitBlock((Block) operation);
+            } else if (confirmType(ExpressionOperation.class, operation)) {
+                visitExpression(((ExpressionOperation) operation).getExpression());
+            } else if (confirmType(VariableDeclarationOperation.class, operation)) {
+                visitExpression(((VariableDeclarationOperation) operation).getExpression());
+            } else if (confirmType(VariableAssignmentOperation.class, operation)) {
+                visitExpression(((VariableAssignmentOperation) operation).getValueExpression());
+            } else if (confirmType(PrintlnOperation.class, operation)) {
+                impure = true;
+            } else if (confirmType(ReturnOperation.class, operation)) {
+                visitOptionalExpression(((ReturnOperation) operation).getExpression());
+            } else if (confirmType(IfElseOperation.class, operation)) {
+                visitIfElse((IfElseOperation) operation);
+            } else if (confirmType(ForOperation.class, operation)) {
+                visitFor((ForOperation) operation);
+            } else if (confirmType(AbstractLoopOperation.class, operation)) {
+                visitLoop((AbstractLoopOperation) operation);
+            } else if (confirmType(SwitchOperation.class, operation)) {
+                visitSwitch((SwitchOperation) operation);
+            } else if (!isJump(operation)) {
+                impure = true;
+            }
+        }
+
+        private boolean isJump(final Operation operation) {
+            return confirmType(BreakOperation.class, operation) || confirmType(ContinueOperation.class, operation);
+        }
+
+        private void visitIfElse(final IfElseOperation operation) {
+            visitExpression(operation.getCondition());
+            visitBlock(operation.getTrueBlock());
+            operation.getFalseBlock().ifPresent(this::visitBlock);
+        }
+
+        private void visitFor(final ForOperation operation) {
+            operation.getInitOperation().ifPresent(this::visitOperation);
+            visitLoop(operation);
+            operation.getUpdateOperation().ifPresent(this::visitOperation);
+        }
+
+        private void visitLoop(final AbstractLoopOperation operation) {
+            visitExpression(operation.getCondition());
+            visitBlock(operation.getBody());
+        }
+
+        private void visitSwitch(final SwitchOperation operation) {
+            visitExpression(operation.getCondition());
+            for (final SwitchBodyEntry entry : operation.getEntries()) {
+                visitBlock(entry.getBody());
+            }
+        }
+
+        private void visitOptionalExpression(final Optional<Expression> expression) {
+            expression.ifPresent(this::visitExpression);
+        }
+
+        private void visitExpression(final Expression expression) {
+            if (confirmType(FunctionInvocationExpression.class, expression)) {
+                final FunctionInvocationExpression invocation = (FunctionInvocationExpression) expression;
+                invokedFunctions.add(invocation.getFunctionName());
+                invocation.getArguments().forEach(this::visitExpression);
+            } else if (confirmType(ComplexExpression.class, expression)) {
+                for (final Lexeme lexeme : ((ComplexExpression) expression).getLexemes()) {
+                    if (confirmType(Expression.class, lexeme)) {
+                        visitExpression((Expression) lexeme);
+                    }
+                }
+            } else if (confirmType(TernaryConditionalExpression.class, expression)) {
+                final TernaryConditionalExpression ternary = (TernaryConditionalExpression) expression;
+                visitExpression(ternary.getPredicateOperand());
+                visitExpression(ternary.getTrueClauseOperand());
+                visitExpression(ternary.getFalseClauseOperand());
+            } else if (!isValueOrVariable(expression)) {
+                impure = true;
+            }
+        }
+
+        private boolean isValueOrVariable(final Expression expression) {
+            return confirmType(ConstantExpression.class, expression)
+                || confirmType(NullValueExpression.class, expression)
+                || confirmType(TypeExpression.class, expression)
+                || confirmType(VariableExpression.class, expression)
+                || confirmType(UnaryAssignmentExpression.class, expression);
+        }
+    }
+}
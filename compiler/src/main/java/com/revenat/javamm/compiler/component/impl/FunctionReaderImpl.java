@@ -23,6 +23,7 @@ import com.revenat.javamm.code.fragment.Variable;
 import com.revenat.javamm.code.fragment.function.DeveloperFunction;
 import com.revenat.javamm.code.fragment.operation.Block;
 import com.revenat.javamm.compiler.component.BlockOperationReader;
+import com.revenat.javamm.compiler.component.FrameSlotAllocator;
 import com.revenat.javamm.compiler.component.FunctionNameBuilder;
 import com.revenat.javamm.compiler.component.FunctionParametersBuilder;
 import com.revenat.javamm.compiler.component.FunctionReader;
@@ -49,18 +50,23 @@ public class FunctionReaderImpl implements FunctionReader {
 
     private final BlockOperationReader blockOperationReader;
 
+    private final FrameSlotAllocator frameSlotAllocator;
+
     public FunctionReaderImpl(final FunctionNameBuilder functionNameBuilder,
                               final FunctionParametersBuilder functionParametersBuilder,
-                              final BlockOperationReader blockOperationReader) {
+                              final BlockOperationReader blockOperationReader,
+                              final FrameSlotAllocator frameSlotAllocator) {
         this.functionNameBuilder = requireNonNull(functionNameBuilder);
         this.functionParametersBuilder = requireNonNull(functionParametersBuilder);
         this.blockOperationReader = requireNonNull(blockOperationReader);
+        this.frameSlotAllocator = requireNonNull(frameSlotAllocator);
     }
 
     @Override
     public DeveloperFunction read(final ListIterator<SourceLine> sourceCode) {
         final SourceLine functionDefinitionLine = requireValidFunctionDefinition(sourceCode);
 
+        frameSlotAllocator.startFrame();
         final List<Variable> parameters = getFunctionParameters(functionDefinitionLine);
         final FunctionName functionName = getFunctionName(functionDefinitionLine, parameters);
         final Block functionBody = getFunctionBody(sourceCode, functionDefinitionLine);
@@ -89,6 +95,7 @@ public class FunctionReaderImpl implements FunctionReader {
             .setName(name)
             .setBody(body)
             .setParameters(parameters)
+            .setFrameSize(frameSlotAllocator.getFrameSize())
             .build();
     }
 
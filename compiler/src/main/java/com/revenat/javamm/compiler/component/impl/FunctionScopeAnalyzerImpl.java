@@ -0,0 +1,295 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.revenat.javamm.compiler.component.impl;
+
+import com.revenat.javamm.code.fragment.Expression;
+import com.revenat.javamm.code.fragment.Lexeme;
+import com.revenat.javamm.code.fragment.Operation;
+import com.revenat.javamm.code.fragment.SourceLine;
+import com.revenat.javamm.code.fragment.Variable;
+import com.revenat.javamm.code.fragment.expression.ComplexExpression;
+import com.revenat.javamm.code.fragment.expression.ConstantExpression;
+import com.revenat.javamm.code.fragment.expression.FunctionInvocationExpression;
+import com.revenat.javamm.code.fragment.expression.NullValueExpression;
+import com.revenat.javamm.code.fragment.expression.PostfixNotationComplexExpression;
+import com.revenat.javamm.code.fragment.expression.TernaryConditionalExpression;
+import com.revenat.javamm.code.fragment.expression.TypeExpression;
+import com.revenat.javamm.code.fragment.expression.UnaryAssignmentExpression;
+import com.revenat.javamm.code.fragment.expression.VariableExpression;
+import com.revenat.javamm.code.fragment.function.DeveloperFunction;
+import com.revenat.javamm.code.fragment.operation.AbstractLoopOperation;
+import com.revenat.javamm.code.fragment.operation.Block;
+import com.revenat.javamm.code.fragment.operation.BreakOperation;
+import com.revenat.javamm.code.fragment.operation.ContinueOperation;
+import com.revenat.javamm.code.fragment.operation.ExpressionOperation;
+import com.revenat.javamm.code.fragment.operation.ForOperation;
+import com.revenat.javamm.code.fragment.operation.IfElseOperation;
+import com.revenat.javamm.code.fragment.operation.PrintlnOperation;
+import com.revenat.javamm.code.fragment.operation.ReturnOperation;
+import com.revenat.javamm.code.fragment.operation.SwitchBodyEntry;
+import com.revenat.javamm.code.fragment.operation.SwitchOperation;
+import com.revenat.javamm.code.fragment.operation.VariableAssignmentOperation;
+import com.revenat.javamm.code.fragment.operation.VariableDeclarationOperation;
+import com.revenat.javamm.code.fragment.operator.BinaryOperator;
+import com.revenat.javamm.code.fragment.operator.UnaryOperator;
+import com.revenat.javamm.compiler.component.FunctionScopeAnalyzer;
+import com.revenat.javamm.compiler.component.error.JavammLineSyntaxError;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.revenat.javamm.code.util.LexemeUtils.isBinaryOperator;
+import static com.revenat.javamm.code.util.LexemeUtils.isUnaryOperator;
+import static com.revenat.javamm.code.util.TypeUtils.confirmType;
+
+/**
+ * Resolves variable declarations using same scopes as the interpreter: the function
+ * parameters and the variables declared directly in the function body belong to
+ * the root scope, each nested block, each iteration of the loop body and each
+ * switch entry body has its own scope, and the for loop initialization has the
+ * scope which encloses the condition, the update and the body of the loop.
+ *
+ * <p>Functions are analyzed as they are read, before optimization, so only the
+ * operations and expressions produced by the reader are expected. A function with
+ * any other operation or expression, or with a malformed postfix expression, is not
+ * verified, because its variable usages can not be resolved completely.
+ *
+ * @author Vitaliy Dragun
+ */
+public class FunctionScopeAnalyzerImpl implements FunctionScopeAnalyzer {
+
+    @Override
+    public boolean verify(final DeveloperFunction function) {
+        final ScopeVisitor visitor = new ScopeVisitor();
+        for (final Variable parameter : function.getParameters()) {
+            visitor.declare(parameter, false, function.getDeclarationSourceLine());
+        }
+        visitor.visitOperations(function.getBody());
+        return visitor.isComplete();
+    }
+
+    /**
+     * Walks function body keeping the stack of the visible scopes. Each scope maps
+     * names of the variables declared in it to their finality
+     */
+    private static final class ScopeVisitor {
+
+        private final Deque<Map<String, Boolean>> scopes = new ArrayDeque<>(List.of(new HashMap<>()));
+
+        private boolean complete = true;
+
+        private boolean isComplete() {
+            return complete;
+        }
+
+        private void visitOperations(final Block block) {
+            for (final Operation operation : block.getOperations()) {
+                visitOperation(operation);
+            }
+        }
+
+        private void visitNestedScope(final Block block) {
+            scopes.push(new HashMap<>());
+            visitOperations(block);
+            scopes.pop();
+        }
+
+        @SuppressWarnings("checkstyle:CyclomaticComplexity")
+        private void visitOperation(final Operation operation) {
+            final SourceLine sourceLine = operation.getSourceLine();
+            if (confirmType(Block.class, operation)) {
+                visitNestedScope((Block) operation);
+            } else if (confirmType(VariableDeclarationOperation.class, operation)) {
+                visitDeclaration((VariableDeclarationOperation) operation);
+            } else if (confirmType(VariableAssignmentOperation.class, operation)) {
+                visitAssignment((VariableAssignmentOperation) operation);
+            } else if (confirmType(ExpressionOperation.class, operation)) {
+                visitExpression(((ExpressionOperation) operation).getExpression(), sourceLine);
+            } else if (confirmType(PrintlnOperation.class, operation)) {
+                ((PrintlnOperation) operation).getExpression().ifPresent(e -> visitExpression(e, sourceLine));
+            } else if (confirmType(ReturnOperation.class, operation)) {
+                ((ReturnOperation) operation).getExpression().ifPresent(e -> visitExpression(e, sourceLine));
+            } else if (confirmType(IfElseOperation.class, operation)) {
+                visitIfElse((IfElseOperation) operation);
+            } else if (confirmType(ForOperation.class, operation)) {
+                visitFor((ForOperation) operation);
+            } else if (confirmType(AbstractLoopOperation.class, operation)) {
+                visitLoop((AbstractLoopOperation) operation);
+            } else if (confirmType(SwitchOperation.class, operation)) {
+                visitSwitch((SwitchOperation) operation);
+            } else if (!isJump(operation)) {
+                complete = false;
+            }
+        }
+
+        private boolean isJump(final Operation operation) {
+            return confirmType(BreakOperation.class, operation) || confirmType(ContinueOperation.class, operation);
+        }
+
+        private void visitDeclaration(final VariableDeclarationOperation operation) {
+            visitExpression(operation.getExpression(), operation.getSourceLine());
+            declare(operation.getVariable(), operation.isConstant(), operation.getSourceLine());
+        }
+
+        private void visitAssignment(final VariableAssignmentOperation operation) {
+            visitExpression(operation.getValueExpression(), operation.getSourceLine());
+            assign(operation.getVariableExpression(), operation.getSourceLine());
+        }
+
+        private void visitIfElse(final IfElseOperation operation) {
+            visitExpression(operation.getCondition(), operation.getSourceLine());
+            visitNestedScope(operation.getTrueBlock());
+            operation.getFalseBlock().ifPresent(this::visitNestedScope);
+        }
+
+        private void visitFor(final ForOperation operation) {
+            scopes.push(new HashMap<>());
+            operation.getInitOperation().ifPresent(this::visitOperation);
+            visitLoop(operation);
+            operation.getUpdateOperation().ifPresent(this::visitOperation);
+            scopes.pop();
+        }
+
+        private void visitLoop(final AbstractLoopOperation operation) {
+            visitExpression(operation.getCondition(), operation.getSourceLine());
+            visitNestedScope(operation.getBody());
+        }
+
+        private void visitSwitch(final SwitchOperation operation) {
+            visitExpression(operation.getCondition(), operation.getSourceLine());
+            for (final SwitchBodyEntry entry : operation.getEntries()) {
+                visitNestedScope(entry.getBody());
+            }
+        }
+
+        private void visitExpression(final Expression expression, final SourceLine sourceLine) {
+            if (confirmType(VariableExpression.class, expression)) {
+                use((VariableExpression) expression, sourceLine);
+            } else if (confirmType(UnaryAssignmentExpression.class, expression)) {
+                assign(((UnaryAssignmentExpression) expression).getOperand(), sourceLine);
+            } else if (confirmType(FunctionInvocationExpression.class, expression)) {
+                for (final Expression argument : ((FunctionInvocationExpression) expression).getArguments()) {
+                    visitExpression(argument, sourceLine);
+                }
+            } else if (confirmType(PostfixNotationComplexExpression.class, expression)) {
+                visitPostfixExpression((PostfixNotationComplexExpression) expression, sourceLine);
+            } else if (confirmType(ComplexExpression.class, expression)) {
+                visitOperands(((ComplexExpression) expression).getLexemes(), sourceLine);
+            } else if (confirmType(TernaryConditionalExpression.class, expression)) {
+                final TernaryConditionalExpression ternary = (TernaryConditionalExpression) expression;
+                visitExpression(ternary.getPredicateOperand(), sourceLine);
+                visitExpression(ternary.getTrueClauseOperand(), sourceLine);
+                visitExpression(ternary.getFalseClauseOperand(), sourceLine);
+            } else if (!isConstant(expression)) {
+                complete = false;
+            }
+        }
+
+        private boolean isConstant(final Expression expression) {
+            return confirmType(ConstantExpression.class, expression)
+                || confirmType(NullValueExpression.class, expression)
+                || confirmType(TypeExpression.class, expression);
+        }
+
+        private void visitOperands(final List<Lexeme> lexemes, final SourceLine sourceLine) {
+            for (final Lexeme lexeme : lexemes) {
+                if (confirmType(Expression.class, lexeme)) {
+                    visitExpression((Expression) lexeme, sourceLine);
+                }
+            }
+        }
+
+        /**
+         * Operands of the postfix expression are tracked on the stack in order to find
+         * the variables which are changed by the assignment operators. Results of the
+         * operators are represented by {@code null}
+         */
+        private void visitPostfixExpression(final PostfixNotationComplexExpression expression,
+                                            final SourceLine sourceLine) {
+            visitOperands(expression.getLexemes(), sourceLine);
+            final List<Expression> operands = new ArrayList<>();
+            for (final Lexeme lexeme : expression.getLexemes()) {
+                if (isBinaryOperator(lexeme)) {
+                    pop(operands);
+                    assignIfVariable(pop(operands), ((BinaryOperator) lexeme).isAssignment(), sourceLine);
+                    operands.add(null);
+                } else if (isUnaryOperator(lexeme)) {
+                    assignIfVariable(pop(operands), ((UnaryOperator) lexeme).isAssignment(), sourceLine);
+                    operands.add(null);
+                } else {
+                    operands.add((Expression) lexeme);
+                }
+            }
+        }
+
+        private Expression pop(final List<Expression> operands) {
+            if (operands.isEmpty()) {
+                complete = false;
+                return null;
+            }
+            return operands.remove(operands.size() - 1);
+        }
+
+        private void assignIfVariable(final Expression operand, final boolean assignment, final SourceLine sourceLine) {
+            if (assignment && confirmType(VariableExpression.class, operand)) {
+                assign((VariableExpression) operand, sourceLine);
+            }
+        }
+
+        private void declare(final Variable variable, final boolean constant, final SourceLine sourceLine) {
+            if (isDeclared(variable)) {
+                throw new JavammLineSyntaxError(sourceLine, "Variable '%s' is already defined", variable);
+            }
+            scopes.peek().put(variable.getName(), constant);
+        }
+
+        private void use(final VariableExpression expression, final SourceLine sourceLine) {
+            final Variable variable = expression.getVariable();
+            if (!isDeclared(variable)) {
+                throw new JavammLineSyntaxError(sourceLine, "Variable '%s' is not defined", variable);
+            }
+        }
+
+        private void assign(final VariableExpression expression, final SourceLine sourceLine) {
+            use(expression, sourceLine);
+            final Variable variable = expression.getVariable();
+            if (isFinal(variable)) {
+                throw new JavammLineSyntaxError(sourceLine, "Final variable '%s' can not be changed", variable);
+            }
+        }
+
+        private boolean isDeclared(final Variable variable) {
+            return scopes.stream().anyMatch(scope -> scope.containsKey(variable.getName()));
+        }
+
+        private boolean isFinal(final Variable variable) {
+            for (final Map<String, Boolean> scope : scopes) {
+                final Boolean constant = scope.get(variable.getName());
+                if (constant != null) {
+                    return constant;
+                }
+            }
+            return false;
+        }
+    }
+}
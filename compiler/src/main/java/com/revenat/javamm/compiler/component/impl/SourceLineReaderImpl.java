@@ -19,6 +19,7 @@ package com.revenat.javamm.compiler.component.impl;
 
 import com.revenat.javamm.code.fragment.SourceCode;
 import com.revenat.javamm.code.fragment.SourceLine;
+import com.revenat.javamm.code.fragment.TokenTable;
 import com.revenat.javamm.compiler.component.SourceLineReader;
 import com.revenat.javamm.compiler.component.TokenParser;
 import com.revenat.javamm.compiler.model.TokenParserResult;
@@ -41,6 +42,7 @@ public class SourceLineReaderImpl implements SourceLineReader {
 
     private List<SourceLine> readLines(final List<String> sourceCodeLines, final String moduleName) {
         final List<SourceLine> result = new ArrayList<>();
+        final TokenTable tokenTable = new TokenTable();
 
         boolean isMultiLineCommentStarted = false;
 
@@ -48,7 +50,7 @@ public class SourceLineReaderImpl implements SourceLineReader {
             final TokenParserResult parserResult = parseLine(sourceCodeLines.get(i), isMultiLineCommentStarted);
 
             if (parserResult.isNotEmpty()) {
-                result.add(new SourceLine(moduleName, i + 1, parserResult.getTokens()));
+                result.add(new SourceLine(moduleName, i + 1, parserResult.getTokens(), tokenTable));
             }
 
             isMultiLineCommentStarted = parserResult.isMultiLineCommentStarted();
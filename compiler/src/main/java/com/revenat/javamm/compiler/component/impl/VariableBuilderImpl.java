@@ -19,6 +19,7 @@ package com.revenat.javamm.compiler.component.impl;
 
 import com.revenat.javamm.code.fragment.SourceLine;
 import com.revenat.javamm.code.fragment.Variable;
+import com.revenat.javamm.compiler.component.FrameSlotAllocator;
 import com.revenat.javamm.compiler.component.VariableBuilder;
 
 import static com.revenat.javamm.compiler.component.impl.util.SyntaxValidationUtils.LanguageFeature.VARIABLE;
@@ -31,10 +32,20 @@ import static java.util.Objects.requireNonNull;
  */
 public class VariableBuilderImpl implements VariableBuilder {
 
+    private final FrameSlotAllocator frameSlotAllocator;
+
+    public VariableBuilderImpl(final FrameSlotAllocator frameSlotAllocator) {
+        this.frameSlotAllocator = requireNonNull(frameSlotAllocator);
+    }
+
+    public VariableBuilderImpl() {
+        this(new FrameSlotAllocatorImpl());
+    }
+
     @Override
     public Variable build(final String name, final SourceLine sourceLine) {
         validateVariableName(name, sourceLine);
-        return new VariableImpl(name);
+        return new VariableImpl(name, frameSlotAllocator.allocate(name));
     }
 
     private void validateVariableName(final String variableName, final SourceLine sourceLine) {
@@ -45,8 +56,11 @@ public class VariableBuilderImpl implements VariableBuilder {
     private static final class VariableImpl implements Variable {
         private final String name;
 
-        private VariableImpl(final String name) {
+        private final int slot;
+
+        private VariableImpl(final String name, final int slot) {
             this.name = requireNonNull(name);
+            this.slot = slot;
         }
 
         @Override
@@ -54,6 +68,11 @@ public class VariableBuilderImpl implements VariableBuilder {
             return name;
         }
 
+        @Override
+        public int getSlot() {
+            return slot;
+        }
+
         @Override
         public int hashCode() {
             final int prime = 31;
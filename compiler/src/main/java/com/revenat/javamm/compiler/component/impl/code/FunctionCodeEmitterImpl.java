@@ -15,25 +15,25 @@
  * limitations under the License.
  */
 
-package com.revenat.javamm.interpreter.component.impl.expression.evaluator;
+package com.revenat.javamm.compiler.component.impl.code;
 
-import com.revenat.javamm.code.component.ExpressionContext;
-import com.revenat.javamm.interpreter.component.ExpressionContextAware;
+import com.revenat.javamm.code.fragment.function.DeveloperFunction;
+import com.revenat.javamm.code.fragment.instruction.FunctionCode;
+import com.revenat.javamm.compiler.component.FunctionCodeEmitter;
 
-import java.util.Objects;
+import java.util.Optional;
 
 /**
  * @author Vitaliy Dragun
  */
-abstract class AbstractExpressionEvaluator implements ExpressionContextAware {
-    private ExpressionContext expressionContext;
-
-    protected ExpressionContext getExpressionContext() {
-        return Objects.requireNonNull(expressionContext, "expressionContext is not set");
-    }
+public class FunctionCodeEmitterImpl implements FunctionCodeEmitter {
 
     @Override
-    public void setExpressionContext(final ExpressionContext expressionContext) {
-        this.expressionContext = expressionContext;
+    public Optional<FunctionCode> emit(final DeveloperFunction function) {
+        try {
+            return Optional.of(new FunctionCodeWriter().write(function.getBody()));
+        } catch (final UnsupportedConstructionException e) {
+            return Optional.empty();
+        }
     }
 }
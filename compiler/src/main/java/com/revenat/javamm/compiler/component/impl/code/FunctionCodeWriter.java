@@ -0,0 +1,599 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.compiler.component.impl.code;
+
+import com.revenat.javamm.code.fragment.Expression;
+import com.revenat.javamm.code.fragment.Lexeme;
+import com.revenat.javamm.code.fragment.Operation;
+import com.revenat.javamm.code.fragment.expression.CaseValueExpression;
+import com.revenat.javamm.code.fragment.expression.FunctionInvocationExpression;
+import com.revenat.javamm.code.fragment.expression.PostfixNotationComplexExpression;
+import com.revenat.javamm.code.fragment.expression.TernaryConditionalExpression;
+import com.revenat.javamm.code.fragment.expression.UnaryAssignmentExpression;
+import com.revenat.javamm.code.fragment.expression.UnaryPostfixAssignmentExpression;
+import com.revenat.javamm.code.fragment.expression.UnaryPrefixAssignmentExpression;
+import com.revenat.javamm.code.fragment.expression.VariableExpression;
+import com.revenat.javamm.code.fragment.instruction.FunctionCode;
+import com.revenat.javamm.code.fragment.instruction.SwitchTable;
+import com.revenat.javamm.code.fragment.operation.AbstractLoopOperation;
+import com.revenat.javamm.code.fragment.operation.Block;
+import com.revenat.javamm.code.fragment.operation.BreakOperation;
+import com.revenat.javamm.code.fragment.operation.ContinueOperation;
+import com.revenat.javamm.code.fragment.operation.DoWhileOperation;
+import com.revenat.javamm.code.fragment.operation.ExpressionOperation;
+import com.revenat.javamm.code.fragment.operation.ForOperation;
+import com.revenat.javamm.code.fragment.operation.IfElseOperation;
+import com.revenat.javamm.code.fragment.operation.PrintlnOperation;
+import com.revenat.javamm.code.fragment.operation.ReturnOperation;
+import com.revenat.javamm.code.fragment.operation.SwitchBodyEntry;
+import com.revenat.javamm.code.fragment.operation.SwitchCaseEntry;
+import com.revenat.javamm.code.fragment.operation.SwitchOperation;
+import com.revenat.javamm.code.fragment.operation.VariableAssignmentOperation;
+import com.revenat.javamm.code.fragment.operation.VariableDeclarationOperation;
+import com.revenat.javamm.code.fragment.operation.WhileOperation;
+import com.revenat.javamm.code.fragment.operator.BinaryOperator;
+import com.revenat.javamm.code.fragment.operator.UnaryOperator;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.revenat.javamm.code.fragment.instruction.OpCode.BINARY;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.CALL;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.CHECK_UNDEFINED;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.DEFINE_FINAL;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.DEFINE_VAR;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.ENTER_SCOPE;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.EXIT_SCOPE;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.FAIL;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.JUMP;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.JUMP_IF_BOOLEAN;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.JUMP_IF_FALSE;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.JUMP_IF_TRUE;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.LINE;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.LOAD_CONST;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.LOAD_VAR;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.MOVE;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.PRINTLN;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.PRINTLN_EMPTY;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.RETURN;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.RETURN_VOID;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.STORE_VAR;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.SWITCH;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.TAIL_CALL;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.UNARY;
+import static com.revenat.javamm.code.syntax.Keywords.BREAK;
+import static com.revenat.javamm.code.syntax.Keywords.CONTINUE;
+import static com.revenat.javamm.code.util.LexemeUtils.isBinaryOperator;
+import static com.revenat.javamm.code.util.LexemeUtils.isUnaryOperator;
+import static com.revenat.javamm.code.util.TypeUtils.confirmType;
+
+/**
+ * Writes {@linkplain FunctionCode linear code} for the single function body.
+ * <p>
+ * Operands of the postfix expressions are loaded into registers only when
+ * operator which consumes them is reached, so the order of evaluation is the
+ * same as the order of evaluation of the tree walking interpreter.
+ *
+ * @author Vitaliy Dragun
+ */
+@SuppressWarnings({"checkstyle:ClassFanOutComplexity", "checkstyle:ClassDataAbstractionCoupling"})
+final class FunctionCodeWriter {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final List<Object> constants = new ArrayList<>();
+
+    private final Map<Object, Integer> constantIndexes = new HashMap<>();
+
+    private final Deque<JumpScope> jumpScopes = new ArrayDeque<>();
+
+    private int[] instructions = new int[INITIAL_CAPACITY];
+
+    private int size;
+
+    private int registerCount;
+
+    private int scopeDepth;
+
+    FunctionCode write(final Block body) {
+        writeBlock(body);
+        emit(RETURN_VOID);
+        return new FunctionCode(Arrays.copyOf(instructions, size), constants, registerCount);
+    }
+
+    private void writeBlock(final Block block) {
+        for (final Operation operation : block.getOperations()) {
+            writeOperation(operation);
+        }
+    }
+
+    private void writeNestedScopeBlock(final Block block) {
+        if (block.isVariableDeclarationPresent()) {
+            emit(ENTER_SCOPE);
+            scopeDepth++;
+            writeBlock(block);
+            scopeDepth--;
+            emit(EXIT_SCOPE);
+        } else {
+            writeBlock(block);
+        }
+    }
+
+    @SuppressWarnings({"checkstyle:CyclomaticComplexity", "checkstyle:ReturnCount"})
+    private void writeOperation(final Operation operation) {
+        emit(LINE, operation.getLineNumber());
+        if (confirmType(PrintlnOperation.class, operation)) {
+            writePrintln((PrintlnOperation) operation);
+        } else if (confirmType(VariableDeclarationOperation.class, operation)) {
+            writeVariableDeclaration((VariableDeclarationOperation) operation);
+        } else if (confirmType(VariableAssignmentOperation.class, operation)) {
+            final VariableAssignmentOperation assignment = (VariableAssignmentOperation) operation;
+            writeExpression(assignment.getValueExpression(), 0);
+            emit(STORE_VAR, constant(assignment.getVariableExpression().getVariable()), register(0));
+        } else if (confirmType(ExpressionOperation.class, operation)) {
+            writeExpression(((ExpressionOperation) operation).getExpression(), 0);
+        } else if (confirmType(IfElseOperation.class, operation)) {
+            writeIfElse((IfElseOperation) operation);
+        } else if (confirmType(WhileOperation.class, operation)) {
+            writeWhile((WhileOperation) operation);
+        } else if (confirmType(DoWhileOperation.class, operation)) {
+            writeDoWhile((DoWhileOperation) operation);
+        } else if (confirmType(ForOperation.class, operation)) {
+            writeFor((ForOperation) operation);
+        } else if (confirmType(Block.class, operation)) {
+            writeNestedScopeBlock((Block) operation);
+        } else if (confirmType(ContinueOperation.class, operation)) {
+            writeContinue();
+        } else if (confirmType(BreakOperation.class, operation)) {
+            writeBreak();
+        } else if (confirmType(SwitchOperation.class, operation)) {
+            writeSwitch((SwitchOperation) operation);
+        } else if (confirmType(ReturnOperation.class, operation)) {
+            writeReturn((ReturnOperation) operation);
+        } else {
+            throw new UnsupportedConstructionException(operation);
+        }
+    }
+
+    private void writePrintln(final PrintlnOperation operation) {
+        if (operation.getExpression().isPresent()) {
+            writeExpression(operation.getExpression().get(), 0);
+            emit(PRINTLN, register(0));
+        } else {
+            emit(PRINTLN_EMPTY);
+        }
+    }
+
+    private void writeVariableDeclaration(final VariableDeclarationOperation operation) {
+        final int variable = constant(operation.getVariable());
+        emit(CHECK_UNDEFINED, variable);
+        writeExpression(operation.getExpression(), 0);
+        emit(operation.isConstant() ? DEFINE_FINAL : DEFINE_VAR, variable, register(0));
+    }
+
+    private void writeIfElse(final IfElseOperation operation) {
+        final Label falseLabel = new Label();
+        writeExpression(operation.getCondition(), 0);
+        emitJump(JUMP_IF_FALSE, 0, falseLabel);
+        writeNestedScopeBlock(operation.getTrueBlock());
+        if (operation.getFalseBlock().isPresent()) {
+            final Label endLabel = new Label();
+            emitJump(JUMP, endLabel);
+            bind(falseLabel);
+            writeNestedScopeBlock(operation.getFalseBlock().get());
+            bind(endLabel);
+        } else {
+            bind(falseLabel);
+        }
+    }
+
+    private void writeWhile(final WhileOperation operation) {
+        final Label conditionLabel = bind(new Label());
+        final Label endLabel = new Label();
+        writeExpression(operation.getCondition(), 0);
+        emitJump(JUMP_IF_FALSE, 0, endLabel);
+        writeLoopBody(operation, endLabel);
+        emitJump(JUMP, conditionLabel);
+        bind(endLabel);
+    }
+
+    private void writeDoWhile(final DoWhileOperation operation) {
+        final Label bodyLabel = bind(new Label());
+        final Label endLabel = new Label();
+        writeLoopBody(operation, endLabel);
+        writeExpression(operation.getCondition(), 0);
+        emitJump(JUMP_IF_TRUE, 0, bodyLabel);
+        bind(endLabel);
+    }
+
+    private void writeFor(final ForOperation operation) {
+        final boolean nestedScope = operation.getInitOperation()
+            .filter(o -> confirmType(VariableDeclarationOperation.class, o))
+            .isPresent();
+        if (nestedScope) {
+            emit(ENTER_SCOPE);
+            scopeDepth++;
+        }
+        operation.getInitOperation().ifPresent(this::writeOperation);
+        final Label conditionLabel = bind(new Label());
+        final Label endLabel = new Label();
+        writeExpression(operation.getCondition(), 0);
+        emitJump(JUMP_IF_FALSE, 0, endLabel);
+        writeLoopBody(operation, endLabel);
+        operation.getUpdateOperation().ifPresent(this::writeOperation);
+        emitJump(JUMP, conditionLabel);
+        bind(endLabel);
+        if (nestedScope) {
+            scopeDepth--;
+            emit(EXIT_SCOPE);
+        }
+    }
+
+    private void writeLoopBody(final AbstractLoopOperation operation, final Label breakLabel) {
+        final Label continueLabel = new Label();
+        final int line = operation.getLineNumber();
+        emit(LINE, line);
+        jumpScopes.push(new JumpScope(breakLabel, continueLabel, scopeDepth));
+        writeNestedScopeBlock(operation.getBody());
+        jumpScopes.pop();
+        bind(continueLabel);
+        emit(LINE, line);
+    }
+
+    private void writeSwitch(final SwitchOperation operation) {
+        writeExpression(operation.getCondition(), 0);
+        emit(SWITCH, register(0), 0);
+        final int tableOperandPosition = size - 1;
+        final Label endLabel = new Label();
+        final List<SwitchBodyEntry> entries = operation.getEntries();
+        final List<Object> caseValues = new ArrayList<>();
+        final List<Integer> caseTargets = new ArrayList<>();
+        int defaultTarget = -1;
+        jumpScopes.push(new JumpScope(endLabel, null, scopeDepth));
+        for (final SwitchBodyEntry entry : entries) {
+            if (entry.isDefault()) {
+                defaultTarget = size;
+            } else {
+                caseValues.add(((SwitchCaseEntry) entry).getExpression().getValue());
+                caseTargets.add(size);
+            }
+            writeNestedScopeBlock(entry.getBody());
+        }
+        jumpScopes.pop();
+        bind(endLabel);
+        final SwitchTable switchTable = new SwitchTable(
+            caseValues.toArray(),
+            caseTargets.stream().mapToInt(Integer::intValue).toArray(),
+            defaultTarget == -1 ? size : defaultTarget);
+        constants.add(switchTable);
+        instructions[tableOperandPosition] = constants.size() - 1;
+    }
+
+    private void writeBreak() {
+        final JumpScope jumpScope = jumpScopes.peek();
+        if (jumpScope != null) {
+            exitScopesUpTo(jumpScope);
+            emitJump(JUMP, jumpScope.breakLabel);
+        } else {
+            emit(FAIL, constant(notExpectedOperationMessage(BREAK)));
+        }
+    }
+
+    private void writeContinue() {
+        for (final JumpScope jumpScope : jumpScopes) {
+            if (jumpScope.continueLabel != null) {
+                exitScopesUpTo(jumpScope);
+                emitJump(JUMP, jumpScope.continueLabel);
+                return;
+            }
+        }
+        emit(FAIL, constant(notExpectedOperationMessage(CONTINUE)));
+    }
+
+    private String notExpectedOperationMessage(final String operation) {
+        return String.format("Operation '%s' is not expected here", operation);
+    }
+
+    private void exitScopesUpTo(final JumpScope jumpScope) {
+        for (int i = scopeDepth; i > jumpScope.scopeDepth; i--) {
+            emit(EXIT_SCOPE);
+        }
+    }
+
+    private void writeReturn(final ReturnOperation operation) {
+        if (operation.isTailCall()) {
+            writeTailCall((FunctionInvocationExpression) operation.getExpression().orElseThrow());
+        } else if (operation.getExpression().isPresent()) {
+            writeExpression(operation.getExpression().get(), 0);
+            emit(RETURN, register(0));
+        } else {
+            emit(RETURN_VOID);
+        }
+    }
+
+    /**
+     * Invocation expression is used as constant, because function is linked to it
+     * only after the code of all functions has been emitted
+     */
+    private void writeTailCall(final FunctionInvocationExpression expression) {
+        final List<Expression> arguments = expression.getArguments();
+        for (int i = 0; i < arguments.size(); i++) {
+            writeExpression(arguments.get(i), i);
+        }
+        emit(TAIL_CALL, constant(expression), register(0), arguments.size());
+    }
+
+    /**
+     * Writes instructions which put value of specified expression into
+     * specified register. Only registers starting from the specified one are
+     * used
+     */
+    private void writeExpression(final Expression expression, final int target) {
+        if (confirmType(PostfixNotationComplexExpression.class, expression)) {
+            writePostfixExpression((PostfixNotationComplexExpression) expression, target);
+        } else {
+            writeOperand(expression, target);
+        }
+    }
+
+    private void writeOperand(final Expression expression, final int target) {
+        if (confirmType(VariableExpression.class, expression)) {
+            emit(LOAD_VAR, register(target), constant(((VariableExpression) expression).getVariable()));
+        } else if (confirmType(CaseValueExpression.class, expression)) {
+            emit(LOAD_CONST, register(target), constant(((CaseValueExpression) expression).getValue()));
+        } else if (confirmType(FunctionInvocationExpression.class, expression)) {
+            writeFunctionInvocation((FunctionInvocationExpression) expression, target);
+        } else if (confirmType(TernaryConditionalExpression.class, expression)) {
+            writeTernaryConditional((TernaryConditionalExpression) expression, target);
+        } else if (confirmType(UnaryPrefixAssignmentExpression.class, expression)) {
+            writeUnaryAssignment((UnaryAssignmentExpression) expression, target, target);
+        } else if (confirmType(UnaryPostfixAssignmentExpression.class, expression)) {
+            writeUnaryAssignment((UnaryAssignmentExpression) expression, target, target + 1);
+        } else if (confirmType(PostfixNotationComplexExpression.class, expression)) {
+            writePostfixExpression((PostfixNotationComplexExpression) expression, target);
+        } else {
+            throw new UnsupportedConstructionException(expression);
+        }
+    }
+
+    private void writeFunctionInvocation(final FunctionInvocationExpression expression, final int target) {
+        final List<Expression> arguments = expression.getArguments();
+        for (int i = 0; i < arguments.size(); i++) {
+            writeExpression(arguments.get(i), target + i);
+        }
+        emit(CALL, register(target), constant(expression), target, arguments.size());
+    }
+
+    private void writeTernaryConditional(final TernaryConditionalExpression expression, final int target) {
+        final Label falseLabel = new Label();
+        final Label endLabel = new Label();
+        writeExpression(expression.getPredicateOperand(), target);
+        emitJump(JUMP_IF_FALSE, target, falseLabel);
+        writeExpression(expression.getTrueClauseOperand(), target);
+        emitJump(JUMP, endLabel);
+        bind(falseLabel);
+        writeExpression(expression.getFalseClauseOperand(), target);
+        bind(endLabel);
+    }
+
+    /**
+     * Writes unary assignment. Old value of the variable is kept in the
+     * {@code target} register and new one is put into the {@code result}
+     * register, so postfix form passes {@code target + 1} as {@code result}
+     */
+    private void writeUnaryAssignment(final UnaryAssignmentExpression expression,
+                                      final int target,
+                                      final int result) {
+        final int variable = constant(expression.getOperand().getVariable());
+        emit(LOAD_VAR, register(target), variable);
+        emit(UNARY, register(result), expression.getOperator().ordinal(), target);
+        emit(STORE_VAR, variable, result);
+    }
+
+    private void writePostfixExpression(final PostfixNotationComplexExpression expression, final int base) {
+        final List<StackEntry> stack = new ArrayList<>();
+        for (final Lexeme lexeme : expression.getShortCircuitLexemes()) {
+            if (isBinaryOperator(lexeme) && stack.size() < 2 || isUnaryOperator(lexeme) && stack.isEmpty()) {
+                // Expression is not well formed, so it is left to the operation tree interpreter
+                throw new UnsupportedConstructionException(expression);
+            }
+            if (isBinaryOperator(lexeme)) {
+                final StackEntry second = stack.remove(stack.size() - 1);
+                final StackEntry first = stack.remove(stack.size() - 1);
+                writeBinaryOperation((BinaryOperator) lexeme, first, second, base + stack.size());
+                stack.add(StackEntry.LOADED);
+            } else if (isUnaryOperator(lexeme)) {
+                final StackEntry operand = stack.remove(stack.size() - 1);
+                final int position = base + stack.size();
+                load(operand, position, position);
+                emit(UNARY, register(position), ((UnaryOperator) lexeme).ordinal(), position);
+                stack.add(StackEntry.LOADED);
+            } else {
+                stack.add(new StackEntry((Expression) lexeme));
+            }
+        }
+        if (stack.size() != 1) {
+            throw new UnsupportedConstructionException(expression);
+        }
+        load(stack.get(0), base, base);
+    }
+
+    private void writeBinaryOperation(final BinaryOperator operator,
+                                      final StackEntry first,
+                                      final StackEntry second,
+                                      final int position) {
+        final int secondPosition = position + 1;
+        load(first, position, second.isLoaded() ? secondPosition + 1 : position);
+        if (!second.isLoaded() && isShortCircuitOperator(operator)) {
+            final Label shortCircuitLabel = new Label();
+            final Label endLabel = new Label();
+            final boolean shortCircuitValue = operator == BinaryOperator.LOGICAL_OR;
+            emitJump(JUMP_IF_BOOLEAN, position, shortCircuitValue ? 1 : 0, shortCircuitLabel);
+            load(second, secondPosition, secondPosition);
+            emit(BINARY, register(position), operator.ordinal(), position, register(secondPosition));
+            emitJump(JUMP, endLabel);
+            bind(shortCircuitLabel);
+            emit(LOAD_CONST, position, constant(shortCircuitValue));
+            bind(endLabel);
+        } else {
+            load(second, secondPosition, secondPosition);
+            emit(BINARY, register(position), operator.ordinal(), position, register(secondPosition));
+        }
+        if (operator.isAssignment()) {
+            emit(STORE_VAR, constant(getAssignedVariable(first)), position);
+        }
+    }
+
+    private boolean isShortCircuitOperator(final BinaryOperator operator) {
+        return operator == BinaryOperator.LOGICAL_AND || operator == BinaryOperator.LOGICAL_OR;
+    }
+
+    private Object getAssignedVariable(final StackEntry entry) {
+        if (!entry.isLoaded() && confirmType(VariableExpression.class, entry.expression)) {
+            return ((VariableExpression) entry.expression).getVariable();
+        } else {
+            throw new UnsupportedConstructionException(entry);
+        }
+    }
+
+    /**
+     * Loads not yet evaluated operand into the register which corresponds to
+     * its stack position. Complex operands are evaluated in the {@code scratch}
+     * register if it differs from the {@code position} register and then moved
+     */
+    private void load(final StackEntry entry, final int position, final int scratch) {
+        if (!entry.isLoaded()) {
+            if (scratch == position || isSimpleOperand(entry.expression)) {
+                writeOperand(entry.expression, position);
+            } else {
+                writeOperand(entry.expression, scratch);
+                emit(MOVE, register(position), register(scratch));
+            }
+        }
+    }
+
+    private boolean isSimpleOperand(final Expression expression) {
+        return confirmType(VariableExpression.class, expression) ||
+            confirmType(CaseValueExpression.class, expression);
+    }
+
+    private int constant(final Object value) {
+        return constantIndexes.computeIfAbsent(value, v -> {
+            constants.add(v);
+            return constants.size() - 1;
+        });
+    }
+
+    private int register(final int register) {
+        registerCount = Math.max(registerCount, register + 1);
+        return register;
+    }
+
+    private void emit(final int... instruction) {
+        if (size + instruction.length > instructions.length) {
+            instructions = Arrays.copyOf(instructions, Math.max(instructions.length * 2, size + instruction.length));
+        }
+        System.arraycopy(instruction, 0, instructions, size, instruction.length);
+        size += instruction.length;
+    }
+
+    private void emitJump(final int opCode, final Label label) {
+        emit(opCode, 0);
+        label.addReference(size - 1);
+    }
+
+    private void emitJump(final int opCode, final int operand, final Label label) {
+        emit(opCode, operand, 0);
+        label.addReference(size - 1);
+    }
+
+    private void emitJump(final int opCode, final int operand1, final int operand2, final Label label) {
+        emit(opCode, operand1, operand2, 0);
+        label.addReference(size - 1);
+    }
+
+    private Label bind(final Label label) {
+        label.offset = size;
+        for (final int reference : label.references) {
+            instructions[reference] = size;
+        }
+        label.references.clear();
+        return label;
+    }
+
+    /**
+     * Instruction offset which may be referenced by jumps before it is known
+     */
+    private final class Label {
+
+        private final List<Integer> references = new ArrayList<>();
+
+        private int offset = -1;
+
+        private void addReference(final int operandPosition) {
+            if (offset >= 0) {
+                instructions[operandPosition] = offset;
+            } else {
+                references.add(operandPosition);
+            }
+        }
+    }
+
+    /**
+     * Targets of {@code break} and {@code continue} operations along with
+     * scope depth which should be restored before jump
+     */
+    private static final class JumpScope {
+
+        private final Label breakLabel;
+
+        private final Label continueLabel;
+
+        private final int scopeDepth;
+
+        private JumpScope(final Label breakLabel, final Label continueLabel, final int scopeDepth) {
+            this.breakLabel = breakLabel;
+            this.continueLabel = continueLabel;
+            this.scopeDepth = scopeDepth;
+        }
+    }
+
+    /**
+     * Entry of the compile time stack of postfix expression: either not yet
+     * evaluated operand or value which is already loaded into register
+     */
+    private static final class StackEntry {
+
+        private static final StackEntry LOADED = new StackEntry(null);
+
+        private final Expression expression;
+
+        private StackEntry(final Expression expression) {
+            this.expression = expression;
+        }
+
+        private boolean isLoaded() {
+            return expression == null;
+        }
+    }
+}
@@ -15,18 +15,18 @@
  * limitations under the License.
  */
 
-package com.revenat.javamm.interpreter.component.impl.operation.exception;
-
-import static com.revenat.javamm.code.syntax.Keywords.CONTINUE;
+package com.revenat.javamm.compiler.component.impl.code;
 
 /**
+ * Signals that operation or expression can not be expressed by linear code
+ *
  * @author Vitaliy Dragun
  */
-public class ContinueOperationException extends InterruptOperationException {
+final class UnsupportedConstructionException extends RuntimeException {
 
     private static final long serialVersionUID = 1L;
 
-    public ContinueOperationException() {
-        super(CONTINUE);
+    UnsupportedConstructionException(final Object construction) {
+        super("Unsupported construction: " + construction.getClass().getName(), null, false, false);
     }
 }
@@ -0,0 +1,66 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.revenat.javamm.compiler.component.impl.optimizer;
+
+import com.revenat.javamm.code.fragment.ConcatenatedString;
+import com.revenat.javamm.code.fragment.operator.BinaryOperator;
+import com.revenat.javamm.code.fragment.operator.UnaryOperator;
+import com.revenat.javamm.code.util.OperatorUtils;
+
+import java.util.Optional;
+
+/**
+ * Calculates results of the operators for constant operands during compilation.
+ *
+ * <p>Results are calculated by the {@linkplain OperatorUtils operator semantics}
+ * which interpreter uses as well. If calculation fails at runtime (e.g. integer division
+ * by zero or operands of unsupported types) or operator can not be calculated during
+ * compilation (e.g. assignment operators), result is not calculated, so the expression
+ * is left as is and fails at runtime
+ *
+ * @author Vitaliy Dragun
+ */
+final class ConstantOperatorCalculator {
+
+    /**
+     * Returns {@code true} if specified value can be used as operand of the
+     * constant expression
+     */
+    boolean isSupportedValue(final Object value) {
+        return value instanceof Integer || value instanceof Double || value instanceof Boolean ||
+            value instanceof String;
+    }
+
+    Optional<Object> calculate(final Object value1, final BinaryOperator operator, final Object value2) {
+        if (operator.isAssignment()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.ofNullable(OperatorUtils.calculate(value1, operator, value2))
+                .map(ConcatenatedString::materialize);
+        } catch (final ArithmeticException e) {
+            return Optional.empty();
+        }
+    }
+
+    Optional<Object> calculate(final UnaryOperator operator, final Object value) {
+        if (operator.isAssignment()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(OperatorUtils.calculate(operator, value));
+    }
+}
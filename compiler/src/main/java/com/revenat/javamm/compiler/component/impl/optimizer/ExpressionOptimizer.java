@@ -0,0 +1,254 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.compiler.component.impl.optimizer;
+
+import com.revenat.javamm.code.fragment.Expression;
+import com.revenat.javamm.code.fragment.Lexeme;
+import com.revenat.javamm.code.fragment.Variable;
+import com.revenat.javamm.code.fragment.expression.ConstantExpression;
+import com.revenat.javamm.code.fragment.expression.FunctionInvocationExpression;
+import com.revenat.javamm.code.fragment.expression.PostfixNotationComplexExpression;
+import com.revenat.javamm.code.fragment.expression.TernaryConditionalExpression;
+import com.revenat.javamm.code.fragment.expression.VariableExpression;
+import com.revenat.javamm.code.fragment.operator.BinaryOperator;
+import com.revenat.javamm.code.fragment.operator.UnaryOperator;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.revenat.javamm.code.util.LexemeUtils.isBinaryOperator;
+import static com.revenat.javamm.code.util.LexemeUtils.isUnaryOperator;
+import static com.revenat.javamm.code.util.TypeUtils.confirmType;
+
+/**
+ * Folds constant subexpressions of the expression into {@linkplain ConstantExpression
+ * constant expressions} and replaces final variables with known constant values by
+ * such values. Operands of the assignment operators are never replaced
+ *
+ * @author Vitaliy Dragun
+ */
+final class ExpressionOptimizer {
+
+    private final ConstantOperatorCalculator calculator;
+
+    ExpressionOptimizer(final ConstantOperatorCalculator calculator) {
+        this.calculator = calculator;
+    }
+
+    /**
+     * Returns optimized copy of the specified expression or the expression itself
+     * if there is nothing to optimize
+     *
+     * @param constants known values of the final variables
+     */
+    Expression optimize(final Expression expression, final Map<Variable, Object> constants) {
+        if (confirmType(VariableExpression.class, expression)) {
+            return toOperand(expression, constants).toExpression();
+        } else if (confirmType(PostfixNotationComplexExpression.class, expression)) {
+            return optimizePostfixExpression((PostfixNotationComplexExpression) expression, constants);
+        } else if (confirmType(TernaryConditionalExpression.class, expression)) {
+            return optimizeTernaryExpression((TernaryConditionalExpression) expression, constants);
+        } else if (confirmType(FunctionInvocationExpression.class, expression)) {
+            return optimizeFunctionInvocation((FunctionInvocationExpression) expression, constants);
+        } else {
+            return expression;
+        }
+    }
+
+    /**
+     * Returns constant value of the specified expression if it is known during compilation
+     */
+    Optional<Object> getConstantValue(final Expression expression) {
+        if (confirmType(ConstantExpression.class, expression)) {
+            final Object value = ((ConstantExpression) expression).getValue();
+            return calculator.isSupportedValue(value) ? Optional.of(value) : Optional.empty();
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    private Expression optimizePostfixExpression(final PostfixNotationComplexExpression expression,
+                                                 final Map<Variable, Object> constants) {
+        final Deque<Operand> stack = new ArrayDeque<>();
+        for (final Lexeme lexeme : expression.getLexemes()) {
+            if (stack.size() < getOperandCount(lexeme)) {
+                // Expression is not well formed, so it is left as is for the interpreter
+                return expression;
+            }
+            if (isBinaryOperator(lexeme)) {
+                final Operand second = stack.pop();
+                final Operand first = stack.pop();
+                stack.push(calculate(first, (BinaryOperator) lexeme, second));
+            } else if (isUnaryOperator(lexeme)) {
+                stack.push(calculate((UnaryOperator) lexeme, stack.pop()));
+            } else {
+                stack.push(toOperand((Expression) lexeme, constants));
+            }
+        }
+        if (stack.size() != 1) {
+            return expression;
+        }
+        final Operand result = stack.pop();
+        if (result.isConstant()) {
+            return ConstantExpression.valueOf(result.value);
+        }
+        final List<Lexeme> lexemes = result.getLexemes(false);
+        if (lexemes.equals(expression.getLexemes())) {
+            return expression;
+        } else {
+            return new PostfixNotationComplexExpression(lexemes, expression.toString());
+        }
+    }
+
+    private int getOperandCount(final Lexeme lexeme) {
+        if (isBinaryOperator(lexeme)) {
+            return 2;
+        } else if (isUnaryOperator(lexeme)) {
+            return 1;
+        } else {
+            return 0;
+        }
+    }
+
+    private Operand calculate(final Operand first, final BinaryOperator operator, final Operand second) {
+        if (first.isConstant() && second.isConstant() && !operator.isAssignment()) {
+            final Optional<Object> result = calculator.calculate(first.value, operator, second.value);
+            if (result.isPresent()) {
+                return Operand.constant(result.get());
+            }
+        }
+        final List<Lexeme> lexemes = new ArrayList<>(first.getLexemes(operator.isAssignment()));
+        lexemes.addAll(second.getLexemes(false));
+        lexemes.add(operator);
+        return Operand.expression(lexemes);
+    }
+
+    private Operand calculate(final UnaryOperator operator, final Operand operand) {
+        if (operand.isConstant() && !operator.isAssignment()) {
+            final Optional<Object> result = calculator.calculate(operator, operand.value);
+            if (result.isPresent()) {
+                return Operand.constant(result.get());
+            }
+        }
+        final List<Lexeme> lexemes = new ArrayList<>(operand.getLexemes(operator.isAssignment()));
+        lexemes.add(operator);
+        return Operand.expression(lexemes);
+    }
+
+    private Operand toOperand(final Expression expression, final Map<Variable, Object> constants) {
+        if (confirmType(VariableExpression.class, expression)) {
+            final Variable variable = ((VariableExpression) expression).getVariable();
+            if (constants.containsKey(variable)) {
+                return Operand.variable(expression, constants.get(variable));
+            } else {
+                return Operand.expression(List.of(expression));
+            }
+        }
+        final Expression optimized = optimize(expression, constants);
+        return getConstantValue(optimized)
+            .map(Operand::constant)
+            .orElseGet(() -> Operand.expression(List.of(optimized)));
+    }
+
+    private Expression optimizeTernaryExpression(final TernaryConditionalExpression expression,
+                                                 final Map<Variable, Object> constants) {
+        final Expression predicate = optimize(expression.getPredicateOperand(), constants);
+        final Optional<Object> predicateValue = getConstantValue(predicate);
+        if (predicateValue.isPresent() && predicateValue.get() instanceof Boolean) {
+            return (Boolean) predicateValue.get() ?
+                optimize(expression.getTrueClauseOperand(), constants) :
+                optimize(expression.getFalseClauseOperand(), constants);
+        }
+        final Expression trueClause = optimize(expression.getTrueClauseOperand(), constants);
+        final Expression falseClause = optimize(expression.getFalseClauseOperand(), constants);
+        if (predicate == expression.getPredicateOperand() &&
+            trueClause == expression.getTrueClauseOperand() &&
+            falseClause == expression.getFalseClauseOperand()) {
+            return expression;
+        } else {
+            return new TernaryConditionalExpression(predicate, trueClause, falseClause);
+        }
+    }
+
+    private Expression optimizeFunctionInvocation(final FunctionInvocationExpression expression,
+                                                  final Map<Variable, Object> constants) {
+        final List<Expression> arguments = new ArrayList<>();
+        boolean changed = false;
+        for (final Expression argument : expression.getArguments()) {
+            final Expression optimized = optimize(argument, constants);
+            changed |= optimized != argument;
+            arguments.add(optimized);
+        }
+        return changed ? new FunctionInvocationExpression(expression.getFunctionName(), arguments) : expression;
+    }
+
+    /**
+     * Operand of the postfix expression which is either constant value or sequence
+     * of lexemes which calculates such operand at runtime
+     */
+    private static final class Operand {
+
+        private final List<Lexeme> lexemes;
+
+        private final Object value;
+
+        private final boolean constant;
+
+        private Operand(final List<Lexeme> lexemes, final Object value, final boolean constant) {
+            this.lexemes = lexemes;
+            this.value = value;
+            this.constant = constant;
+        }
+
+        private static Operand constant(final Object value) {
+            return new Operand(List.of(ConstantExpression.valueOf(value)), value, true);
+        }
+
+        private static Operand variable(final Expression variable, final Object value) {
+            return new Operand(List.of(variable), value, true);
+        }
+
+        private static Operand expression(final List<Lexeme> lexemes) {
+            return new Operand(lexemes, null, false);
+        }
+
+        private boolean isConstant() {
+            return constant;
+        }
+
+        /**
+         * @param assigned {@code true} if operand is updated by the assignment operator,
+         *                 so variable should not be replaced by its value
+         */
+        private List<Lexeme> getLexemes(final boolean assigned) {
+            if (constant && !assigned) {
+                return List.of(ConstantExpression.valueOf(value));
+            } else {
+                return lexemes;
+            }
+        }
+
+        private Expression toExpression() {
+            return (Expression) getLexemes(false).get(0);
+        }
+    }
+}
@@ -0,0 +1,288 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.compiler.component.impl.optimizer;
+
+import com.revenat.javamm.code.fragment.Expression;
+import com.revenat.javamm.code.fragment.Operation;
+import com.revenat.javamm.code.fragment.Variable;
+import com.revenat.javamm.code.fragment.function.DeveloperFunction;
+import com.revenat.javamm.code.fragment.operation.Block;
+import com.revenat.javamm.code.fragment.operation.BreakOperation;
+import com.revenat.javamm.code.fragment.operation.ContinueOperation;
+import com.revenat.javamm.code.fragment.operation.DoWhileOperation;
+import com.revenat.javamm.code.fragment.operation.ExpressionOperation;
+import com.revenat.javamm.code.fragment.operation.ForInitOperation;
+import com.revenat.javamm.code.fragment.operation.ForOperation;
+import com.revenat.javamm.code.fragment.operation.ForUpdateOperation;
+import com.revenat.javamm.code.fragment.operation.IfElseOperation;
+import com.revenat.javamm.code.fragment.operation.PrintlnOperation;
+import com.revenat.javamm.code.fragment.operation.ReturnOperation;
+import com.revenat.javamm.code.fragment.operation.SwitchOperation;
+import com.revenat.javamm.code.fragment.operation.VariableAssignmentOperation;
+import com.revenat.javamm.code.fragment.operation.VariableDeclarationOperation;
+import com.revenat.javamm.code.fragment.operation.WhileOperation;
+import com.revenat.javamm.compiler.component.FunctionOptimizer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.revenat.javamm.code.util.TypeUtils.confirmType;
+
+/**
+ * Optimizes bodies of the developer functions:
+ * <ul>
+ *     <li>folds constant subexpressions into constants;</li>
+ *     <li>replaces final variables which are initialized by constants with their values;</li>
+ *     <li>removes branches and loops which are never executed because of constant
+ *     conditions and operations which follow {@code return}, {@code break} and
+ *     {@code continue} operations in the same block.</li>
+ * </ul>
+ * Expressions which fail at runtime (e.g. integer division by zero) are not folded,
+ * so they fail at runtime as before. Bodies of the {@code switch} entries are not optimized.
+ *
+ * <p>Optimized operations and expressions of the most common shapes are replaced by the
+ * superinstructions unless they are disabled
+ *
+ * @author Vitaliy Dragun
+ */
+public class FunctionOptimizerImpl implements FunctionOptimizer {
+
+    private final ExpressionOptimizer expressionOptimizer =
+        new ExpressionOptimizer(new ConstantOperatorCalculator());
+
+    private final SuperinstructionSelector superinstructionSelector = new SuperinstructionSelector();
+
+    private final boolean superinstructionsEnabled;
+
+    public FunctionOptimizerImpl() {
+        this(true);
+    }
+
+    public FunctionOptimizerImpl(final boolean superinstructionsEnabled) {
+        this.superinstructionsEnabled = superinstructionsEnabled;
+    }
+
+    @Override
+    public DeveloperFunction optimize(final DeveloperFunction function) {
+        final Block body = optimizeBlock(function.getBody(), new HashMap<>());
+        return body == function.getBody() ? function : function.withBody(body);
+    }
+
+    private Block optimizeNestedBlock(final Block block, final Map<Variable, Object> constants) {
+        return optimizeBlock(block, new HashMap<>(constants));
+    }
+
+    private Block optimizeBlock(final Block block, final Map<Variable, Object> constants) {
+        final List<Operation> operations = new ArrayList<>();
+        for (final Operation operation : block.getOperations()) {
+            optimizeOperation(operation, constants).ifPresent(operations::add);
+            if (isAbruptCompletion(operation)) {
+                break;
+            }
+        }
+        if (operations.equals(block.getOperations())) {
+            return block;
+        } else {
+            return new Block(operations, block.getSourceLine());
+        }
+    }
+
+    private boolean isAbruptCompletion(final Operation operation) {
+        return confirmType(ReturnOperation.class, operation) ||
+            confirmType(BreakOperation.class, operation) ||
+            confirmType(ContinueOperation.class, operation);
+    }
+
+    /**
+     * Returns optimized operation or empty optional if the operation can be removed
+     */
+    @SuppressWarnings({"checkstyle:CyclomaticComplexity", "checkstyle:ReturnCount"})
+    private Optional<Operation> optimizeOperation(final Operation operation, final Map<Variable, Object> constants) {
+        if (confirmType(Block.class, operation)) {
+            return Optional.of(optimizeNestedBlock((Block) operation, constants));
+        } else if (confirmType(VariableDeclarationOperation.class, operation)) {
+            return Optional.of(optimizeVariableDeclaration((VariableDeclarationOperation) operation, constants));
+        } else if (confirmType(VariableAssignmentOperation.class, operation)) {
+            return Optional.of(optimizeVariableAssignment((VariableAssignmentOperation) operation, constants));
+        } else if (confirmType(ExpressionOperation.class, operation)) {
+            return Optional.of(optimizeExpressionOperation((ExpressionOperation) operation, constants));
+        } else if (confirmType(PrintlnOperation.class, operation)) {
+            return Optional.of(optimizePrintln((PrintlnOperation) operation, constants));
+        } else if (confirmType(ReturnOperation.class, operation)) {
+            return Optional.of(optimizeReturn((ReturnOperation) operation, constants));
+        } else if (confirmType(IfElseOperation.class, operation)) {
+            return optimizeIfElse((IfElseOperation) operation, constants);
+        } else if (confirmType(WhileOperation.class, operation)) {
+            return optimizeWhile((WhileOperation) operation, constants);
+        } else if (confirmType(DoWhileOperation.class, operation)) {
+            return Optional.of(optimizeDoWhile((DoWhileOperation) operation, constants));
+        } else if (confirmType(ForOperation.class, operation)) {
+            return optimizeFor((ForOperation) operation, new HashMap<>(constants));
+        } else if (confirmType(SwitchOperation.class, operation)) {
+            return Optional.of(optimizeSwitch((SwitchOperation) operation, constants));
+        } else {
+            return Optional.of(operation);
+        }
+    }
+
+    private Optional<Operation> nonEmpty(final Block block) {
+        return block.getOperations().isEmpty() ? Optional.empty() : Optional.of(block);
+    }
+
+    private Operation optimizeVariableDeclaration(final VariableDeclarationOperation operation,
+                                                  final Map<Variable, Object> constants) {
+        final Expression expression = optimize(operation.getExpression(), constants);
+        final Variable variable = operation.getVariable();
+        constants.remove(variable);
+        if (operation.isConstant()) {
+            expressionOptimizer.getConstantValue(expression).ifPresent(value -> constants.put(variable, value));
+        }
+        if (expression == operation.getExpression()) {
+            return operation;
+        } else {
+            return new VariableDeclarationOperation(operation.getSourceLine(), operation.isConstant(), variable,
+                expression);
+        }
+    }
+
+    private Operation optimizeVariableAssignment(final VariableAssignmentOperation operation,
+                                                 final Map<Variable, Object> constants) {
+        final Expression expression = optimize(operation.getValueExpression(), constants);
+        if (expression == operation.getValueExpression()) {
+            return operation;
+        } else {
+            return new VariableAssignmentOperation(operation.getSourceLine(), operation.getVariableExpression(),
+                expression);
+        }
+    }
+
+    private Operation optimizeExpressionOperation(final ExpressionOperation operation,
+                                                  final Map<Variable, Object> constants) {
+        final Expression expression = optimize(operation.getExpression(), constants);
+        final ExpressionOperation result = expression == operation.getExpression()
+            ? operation
+            : new ExpressionOperation(operation.getSourceLine(), expression);
+        return superinstructionsEnabled ? superinstructionSelector.select(result) : result;
+    }
+
+    private Operation optimizePrintln(final PrintlnOperation operation, final Map<Variable, Object> constants) {
+        if (operation.getExpression().isEmpty()) {
+            return operation;
+        }
+        final Expression expression = optimize(operation.getExpression().get(), constants);
+        if (expression == operation.getExpression().get()) {
+            return operation;
+        } else {
+            return new PrintlnOperation(operation.getSourceLine(), expression);
+        }
+    }
+
+    private Operation optimizeReturn(final ReturnOperation operation, final Map<Variable, Object> constants) {
+        if (operation.getExpression().isEmpty()) {
+            return operation;
+        }
+        final Expression expression = optimize(operation.getExpression().get(), constants);
+        if (expression == operation.getExpression().get()) {
+            return operation;
+        } else {
+            return new ReturnOperation(expression, operation.getSourceLine());
+        }
+    }
+
+    private Optional<Operation> optimizeIfElse(final IfElseOperation operation,
+                                               final Map<Variable, Object> constants) {
+        final Expression condition = optimize(operation.getCondition(), constants);
+        final Optional<Boolean> conditionValue = getBooleanValue(condition);
+        if (conditionValue.isPresent()) {
+            if (conditionValue.get()) {
+                return nonEmpty(optimizeNestedBlock(operation.getTrueBlock(), constants));
+            } else {
+                return operation.getFalseBlock().flatMap(falseBlock -> nonEmpty(optimizeNestedBlock(falseBlock,
+                    constants)));
+            }
+        }
+        final Block trueBlock = optimizeNestedBlock(operation.getTrueBlock(), constants);
+        final Optional<Block> falseBlock = operation.getFalseBlock()
+            .map(block -> optimizeNestedBlock(block, constants));
+        if (falseBlock.isPresent()) {
+            return Optional.of(new IfElseOperation(operation.getSourceLine(), condition, trueBlock, falseBlock.get()));
+        } else {
+            return Optional.of(new IfElseOperation(operation.getSourceLine(), condition, trueBlock));
+        }
+    }
+
+    private Optional<Operation> optimizeWhile(final WhileOperation operation, final Map<Variable, Object> constants) {
+        final Expression condition = optimize(operation.getCondition(), constants);
+        if (getBooleanValue(condition).filter(value -> !value).isPresent()) {
+            return Optional.empty();
+        } else {
+            return Optional.of(new WhileOperation(operation.getSourceLine(), condition,
+                optimizeNestedBlock(operation.getBody(), constants)));
+        }
+    }
+
+    private Operation optimizeDoWhile(final DoWhileOperation operation, final Map<Variable, Object> constants) {
+        return new DoWhileOperation(operation.getSourceLine(),
+            optimize(operation.getCondition(), constants),
+            optimizeNestedBlock(operation.getBody(), constants));
+    }
+
+    /**
+     * @param constants known values of the final variables inside the scope of the {@code for} operation
+     */
+    private Optional<Operation> optimizeFor(final ForOperation operation, final Map<Variable, Object> constants) {
+        final Optional<Operation> initOperation = operation.getInitOperation()
+            .flatMap(init -> optimizeOperation(init, constants));
+        final Expression condition = optimize(operation.getCondition(), constants);
+        if (getBooleanValue(condition).filter(value -> !value).isPresent()) {
+            return initOperation.map(init -> new Block(init, operation.getSourceLine()));
+        }
+        final ForOperation.Builder builder = new ForOperation.Builder()
+            .setSourceLine(operation.getSourceLine())
+            .setCondition(condition)
+            .setBody(optimizeNestedBlock(operation.getBody(), constants));
+        initOperation.ifPresent(init -> builder.setInitOperation((ForInitOperation) init));
+        operation.getUpdateOperation()
+            .flatMap(update -> optimizeOperation(update, constants))
+            .ifPresent(update -> builder.setUpdateOperation((ForUpdateOperation) update));
+        return Optional.of(builder.build());
+    }
+
+    private Operation optimizeSwitch(final SwitchOperation operation, final Map<Variable, Object> constants) {
+        final Expression condition = optimize(operation.getCondition(), constants);
+        if (condition == operation.getCondition()) {
+            return operation;
+        } else {
+            return new SwitchOperation(operation.getSourceLine(), condition, operation.getEntries());
+        }
+    }
+
+    private Expression optimize(final Expression expression, final Map<Variable, Object> constants) {
+        final Expression result = expressionOptimizer.optimize(expression, constants);
+        return superinstructionsEnabled ? superinstructionSelector.select(result) : result;
+    }
+
+    private Optional<Boolean> getBooleanValue(final Expression condition) {
+        return expressionOptimizer.getConstantValue(condition)
+            .filter(value -> value instanceof Boolean)
+            .map(value -> (Boolean) value);
+    }
+}
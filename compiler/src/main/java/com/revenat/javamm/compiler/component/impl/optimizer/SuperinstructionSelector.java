@@ -0,0 +1,110 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.compiler.component.impl.optimizer;
+
+import com.revenat.javamm.code.fragment.Expression;
+import com.revenat.javamm.code.fragment.Lexeme;
+import com.revenat.javamm.code.fragment.expression.ConstantExpression;
+import com.revenat.javamm.code.fragment.expression.LocalBinaryExpression;
+import com.revenat.javamm.code.fragment.expression.PostfixNotationComplexExpression;
+import com.revenat.javamm.code.fragment.expression.UnaryAssignmentExpression;
+import com.revenat.javamm.code.fragment.expression.VariableExpression;
+import com.revenat.javamm.code.fragment.operation.CompoundAssignLocalOperation;
+import com.revenat.javamm.code.fragment.operation.ExpressionOperation;
+import com.revenat.javamm.code.fragment.operation.IncrementLocalOperation;
+import com.revenat.javamm.code.fragment.operator.BinaryOperator;
+
+import java.util.List;
+import java.util.Set;
+
+import static com.revenat.javamm.code.util.LexemeUtils.isBinaryOperator;
+import static com.revenat.javamm.code.util.TypeUtils.confirmType;
+
+/**
+ * Replaces the most common shapes of the operations and expressions with the
+ * superinstructions which are executed by dedicated interpreters:
+ * <ul>
+ *     <li>{@code i++}, {@code --i} with the {@linkplain IncrementLocalOperation increment local};</li>
+ *     <li>{@code sum += i}, {@code i -= 2} with the {@linkplain CompoundAssignLocalOperation
+ *     compound assign local};</li>
+ *     <li>{@code i < n}, {@code x + 1} with the {@linkplain LocalBinaryExpression local binary
+ *     expression}.</li>
+ * </ul>
+ *
+ * @author Vitaliy Dragun
+ */
+final class SuperinstructionSelector {
+
+    private static final Set<BinaryOperator> NOT_FUSED_OPERATORS = Set.of(
+        BinaryOperator.LOGICAL_AND,
+        BinaryOperator.LOGICAL_OR,
+        BinaryOperator.PREDICATE_TYPEOF
+    );
+
+    ExpressionOperation select(final ExpressionOperation operation) {
+        final Expression expression = operation.getExpression();
+        if (confirmType(UnaryAssignmentExpression.class, expression)) {
+            return new IncrementLocalOperation(operation.getSourceLine(), (UnaryAssignmentExpression) expression);
+        } else if (isPostfixExpressionOfThreeLexemes(expression)) {
+            final List<Lexeme> lexemes = ((PostfixNotationComplexExpression) expression).getLexemes();
+            if (isVariable(lexemes.get(0)) && isVariableOrConstant(lexemes.get(1)) &&
+                isAssignmentOperator(lexemes.get(2))) {
+                return new CompoundAssignLocalOperation(operation.getSourceLine(), expression,
+                    ((VariableExpression) lexemes.get(0)).getVariable(), (BinaryOperator) lexemes.get(2),
+                    (Expression) lexemes.get(1));
+            }
+        }
+        return operation;
+    }
+
+    Expression select(final Expression expression) {
+        if (isPostfixExpressionOfThreeLexemes(expression)) {
+            final List<Lexeme> lexemes = ((PostfixNotationComplexExpression) expression).getLexemes();
+            final Lexeme operand1 = lexemes.get(0);
+            final Lexeme operand2 = lexemes.get(1);
+            if (isVariableOrConstant(operand1) && isVariableOrConstant(operand2) &&
+                (isVariable(operand1) || isVariable(operand2)) && isFusedOperator(lexemes.get(2))) {
+                return new LocalBinaryExpression((Expression) operand1, (BinaryOperator) lexemes.get(2),
+                    (Expression) operand2, expression.toString());
+            }
+        }
+        return expression;
+    }
+
+    private boolean isPostfixExpressionOfThreeLexemes(final Expression expression) {
+        return expression.getClass() == PostfixNotationComplexExpression.class &&
+            ((PostfixNotationComplexExpression) expression).getLexemes().size() == 3;
+    }
+
+    private boolean isVariable(final Lexeme lexeme) {
+        return confirmType(VariableExpression.class, lexeme);
+    }
+
+    private boolean isVariableOrConstant(final Lexeme lexeme) {
+        return isVariable(lexeme) || confirmType(ConstantExpression.class, lexeme);
+    }
+
+    private boolean isAssignmentOperator(final Lexeme lexeme) {
+        return isBinaryOperator(lexeme) && ((BinaryOperator) lexeme).isAssignment();
+    }
+
+    private boolean isFusedOperator(final Lexeme lexeme) {
+        return isBinaryOperator(lexeme) && !((BinaryOperator) lexeme).isAssignment() &&
+            !NOT_FUSED_OPERATORS.contains(lexeme);
+    }
+}
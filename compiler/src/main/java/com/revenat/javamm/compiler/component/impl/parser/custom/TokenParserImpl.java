@@ -18,71 +18,224 @@
 package com.revenat.javamm.compiler.component.impl.parser.custom;
 
 import com.revenat.javamm.compiler.component.TokenParser;
-import com.revenat.javamm.compiler.component.impl.parser.custom.CommentDiscarder.CommentFreeSourceLine;
-import com.revenat.javamm.compiler.component.impl.parser.custom.StringLiteralParser.LiteralParserResult;
 import com.revenat.javamm.compiler.model.TokenParserResult;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
-import static com.revenat.javamm.code.syntax.SyntaxUtils.trimAllWhitespaceCharacters;
+import static com.revenat.javamm.code.syntax.Delimiters.SIGNIFICANT_TOKEN_DELIMITERS;
 
 /**
+ * Single-pass lexer that splits source line into tokens.
+ *
+ * <p>The line is scanned once, character by character, by a state machine with three
+ * states: code, string literal and multi-line comment. Comments are discarded, string
+ * literals become single tokens and each run of significant delimiter characters is
+ * split greedily into the longest {@linkplain com.revenat.javamm.code.syntax.Delimiters
+ * significant delimiters}.
+ *
  * @author Vitaliy Dragun
  */
 public class TokenParserImpl implements TokenParser {
 
-    private final StringLiteralParser stringLiteralParser;
-
-    private final ByDelimiterSplitter byDelimiterSplitter;
+    private static final int ASCII_SIZE = 128;
 
-    public TokenParserImpl() {
-        stringLiteralParser = new StringLiteralParser();
-        byDelimiterSplitter = new ByDelimiterSplitter();
-    }
+    /**
+     * Significant delimiters indexed by their first character, longest first
+     */
+    private static final String[][] DELIMITERS_BY_FIRST_CHAR = delimitersByFirstChar();
 
     @Override
     public TokenParserResult parseLine(final String sourceCodeLine, final boolean isMultiLineCommentStartedBefore) {
-        final String trimmedLine = trimAllWhitespaceCharacters(sourceCodeLine);
+        return new LineLexer(sourceCodeLine, isMultiLineCommentStartedBefore).tokenize();
+    }
+
+    private static String[][] delimitersByFirstChar() {
+        final String[][] result = new String[ASCII_SIZE][];
+        for (int c = 0; c < ASCII_SIZE; c++) {
+            final char firstChar = (char) c;
+            result[c] = SIGNIFICANT_TOKEN_DELIMITERS.stream()
+                .filter(delimiter -> delimiter.charAt(0) == firstChar)
+                .sorted(Comparator.comparingInt(String::length).reversed())
+                .toArray(String[]::new);
+        }
+        return result;
+    }
+
+    private static boolean isSignificantDelimiter(final char c) {
+        if (c >= ASCII_SIZE) {
+            return false;
+        }
+        final String[] delimiters = DELIMITERS_BY_FIRST_CHAR[c];
+        return delimiters.length > 0 && delimiters[delimiters.length - 1].length() == 1;
+    }
 
-        return trimmedLine.isEmpty() ? emptyResult(isMultiLineCommentStartedBefore) :
-            parse(trimmedLine, isMultiLineCommentStartedBefore);
+    private static boolean isWhitespace(final char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f' || c == '\u000B';
     }
 
-    private TokenParserResult parse(final String line, final boolean isMultiLineCommentStartedBefore) {
-        final CommentFreeSourceLine commentFreeLine = discardAllComments(line, isMultiLineCommentStartedBefore);
+    private static boolean isTrimmed(final char c) {
+        return c <= ' ' || c == '\u00A0';
+    }
 
-        return commentFreeLine.isEmpty() ? emptyResult(commentFreeLine.multiLineCommentStarted) :
-            resultWithTokens(splitIntoTokens(commentFreeLine.content), commentFreeLine.multiLineCommentStarted);
+    private static boolean isStringLiteralQuote(final char c) {
+        return c == '"' || c == '\'';
     }
 
-    private CommentFreeSourceLine discardAllComments(final String line, final boolean isMultiLineCommentStartedBefore) {
-        return new CommentDiscarder(line, isMultiLineCommentStartedBefore).discardComments();
+    private enum State {
+        CODE,
+        STRING_LITERAL,
+        MULTI_LINE_COMMENT
     }
 
-    private List<String> splitIntoTokens(final String line) {
-        final List<String> tokens = new ArrayList<>();
+    /**
+     * Lexing state of one source line
+     */
+    private static final class LineLexer {
+
+        private static final int NO_TOKEN = -1;
+
+        private final String line;
+
+        private final int end;
+
+        private final List<String> tokens = new ArrayList<>();
+
+        private State state;
 
-        final List<LiteralParserResult> results = stringLiteralParser.parse(line);
-        for (final LiteralParserResult result : results) {
-            result.getHeadFragment().ifPresent(fragment -> tokens.addAll(splitByDelimiters(fragment)));
-            result.getLiteral().ifPresent(tokens::add);
-            result.getTailFragment().ifPresent(tail -> tokens.addAll(splitByDelimiters(tail)));
+        private int position;
+
+        private int tokenStart = NO_TOKEN;
+
+        private int commentStart;
+
+        private char quote;
+
+        private LineLexer(final String line, final boolean isMultiLineCommentStartedBefore) {
+            this.line = line;
+            int from = 0;
+            int to = line.length();
+            while (from < to && isTrimmed(line.charAt(from))) {
+                from++;
+            }
+            while (to > from && isTrimmed(line.charAt(to - 1))) {
+                to--;
+            }
+            position = from;
+            end = to;
+            commentStart = from;
+            state = isMultiLineCommentStartedBefore ? State.MULTI_LINE_COMMENT : State.CODE;
         }
 
-        return tokens;
-    }
+        private TokenParserResult tokenize() {
+            while (position < end) {
+                final char c = line.charAt(position);
+                if (state == State.CODE) {
+                    lexCode(c);
+                } else if (state == State.STRING_LITERAL) {
+                    lexStringLiteral(c);
+                } else {
+                    lexMultiLineComment(c);
+                }
+            }
+            completeToken();
+            return tokens.isEmpty() ?
+                new TokenParserResult(state == State.MULTI_LINE_COMMENT) :
+                new TokenParserResult(tokens, state == State.MULTI_LINE_COMMENT);
+        }
 
-    private List<String> splitByDelimiters(final String line) {
-        return byDelimiterSplitter.splitByDelimiters(line);
-    }
+        private void lexCode(final char c) {
+            if (isStringLiteralQuote(c)) {
+                completeToken();
+                startStringLiteral(c);
+            } else if (isMultiLineCommentStart(position)) {
+                completeToken();
+                startMultiLineComment();
+            } else if (isSingleLineCommentStart(position)) {
+                completeToken();
+                position = end;
+            } else if (isWhitespace(c)) {
+                completeToken();
+                position++;
+            } else if (isSignificantDelimiter(c)) {
+                completeToken();
+                lexSignificantDelimiters();
+            } else {
+                if (tokenStart == NO_TOKEN) {
+                    tokenStart = position;
+                }
+                position++;
+            }
+        }
 
-    private TokenParserResult emptyResult(final boolean isMultiLineCommentStartedBefore) {
-        return new TokenParserResult(isMultiLineCommentStartedBefore);
-    }
+        private void lexStringLiteral(final char c) {
+            position++;
+            if (c == quote) {
+                completeToken();
+                state = State.CODE;
+            }
+        }
+
+        private void lexMultiLineComment(final char c) {
+            if (c == '/' && position - 1 >= commentStart && line.charAt(position - 1) == '*') {
+                state = State.CODE;
+            }
+            position++;
+        }
+
+        private void startStringLiteral(final char c) {
+            tokenStart = position;
+            quote = c;
+            state = State.STRING_LITERAL;
+            position++;
+        }
+
+        private void startMultiLineComment() {
+            position += 2;
+            commentStart = position;
+            state = State.MULTI_LINE_COMMENT;
+        }
 
-    private TokenParserResult resultWithTokens(final List<String> tokens,
-                                               final boolean isMultiLineCommentStartedBefore) {
-        return new TokenParserResult(tokens, isMultiLineCommentStartedBefore);
+        private void lexSignificantDelimiters() {
+            int runEnd = position;
+            while (runEnd < end && isSignificantDelimiter(line.charAt(runEnd)) && !isCommentStart(runEnd)) {
+                runEnd++;
+            }
+            while (position < runEnd) {
+                final String delimiter = findLongestDelimiter(runEnd);
+                tokens.add(delimiter);
+                position += delimiter.length();
+            }
+        }
+
+        private String findLongestDelimiter(final int runEnd) {
+            final String[] candidates = DELIMITERS_BY_FIRST_CHAR[line.charAt(position)];
+            for (final String candidate : candidates) {
+                if (position + candidate.length() <= runEnd && line.startsWith(candidate, position)) {
+                    return candidate;
+                }
+            }
+            throw new IllegalStateException("Single char delimiter expected at " + position + ": " + line);
+        }
+
+        private boolean isCommentStart(final int index) {
+            return isMultiLineCommentStart(index) || isSingleLineCommentStart(index);
+        }
+
+        private boolean isMultiLineCommentStart(final int index) {
+            return line.charAt(index) == '/' && index + 1 < end && line.charAt(index + 1) == '*';
+        }
+
+        private boolean isSingleLineCommentStart(final int index) {
+            return line.charAt(index) == '/' && index + 1 < end && line.charAt(index + 1) == '/';
+        }
+
+        private void completeToken() {
+            if (tokenStart != NO_TOKEN) {
+                tokens.add(line.substring(tokenStart, position));
+                tokenStart = NO_TOKEN;
+            }
+        }
     }
 }
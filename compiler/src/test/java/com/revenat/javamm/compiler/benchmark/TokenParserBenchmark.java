@@ -0,0 +1,100 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.compiler.benchmark;
+
+import com.revenat.javamm.compiler.component.TokenParser;
+import com.revenat.javamm.compiler.component.impl.parser.custom.TokenParserImpl;
+import com.revenat.javamm.compiler.model.TokenParserResult;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures time of tokenizing the generated source code by the {@linkplain TokenParserImpl
+ * token parser}. The benchmark uses only the {@link TokenParser} API, so it also runs
+ * against the builds before the single-pass lexer, and the same number of lines on both
+ * builds gives the comparison with the previous multi-stage parser.
+ *
+ * <p>Run from the class path with optional number of source lines, for example:
+ * {@code java -cp <classes> com.revenat.javamm.compiler.benchmark.TokenParserBenchmark 100000}
+ *
+ * @author Vitaliy Dragun
+ */
+public final class TokenParserBenchmark {
+
+    private static final int DEFAULT_LINES = 100_000;
+
+    private static final int WARM_UP_ROUNDS = 3;
+
+    private static final List<String> LINE_TEMPLATES = List.of(
+        "function sum%d(a, b) {",
+        "    var result%d = a + b * (a - b) / 2",
+        "    if (result >= %d && !(a == b)) {",
+        "        println('value: ' + result + \" of %d\")",
+        "    }",
+        "    /* multi-line comment %d",
+        "       continues here */ a += %d",
+        "    array[%d] <<= 2 // single-line comment",
+        "    final text = \"some 'quoted' literal %d\"",
+        "    b = a > %d ? a : b >>>= 1",
+        "    return result",
+        "}"
+    );
+
+    private TokenParserBenchmark() {
+    }
+
+    public static void main(final String[] args) {
+        final int lineCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_LINES;
+        final List<String> lines = createLines(lineCount);
+        final TokenParser tokenParser = new TokenParserImpl();
+
+        for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+            tokenize(tokenParser, lines);
+        }
+
+        final long startTime = System.nanoTime();
+        final List<List<String>> tokens = tokenize(tokenParser, lines);
+        final long elapsedNanos = System.nanoTime() - startTime;
+
+        System.out.printf("%12s %12s %14s%n", "tokens", "time, ms", "ns/line");
+        System.out.printf("%12d %12d %14.1f%n",
+            tokens.stream().mapToInt(List::size).sum(),
+            elapsedNanos / 1_000_000,
+            (double) elapsedNanos / lines.size());
+    }
+
+    private static List<List<String>> tokenize(final TokenParser tokenParser, final List<String> lines) {
+        final List<List<String>> result = new ArrayList<>(lines.size());
+        boolean multiLineCommentStarted = false;
+        for (final String line : lines) {
+            final TokenParserResult tokenParserResult = tokenParser.parseLine(line, multiLineCommentStarted);
+            result.add(tokenParserResult.getTokens());
+            multiLineCommentStarted = tokenParserResult.isMultiLineCommentStarted();
+        }
+        return result;
+    }
+
+    private static List<String> createLines(final int lineCount) {
+        final List<String> lines = new ArrayList<>(lineCount);
+        for (int i = 0; i < lineCount; i++) {
+            lines.add(String.format(LINE_TEMPLATES.get(i % LINE_TEMPLATES.size()), i));
+        }
+        return lines;
+    }
+}
@@ -44,6 +44,8 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.hasItems;
@@ -82,7 +84,9 @@ class CompilerTest {
 
     @BeforeEach
     void setUp() {
-        compiler = new CompilerImpl(sourceLineReader, functionNameBuilder, functionDefinitionsReader);
+        compiler = new CompilerImpl(sourceLineReader, functionNameBuilder, functionDefinitionsReader,
+            function -> Optional.empty(), byteCode -> {
+            }, function -> function, functions -> Set.of(), function -> false);
         when(functionNameBuilder.build(any(), any(), any())).thenReturn(mock(FunctionName.class));
     }
 
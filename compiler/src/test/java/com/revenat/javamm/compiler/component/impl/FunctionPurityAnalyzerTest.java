@@ -0,0 +1,98 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.compiler.component.impl;
+
+import com.revenat.javamm.code.fragment.Expression;
+import com.revenat.javamm.code.fragment.Operation;
+import com.revenat.javamm.code.fragment.SourceLine;
+import com.revenat.javamm.code.fragment.expression.ConstantExpression;
+import com.revenat.javamm.code.fragment.function.DeveloperFunction;
+import com.revenat.javamm.code.fragment.function.OverloadableFunctionName;
+import com.revenat.javamm.code.fragment.operation.Block;
+import com.revenat.javamm.code.fragment.operation.BreakOperation;
+import com.revenat.javamm.code.fragment.operation.ReturnOperation;
+import com.revenat.javamm.compiler.component.FunctionPurityAnalyzer;
+import com.revenat.juinit.addons.ReplaceCamelCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayNameGeneration(ReplaceCamelCase.class)
+@DisplayName("a function purity analyzer")
+class FunctionPurityAnalyzerTest {
+
+    private static final SourceLine SOURCE_LINE = new SourceLine("test", 1, List.of());
+
+    private final FunctionPurityAnalyzer analyzer = new FunctionPurityAnalyzerImpl();
+
+    @Test
+    @Order(1)
+    void shouldMarkFunctionWithModeledOperationsOnlyAsPure() {
+        final DeveloperFunction function = createFunction(
+            new BreakOperation(SOURCE_LINE),
+            new ReturnOperation(ConstantExpression.valueOf(1), SOURCE_LINE)
+        );
+
+        assertTrue(isPure(function));
+    }
+
+    @Test
+    @Order(2)
+    void shouldNotMarkFunctionWithOperationWhichIsNotModeledAsPure() {
+        final Operation unknownOperation = () -> SOURCE_LINE;
+
+        assertFalse(isPure(createFunction(unknownOperation)));
+    }
+
+    @Test
+    @Order(3)
+    void shouldNotMarkFunctionWithExpressionWhichIsNotModeledAsPure() {
+        final Expression unknownExpression = new Expression() {
+        };
+
+        assertFalse(isPure(createFunction(new ReturnOperation(unknownExpression, SOURCE_LINE))));
+    }
+
+    private boolean isPure(final DeveloperFunction function) {
+        return analyzer.findPureFunctions(List.of(function)).contains(function.getName());
+    }
+
+    private DeveloperFunction createFunction(final Operation... operations) {
+        return new DeveloperFunction.Builder()
+            .setName(new SimpleFunctionName("test"))
+            .setBody(new Block(List.of(operations), SOURCE_LINE))
+            .setDeclarationSourceLine(SOURCE_LINE)
+            .build();
+    }
+
+    private static class SimpleFunctionName extends OverloadableFunctionName {
+
+        private SimpleFunctionName(final String name) {
+            super(name, 0);
+        }
+    }
+}
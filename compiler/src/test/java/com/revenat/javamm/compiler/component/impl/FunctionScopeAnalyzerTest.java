@@ -0,0 +1,107 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.compiler.component.impl;
+
+import com.revenat.javamm.code.fragment.Expression;
+import com.revenat.javamm.code.fragment.Operation;
+import com.revenat.javamm.code.fragment.SourceLine;
+import com.revenat.javamm.code.fragment.expression.ConstantExpression;
+import com.revenat.javamm.code.fragment.expression.PostfixNotationComplexExpression;
+import com.revenat.javamm.code.fragment.function.DeveloperFunction;
+import com.revenat.javamm.code.fragment.function.OverloadableFunctionName;
+import com.revenat.javamm.code.fragment.operation.Block;
+import com.revenat.javamm.code.fragment.operation.BreakOperation;
+import com.revenat.javamm.code.fragment.operation.PrintlnOperation;
+import com.revenat.javamm.code.fragment.operation.ReturnOperation;
+import com.revenat.javamm.code.fragment.operator.BinaryOperator;
+import com.revenat.javamm.compiler.component.FunctionScopeAnalyzer;
+import com.revenat.juinit.addons.ReplaceCamelCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayNameGeneration(ReplaceCamelCase.class)
+@DisplayName("a function scope analyzer")
+class FunctionScopeAnalyzerTest {
+
+    private static final SourceLine SOURCE_LINE = new SourceLine("test", 1, List.of());
+
+    private final FunctionScopeAnalyzer analyzer = new FunctionScopeAnalyzerImpl();
+
+    @Test
+    @Order(1)
+    void shouldVerifyFunctionWithModeledOperationsOnly() {
+        final DeveloperFunction function = createFunction(
+            new PrintlnOperation(SOURCE_LINE, ConstantExpression.valueOf(1)),
+            new BreakOperation(SOURCE_LINE),
+            new ReturnOperation(SOURCE_LINE)
+        );
+
+        assertTrue(analyzer.verify(function));
+    }
+
+    @Test
+    @Order(2)
+    void shouldNotVerifyFunctionWithOperationWhichIsNotModeled() {
+        final Operation unknownOperation = () -> SOURCE_LINE;
+
+        assertFalse(analyzer.verify(createFunction(unknownOperation)));
+    }
+
+    @Test
+    @Order(3)
+    void shouldNotVerifyFunctionWithExpressionWhichIsNotModeled() {
+        final Expression unknownExpression = new Expression() {
+        };
+
+        assertFalse(analyzer.verify(createFunction(new PrintlnOperation(SOURCE_LINE, unknownExpression))));
+    }
+
+    @Test
+    @Order(4)
+    void shouldNotVerifyFunctionWithMalformedPostfixExpression() {
+        final Expression malformed = new PostfixNotationComplexExpression(
+            List.of(ConstantExpression.valueOf(1), BinaryOperator.ARITHMETIC_ADDITION), "1 +");
+
+        assertFalse(analyzer.verify(createFunction(new PrintlnOperation(SOURCE_LINE, malformed))));
+    }
+
+    private DeveloperFunction createFunction(final Operation... operations) {
+        return new DeveloperFunction.Builder()
+            .setName(new SimpleFunctionName("test"))
+            .setBody(new Block(List.of(operations), SOURCE_LINE))
+            .setDeclarationSourceLine(SOURCE_LINE)
+            .build();
+    }
+
+    private static class SimpleFunctionName extends OverloadableFunctionName {
+
+        private SimpleFunctionName(final String name) {
+            super(name, 0);
+        }
+    }
+}
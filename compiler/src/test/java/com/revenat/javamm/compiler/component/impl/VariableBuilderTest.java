@@ -101,4 +101,14 @@ class VariableBuilderTest {
         assertNotEquals(variable, varBuiltByOtherMeans);
     }
 
+    @Test
+    @Order(8)
+    void shouldAssignSameSlotForSameNameAndDifferentSlotsForDifferentNames() {
+        final Variable varA = variableBuilder.build("testA", DUMMY_SOURCE_LINE);
+        final Variable varB = variableBuilder.build("testB", DUMMY_SOURCE_LINE);
+        final Variable anotherVarA = variableBuilder.build("testA", DUMMY_SOURCE_LINE);
+
+        assertEquals(varA.getSlot(), anotherVarA.getSlot());
+        assertNotEquals(varA.getSlot(), varB.getSlot());
+    }
 }
@@ -135,6 +135,8 @@ class TokenParserTest {
         "'should \"treat\" as single token'",
         "\"should treat as single token\"",
         "\"should 'treat' as single token\"",
+        "'http://should.not.be/treated/as/comment'",
+        "\"should /* not be */ treated as comment\"",
     })
     @Order(5)
     void shouldTreatStringsAsSingleToken(final String sourceLine) {
@@ -33,7 +33,19 @@ public abstract class AbstractIntegrationTest {
 
     private static final String ANY_MODULE = "module1";
 
-    private final Compiler compiler = new CompilerConfigurator().getCompiler();
+    private final Compiler compiler;
+
+    /**
+     * Variable scopes are not verified by default, so the compiled code fragments
+     * may use variables which are not declared
+     */
+    protected AbstractIntegrationTest() {
+        this(new CompilerConfigurator(true, false));
+    }
+
+    protected AbstractIntegrationTest(final CompilerConfigurator compilerConfigurator) {
+        compiler = compilerConfigurator.getCompiler();
+    }
 
     protected ByteCode wrapInsideMainFunctionAndCompile(final List<String> lines, final boolean withClosingCurlyBrace) {
         final List<String> result = new ArrayList<>();
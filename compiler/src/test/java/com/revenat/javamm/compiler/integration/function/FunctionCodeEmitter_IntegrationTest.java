@@ -0,0 +1,122 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.compiler.integration.function;
+
+import com.revenat.javamm.code.fragment.ByteCode;
+import com.revenat.javamm.code.fragment.function.DeveloperFunction;
+import com.revenat.javamm.code.fragment.instruction.FunctionCode;
+import com.revenat.javamm.compiler.integration.AbstractIntegrationTest;
+import com.revenat.juinit.addons.ReplaceCamelCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static java.lang.System.lineSeparator;
+import static java.util.List.of;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayNameGeneration(ReplaceCamelCase.class)
+@DisplayName("a function code emitter")
+public class FunctionCodeEmitter_IntegrationTest extends AbstractIntegrationTest {
+
+    @Test
+    void shouldEmitLinearCodeForFunctionBody() {
+        final ByteCode byteCode = wrapInsideMainFunctionAndCompile(of(
+            "var a = 1",
+            "println (a + 2)"
+        ), true);
+
+        final FunctionCode code = byteCode.getMainFunction().flatMap(DeveloperFunction::getCode).orElseThrow();
+
+        assertEquals(String.join(lineSeparator(),
+            "   0: LINE 2",
+            "   2: CHECK_UNDEFINED 0",
+            "   4: LOAD_CONST 0 1",
+            "   7: DEFINE_VAR 0 0",
+            "  10: LINE 3",
+            "  12: LOAD_VAR 0 0",
+            "  15: LOAD_CONST 1 2",
+            "  18: BINARY 0 3 0 1",
+            "  23: PRINTLN 0",
+            "  25: RETURN_VOID",
+            ""), code.toString());
+        assertEquals(2, code.getRegisterCount());
+    }
+
+    @Test
+    void shouldEmitLinearCodeForEachSupportedFunction() {
+        final List<String> lines = of(
+            "function main() {",
+            "   for (var i = 0; i < 5; i++) {",
+            "       switch (i) {",
+            "           case 1: {",
+            "               continue",
+            "           }",
+            "           default: {",
+            "               break",
+            "           }",
+            "       }",
+            "       println (i > 2 && factorial(i) > 10 ? 'big' : 'small')",
+            "   }",
+            "}",
+            "function factorial(n) {",
+            "   var result = 1",
+            "   do {",
+            "       result *= n",
+            "   }",
+            "   while (--n > 1)",
+            "   return result",
+            "}"
+        );
+
+        final ByteCode byteCode = compile(lines);
+
+        for (final DeveloperFunction function : byteCode.getAllFunctions()) {
+            assertTrue(function.getCode().isPresent(), "Missing code for " + function.getName());
+        }
+    }
+
+    @Test
+    void shouldEmitTailCallForFunctionInvocationReturnedAsIs() {
+        final ByteCode byteCode = compile(of(
+            "function main() {",
+            "   var a = 1",
+            "   return main2(a, 2)",
+            "}",
+            "function main2(a, b) {",
+            "}"
+        ));
+
+        final FunctionCode code = byteCode.getMainFunction().flatMap(DeveloperFunction::getCode).orElseThrow();
+
+        assertEquals(String.join(lineSeparator(),
+            "   0: LINE 2",
+            "   2: CHECK_UNDEFINED 0",
+            "   4: LOAD_CONST 0 1",
+            "   7: DEFINE_VAR 0 0",
+            "  10: LINE 3",
+            "  12: LOAD_VAR 0 0",
+            "  15: LOAD_CONST 1 2",
+            "  18: TAIL_CALL 3 0 2",
+            "  22: RETURN_VOID",
+            ""), code.toString());
+    }
+}
@@ -0,0 +1,78 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.compiler.integration.function;
+
+import com.revenat.javamm.code.fragment.ByteCode;
+import com.revenat.javamm.code.fragment.expression.ComplexExpression;
+import com.revenat.javamm.code.fragment.expression.FunctionInvocationExpression;
+import com.revenat.javamm.code.fragment.function.DeveloperFunction;
+import com.revenat.javamm.code.fragment.operation.ExpressionOperation;
+import com.revenat.javamm.code.fragment.operation.PrintlnOperation;
+import com.revenat.javamm.compiler.integration.AbstractIntegrationTest;
+import com.revenat.juinit.addons.ReplaceCamelCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+
+import static java.util.List.of;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayNameGeneration(ReplaceCamelCase.class)
+@DisplayName("a function linker")
+public class FunctionLinker_IntegrationTest extends AbstractIntegrationTest {
+
+    private static final String[] SOURCE = {
+        "function main() {",
+        "   test()",
+        "   println(sum(1, 2) + 1)",
+        "}",
+        "function test() {",
+        "}",
+        "function sum(a, b) {",
+        "   return a + b",
+        "}"
+    };
+
+    @Test
+    void shouldLinkFunctionInvocationToInvokedFunction() {
+        final ByteCode byteCode = compile(of(SOURCE));
+
+        final FunctionInvocationExpression invocation = (FunctionInvocationExpression)
+            ((ExpressionOperation) getMainFunction(byteCode).getBody().getOperations().get(0)).getExpression();
+
+        assertTrue(invocation.isLinked());
+        assertSame(byteCode.getFunction(invocation.getFunctionName()).orElseThrow(), invocation.getLinkedFunction());
+    }
+
+    @Test
+    void shouldLinkFunctionInvocationNestedInsideComplexExpression() {
+        final ByteCode byteCode = compile(of(SOURCE));
+
+        final PrintlnOperation println = (PrintlnOperation) getMainFunction(byteCode).getBody().getOperations().get(1);
+        final ComplexExpression expression = (ComplexExpression) println.getExpression().orElseThrow();
+        final FunctionInvocationExpression invocation = (FunctionInvocationExpression) expression.getLexemes().get(0);
+
+        assertTrue(invocation.isLinked());
+        assertSame(byteCode.getFunction(invocation.getFunctionName()).orElseThrow(), invocation.getLinkedFunction());
+    }
+
+    private DeveloperFunction getMainFunction(final ByteCode byteCode) {
+        return byteCode.getMainFunction().orElseThrow();
+    }
+}
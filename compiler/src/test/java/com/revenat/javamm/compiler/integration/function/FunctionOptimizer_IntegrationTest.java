@@ -0,0 +1,146 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.compiler.integration.function;
+
+import com.revenat.javamm.code.fragment.ByteCode;
+import com.revenat.javamm.code.fragment.Expression;
+import com.revenat.javamm.code.fragment.Operation;
+import com.revenat.javamm.code.fragment.expression.ConstantExpression;
+import com.revenat.javamm.code.fragment.expression.LocalBinaryExpression;
+import com.revenat.javamm.code.fragment.operation.CompoundAssignLocalOperation;
+import com.revenat.javamm.code.fragment.operation.IncrementLocalOperation;
+import com.revenat.javamm.code.fragment.operation.PrintlnOperation;
+import com.revenat.javamm.code.fragment.operation.VariableAssignmentOperation;
+import com.revenat.javamm.code.fragment.operation.VariableDeclarationOperation;
+import com.revenat.javamm.compiler.integration.AbstractIntegrationTest;
+import com.revenat.juinit.addons.ReplaceCamelCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static java.util.List.of;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayNameGeneration(ReplaceCamelCase.class)
+@DisplayName("a function optimizer")
+public class FunctionOptimizer_IntegrationTest extends AbstractIntegrationTest {
+
+    @Test
+    void shouldFoldConstantExpression() {
+        final List<Operation> operations = getMainOperations(
+            "var a = 2 * 60 * 60 + 1"
+        );
+
+        assertConstant(7201, ((VariableDeclarationOperation) operations.get(0)).getExpression());
+    }
+
+    @Test
+    void shouldReplaceFinalVariableWithItsConstantValue() {
+        final List<Operation> operations = getMainOperations(
+            "final a = 10",
+            "println(a * 2)"
+        );
+
+        assertConstant(20, getPrintlnExpression(operations.get(1)));
+    }
+
+    @Test
+    void shouldNotReplaceNonFinalVariable() {
+        final List<Operation> operations = getMainOperations(
+            "var a = 10",
+            "println(a * 2)"
+        );
+
+        assertFalse(getPrintlnExpression(operations.get(1)) instanceof ConstantExpression);
+    }
+
+    @Test
+    void shouldNotFoldIntegerDivisionByZero() {
+        final List<Operation> operations = getMainOperations(
+            "println(1 / 0)"
+        );
+
+        assertFalse(getPrintlnExpression(operations.get(0)) instanceof ConstantExpression);
+    }
+
+    @Test
+    void shouldRemoveBranchWhichIsNeverExecuted() {
+        final List<Operation> operations = getMainOperations(
+            "final debug = false",
+            "if (debug) {",
+            "   println('debug')",
+            "}",
+            "while (debug) {",
+            "   println('debug')",
+            "}",
+            "println('done')"
+        );
+
+        assertEquals(2, operations.size());
+        assertTrue(operations.get(1) instanceof PrintlnOperation);
+    }
+
+    @Test
+    void shouldRemoveOperationsAfterReturn() {
+        final List<Operation> operations = getMainOperations(
+            "println('before')",
+            "return",
+            "println('after')"
+        );
+
+        assertEquals(2, operations.size());
+    }
+
+    @Test
+    void shouldCompileCommonShapesIntoSuperinstructions() {
+        final List<Operation> operations = getMainOperations(
+            "var i = 0",
+            "var n = 10",
+            "i++",
+            "i += n",
+            "i = i * 2",
+            "println(i < n)",
+            "i += n * 2"
+        );
+
+        assertTrue(operations.get(2) instanceof IncrementLocalOperation);
+        assertTrue(operations.get(3) instanceof CompoundAssignLocalOperation);
+        assertTrue(((VariableAssignmentOperation) operations.get(4)).getValueExpression()
+            instanceof LocalBinaryExpression);
+        assertTrue(getPrintlnExpression(operations.get(5)) instanceof LocalBinaryExpression);
+        assertFalse(operations.get(6) instanceof CompoundAssignLocalOperation);
+    }
+
+    private List<Operation> getMainOperations(final String... lines) {
+        final ByteCode byteCode = wrapInsideMainFunctionAndCompile(of(lines), true);
+        return byteCode.getMainFunction().orElseThrow().getBody().getOperations();
+    }
+
+    private Expression getPrintlnExpression(final Operation operation) {
+        return ((PrintlnOperation) operation).getExpression().orElseThrow();
+    }
+
+    private void assertConstant(final Object expected, final Expression expression) {
+        assertTrue(expression instanceof ConstantExpression, "Expected constant but was " + expression);
+        assertEquals(expected, ((ConstantExpression) expression).getValue());
+    }
+}
@@ -0,0 +1,106 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.compiler.integration.function;
+
+import com.revenat.javamm.code.fragment.ByteCode;
+import com.revenat.javamm.code.fragment.function.DeveloperFunction;
+import com.revenat.javamm.compiler.integration.AbstractIntegrationTest;
+import com.revenat.juinit.addons.ReplaceCamelCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+
+import static java.util.List.of;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayNameGeneration(ReplaceCamelCase.class)
+@DisplayName("a function purity analyzer")
+public class FunctionPurityAnalyzer_IntegrationTest extends AbstractIntegrationTest {
+
+    @Test
+    void shouldMarkRecursiveFunctionWithoutSideEffectsAsPure() {
+        final ByteCode byteCode = compile(of(
+            "function fibonacci(n) {",
+            "   if (n < 2) {",
+            "       return n",
+            "   }",
+            "   return fibonacci(n - 1) + fibonacci(n - 2)",
+            "}"
+        ));
+
+        assertTrue(getFunction(byteCode, "fibonacci").isPure());
+    }
+
+    @Test
+    void shouldNotMarkFunctionWhichPrintsAsPure() {
+        final ByteCode byteCode = compile(of(
+            "function log(value) {",
+            "   println(value)",
+            "   return value",
+            "}"
+        ));
+
+        assertFalse(getFunction(byteCode, "log").isPure());
+    }
+
+    @Test
+    void shouldNotMarkFunctionWhichInvokesImpureFunctionAsPure() {
+        final ByteCode byteCode = compile(of(
+            "function a(value) {",
+            "   return b(value) + 1",
+            "}",
+            "function b(value) {",
+            "   return c(value) * 2",
+            "}",
+            "function c(value) {",
+            "   println(value)",
+            "   return value",
+            "}",
+            "function d(value) {",
+            "   return value + 1",
+            "}"
+        ));
+
+        assertFalse(getFunction(byteCode, "a").isPure());
+        assertFalse(getFunction(byteCode, "b").isPure());
+        assertTrue(getFunction(byteCode, "d").isPure());
+    }
+
+    @Test
+    void shouldIgnorePrintingWhichIsNeverExecuted() {
+        final ByteCode byteCode = compile(of(
+            "function square(value) {",
+            "   final debug = false",
+            "   if (debug) {",
+            "       println(value)",
+            "   }",
+            "   return value * value",
+            "}"
+        ));
+
+        assertTrue(getFunction(byteCode, "square").isPure());
+    }
+
+    private DeveloperFunction getFunction(final ByteCode byteCode, final String name) {
+        return byteCode.getAllFunctions().stream()
+            .filter(function -> function.getName().getName().equals(name))
+            .findFirst()
+            .orElseThrow();
+    }
+}
@@ -44,7 +44,8 @@ public class FunctionReader_Expected_Fail_IntegrationTest extends AbstractIntegr
             functionHeader(),
             functionName(),
             functionParameters(),
-            functionBody()
+            functionBody(),
+            functionInvocation()
         ).flatMap(identity());
     }
 
@@ -127,6 +128,31 @@ public class FunctionReader_Expected_Fail_IntegrationTest extends AbstractIntegr
             ), "Syntax error in 'module1': '}' expected to close block statement at the end of file"));
     }
 
+    private static Stream<Arguments> functionInvocation() {
+        return Stream.of(
+            arguments(of(
+                "function main() {",
+                "   test()",
+                "}"
+            ), "Syntax error in 'module1' [Line: 2]: Function 'test()' is not defined"),
+            arguments(of(
+                "function main() {",
+                "   println(sum(1))",
+                "}",
+                "function sum(a, b) {",
+                "   return a + b",
+                "}"
+            ), "Syntax error in 'module1' [Line: 2]: Function 'sum(a)' is not defined"),
+            arguments(of(
+                "function main() {",
+                "   while (true) {",
+                "      var a = 1 + test(2) * 3",
+                "   }",
+                "}"
+            ), "Syntax error in 'module1' [Line: 3]: Function 'test(a)' is not defined")
+        );
+    }
+
     @ParameterizedTest
     @MethodSource("invalidSourceLineProvider")
     void shouldFailToReadInvalidFunctionDefinition(final List<String> lines, final String expectedMessage) {
@@ -0,0 +1,166 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.revenat.javamm.compiler.integration.function;
+
+import com.revenat.javamm.code.fragment.ByteCode;
+import com.revenat.javamm.compiler.CompilerConfigurator;
+import com.revenat.javamm.compiler.error.JavammSyntaxError;
+import com.revenat.javamm.compiler.integration.AbstractIntegrationTest;
+import com.revenat.juinit.addons.ReplaceCamelCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.revenat.javamm.compiler.test.helper.CustomAsserts.assertErrorMessageContains;
+import static java.util.List.of;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+@DisplayNameGeneration(ReplaceCamelCase.class)
+@DisplayName("a function scope analyzer")
+public class FunctionScopeAnalyzer_IntegrationTest extends AbstractIntegrationTest {
+
+    public FunctionScopeAnalyzer_IntegrationTest() {
+        super(new CompilerConfigurator());
+    }
+
+    static Stream<Arguments> invalidSourceLineProvider() {
+        return Stream.of(
+            arguments(of(
+                "function main() {",
+                "   println (a)",
+                "   var a = 1",
+                "}"
+            ), "Syntax error in 'module1' [Line: 2]: Variable 'a' is not defined"),
+            arguments(of(
+                "function main() {",
+                "   var a = a + 1",
+                "}"
+            ), "Syntax error in 'module1' [Line: 2]: Variable 'a' is not defined"),
+            arguments(of(
+                "function main() {",
+                "   if (true) {",
+                "       var a = 1",
+                "   }",
+                "   a = 2",
+                "}"
+            ), "Syntax error in 'module1' [Line: 5]: Variable 'a' is not defined"),
+            arguments(of(
+                "function main() {",
+                "   for (var i = 0; i < 3; i++) {",
+                "   }",
+                "   println (i)",
+                "}"
+            ), "Syntax error in 'module1' [Line: 4]: Variable 'i' is not defined"),
+            arguments(of(
+                "function main() {",
+                "   var a = 0",
+                "   switch (a) {",
+                "       case 0 : {",
+                "           var b = 1",
+                "       }",
+                "       default : {",
+                "           println (b)",
+                "       }",
+                "   }",
+                "}"
+            ), "Syntax error in 'module1' [Line: 8]: Variable 'b' is not defined"),
+            arguments(of(
+                "function main() {",
+                "   var a = 1",
+                "   var a = 2",
+                "}"
+            ), "Syntax error in 'module1' [Line: 3]: Variable 'a' is already defined"),
+            arguments(of(
+                "function main() {",
+                "   var a = 1",
+                "   while (a < 3) {",
+                "       final a = 2",
+                "   }",
+                "}"
+            ), "Syntax error in 'module1' [Line: 4]: Variable 'a' is already defined"),
+            arguments(of(
+                "function test(a) {",
+                "   var a = 2",
+                "}"
+            ), "Syntax error in 'module1' [Line: 2]: Variable 'a' is already defined"),
+            arguments(of(
+                "function main() {",
+                "   final a = 1",
+                "   a = 2",
+                "}"
+            ), "Syntax error in 'module1' [Line: 3]: Final variable 'a' can not be changed"),
+            arguments(of(
+                "function main() {",
+                "   final a = 1",
+                "   a ++",
+                "}"
+            ), "Syntax error in 'module1' [Line: 3]: Final variable 'a' can not be changed"),
+            arguments(of(
+                "function main() {",
+                "   final a = 1",
+                "   println (a += 2)",
+                "}"
+            ), "Syntax error in 'module1' [Line: 3]: Final variable 'a' can not be changed")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidSourceLineProvider")
+    void shouldFailToCompileInvalidVariableUsage(final List<String> lines, final String expectedMessage) {
+        final JavammSyntaxError e = assertThrows(JavammSyntaxError.class, () -> compile(lines));
+
+        assertErrorMessageContains(e, expectedMessage);
+    }
+
+    @Test
+    void shouldMarkByteCodeWithValidVariableUsageAsVerified() {
+        final ByteCode byteCode = compile(of(
+            "function main() {",
+            "   var sum = 0",
+            "   for (var i = 0; i < 3; i++) {",
+            "       final square = i * i",
+            "       sum += square",
+            "   }",
+            "   for (var i = 0; i < 3; i++) {",
+            "       sum = add(sum, i)",
+            "   }",
+            "   if (sum > 5) {",
+            "       var a = 1",
+            "   }",
+            "   if (sum < 5) {",
+            "       var a = 2",
+            "   }",
+            "   println (sum)",
+            "}",
+            "function add(a, b) {",
+            "   return a + b",
+            "}"
+        ));
+
+        assertTrue(byteCode.isVerified());
+    }
+}
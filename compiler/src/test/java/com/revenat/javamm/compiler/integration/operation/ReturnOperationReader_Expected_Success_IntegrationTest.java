@@ -50,7 +50,10 @@ public class ReturnOperationReader_Expected_Success_IntegrationTest
                 "return 1 + 2 * 6 - a"
             )),
             arguments(of(
-                "return sum (1, a + 3) - sum (4, 5 + 7 * b)"
+                "return sum (1, a + 3) - sum (4, 5 + 7 * b)",
+                "}",
+                "function sum(a, b) {",
+                "   return a + b"
             ))
         );
     }
@@ -25,4 +25,9 @@ public class VariableDummy implements Variable {
     public String getName() {
         return "";
     }
+
+    @Override
+    public int getSlot() {
+        return 0;
+    }
 }
\ No newline at end of file
@@ -69,6 +69,7 @@ class VirtualMachineRunnerImpl implements VirtualMachineRunner {
 
     @Override
     public void terminate() {
+        virtualMachine.terminate();
         threadRunner.terminate();
     }
 
@@ -156,6 +156,7 @@ class VirtualMachineRunnerImplTest {
 
         virtualMachineRunner.terminate();
 
+        verify(virtualMachineMock).terminate();
         verify(threadRunnerMock).terminate();
     }
 
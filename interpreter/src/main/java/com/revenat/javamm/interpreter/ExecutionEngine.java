@@ -0,0 +1,54 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.interpreter;
+
+/**
+ * Defines the way in which {@linkplain Interpreter interpreter} executes
+ * developer functions
+ *
+ * @author Vitaliy Dragun
+ */
+public enum ExecutionEngine {
+
+    /**
+     * Walks the operation tree and looks up interpreter for each operation and
+     * evaluator for each expression
+     */
+    TREE_WALKING,
+
+    /**
+     * Translates body of each developer function once into tree of pre-bound
+     * nodes and executes such nodes directly
+     */
+    CLOSURE_COMPILED,
+
+    /**
+     * Executes linear register based code, which is emitted by the compiler
+     * for each developer function, in a single dispatch loop. Invocations of
+     * such functions do not recurse: the script call stack is allocated on the heap,
+     * so its depth is limited by the max stack size only
+     */
+    REGISTER_MACHINE,
+
+    /**
+     * Generates JVM class for each developer function which has linear code,
+     * so such functions are optimized by the JIT compiler of the JVM itself.
+     * Other functions are executed by the tree walking interpreter
+     */
+    JIT_COMPILED
+}
@@ -20,6 +20,7 @@ package com.revenat.javamm.interpreter;
 import com.revenat.javamm.code.fragment.ByteCode;
 import com.revenat.javamm.interpreter.error.JavammRuntimeError;
 import com.revenat.javamm.interpreter.error.TerminateInterpreterException;
+import com.revenat.javamm.interpreter.model.MemoizationStatistics;
 
 /**
  * Responsible for interpreting byte code
@@ -38,4 +39,20 @@ public interface Interpreter {
      *                                       terminated ahead of time
      */
     void interpret(ByteCode byteCode);
+
+    /**
+     * Requests termination of all interpretation processes which are running at the
+     * moment. Interpreting threads stop at the nearest safepoint and throw
+     * {@link TerminateInterpreterException}. If no interpretation process is running,
+     * the next one throws {@link TerminateInterpreterException} before any function is
+     * invoked. The request does not affect interpretation processes started after it
+     * has been consumed. Can be invoked from any thread
+     */
+    void terminate();
+
+    /**
+     * Returns counters of the memoization cache of the pure functions accumulated by all
+     * interpretation processes of this interpreter
+     */
+    MemoizationStatistics getMemoizationStatistics();
 }
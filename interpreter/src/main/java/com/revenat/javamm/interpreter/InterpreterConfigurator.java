@@ -18,10 +18,10 @@
 package com.revenat.javamm.interpreter;
 
 import com.revenat.javamm.code.component.Console;
-import com.revenat.javamm.code.component.ExpressionContext;
 import com.revenat.javamm.interpreter.component.BlockOperationInterpreter;
 import com.revenat.javamm.interpreter.component.CalculatorFacade;
 import com.revenat.javamm.interpreter.component.DeveloperFunctionInvoker;
+import com.revenat.javamm.interpreter.component.ExecutionContextBuilder;
 import com.revenat.javamm.interpreter.component.ExpressionEvaluator;
 import com.revenat.javamm.interpreter.component.ExpressionUpdater;
 import com.revenat.javamm.interpreter.component.FunctionInvokerBuilder;
@@ -29,9 +29,10 @@ import com.revenat.javamm.interpreter.component.OperationInterpreter;
 import com.revenat.javamm.interpreter.component.impl.BlockOperationInterpreterImpl;
 import com.revenat.javamm.interpreter.component.impl.CalculatorFacadeImpl;
 import com.revenat.javamm.interpreter.component.impl.DeveloperFunctionInvokerImpl;
-import com.revenat.javamm.interpreter.component.impl.ExpressionContextImpl;
+import com.revenat.javamm.interpreter.component.impl.ExecutionContextBuilderImpl;
 import com.revenat.javamm.interpreter.component.impl.FunctionInvokerBuilderImpl;
 import com.revenat.javamm.interpreter.component.impl.InterpreterImpl;
+import com.revenat.javamm.interpreter.component.impl.MemoizationCache;
 import com.revenat.javamm.interpreter.component.impl.RuntimeBuilderImpl;
 import com.revenat.javamm.interpreter.component.impl.calculator.HashCodeUnaryExpressionCalculator;
 import com.revenat.javamm.interpreter.component.impl.calculator.arithmetic.binary.AdditionBinaryExpressionCalculator;
@@ -60,7 +61,10 @@ import com.revenat.javamm.interpreter.component.impl.calculator.predicate.IsLess
 import com.revenat.javamm.interpreter.component.impl.calculator.predicate.IsLessThanOrEqualsBinaryExpressionCalculator;
 import com.revenat.javamm.interpreter.component.impl.calculator.predicate.IsNotEqualsBinaryExpressionCalculator;
 import com.revenat.javamm.interpreter.component.impl.calculator.predicate.TypeOfBinaryExpressionCalculator;
+import com.revenat.javamm.interpreter.component.impl.closure.ClosureCompiledFunctionInvoker;
 import com.revenat.javamm.interpreter.component.impl.expression.evaluator.FunctionInvocationExpressionEvaluator;
+import com.revenat.javamm.interpreter.component.impl.jit.JitFunctionInvoker;
+import com.revenat.javamm.interpreter.component.impl.expression.evaluator.LocalBinaryExpressionEvaluator;
 import com.revenat.javamm.interpreter.component.impl.expression.evaluator.PostfixNotationComplexExpressionEvaluator;
 import com.revenat.javamm.interpreter.component.impl.expression.evaluator.TernaryConditionalExpressionEvaluator;
 import com.revenat.javamm.interpreter.component.impl.expression.evaluator.VariableExpressionEvaluator;
@@ -72,12 +76,15 @@ import com.revenat.javamm.interpreter.component.impl.operation.block.SimpleBlock
 import com.revenat.javamm.interpreter.component.impl.operation.block.SwitchOperationInterpreter;
 import com.revenat.javamm.interpreter.component.impl.operation.block.WhileOperationInterpreter;
 import com.revenat.javamm.interpreter.component.impl.operation.simple.BreakOperationInterpreter;
+import com.revenat.javamm.interpreter.component.impl.operation.simple.CompoundAssignLocalOperationInterpreter;
 import com.revenat.javamm.interpreter.component.impl.operation.simple.ContinueOperationInterpreter;
 import com.revenat.javamm.interpreter.component.impl.operation.simple.ExpressionOperationInterpreter;
+import com.revenat.javamm.interpreter.component.impl.operation.simple.IncrementLocalOperationInterpreter;
 import com.revenat.javamm.interpreter.component.impl.operation.simple.PrintlnOperationInterpreter;
 import com.revenat.javamm.interpreter.component.impl.operation.simple.ReturnOperationInterpreter;
 import com.revenat.javamm.interpreter.component.impl.operation.simple.VariableAssignmentOperationInterpreter;
 import com.revenat.javamm.interpreter.component.impl.operation.simple.VariableDeclarationOperationInterpreter;
+import com.revenat.javamm.interpreter.component.impl.register.RegisterMachineFunctionInvoker;
 
 import java.util.Set;
 
@@ -89,16 +96,38 @@ import java.util.Set;
  */
 public class InterpreterConfigurator {
 
+    /**
+     * Default max depth of the script call stack
+     */
     public static final int MAX_STACK_SIZE = 10;
 
+    /**
+     * Number of the most recent functions replaced by the tail calls which are
+     * kept in the stack trace of each stack frame. Replaced functions are not
+     * kept by default, so tail recursive functions run in constant memory
+     */
+    public static final int DEFAULT_TAIL_CALL_STACK_TRACE_SIZE = 0;
+
+    /**
+     * Default max number of the memoized results of the pure functions. Memoization
+     * pays off only if the pure functions are invoked with the same arguments again,
+     * so it is disabled by default
+     */
+    public static final int DEFAULT_MEMOIZATION_CACHE_SIZE = 0;
+
     private final Interpreter interpreter;
 
     public InterpreterConfigurator() {
-        this(Console.DEFAULT);
+        this(Console.DEFAULT, ExecutionEngine.TREE_WALKING, DEFAULT_TAIL_CALL_STACK_TRACE_SIZE, MAX_STACK_SIZE,
+            DEFAULT_MEMOIZATION_CACHE_SIZE);
     }
 
     @SuppressWarnings({"checkstyle:FinalParameters", "checkstyle:MethodLength"})
-    public InterpreterConfigurator(final Console console) {
+    public InterpreterConfigurator(final Console console,
+                                   final ExecutionEngine executionEngine,
+                                   final int tailCallStackTraceSize,
+                                   final int maxStackSize,
+                                   final int memoizationCacheSize) {
         final CalculatorFacade calculatorFacade = new CalculatorFacadeImpl(
             Set.of(
                 AdditionBinaryExpressionCalculator.createNormalCalculator(),
@@ -152,6 +181,7 @@ public class InterpreterConfigurator {
         final Set<ExpressionEvaluator<?>> expressionEvaluators = Set.of(
             new VariableExpressionEvaluator(),
             new PostfixNotationComplexExpressionEvaluator(calculatorFacade),
+            new LocalBinaryExpressionEvaluator(calculatorFacade),
             new TernaryConditionalExpressionEvaluator(calculatorFacade),
             new FunctionInvocationExpressionEvaluator()
         );
@@ -160,35 +190,54 @@ public class InterpreterConfigurator {
             new VariableExpressionUpdater()
         );
 
-        final ExpressionContext expressionContext = new ExpressionContextImpl(expressionEvaluators, expressionUpdaters);
+        final ExecutionContextBuilder executionContextBuilder =
+            new ExecutionContextBuilderImpl(expressionEvaluators, expressionUpdaters);
 
         final Set<OperationInterpreter<?>> operationInterpreters = Set.of(
-            new PrintlnOperationInterpreter(expressionContext, console),
-            new VariableDeclarationOperationInterpreter(expressionContext),
-            new VariableAssignmentOperationInterpreter(expressionContext),
-            new ExpressionOperationInterpreter(expressionContext),
-            new IfElseOperationInterpreter(expressionContext, calculatorFacade),
-            new WhileOperationInterpreter(expressionContext, calculatorFacade),
-            new DoWhileOperationInterpreter(expressionContext, calculatorFacade),
-            new ForOperationInterpreter(expressionContext, calculatorFacade),
-            new SimpleBlockOperationInterpreter(expressionContext),
-            new ContinueOperationInterpreter(expressionContext),
-            new BreakOperationInterpreter(expressionContext),
-            new SwitchOperationInterpreter(expressionContext),
-            new ReturnOperationInterpreter(expressionContext)
+            new PrintlnOperationInterpreter(console),
+            new VariableDeclarationOperationInterpreter(),
+            new VariableAssignmentOperationInterpreter(),
+            new ExpressionOperationInterpreter(),
+            new IncrementLocalOperationInterpreter(calculatorFacade),
+            new CompoundAssignLocalOperationInterpreter(calculatorFacade),
+            new IfElseOperationInterpreter(calculatorFacade),
+            new WhileOperationInterpreter(calculatorFacade),
+            new DoWhileOperationInterpreter(calculatorFacade),
+            new ForOperationInterpreter(calculatorFacade),
+            new SimpleBlockOperationInterpreter(),
+            new ContinueOperationInterpreter(),
+            new BreakOperationInterpreter(),
+            new SwitchOperationInterpreter(),
+            new ReturnOperationInterpreter()
         );
 
-        final BlockOperationInterpreter blockOperationInterpreter
-            = new BlockOperationInterpreterImpl(operationInterpreters);
-
-        final RuntimeBuilderImpl runtimeBuilderImpl = new RuntimeBuilderImpl(MAX_STACK_SIZE);
-
-        final DeveloperFunctionInvoker developerFunctionInvoker
-            = new DeveloperFunctionInvokerImpl(runtimeBuilderImpl, blockOperationInterpreter, expressionContext);
-
-        final FunctionInvokerBuilder functionInvokerBuilder = new FunctionInvokerBuilderImpl(developerFunctionInvoker);
-
-        this.interpreter = new InterpreterImpl(functionInvokerBuilder, runtimeBuilderImpl);
+        final BlockOperationInterpreter blockOperationInterpreter =
+            new BlockOperationInterpreterImpl(operationInterpreters);
+
+        final RuntimeBuilderImpl runtimeBuilderImpl = new RuntimeBuilderImpl(maxStackSize, tailCallStackTraceSize);
+
+        final MemoizationCache memoizationCache = new MemoizationCache(memoizationCacheSize);
+
+        final DeveloperFunctionInvoker developerFunctionInvoker;
+        if (executionEngine == ExecutionEngine.REGISTER_MACHINE) {
+            developerFunctionInvoker = new RegisterMachineFunctionInvoker(runtimeBuilderImpl,
+                blockOperationInterpreter, calculatorFacade, console, memoizationCache);
+        } else if (executionEngine == ExecutionEngine.CLOSURE_COMPILED) {
+            developerFunctionInvoker = new ClosureCompiledFunctionInvoker(runtimeBuilderImpl,
+                blockOperationInterpreter, calculatorFacade, console, memoizationCache);
+        } else {
+            developerFunctionInvoker = new DeveloperFunctionInvokerImpl(runtimeBuilderImpl,
+                blockOperationInterpreter, memoizationCache);
+        }
+
+        final FunctionInvokerBuilder functionInvokerBuilder =
+            executionEngine == ExecutionEngine.JIT_COMPILED
+                ? new FunctionInvokerBuilderImpl(developerFunctionInvoker, new JitFunctionInvoker(runtimeBuilderImpl,
+                blockOperationInterpreter, calculatorFacade, console, memoizationCache))
+                : new FunctionInvokerBuilderImpl(developerFunctionInvoker);
+
+        this.interpreter = new InterpreterImpl(functionInvokerBuilder, runtimeBuilderImpl, executionContextBuilder,
+            memoizationCache);
     }
 
     public Interpreter getInterpreter() {
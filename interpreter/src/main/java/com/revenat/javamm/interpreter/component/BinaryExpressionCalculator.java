@@ -21,6 +21,7 @@ import com.revenat.javamm.code.component.ExpressionContext;
 import com.revenat.javamm.code.fragment.Expression;
 import com.revenat.javamm.code.fragment.operator.BinaryOperator;
 import com.revenat.javamm.interpreter.error.JavammRuntimeError;
+import com.revenat.javamm.interpreter.model.TypedValue;
 
 /**
  * Calculates expressions with {@linkplain BinaryOperator binary operator}
@@ -46,4 +47,22 @@ public interface BinaryExpressionCalculator extends ExpressionCalculator {
      *                            calculator does not support specified operands
      */
     Object calculate(ExpressionContext expressionContext, Expression operand1, Expression operand2);
+
+    /**
+     * Calculates binary expression for already evaluated {@linkplain TypedValue
+     * typed operands} and stores the outcome into the specified {@code result},
+     * which may be one of the operands. Calculators which support primitive
+     * operands override this method in order to calculate them without boxing.
+     *
+     * @throws JavammRuntimeError if
+     *                            {@linkplain BinaryExpressionCalculator#getOperator()
+     *                            implied operator} supported by {@code this} binary
+     *                            calculator does not support specified operands
+     */
+    default void calculate(final ExpressionContext expressionContext,
+                           final TypedValue operand1,
+                           final TypedValue operand2,
+                           final TypedValue result) {
+        result.setObject(calculate(expressionContext, operand1, operand2));
+    }
 }
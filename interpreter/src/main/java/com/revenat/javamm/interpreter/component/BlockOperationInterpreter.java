@@ -19,6 +19,8 @@ package com.revenat.javamm.interpreter.component;
 
 import com.revenat.javamm.code.exception.ConfigException;
 import com.revenat.javamm.code.fragment.operation.Block;
+import com.revenat.javamm.interpreter.model.Completion;
+import com.revenat.javamm.interpreter.model.ExecutionContext;
 
 /**
  * Interprets byte code block of operations
@@ -30,9 +32,13 @@ public interface BlockOperationInterpreter {
     /**
      * Interprets specified byte code block
      *
-     * @param block byte code block of operations to interpret
+     * @param executionContext context of the current interpretation
+     * @param block            byte code block of operations to interpret
+     * @return {@link Completion#NORMAL} if all operations of the block completed
+     * normally, otherwise abrupt completion status of the operation which stopped
+     * interpretation of the block
      * @throws ConfigException if doesn't know how to handle particular operation in
      *                         the block
      */
-    void interpret(Block block);
+    Completion interpret(ExecutionContext executionContext, Block block);
 }
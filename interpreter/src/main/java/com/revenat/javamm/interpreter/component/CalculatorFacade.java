@@ -39,6 +39,18 @@ public interface CalculatorFacade {
                      UnaryOperator operator,
                      Expression operand);
 
+    /**
+     * Returns {@linkplain BinaryExpressionCalculator calculator} for specified
+     * {@linkplain BinaryOperator binary operator}
+     */
+    BinaryExpressionCalculator getCalculator(BinaryOperator operator);
+
+    /**
+     * Returns {@linkplain UnaryExpressionCalculator calculator} for specified
+     * {@linkplain UnaryOperator unary operator}
+     */
+    UnaryExpressionCalculator getCalculator(UnaryOperator operator);
+
     boolean isTrue(ExpressionContext expressionContext,
                    Expression expression);
 }
@@ -19,6 +19,7 @@ package com.revenat.javamm.interpreter.component;
 
 import com.revenat.javamm.code.fragment.Expression;
 import com.revenat.javamm.code.fragment.function.DeveloperFunction;
+import com.revenat.javamm.interpreter.model.ExecutionContext;
 
 import java.util.List;
 
@@ -29,8 +30,13 @@ import java.util.List;
  */
 public interface DeveloperFunctionInvoker {
 
-    Object invokeMain(DeveloperFunction developerFunction);
+    Object invokeMain(ExecutionContext executionContext, DeveloperFunction developerFunction);
 
-    Object invoke(DeveloperFunction developerFunction, List<Expression> arguments);
+    Object invoke(ExecutionContext executionContext, DeveloperFunction developerFunction, List<Expression> arguments);
+
+    /**
+     * Invokes developer function with already evaluated argument values
+     */
+    Object invoke(ExecutionContext executionContext, DeveloperFunction developerFunction, Object[] argumentValues);
 
 }
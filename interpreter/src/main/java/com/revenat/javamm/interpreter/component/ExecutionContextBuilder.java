@@ -15,17 +15,20 @@
  * limitations under the License.
  */
 
+
 package com.revenat.javamm.interpreter.component;
 
-import com.revenat.javamm.code.component.ExpressionContext;
+import com.revenat.javamm.interpreter.model.CurrentRuntime;
+import com.revenat.javamm.interpreter.model.ExecutionContext;
 
 /**
- * Expresses that component that implements this interface needs
- * {@linkplain ExpressionContext expression context} to be provided
- *
  * @author Vitaliy Dragun
  */
-public interface ExpressionContextAware {
+public interface ExecutionContextBuilder {
 
-    void setExpressionContext(ExpressionContext expressionContext);
+    /**
+     * Builds execution context which evaluates expressions within the specified
+     * runtime
+     */
+    ExecutionContext buildExecutionContext(CurrentRuntime currentRuntime);
 }
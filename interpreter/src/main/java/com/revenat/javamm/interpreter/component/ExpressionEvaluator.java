@@ -19,6 +19,7 @@ package com.revenat.javamm.interpreter.component;
 
 import com.revenat.javamm.code.fragment.Expression;
 import com.revenat.javamm.interpreter.error.JavammRuntimeError;
+import com.revenat.javamm.interpreter.model.ExecutionContext;
 
 /**
  * Responsible for evaluating expressions
@@ -37,9 +38,10 @@ public interface ExpressionEvaluator<T extends Expression> {
     /**
      * Evaluates provided expression
      *
-     * @param expression expression to evaluate
+     * @param executionContext context of the current interpretation
+     * @param expression       expression to evaluate
      * @return result of the expression evaluation
      * @throws JavammRuntimeError if provided expression can not be evaluated
      */
-    Object evaluate(T expression);
+    Object evaluate(ExecutionContext executionContext, T expression);
 }
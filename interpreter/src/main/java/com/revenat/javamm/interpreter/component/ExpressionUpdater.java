@@ -18,6 +18,7 @@
 package com.revenat.javamm.interpreter.component;
 
 import com.revenat.javamm.code.fragment.UpdatableExpression;
+import com.revenat.javamm.interpreter.model.ExecutionContext;
 
 /**
  * Responsible for updating dynamic updatable expressions
@@ -36,8 +37,9 @@ public interface ExpressionUpdater<T extends UpdatableExpression> {
     /**
      * Updates provided expression with updated value
      *
-     * @param expression   expression to update
-     * @param updatedValue new value to update expression with
+     * @param executionContext context of the current interpretation
+     * @param expression       expression to update
+     * @param updatedValue     new value to update expression with
      */
-    void update(T expression, Object updatedValue);
+    void update(ExecutionContext executionContext, T expression, Object updatedValue);
 }
@@ -20,6 +20,8 @@ package com.revenat.javamm.interpreter.component;
 import com.revenat.javamm.code.fragment.Expression;
 import com.revenat.javamm.code.fragment.Function;
 import com.revenat.javamm.code.fragment.FunctionName;
+import com.revenat.javamm.code.fragment.function.DeveloperFunction;
+import com.revenat.javamm.interpreter.model.ExecutionContext;
 
 import java.util.List;
 
@@ -30,8 +32,24 @@ import java.util.List;
  */
 public interface FunctionInvoker {
 
-    Object invokeMain();
+    Object invokeMain(ExecutionContext executionContext);
 
-    Object invoke(FunctionName functionName, List<Expression> arguments);
+    Object invoke(ExecutionContext executionContext, FunctionName functionName, List<Expression> arguments);
+
+    /**
+     * Invokes function which has already been linked to the invocation, so no
+     * lookup by function name is required
+     */
+    Object invoke(ExecutionContext executionContext, DeveloperFunction function, List<Expression> arguments);
+
+    /**
+     * Invokes function with already evaluated argument values
+     */
+    Object invoke(ExecutionContext executionContext, FunctionName functionName, Object[] argumentValues);
+
+    /**
+     * Invokes linked function with already evaluated argument values
+     */
+    Object invoke(ExecutionContext executionContext, DeveloperFunction function, Object[] argumentValues);
 
 }
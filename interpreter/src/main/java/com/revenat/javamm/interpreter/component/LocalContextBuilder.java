@@ -17,6 +17,7 @@
 
 package com.revenat.javamm.interpreter.component;
 
+import com.revenat.javamm.code.fragment.function.DeveloperFunction;
 import com.revenat.javamm.interpreter.model.LocalContext;
 
 /**
@@ -24,5 +25,10 @@ import com.revenat.javamm.interpreter.model.LocalContext;
  */
 public interface LocalContextBuilder {
 
-    LocalContext buildLocalContext();
+    /**
+     * Builds root local context for the frame of the specified function. Local context
+     * of the {@linkplain DeveloperFunction#isVerified() verified} function may skip
+     * the checks which compiler has already performed
+     */
+    LocalContext buildLocalContext(DeveloperFunction function);
 }
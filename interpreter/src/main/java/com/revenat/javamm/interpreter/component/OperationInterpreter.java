@@ -19,6 +19,8 @@ package com.revenat.javamm.interpreter.component;
 
 import com.revenat.javamm.code.fragment.Operation;
 import com.revenat.javamm.interpreter.error.TerminateInterpreterException;
+import com.revenat.javamm.interpreter.model.Completion;
+import com.revenat.javamm.interpreter.model.ExecutionContext;
 
 /**
  * Responsible for interpreting particular type of byte-code operation
@@ -35,9 +37,11 @@ public interface OperationInterpreter<T extends Operation> {
     /**
      * Interprets provided byte code operation
      *
-     * @param operation byte code operation to interpret
+     * @param executionContext context of the current interpretation
+     * @param operation        byte code operation to interpret
+     * @return completion status of the interpreted operation
      * @throws TerminateInterpreterException if interpreter has been terminated
      *                                       before it can complete its job
      */
-    void interpret(T operation);
+    Completion interpret(ExecutionContext executionContext, T operation);
 }
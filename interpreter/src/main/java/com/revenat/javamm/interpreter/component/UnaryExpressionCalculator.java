@@ -20,6 +20,7 @@ package com.revenat.javamm.interpreter.component;
 import com.revenat.javamm.code.component.ExpressionContext;
 import com.revenat.javamm.code.fragment.Expression;
 import com.revenat.javamm.code.fragment.operator.UnaryOperator;
+import com.revenat.javamm.interpreter.model.TypedValue;
 
 /**
  * Calculates expressions with {@linkplain UnaryOperator unary operator}
@@ -31,4 +32,15 @@ public interface UnaryExpressionCalculator extends ExpressionCalculator {
     UnaryOperator getOperator();
 
     Object calculate(ExpressionContext expressionContext, Expression expression);
+
+    /**
+     * Calculates unary expression for already evaluated {@linkplain TypedValue
+     * typed operand} and stores the outcome into the specified {@code result},
+     * which may be the operand itself
+     */
+    default void calculate(final ExpressionContext expressionContext,
+                           final TypedValue operand,
+                           final TypedValue result) {
+        result.setObject(calculate(expressionContext, operand));
+    }
 }
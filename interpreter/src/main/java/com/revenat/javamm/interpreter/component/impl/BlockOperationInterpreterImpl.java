@@ -23,13 +23,16 @@ import com.revenat.javamm.code.fragment.operation.Block;
 import com.revenat.javamm.interpreter.component.BlockOperationInterpreter;
 import com.revenat.javamm.interpreter.component.BlockOperationInterpreterAware;
 import com.revenat.javamm.interpreter.component.OperationInterpreter;
+import com.revenat.javamm.interpreter.model.Completion;
+import com.revenat.javamm.interpreter.model.CurrentRuntime;
+import com.revenat.javamm.interpreter.model.ExecutionContext;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.BinaryOperator;
 
 import static com.revenat.javamm.code.util.TypeUtils.confirmType;
-import static com.revenat.javamm.interpreter.model.CurrentRuntimeProvider.getCurrentRuntime;
 import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.toUnmodifiableMap;
 
@@ -53,12 +56,19 @@ public class BlockOperationInterpreterImpl implements BlockOperationInterpreter
 
     @Override
     @SuppressWarnings("unchecked")
-    public void interpret(final Block block) {
-        for (final Operation operation : block.getOperations()) {
+    public Completion interpret(final ExecutionContext executionContext, final Block block) {
+        final CurrentRuntime currentRuntime = executionContext.getCurrentRuntime();
+        final List<Operation> operations = block.getOperations();
+        for (int i = 0; i < operations.size(); i++) {
+            final Operation operation = operations.get(i);
             final OperationInterpreter operationInterpreter = getInterpreterFor(operation);
-            updateCurrentRuntime(operation);
-            operationInterpreter.interpret(operation);
+            currentRuntime.setCurrentOperation(operation);
+            final Completion completion = operationInterpreter.interpret(executionContext, operation);
+            if (completion != Completion.NORMAL) {
+                return completion;
+            }
         }
+        return Completion.NORMAL;
     }
 
     private OperationInterpreter getInterpreterFor(final Operation operation) {
@@ -70,10 +80,6 @@ public class BlockOperationInterpreterImpl implements BlockOperationInterpreter
         }
     }
 
-    private void updateCurrentRuntime(final Operation operation) {
-        getCurrentRuntime().setCurrentOperation(operation);
-    }
-
     private Map<Class<? extends Operation>, OperationInterpreter> buildOperationInterpreterMap(
         final Set<OperationInterpreter<?>> operationInterpreters) {
         final Map<Class<? extends Operation>, OperationInterpreter> result = composeInterpreters(operationInterpreters);
@@ -63,7 +63,7 @@ public class CalculatorFacadeImpl implements CalculatorFacade {
                             final Expression operand1,
                             final BinaryOperator operator,
                             final Expression operand2) {
-        final BinaryExpressionCalculator calculator = getBinaryCalculatorFor(operator);
+        final BinaryExpressionCalculator calculator = getCalculator(operator);
         return calculator.calculate(expressionContext, operand1, operand2);
     }
 
@@ -71,7 +71,7 @@ public class CalculatorFacadeImpl implements CalculatorFacade {
     public Object calculate(final ExpressionContext expressionContext,
                             final UnaryOperator operator,
                             final Expression operand) {
-        final UnaryExpressionCalculator calculator = getUnaryCalculatorFor(operator);
+        final UnaryExpressionCalculator calculator = getCalculator(operator);
         return calculator.calculate(expressionContext, operand);
     }
 
@@ -94,11 +94,13 @@ public class CalculatorFacadeImpl implements CalculatorFacade {
         return confirmType(Boolean.class, object);
     }
 
-    private BinaryExpressionCalculator getBinaryCalculatorFor(final BinaryOperator operator) {
+    @Override
+    public BinaryExpressionCalculator getCalculator(final BinaryOperator operator) {
         return binaryCalculatorRegistry.get(operator);
     }
 
-    private UnaryExpressionCalculator getUnaryCalculatorFor(final UnaryOperator operator) {
+    @Override
+    public UnaryExpressionCalculator getCalculator(final UnaryOperator operator) {
         return unaryCalculatorRegistry.get(operator);
     }
 
@@ -20,14 +20,18 @@ package com.revenat.javamm.interpreter.component.impl;
 import com.revenat.javamm.code.fragment.SourceLine;
 import com.revenat.javamm.code.fragment.function.DeveloperFunction;
 import com.revenat.javamm.interpreter.component.FunctionInvoker;
-import com.revenat.javamm.interpreter.component.impl.error.JavammLineRuntimeError;
+import com.revenat.javamm.interpreter.component.impl.error.JavammStackOverflowError;
 import com.revenat.javamm.interpreter.component.impl.model.StackTraceItemImpl;
+import com.revenat.javamm.interpreter.error.TerminateInterpreterException;
 import com.revenat.javamm.interpreter.model.CurrentRuntime;
 import com.revenat.javamm.interpreter.model.LocalContext;
 import com.revenat.javamm.interpreter.model.StackTraceItem;
+import com.revenat.javamm.interpreter.model.StackTraceSnapshot;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Deque;
 import java.util.List;
 
@@ -35,35 +39,95 @@ import static java.util.Collections.unmodifiableList;
 import static java.util.Objects.requireNonNull;
 
 /**
+ * Functions which have been replaced by the functions invoked from their tail
+ * position are not kept in the stack trace unless {@code tailCallStackTraceSize}
+ * is positive. In such case up to {@code tailCallStackTraceSize} most recent
+ * replaced functions are kept for each stack frame, so the stack trace of
+ * the tail recursive function is truncated, but stays bounded.
+ *
+ * <p>Only the number of the currently executed line is kept for each frame. Its
+ * source line is looked up in the line table of the function when it is requested.
+ *
+ * <p>Caller frames are kept in the array indexed by the call depth. Its slots are
+ * reused by the subsequent calls, so function invocation does not allocate. The
+ * frames are copied to the immutable chain only when the stack trace is captured.
+ *
+ * <p>Termination flag is volatile, so it is read only once per
+ * {@code terminationPollInterval} {@linkplain #pollTermination() polls}.
+ *
  * @author Vitaliy Dragun
  */
 public class CurrentRuntimeImpl implements CurrentRuntime {
 
+    /**
+     * Number of the safepoint polls per single check of the termination flag
+     */
+    public static final int DEFAULT_TERMINATION_POLL_INTERVAL = 1024;
+
+    private static final int INITIAL_CALLER_FRAMES_CAPACITY = 16;
+
     private final FunctionInvoker functionInvoker;
 
     private final int maxStackSize;
 
-    private final Deque<StackTraceItem> currentStackTrace = new ArrayDeque<>();
+    private final int tailCallStackTraceSize;
+
+    private final int terminationPollInterval;
+
+    private volatile boolean terminationRequested;
+
+    private int pollsUntilTerminationCheck;
 
-    private SourceLine currentSourceLine;
+    private MutableFrame[] callerFrames;
+
+    private int callerDepth;
+
+    private Deque<StackTraceItem> currentTailCalls;
+
+    private int currentLineNumber;
 
     private LocalContext currentLocalContext;
 
     private DeveloperFunction currentFunction;
 
+    private Object returnValue;
+
     public CurrentRuntimeImpl(final FunctionInvoker functionInvoker, final int maxStackSize) {
+        this(functionInvoker, maxStackSize, 0);
+    }
+
+    public CurrentRuntimeImpl(final FunctionInvoker functionInvoker,
+                              final int maxStackSize,
+                              final int tailCallStackTraceSize) {
+        this(functionInvoker, maxStackSize, tailCallStackTraceSize, DEFAULT_TERMINATION_POLL_INTERVAL);
+    }
+
+    public CurrentRuntimeImpl(final FunctionInvoker functionInvoker,
+                              final int maxStackSize,
+                              final int tailCallStackTraceSize,
+                              final int terminationPollInterval) {
+        if (tailCallStackTraceSize < 0) {
+            throw new IllegalArgumentException("tailCallStackTraceSize can not be negative");
+        }
+        if (terminationPollInterval <= 0) {
+            throw new IllegalArgumentException("terminationPollInterval should be positive");
+        }
         this.functionInvoker = requireNonNull(functionInvoker);
         this.maxStackSize = maxStackSize;
+        this.tailCallStackTraceSize = tailCallStackTraceSize;
+        this.terminationPollInterval = terminationPollInterval;
+        this.pollsUntilTerminationCheck = terminationPollInterval;
+        this.callerFrames = new MutableFrame[Math.max(1, Math.min(maxStackSize, INITIAL_CALLER_FRAMES_CAPACITY))];
     }
 
     @Override
     public SourceLine getCurrentSourceLine() {
-        return requireNonNull(currentSourceLine, "currentSourceLine is not set");
+        return getCurrentFunction().getSourceLine(currentLineNumber);
     }
 
     @Override
-    public void setCurrentSourceLine(final SourceLine currentSourceLine) {
-        this.currentSourceLine = requireNonNull(currentSourceLine, "currentSourceLine can not be null");
+    public void setCurrentLineNumber(final int lineNumber) {
+        this.currentLineNumber = lineNumber;
     }
 
     @Override
@@ -84,40 +148,197 @@ public class CurrentRuntimeImpl implements CurrentRuntime {
     @Override
     public void enterToFunction(final DeveloperFunction function) {
         if (currentFunction != null) {
-            currentStackTrace.push(new StackTraceItemImpl(currentFunction, currentSourceLine));
+            pushCallerFrame();
         }
         validateNoStackOverflow();
+        pollTermination();
         currentFunction = function;
-        setCurrentSourceLine(function.getDeclarationSourceLine());
+        currentLineNumber = function.getDeclarationSourceLine().getLineNumber();
+    }
+
+    private void pushCallerFrame() {
+        if (callerDepth == callerFrames.length) {
+            callerFrames = Arrays.copyOf(callerFrames, callerDepth * 2);
+        }
+        MutableFrame frame = callerFrames[callerDepth];
+        if (frame == null) {
+            frame = new MutableFrame();
+            callerFrames[callerDepth] = frame;
+        }
+        frame.function = currentFunction;
+        frame.lineNumber = currentLineNumber;
+        frame.tailCalls = currentTailCalls;
+        currentTailCalls = null;
+        callerDepth++;
     }
 
     private void validateNoStackOverflow() {
-        if (currentStackTrace.size() == maxStackSize - 1 /* - 1 because currentFunction is also count*/) {
-            throw new JavammLineRuntimeError("Stack overflow error. Max stack size is %d", maxStackSize);
+        if (callerDepth == maxStackSize - 1 /* - 1 because currentFunction is also count*/) {
+            throw new JavammStackOverflowError("Stack overflow error. Max stack size is %d", maxStackSize);
         }
     }
 
     @Override
     public void exitFromFunction() {
-        final StackTraceItem item = currentStackTrace.poll();
-        if (item != null) {
-            currentFunction = item.getFunction();
-            setCurrentSourceLine(item.getSourceLine());
+        if (callerDepth > 0) {
+            final MutableFrame frame = callerFrames[--callerDepth];
+            currentFunction = frame.function;
+            currentLineNumber = frame.lineNumber;
+            currentTailCalls = frame.tailCalls;
+            frame.function = null;
+            frame.tailCalls = null;
         } else {
             currentFunction = null;
+            currentTailCalls = null;
+        }
+    }
+
+    @Override
+    public void replaceCurrentFunction(final DeveloperFunction function) {
+        if (tailCallStackTraceSize > 0) {
+            if (currentTailCalls == null) {
+                currentTailCalls = new ArrayDeque<>(tailCallStackTraceSize);
+            } else if (currentTailCalls.size() == tailCallStackTraceSize) {
+                currentTailCalls.removeLast();
+            }
+            currentTailCalls.push(new StackTraceItemImpl(getCurrentFunction(), currentLineNumber));
+        }
+        pollTermination();
+        currentFunction = function;
+        currentLineNumber = function.getDeclarationSourceLine().getLineNumber();
+    }
+
+    @Override
+    public void pollTermination() {
+        if (--pollsUntilTerminationCheck == 0) {
+            pollsUntilTerminationCheck = terminationPollInterval;
+            if (terminationRequested) {
+                throw new TerminateInterpreterException();
+            }
         }
     }
 
     @Override
-    public List<StackTraceItem> getCurrentStackTrace() {
-        final List<StackTraceItem> stackTrace = new ArrayList<>();
-        stackTrace.add(new StackTraceItemImpl(getCurrentFunction(), currentSourceLine));
-        stackTrace.addAll(currentStackTrace);
-        return unmodifiableList(stackTrace);
+    public void requestTermination() {
+        terminationRequested = true;
+    }
+
+    @Override
+    public void setReturnValue(final Object returnValue) {
+        this.returnValue = requireNonNull(returnValue, "returnValue can not be null");
+    }
+
+    @Override
+    public Object releaseReturnValue() {
+        final Object value = requireNonNull(returnValue, "returnValue is not set");
+        returnValue = null;
+        return value;
+    }
+
+    @Override
+    public StackTraceSnapshot captureStackTrace() {
+        return captureStackTrace(Integer.MAX_VALUE);
+    }
+
+    @Override
+    public StackTraceSnapshot captureStackTrace(final int maxFrameCount) {
+        if (maxFrameCount < 1) {
+            throw new IllegalArgumentException("maxFrameCount should be positive");
+        }
+        CallerFrame callerFrame = null;
+        // the current function is a frame too
+        for (int depth = Math.max(0, callerDepth - (maxFrameCount - 1)); depth < callerDepth; depth++) {
+            final MutableFrame frame = callerFrames[depth];
+            callerFrame = new CallerFrame(frame.function, frame.lineNumber, copyOf(frame.tailCalls), callerFrame);
+        }
+        return new Snapshot(getCurrentFunction(), currentLineNumber, copyOf(currentTailCalls), callerFrame);
+    }
+
+    private static Collection<StackTraceItem> copyOf(final Collection<StackTraceItem> tailCalls) {
+        return tailCalls == null ? null : List.copyOf(tailCalls);
     }
 
     private DeveloperFunction getCurrentFunction() {
         return requireNonNull(currentFunction, "currentFunction is not set. " +
             "It is necessary to invoke enterToFunction() before getCurrentFunction");
     }
+
+    /**
+     * Reusable slot of the caller frame array. Its tail calls are moved back to
+     * the runtime when the caller function is resumed
+     */
+    private static final class MutableFrame {
+
+        private DeveloperFunction function;
+
+        private int lineNumber;
+
+        private Deque<StackTraceItem> tailCalls;
+    }
+
+    /**
+     * Immutable copy of the caller frame captured by the stack trace snapshot which
+     * keeps the functions replaced within this frame by the functions invoked from
+     * their tail position. Frames are linked to the frames of their callers
+     */
+    private static final class CallerFrame {
+
+        private final DeveloperFunction function;
+
+        private final int lineNumber;
+
+        private final Collection<StackTraceItem> tailCalls;
+
+        private final CallerFrame parent;
+
+        private CallerFrame(final DeveloperFunction function,
+                            final int lineNumber,
+                            final Collection<StackTraceItem> tailCalls,
+                            final CallerFrame parent) {
+            this.function = function;
+            this.lineNumber = lineNumber;
+            this.tailCalls = tailCalls;
+            this.parent = parent;
+        }
+    }
+
+    /**
+     * Current function and the caller frames captured at the moment
+     */
+    private static final class Snapshot implements StackTraceSnapshot {
+
+        private final DeveloperFunction function;
+
+        private final int lineNumber;
+
+        private final Collection<StackTraceItem> tailCalls;
+
+        private final CallerFrame callerFrame;
+
+        private Snapshot(final DeveloperFunction function,
+                         final int lineNumber,
+                         final Collection<StackTraceItem> tailCalls,
+                         final CallerFrame callerFrame) {
+            this.function = function;
+            this.lineNumber = lineNumber;
+            this.tailCalls = tailCalls;
+            this.callerFrame = callerFrame;
+        }
+
+        @Override
+        public List<StackTraceItem> getStackTrace() {
+            final List<StackTraceItem> stackTrace = new ArrayList<>();
+            stackTrace.add(new StackTraceItemImpl(function, lineNumber));
+            if (tailCalls != null) {
+                stackTrace.addAll(tailCalls);
+            }
+            for (CallerFrame frame = callerFrame; frame != null; frame = frame.parent) {
+                stackTrace.add(new StackTraceItemImpl(frame.function, frame.lineNumber));
+                if (frame.tailCalls != null) {
+                    stackTrace.addAll(frame.tailCalls);
+                }
+            }
+            return unmodifiableList(stackTrace);
+        }
+    }
 }
@@ -17,7 +17,6 @@
 
 package com.revenat.javamm.interpreter.component.impl;
 
-import com.revenat.javamm.code.component.ExpressionContext;
 import com.revenat.javamm.code.fragment.Expression;
 import com.revenat.javamm.code.fragment.Variable;
 import com.revenat.javamm.code.fragment.function.DeveloperFunction;
@@ -25,17 +24,31 @@ import com.revenat.javamm.interpreter.component.BlockOperationInterpreter;
 import com.revenat.javamm.interpreter.component.DeveloperFunctionInvoker;
 import com.revenat.javamm.interpreter.component.LocalContextBuilder;
 import com.revenat.javamm.interpreter.component.impl.error.JavammLineRuntimeError;
-import com.revenat.javamm.interpreter.component.impl.operation.exception.InterruptOperationException;
-import com.revenat.javamm.interpreter.component.impl.operation.exception.ReturnOperationException;
+import com.revenat.javamm.interpreter.component.impl.error.JavammStackOverflowError;
+import com.revenat.javamm.interpreter.model.Completion;
 import com.revenat.javamm.interpreter.model.CurrentRuntime;
-import com.revenat.javamm.interpreter.model.CurrentRuntimeProvider;
+import com.revenat.javamm.interpreter.model.ExecutionContext;
 import com.revenat.javamm.interpreter.model.LocalContext;
+import com.revenat.javamm.interpreter.model.TailCall;
 
 import java.util.List;
 
+import static com.revenat.javamm.code.syntax.Keywords.BREAK;
+import static com.revenat.javamm.code.syntax.Keywords.CONTINUE;
 import static java.util.Objects.requireNonNull;
 
 /**
+ * Functions invoked from the {@linkplain TailCall tail position} are performed in
+ * the loop which reuses the root local context and the stack frame of the function
+ * that has invoked them, so tail recursive functions run in constant stack.
+ *
+ * <p>Other invocations are recursive, so the depth of the script call stack is also
+ * limited by the stack of the JVM.
+ *
+ * <p>Results of the {@linkplain DeveloperFunction#isPure() pure functions} are
+ * stored in the {@linkplain MemoizationCache memoization cache}, so the repeated
+ * invocations with the same arguments are not performed again.
+ *
  * @author Vitaliy Dragun
  */
 public class DeveloperFunctionInvokerImpl implements DeveloperFunctionInvoker {
@@ -44,69 +57,147 @@ public class DeveloperFunctionInvokerImpl implements DeveloperFunctionInvoker {
 
     private final BlockOperationInterpreter blockOperationInterpreter;
 
-    private final ExpressionContext expressionContext;
+    private final MemoizationCache memoizationCache;
+
+    public DeveloperFunctionInvokerImpl(final LocalContextBuilder localContextBuilder,
+                                        final BlockOperationInterpreter blockOperationInterpreter) {
+        this(localContextBuilder, blockOperationInterpreter, new MemoizationCache(0));
+    }
 
     public DeveloperFunctionInvokerImpl(final LocalContextBuilder localContextBuilder,
                                         final BlockOperationInterpreter blockOperationInterpreter,
-                                        final ExpressionContext expressionContext) {
+                                        final MemoizationCache memoizationCache) {
         this.localContextBuilder = requireNonNull(localContextBuilder);
         this.blockOperationInterpreter = requireNonNull(blockOperationInterpreter);
-        this.expressionContext = requireNonNull(expressionContext);
+        this.memoizationCache = requireNonNull(memoizationCache);
     }
 
     @Override
-    public Object invokeMain(final DeveloperFunction mainFunction) {
-        final CurrentRuntime currentRuntime = getCurrentRuntime();
-        final LocalContext localContext = localContextBuilder.buildLocalContext();
+    public Object invokeMain(final ExecutionContext executionContext, final DeveloperFunction mainFunction) {
+        final CurrentRuntime currentRuntime = executionContext.getCurrentRuntime();
+        final LocalContext localContext = localContextBuilder.buildLocalContext(mainFunction);
 
         try {
             currentRuntime.setCurrentLocalContext(localContext);
             currentRuntime.enterToFunction(mainFunction);
-            return interpretFunctionBody(mainFunction);
+            return performTailCalls(executionContext, localContext,
+                interpretFunctionBody(executionContext, mainFunction));
         } finally {
             currentRuntime.exitFromFunction();
         }
     }
 
     @Override
-    public Object invoke(final DeveloperFunction function, final List<Expression> arguments) {
-        final CurrentRuntime currentRuntime = getCurrentRuntime();
+    public Object invoke(final ExecutionContext executionContext,
+                         final DeveloperFunction function,
+                         final List<Expression> arguments) {
+        final Object[] argumentValues = new Object[arguments.size()];
+        for (int i = 0; i < argumentValues.length; i++) {
+            argumentValues[i] = arguments.get(i).getValue(executionContext);
+        }
+        return invoke(executionContext, function, argumentValues);
+    }
+
+    @Override
+    public Object invoke(final ExecutionContext executionContext,
+                         final DeveloperFunction function,
+                         final Object[] argumentValues) {
+        if (isMemoized(function)) {
+            return invokeMemoized(executionContext, function, argumentValues);
+        } else {
+            return invokeFunction(executionContext, function, argumentValues);
+        }
+    }
+
+    /**
+     * Returns {@code true} if result of the specified function is looked up in the
+     * memoization cache before the function is performed
+     */
+    protected boolean isMemoized(final DeveloperFunction function) {
+        return memoizationCache.isApplicable(function);
+    }
+
+    private Object invokeMemoized(final ExecutionContext executionContext,
+                                  final DeveloperFunction function,
+                                  final Object[] argumentValues) {
+        final Object cachedResult = memoizationCache.get(function, argumentValues);
+        if (cachedResult != MemoizationCache.NOT_CACHED) {
+            return cachedResult;
+        }
+        final Object result = invokeFunction(executionContext, function, argumentValues);
+        memoizationCache.put(function, argumentValues, result);
+        return result;
+    }
+
+    private Object invokeFunction(final ExecutionContext executionContext,
+                                  final DeveloperFunction function,
+                                  final Object[] argumentValues) {
+        final CurrentRuntime currentRuntime = executionContext.getCurrentRuntime();
         final LocalContext currentLocalContext = currentRuntime.getCurrentLocalContext();
 
-        final LocalContext separateLocalContext = localContextBuilder.buildLocalContext();
-        setFunctionParametersIntoLocalContext(function.getParameters(), arguments, separateLocalContext);
+        final LocalContext separateLocalContext = localContextBuilder.buildLocalContext(function);
+        setFunctionParametersIntoLocalContext(function.getParameters(), argumentValues, separateLocalContext);
         try {
             currentRuntime.setCurrentLocalContext(separateLocalContext);
             currentRuntime.enterToFunction(function);
-            return interpretFunctionBody(function);
+            return performTailCalls(executionContext, separateLocalContext,
+                interpretFunctionBody(executionContext, function));
+        } catch (final StackOverflowError e) {
+            // Error is thrown by the first invocation which has enough stack to build it
+            throw new JavammStackOverflowError("Stack overflow error. Stack of the JVM is exhausted");
         } finally {
             currentRuntime.setCurrentLocalContext(currentLocalContext);
             currentRuntime.exitFromFunction();
         }
     }
 
-    private void setFunctionParametersIntoLocalContext(final List<Variable> parameters,
-                                                       final List<Expression> arguments,
-                                                       final LocalContext functionLocalContext) {
-        for (int i = 0; i < parameters.size(); i++) {
-            final Variable parameter = parameters.get(i);
-            final Object argumentValue = arguments.get(i).getValue(expressionContext);
-            functionLocalContext.setVariableValue(parameter, argumentValue);
+    private Object performTailCalls(final ExecutionContext executionContext,
+                                    final LocalContext functionLocalContext,
+                                    final Object functionResult) {
+        final CurrentRuntime currentRuntime = executionContext.getCurrentRuntime();
+        Object result = functionResult;
+        while (result instanceof TailCall) {
+            final TailCall tailCall = (TailCall) result;
+            final DeveloperFunction function = tailCall.getFunction();
+            functionLocalContext.reset();
+            setFunctionParametersIntoLocalContext(function.getParameters(), tailCall.getArgumentValues(),
+                functionLocalContext);
+            currentRuntime.setCurrentLocalContext(functionLocalContext);
+            currentRuntime.replaceCurrentFunction(function);
+            result = interpretFunctionBody(executionContext, function);
         }
+        return result;
     }
 
-    private Object interpretFunctionBody(final DeveloperFunction function) {
-        try {
-            blockOperationInterpreter.interpret(function.getBody());
-            return com.revenat.javamm.code.fragment.Void.INSTANCE;
-        } catch (final ReturnOperationException e) {
-            return e.getReturnValue();
-        } catch (final InterruptOperationException e) {
-            throw new JavammLineRuntimeError("Operation '%s' is not expected here", e.getOperation());
+    protected void setFunctionParametersIntoLocalContext(final List<Variable> parameters,
+                                                         final Object[] argumentValues,
+                                                         final LocalContext functionLocalContext) {
+        for (int i = 0; i < parameters.size(); i++) {
+            functionLocalContext.setVariableValue(parameters.get(i), argumentValues[i]);
         }
     }
 
-    private CurrentRuntime getCurrentRuntime() {
-        return CurrentRuntimeProvider.getCurrentRuntime();
+    /**
+     * Executes body of the specified function inside already prepared local
+     * context and returns result of such function
+     */
+    protected Object interpretFunctionBody(final ExecutionContext executionContext, final DeveloperFunction function) {
+        final Completion completion = blockOperationInterpreter.interpret(executionContext, function.getBody());
+        return getFunctionResult(executionContext, completion);
+    }
+
+    /**
+     * Converts {@linkplain Completion completion status} of the function body into
+     * result of such function
+     */
+    protected Object getFunctionResult(final ExecutionContext executionContext, final Completion completion) {
+        if (completion == Completion.NORMAL) {
+            return com.revenat.javamm.code.fragment.Void.INSTANCE;
+        } else if (completion == Completion.RETURN) {
+            return executionContext.getCurrentRuntime().releaseReturnValue();
+        } else {
+            throw new JavammLineRuntimeError("Operation '%s' is not expected here",
+                completion == Completion.BREAK ? BREAK : CONTINUE);
+        }
     }
 }
@@ -17,47 +17,45 @@
 
 package com.revenat.javamm.interpreter.component.impl;
 
-import com.revenat.javamm.code.component.ExpressionContext;
 import com.revenat.javamm.code.exception.ConfigException;
 import com.revenat.javamm.code.fragment.Expression;
 import com.revenat.javamm.code.fragment.UpdatableExpression;
-import com.revenat.javamm.interpreter.component.ExpressionContextAware;
+import com.revenat.javamm.interpreter.component.ExecutionContextBuilder;
 import com.revenat.javamm.interpreter.component.ExpressionEvaluator;
 import com.revenat.javamm.interpreter.component.ExpressionUpdater;
+import com.revenat.javamm.interpreter.model.CurrentRuntime;
+import com.revenat.javamm.interpreter.model.ExecutionContext;
 
 import java.util.Map;
 import java.util.Set;
 import java.util.function.BinaryOperator;
 
 import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
 import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.toUnmodifiableMap;
 
 /**
+ * Builds {@linkplain ExecutionContext execution contexts} which share the same
+ * set of expression evaluators and updaters
+ *
  * @author Vitaliy Dragun
  */
 @SuppressWarnings({"rawtypes", "unchecked"})
-public class ExpressionContextImpl implements ExpressionContext {
+public class ExecutionContextBuilderImpl implements ExecutionContextBuilder {
     private final Map<Class<? extends Expression>, ExpressionEvaluator> expressionEvaluatorMap;
 
     private final Map<Class<? extends UpdatableExpression>, ExpressionUpdater> expressionUpdaterMap;
 
-    public ExpressionContextImpl(final Set<ExpressionEvaluator<?>> expressionEvaluators,
-                                 final Set<ExpressionUpdater<?>> expressionUpdaters) {
+    public ExecutionContextBuilderImpl(final Set<ExpressionEvaluator<?>> expressionEvaluators,
+                                       final Set<ExpressionUpdater<?>> expressionUpdaters) {
         this.expressionEvaluatorMap = getExpressionEvaluators(expressionEvaluators);
         this.expressionUpdaterMap = getExpressionUpdaters(expressionUpdaters);
     }
 
     @Override
-    public Object getValue(final Expression expression) {
-        final ExpressionEvaluator evaluator = getExpressionEvaluatorFor(expression);
-        return evaluator.evaluate(expression);
-    }
-
-    @Override
-    public void setValue(final UpdatableExpression updatableExpression, final Object updatedValue) {
-        final ExpressionUpdater updater = getExpressionUpdaterFor(updatableExpression);
-        updater.update(updatableExpression, updatedValue);
+    public ExecutionContext buildExecutionContext(final CurrentRuntime currentRuntime) {
+        return new ExecutionContextImpl(currentRuntime);
     }
 
     private ExpressionUpdater getExpressionUpdaterFor(final UpdatableExpression updatableExpression) {
@@ -79,7 +77,6 @@ public class ExpressionContextImpl implements ExpressionContext {
     private Map<Class<? extends Expression>, ExpressionEvaluator> getExpressionEvaluators(
         final Set<ExpressionEvaluator<?>> expressionEvaluators) {
         return expressionEvaluators.stream()
-            .peek(this::setExpressionContextIfAware)
             .collect(
                 toUnmodifiableMap(
                     ExpressionEvaluator::getExpressionClass, identity(), checkForEvaluatorDuplicates()));
@@ -88,18 +85,11 @@ public class ExpressionContextImpl implements ExpressionContext {
     private Map<Class<? extends UpdatableExpression>, ExpressionUpdater> getExpressionUpdaters(
         final Set<ExpressionUpdater<?>> expressionUpdaters) {
         return expressionUpdaters.stream()
-            .peek(this::setExpressionContextIfAware)
             .collect(
                 toUnmodifiableMap(
                     ExpressionUpdater::getExpressionClass, identity(), checkForUpdaterDuplicates()));
     }
 
-    private void setExpressionContextIfAware(final Object instance) {
-        if (instance instanceof ExpressionContextAware) {
-            ((ExpressionContextAware) instance).setExpressionContext(this);
-        }
-    }
-
     private BinaryOperator<ExpressionEvaluator> checkForEvaluatorDuplicates() {
         return (e1, e2) -> {
             throw configException("Duplicate of ExpressionEvaluator found: expression=%s, evaluator1=%s, evaluator2=%s",
@@ -117,4 +107,33 @@ public class ExpressionContextImpl implements ExpressionContext {
     private ConfigException configException(final String msg, final Object... args) {
         return new ConfigException(format(msg, args));
     }
+
+    /**
+     * Execution context which passes itself to the evaluators and updaters
+     */
+    private final class ExecutionContextImpl implements ExecutionContext {
+
+        private final CurrentRuntime currentRuntime;
+
+        private ExecutionContextImpl(final CurrentRuntime currentRuntime) {
+            this.currentRuntime = requireNonNull(currentRuntime);
+        }
+
+        @Override
+        public CurrentRuntime getCurrentRuntime() {
+            return currentRuntime;
+        }
+
+        @Override
+        public Object getValue(final Expression expression) {
+            final ExpressionEvaluator evaluator = getExpressionEvaluatorFor(expression);
+            return evaluator.evaluate(this, expression);
+        }
+
+        @Override
+        public void setValue(final UpdatableExpression updatableExpression, final Object updatedValue) {
+            final ExpressionUpdater updater = getExpressionUpdaterFor(updatableExpression);
+            updater.update(this, updatableExpression, updatedValue);
+        }
+    }
 }
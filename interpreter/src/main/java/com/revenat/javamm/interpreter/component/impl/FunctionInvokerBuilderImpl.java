@@ -26,6 +26,7 @@ import com.revenat.javamm.interpreter.component.FunctionInvoker;
 import com.revenat.javamm.interpreter.component.FunctionInvokerBuilder;
 import com.revenat.javamm.interpreter.component.impl.error.JavammLineRuntimeError;
 import com.revenat.javamm.interpreter.component.impl.error.JavammStructRuntimeError;
+import com.revenat.javamm.interpreter.model.ExecutionContext;
 
 import java.util.List;
 import java.util.Optional;
@@ -38,33 +39,43 @@ import static java.util.Objects.requireNonNull;
  */
 public class FunctionInvokerBuilderImpl implements FunctionInvokerBuilder {
 
-    private final DeveloperFunctionInvoker developerFunctionInvoker;
+    private final DeveloperFunctionInvoker interpretingInvoker;
+
+    private final DeveloperFunctionInvoker compilingInvoker;
 
     public FunctionInvokerBuilderImpl(final DeveloperFunctionInvoker developerFunctionInvoker) {
-        this.developerFunctionInvoker = requireNonNull(developerFunctionInvoker);
+        this(developerFunctionInvoker, developerFunctionInvoker);
+    }
+
+    /**
+     * @param interpretingInvoker invoker of the functions which have no linear code
+     * @param compilingInvoker    invoker of the functions with linear code
+     */
+    public FunctionInvokerBuilderImpl(final DeveloperFunctionInvoker interpretingInvoker,
+                                      final DeveloperFunctionInvoker compilingInvoker) {
+        this.interpretingInvoker = requireNonNull(interpretingInvoker);
+        this.compilingInvoker = requireNonNull(compilingInvoker);
     }
 
     @Override
     public FunctionInvoker build(final ByteCode byteCode) {
-        return new FunctionInvokerImpl(developerFunctionInvoker, byteCode);
+        return new FunctionInvokerImpl(byteCode);
     }
 
-    private static final class FunctionInvokerImpl implements FunctionInvoker {
-
-        private final DeveloperFunctionInvoker developerFunctionInvoker;
+    private final class FunctionInvokerImpl implements FunctionInvoker {
 
         private final ByteCode byteCode;
 
-        private FunctionInvokerImpl(final DeveloperFunctionInvoker developerFunctionInvoker, final ByteCode byteCode) {
-            this.developerFunctionInvoker = requireNonNull(developerFunctionInvoker);
+        private FunctionInvokerImpl(final ByteCode byteCode) {
             this.byteCode = requireNonNull(byteCode);
         }
 
         @Override
-        public Object invokeMain() {
+        public Object invokeMain(final ExecutionContext executionContext) {
             final Optional<DeveloperFunction> functionOptional = byteCode.getMainFunction();
             if (functionOptional.isPresent()) {
-                return developerFunctionInvoker.invokeMain(functionOptional.get());
+                final DeveloperFunction mainFunction = functionOptional.get();
+                return selectInvoker(mainFunction).invokeMain(executionContext, mainFunction);
             } else {
                 throw new JavammStructRuntimeError(
                     "Main function not found, please define the main function as: '%s %s'",
@@ -72,12 +83,45 @@ public class FunctionInvokerBuilderImpl implements FunctionInvokerBuilder {
             }
         }
 
-        @SuppressWarnings("checkstyle:TodoComment")
         @Override
-        public Object invoke(final FunctionName functionName, final List<Expression> arguments) {
+        public Object invoke(final ExecutionContext executionContext,
+                             final FunctionName functionName,
+                             final List<Expression> arguments) {
+            final DeveloperFunction function = getFunction(functionName);
+            return selectInvoker(function).invoke(executionContext, function, arguments);
+        }
+
+        @Override
+        public Object invoke(final ExecutionContext executionContext,
+                             final DeveloperFunction function,
+                             final List<Expression> arguments) {
+            return selectInvoker(function).invoke(executionContext, function, arguments);
+        }
+
+        @Override
+        public Object invoke(final ExecutionContext executionContext,
+                             final FunctionName functionName,
+                             final Object[] argumentValues) {
+            final DeveloperFunction function = getFunction(functionName);
+            return selectInvoker(function).invoke(executionContext, function, argumentValues);
+        }
+
+        @Override
+        public Object invoke(final ExecutionContext executionContext,
+                             final DeveloperFunction function,
+                             final Object[] argumentValues) {
+            return selectInvoker(function).invoke(executionContext, function, argumentValues);
+        }
+
+        private DeveloperFunctionInvoker selectInvoker(final DeveloperFunction function) {
+            return function.getCode().isPresent() ? compilingInvoker : interpretingInvoker;
+        }
+
+        @SuppressWarnings("checkstyle:TodoComment")
+        private DeveloperFunction getFunction(final FunctionName functionName) {
             final Optional<DeveloperFunction> functionOptional = byteCode.getFunction(functionName);
             if (functionOptional.isPresent()) {
-                return developerFunctionInvoker.invoke(functionOptional.get(), arguments);
+                return functionOptional.get();
             } else {
                 // TODO: Add support for standard functions -> try to find and call library function
                 throw new JavammLineRuntimeError("Function '%s' is not defined", functionName);
@@ -19,11 +19,19 @@ package com.revenat.javamm.interpreter.component.impl;
 
 import com.revenat.javamm.code.fragment.ByteCode;
 import com.revenat.javamm.interpreter.Interpreter;
+import com.revenat.javamm.interpreter.component.ExecutionContextBuilder;
 import com.revenat.javamm.interpreter.component.FunctionInvoker;
 import com.revenat.javamm.interpreter.component.FunctionInvokerBuilder;
 import com.revenat.javamm.interpreter.component.RuntimeBuilder;
+import com.revenat.javamm.interpreter.error.TerminateInterpreterException;
 import com.revenat.javamm.interpreter.model.CurrentRuntime;
 import com.revenat.javamm.interpreter.model.CurrentRuntimeProvider;
+import com.revenat.javamm.interpreter.model.ExecutionContext;
+import com.revenat.javamm.interpreter.model.MemoizationStatistics;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static java.util.Objects.requireNonNull;
 
@@ -38,23 +46,61 @@ public class InterpreterImpl implements Interpreter {
 
     private final RuntimeBuilder runtimeBuilder;
 
+    private final ExecutionContextBuilder executionContextBuilder;
+
+    private final MemoizationCache memoizationCache;
+
+    private final Set<CurrentRuntime> runningRuntimes = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Termination request which is not consumed by any interpretation yet
+     */
+    private final AtomicBoolean terminationPending = new AtomicBoolean();
+
     public InterpreterImpl(final FunctionInvokerBuilder blockOperationInterpreter,
-                           final RuntimeBuilder runtimeBuilder) {
+                           final RuntimeBuilder runtimeBuilder,
+                           final ExecutionContextBuilder executionContextBuilder,
+                           final MemoizationCache memoizationCache) {
         this.functionInvokerBuilder = requireNonNull(blockOperationInterpreter);
         this.runtimeBuilder = requireNonNull(runtimeBuilder);
+        this.executionContextBuilder = requireNonNull(executionContextBuilder);
+        this.memoizationCache = requireNonNull(memoizationCache);
     }
 
     @Override
     public void interpret(final ByteCode byteCode) {
         final FunctionInvoker functionInvoker = functionInvokerBuilder.build(byteCode);
-        setCurrentRuntime(runtimeBuilder.buildCurrentRuntime(functionInvoker));
+        final CurrentRuntime currentRuntime = runtimeBuilder.buildCurrentRuntime(functionInvoker);
+        final ExecutionContext executionContext = executionContextBuilder.buildExecutionContext(currentRuntime);
+        setCurrentRuntime(currentRuntime);
+        runningRuntimes.add(currentRuntime);
         try {
-            functionInvoker.invokeMain();
+            // checked after the registration, so concurrent terminate() either sees the runtime or sets the flag
+            if (terminationPending.getAndSet(false)) {
+                throw new TerminateInterpreterException();
+            }
+            functionInvoker.invokeMain(executionContext);
         } finally {
+            runningRuntimes.remove(currentRuntime);
+            // request delivered to this interpretation must not terminate the next one
+            terminationPending.set(false);
             releaseCurrentRuntime();
         }
     }
 
+    @Override
+    public void terminate() {
+        terminationPending.set(true);
+        for (final CurrentRuntime currentRuntime : runningRuntimes) {
+            currentRuntime.requestTermination();
+        }
+    }
+
+    @Override
+    public MemoizationStatistics getMemoizationStatistics() {
+        return memoizationCache.getStatistics();
+    }
+
     private void setCurrentRuntime(final CurrentRuntime currentRuntime) {
         CurrentRuntimeProvider.setCurrentRuntime(currentRuntime);
     }
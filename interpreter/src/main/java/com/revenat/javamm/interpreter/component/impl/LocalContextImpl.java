@@ -18,53 +18,134 @@
 package com.revenat.javamm.interpreter.component.impl;
 
 import com.revenat.javamm.code.fragment.Variable;
+import com.revenat.javamm.code.fragment.function.DeveloperFunction;
 import com.revenat.javamm.interpreter.component.impl.error.JavammLineRuntimeError;
 import com.revenat.javamm.interpreter.model.LocalContext;
+import com.revenat.javamm.interpreter.model.TypedValue;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 
 import static java.util.Objects.requireNonNull;
 
 /**
+ * Array-backed frame of the function local variables. Each {@linkplain Variable variable}
+ * is stored in the slot assigned to it by compiler, so child local contexts share
+ * the arrays of their parent and only track slots which have been defined within them
+ * in order to undefine such slots when disposed. Integer and double values set via
+ * {@linkplain TypedValue typed values} are kept unboxed in the primitive lane and
+ * boxed only when they are requested as objects.
+ *
+ * <p>Frames of the {@linkplain DeveloperFunction#isVerified() verified} functions
+ * do not check whether variable is defined before reading it and whether final
+ * is changed, since compiler guarantees that it never happens.
+ *
  * @author Vitaliy Dragun
  */
 public class LocalContextImpl implements LocalContext {
-    private final Map<Variable, Object> variables = new HashMap<>();
+    private static final Object UNDEFINED = new Object();
+
+    private static final Object UNBOXED = new Object();
+
+    private Object[] values;
+
+    private TypedValue.Type[] primitiveTypes;
+
+    private long[] primitives;
 
-    private final Map<Variable, Object> finals = new HashMap<>();
+    private boolean[] finals;
+
+    private int[] definedSlots;
+
+    private int definedSlotCount;
+
+    private final boolean verified;
+
+    public LocalContextImpl(final int frameSize) {
+        this(frameSize, false);
+    }
+
+    /**
+     * @param verified whether the variables are accessed by the verified function, so
+     *                 the runtime checks can be skipped
+     */
+    public LocalContextImpl(final int frameSize, final boolean verified) {
+        this.verified = verified;
+        values = new Object[frameSize];
+        finals = new boolean[frameSize];
+        definedSlots = new int[frameSize];
+        Arrays.fill(values, UNDEFINED);
+    }
 
     @Override
     public void setFinalValue(final Variable variable, final Object value) {
-        assertNoSuchFinalDefined(requireNonNull(variable));
-        assertNoSuchVariableDefined(requireNonNull(variable));
+        final int slot = requireNonNull(variable).getSlot();
+        if (!verified) {
+            assertNoSuchFinalDefined(variable);
+            assertNoSuchVariableDefined(variable);
+        }
 
-        finals.put(variable, value);
+        define(slot, value);
+        finals[slot] = true;
     }
 
     @Override
     public void setVariableValue(final Variable variable, final Object value) {
-        assertNoSuchFinalDefined(requireNonNull(variable));
+        final int slot = requireNonNull(variable).getSlot();
+        assertNoSuchFinalDefinedIfNotVerified(variable);
 
-        variables.put(variable, value);
+        if (isDefined(slot)) {
+            values[slot] = value;
+        } else {
+            define(slot, value);
+        }
     }
 
     @Override
     public boolean isVariableDefined(final Variable variable) {
-        requireNonNull(variable);
-        return variables.containsKey(variable) || finals.containsKey(variable);
+        return isDefined(requireNonNull(variable).getSlot());
     }
 
     @Override
     public Object getVariableValue(final Variable variable) {
-        if (!isVariableDefined(variable)) {
+        final int slot = requireNonNull(variable).getSlot();
+        if (!verified && !isDefined(slot)) {
+            throw new JavammLineRuntimeError("Variable '%s' is not defined", variable);
+        }
+        if (values[slot] == UNBOXED) {
+            values[slot] = box(slot);
+        }
+        return values[slot];
+    }
+
+    @Override
+    public void getVariableValue(final Variable variable, final TypedValue value) {
+        final int slot = requireNonNull(variable).getSlot();
+        if (!verified && !isDefined(slot)) {
             throw new JavammLineRuntimeError("Variable '%s' is not defined", variable);
         }
+        if (values[slot] != UNBOXED) {
+            value.setObject(values[slot]);
+        } else if (primitiveTypes[slot] == TypedValue.Type.INTEGER) {
+            value.setInteger((int) primitives[slot]);
+        } else {
+            value.setDouble(Double.longBitsToDouble(primitives[slot]));
+        }
+    }
+
+    @Override
+    public void setVariableValue(final Variable variable, final TypedValue value) {
+        if (value.isUnboxed()) {
+            final int slot = requireNonNull(variable).getSlot();
+            assertNoSuchFinalDefinedIfNotVerified(variable);
 
-        if (variables.containsKey(variable)) {
-            return variables.get(variable);
+            if (isDefined(slot)) {
+                values[slot] = UNBOXED;
+            } else {
+                define(slot, UNBOXED);
+            }
+            setPrimitive(slot, value);
         } else {
-            return finals.get(variable);
+            setVariableValue(variable, value.toObject());
         }
     }
 
@@ -73,52 +154,136 @@ public class LocalContextImpl implements LocalContext {
         return new ChildLocalContext();
     }
 
+    @Override
+    public void dispose() {
+        // root frame is released along with the function invocation
+    }
+
+    @Override
+    public void reset() {
+        undefineSlotsDefinedAfter(0);
+    }
+
+    private boolean isDefined(final int slot) {
+        return slot < values.length && values[slot] != UNDEFINED;
+    }
+
+    private Object box(final int slot) {
+        if (primitiveTypes[slot] == TypedValue.Type.INTEGER) {
+            return (int) primitives[slot];
+        } else {
+            return Double.longBitsToDouble(primitives[slot]);
+        }
+    }
+
+    private void setPrimitive(final int slot, final TypedValue value) {
+        if (primitives == null || primitives.length < values.length) {
+            primitiveTypes = primitiveTypes == null
+                ? new TypedValue.Type[values.length]
+                : Arrays.copyOf(primitiveTypes, values.length);
+            primitives = primitives == null ? new long[values.length] : Arrays.copyOf(primitives, values.length);
+        }
+        primitiveTypes[slot] = value.getType();
+        if (value.isInteger()) {
+            primitives[slot] = value.getInteger();
+        } else {
+            primitives[slot] = Double.doubleToRawLongBits(value.getDouble());
+        }
+    }
+
+    private void define(final int slot, final Object value) {
+        ensureCapacity(slot + 1);
+        values[slot] = value;
+        definedSlots[definedSlotCount++] = slot;
+    }
+
+    private void undefineSlotsDefinedAfter(final int definedSlotMark) {
+        while (definedSlotCount > definedSlotMark) {
+            final int slot = definedSlots[--definedSlotCount];
+            values[slot] = UNDEFINED;
+            finals[slot] = false;
+        }
+    }
+
+    private void ensureCapacity(final int frameSize) {
+        if (frameSize > values.length) {
+            final int oldSize = values.length;
+            values = Arrays.copyOf(values, frameSize);
+            finals = Arrays.copyOf(finals, frameSize);
+            definedSlots = Arrays.copyOf(definedSlots, frameSize);
+            Arrays.fill(values, oldSize, frameSize, UNDEFINED);
+        }
+    }
+
+    private void assertNoSuchFinalDefinedIfNotVerified(final Variable variable) {
+        if (!verified) {
+            assertNoSuchFinalDefined(variable);
+        }
+    }
+
     private void assertNoSuchFinalDefined(final Variable variable) {
-        if (finals.containsKey(variable)) {
+        final int slot = variable.getSlot();
+        if (isDefined(slot) && finals[slot]) {
             throw new JavammLineRuntimeError("Final variable '%s' can not be changed", variable.getName());
         }
     }
 
     private void assertNoSuchVariableDefined(final Variable variable) {
-        if (variables.containsKey(variable)) {
+        final int slot = variable.getSlot();
+        if (isDefined(slot) && !finals[slot]) {
             throw new JavammLineRuntimeError(
                 "Can not set value for final '%s': variable with same name is already defined",
                 variable.getName());
         }
     }
 
-    private class ChildLocalContext extends LocalContextImpl {
+    private class ChildLocalContext implements LocalContext {
+
+        private final int definedSlotMark = definedSlotCount;
+
+        @Override
+        public void setFinalValue(final Variable variable, final Object value) {
+            LocalContextImpl.this.setFinalValue(variable, value);
+        }
 
         @Override
         public void setVariableValue(final Variable variable, final Object value) {
-            if (LocalContextImpl.this.isVariableDefined(variable)) {
-                LocalContextImpl.this.setVariableValue(variable, value);
-            } else {
-                super.setVariableValue(variable, value);
-            }
+            LocalContextImpl.this.setVariableValue(variable, value);
         }
 
         @Override
-        public void setFinalValue(final Variable variable, final Object value) {
-            if (LocalContextImpl.this.isVariableDefined(variable)) {
-                LocalContextImpl.this.setFinalValue(variable, value);
-            } else {
-                super.setFinalValue(variable, value);
-            }
+        public boolean isVariableDefined(final Variable variable) {
+            return LocalContextImpl.this.isVariableDefined(variable);
         }
 
         @Override
         public Object getVariableValue(final Variable variable) {
-            if (LocalContextImpl.this.isVariableDefined(variable)) {
-                return LocalContextImpl.this.getVariableValue(variable);
-            } else {
-                return super.getVariableValue(variable);
-            }
+            return LocalContextImpl.this.getVariableValue(variable);
         }
 
         @Override
-        public boolean isVariableDefined(final Variable variable) {
-            return LocalContextImpl.this.isVariableDefined(variable) || super.isVariableDefined(variable);
+        public void getVariableValue(final Variable variable, final TypedValue value) {
+            LocalContextImpl.this.getVariableValue(variable, value);
+        }
+
+        @Override
+        public void setVariableValue(final Variable variable, final TypedValue value) {
+            LocalContextImpl.this.setVariableValue(variable, value);
+        }
+
+        @Override
+        public LocalContext createChildLocalContext() {
+            return new ChildLocalContext();
+        }
+
+        @Override
+        public void dispose() {
+            undefineSlotsDefinedAfter(definedSlotMark);
+        }
+
+        @Override
+        public void reset() {
+            dispose();
         }
     }
 }
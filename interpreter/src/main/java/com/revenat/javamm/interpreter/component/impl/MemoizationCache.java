@@ -0,0 +1,139 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.interpreter.component.impl;
+
+import com.revenat.javamm.code.fragment.function.DeveloperFunction;
+import com.revenat.javamm.interpreter.model.MemoizationStatistics;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Size bounded cache of the results of the {@linkplain DeveloperFunction#isPure()
+ * pure functions} keyed by the invoked function and values of its arguments.
+ * When the cache is full, the least recently used result is evicted.
+ *
+ * <p>Cache is shared by all threads, so lookups and updates are synchronized,
+ * but the result itself is calculated outside of the lock.
+ *
+ * @author Vitaliy Dragun
+ */
+public class MemoizationCache {
+
+    /**
+     * Returned by {@link #get(DeveloperFunction, Object[])} if there is no cached
+     * result, since {@code null} is a valid result of the function
+     */
+    public static final Object NOT_CACHED = new Object();
+
+    private final int maxSize;
+
+    private final Map<Key, Object> results;
+
+    private long hitCount;
+
+    private long missCount;
+
+    /**
+     * @param maxSize max number of the cached results. Zero disables memoization
+     */
+    public MemoizationCache(final int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("maxSize can not be negative");
+        }
+        this.maxSize = maxSize;
+        this.results = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Key, Object> eldest) {
+                return size() > MemoizationCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns {@code true} if results of the specified function are cached
+     */
+    public boolean isApplicable(final DeveloperFunction function) {
+        return maxSize > 0 && function.isPure();
+    }
+
+    /**
+     * Returns cached result of the function invoked with the specified arguments
+     * or {@link #NOT_CACHED}
+     */
+    public synchronized Object get(final DeveloperFunction function, final Object[] argumentValues) {
+        final Object result = results.getOrDefault(new Key(function, argumentValues), NOT_CACHED);
+        if (result == NOT_CACHED) {
+            missCount++;
+        } else {
+            hitCount++;
+        }
+        return result;
+    }
+
+    public synchronized void put(final DeveloperFunction function, final Object[] argumentValues, final Object result) {
+        results.put(new Key(function, argumentValues.clone()), result);
+    }
+
+    public synchronized MemoizationStatistics getStatistics() {
+        return new MemoizationStatistics(hitCount, missCount, results.size());
+    }
+
+    public synchronized int size() {
+        return results.size();
+    }
+
+    /**
+     * Functions are compared by identity, since each compilation creates separate
+     * function instances
+     */
+    private static final class Key {
+
+        private final DeveloperFunction function;
+
+        private final Object[] argumentValues;
+
+        private final int hashCode;
+
+        private Key(final DeveloperFunction function, final Object[] argumentValues) {
+            this.function = requireNonNull(function);
+            this.argumentValues = requireNonNull(argumentValues);
+            this.hashCode = 31 * System.identityHashCode(function) + Arrays.hashCode(argumentValues);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            return function == other.function && Arrays.equals(argumentValues, other.argumentValues);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -17,6 +17,7 @@
 
 package com.revenat.javamm.interpreter.component.impl;
 
+import com.revenat.javamm.code.fragment.function.DeveloperFunction;
 import com.revenat.javamm.interpreter.component.FunctionInvoker;
 import com.revenat.javamm.interpreter.component.LocalContextBuilder;
 import com.revenat.javamm.interpreter.component.RuntimeBuilder;
@@ -30,17 +31,29 @@ public class RuntimeBuilderImpl implements RuntimeBuilder, LocalContextBuilder {
 
     private final int maxStackSize;
 
+    private final int tailCallStackTraceSize;
+
     public RuntimeBuilderImpl(final int maxStackSize) {
+        this(maxStackSize, 0);
+    }
+
+    /**
+     * @param tailCallStackTraceSize number of the most recent functions replaced by the
+     *                               tail calls which are kept in the stack trace of each
+     *                               stack frame
+     */
+    public RuntimeBuilderImpl(final int maxStackSize, final int tailCallStackTraceSize) {
         this.maxStackSize = maxStackSize;
+        this.tailCallStackTraceSize = tailCallStackTraceSize;
     }
 
     @Override
-    public LocalContext buildLocalContext() {
-        return new LocalContextImpl();
+    public LocalContext buildLocalContext(final DeveloperFunction function) {
+        return new LocalContextImpl(function.getFrameSize(), function.isVerified());
     }
 
     @Override
     public CurrentRuntime buildCurrentRuntime(final FunctionInvoker functionInvoker) {
-        return new CurrentRuntimeImpl(functionInvoker, maxStackSize);
+        return new CurrentRuntimeImpl(functionInvoker, maxStackSize, tailCallStackTraceSize);
     }
 }
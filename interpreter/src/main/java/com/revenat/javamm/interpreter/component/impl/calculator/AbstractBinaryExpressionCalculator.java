@@ -18,8 +18,10 @@
 package com.revenat.javamm.interpreter.component.impl.calculator;
 
 import com.revenat.javamm.code.component.ExpressionContext;
+import com.revenat.javamm.code.fragment.ConcatenatedString;
 import com.revenat.javamm.code.fragment.Expression;
 import com.revenat.javamm.code.fragment.operator.BinaryOperator;
+import com.revenat.javamm.code.util.OperatorUtils;
 import com.revenat.javamm.interpreter.component.BinaryExpressionCalculator;
 import com.revenat.javamm.interpreter.component.impl.error.JavammLineRuntimeError;
 
@@ -42,16 +44,44 @@ public abstract class AbstractBinaryExpressionCalculator implements BinaryExpres
         final Object value1 = expression1.getValue(expressionContext);
         final Object value2 = expression2.getValue(expressionContext);
 
-        return calculate(value1, value2);
+        return calculate(materialize(value1), materialize(value2));
     }
 
-    protected abstract Object calculate(Object value1, Object value2);
+    /**
+     * Calculates operator for the evaluated operands using {@linkplain OperatorUtils
+     * operator semantics} which compiler uses to fold constant expressions
+     */
+    protected Object calculate(final Object value1, final Object value2) {
+        final Object result;
+        try {
+            result = OperatorUtils.calculate(value1, operator, value2);
+        } catch (final ArithmeticException e) {
+            throw createDivisionByZeroError();
+        }
+        if (result == null) {
+            throw createNotSupportedTypesError(value1, value2);
+        }
+        return result;
+    }
+
+    /**
+     * Converts {@linkplain ConcatenatedString concatenated strings} into the plain
+     * strings before calculation, so calculators compare and hash them as any other
+     * string. Calculators which concatenate strings override this method
+     */
+    protected Object materialize(final Object value) {
+        return ConcatenatedString.materialize(value);
+    }
 
     @Override
     public BinaryOperator getOperator() {
         return operator;
     }
 
+    protected final JavammLineRuntimeError createDivisionByZeroError() {
+        return new JavammLineRuntimeError("/ by zero");
+    }
+
     protected final JavammLineRuntimeError createNotSupportedTypesError(final Object value1, final Object value2) {
         return new JavammLineRuntimeError("Operator '%s' is not supported for types: %s and %s",
             operator.getCode(),
@@ -18,8 +18,10 @@
 package com.revenat.javamm.interpreter.component.impl.calculator;
 
 import com.revenat.javamm.code.component.ExpressionContext;
+import com.revenat.javamm.code.fragment.ConcatenatedString;
 import com.revenat.javamm.code.fragment.Expression;
 import com.revenat.javamm.code.fragment.operator.UnaryOperator;
+import com.revenat.javamm.code.util.OperatorUtils;
 import com.revenat.javamm.interpreter.component.UnaryExpressionCalculator;
 import com.revenat.javamm.interpreter.component.impl.error.JavammLineRuntimeError;
 
@@ -38,10 +40,20 @@ public abstract class AbstractUnaryExpressionCalculator implements UnaryExpressi
     @Override
     public Object calculate(final ExpressionContext expressionContext, final Expression expression) {
         final Object value = expression.getValue(expressionContext);
-        return calculate(value);
+        return calculate(ConcatenatedString.materialize(value));
     }
 
-    protected abstract Object calculate(Object value);
+    /**
+     * Calculates operator for the evaluated operand using {@linkplain OperatorUtils
+     * operator semantics} which compiler uses to fold constant expressions
+     */
+    protected Object calculate(final Object value) {
+        final Object result = OperatorUtils.calculate(operator, value);
+        if (result == null) {
+            throw createNotSupportedTypesError(value);
+        }
+        return result;
+    }
 
     @Override
     public UnaryOperator getOperator() {
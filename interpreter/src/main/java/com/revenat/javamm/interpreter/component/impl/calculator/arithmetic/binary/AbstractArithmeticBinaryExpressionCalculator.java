@@ -14,13 +14,13 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-
 package com.revenat.javamm.interpreter.component.impl.calculator.arithmetic.binary;
 
+import com.revenat.javamm.code.component.ExpressionContext;
 import com.revenat.javamm.code.fragment.operator.BinaryOperator;
+import com.revenat.javamm.code.util.OperatorUtils;
 import com.revenat.javamm.interpreter.component.impl.calculator.AbstractBinaryExpressionCalculator;
-
-import static com.revenat.javamm.code.util.TypeUtils.confirmType;
+import com.revenat.javamm.interpreter.model.TypedValue;
 
 /**
  * @author Vitaliy Dragun
@@ -32,24 +32,25 @@ abstract class AbstractArithmeticBinaryExpressionCalculator extends AbstractBina
     }
 
     @Override
-    protected Object calculate(final Object value1, final Object value2) {
-        if (areIntegers(value1, value2)) {
-            return calculateForIntegers(value1, value2);
-        } else if (areNumbers(value1, value2)) {
-            return calculateForDoubles(value1, value2);
+    public void calculate(final ExpressionContext expressionContext,
+                          final TypedValue operand1,
+                          final TypedValue operand2,
+                          final TypedValue result) {
+        if (operand1.isInteger() && operand2.isInteger()) {
+            result.setInteger(calculateForIntegers(operand1.getInteger(), operand2.getInteger()));
+        } else if (operand1.isNumber() && operand2.isNumber()) {
+            result.setDouble(OperatorUtils.calculateForDoubles(operand1.getDouble(), getOperator(),
+                operand2.getDouble()));
+        } else {
+            super.calculate(expressionContext, operand1, operand2, result);
         }
-        throw createNotSupportedTypesError(value1, value2);
     }
 
-    protected abstract Integer calculateForIntegers(Object value1, Object value2);
-
-    protected abstract Double calculateForDoubles(Object value1, Object value2);
-
-    protected boolean areNumbers(final Object value1, final Object value2) {
-        return confirmType(Number.class, value1, value2);
-    }
-
-    protected boolean areIntegers(final Object value1, final Object value2) {
-        return confirmType(Integer.class, value1, value2);
+    private int calculateForIntegers(final int value1, final int value2) {
+        try {
+            return OperatorUtils.calculateForIntegers(value1, getOperator(), value2);
+        } catch (final ArithmeticException e) {
+            throw createDivisionByZeroError();
+        }
     }
 }
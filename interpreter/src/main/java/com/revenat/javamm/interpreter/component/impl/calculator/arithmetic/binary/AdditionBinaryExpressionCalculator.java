@@ -17,6 +17,7 @@
 
 package com.revenat.javamm.interpreter.component.impl.calculator.arithmetic.binary;
 
+import com.revenat.javamm.code.fragment.ConcatenatedString;
 import com.revenat.javamm.code.fragment.operator.BinaryOperator;
 import com.revenat.javamm.interpreter.component.BinaryExpressionCalculator;
 
@@ -25,11 +26,12 @@ import static com.revenat.javamm.code.fragment.operator.BinaryOperator.ASSIGNMEN
 
 /**
  * {@linkplain BinaryExpressionCalculator Binary expression calculator}
- * implementation for binary addition operator
+ * implementation for binary addition operator. Long strings are concatenated
+ * into the {@linkplain ConcatenatedString concatenated strings}, so repeated
+ * concatenation in the loop takes linear time
  *
  * @author Vitaliy Dragun
  */
-@SuppressWarnings("RedundantCast")
 public final class AdditionBinaryExpressionCalculator extends AbstractArithmeticBinaryExpressionCalculator {
 
     private AdditionBinaryExpressionCalculator(final BinaryOperator operator) {
@@ -45,33 +47,7 @@ public final class AdditionBinaryExpressionCalculator extends AbstractArithmetic
     }
 
     @Override
-    protected Object calculate(final Object value1, final Object value2) {
-        if (areIntegers(value1, value2)) {
-            return calculateForIntegers(value1, value2);
-        } else if (areNumbers(value1, value2)) {
-            return calculateForDoubles(value1, value2);
-        } else if (eitherOneIsString(value1, value2)) {
-            return calculateStringConcatenation(value1, value2);
-        } else {
-            throw createNotSupportedTypesError(value1, value2);
-        }
-    }
-
-    @Override
-    protected Integer calculateForIntegers(final Object value1, final Object value2) {
-        return (Integer) value1 + (Integer) value2;
-    }
-
-    @Override
-    protected Double calculateForDoubles(final Object value1, final Object value2) {
-        return ((Number) value1).doubleValue() + ((Number) value2).doubleValue();
-    }
-
-    private String calculateStringConcatenation(final Object value1, final Object value2) {
-        return value1 + String.valueOf(value2);
-    }
-
-    private boolean eitherOneIsString(final Object value1, final Object value2) {
-        return value1 instanceof String || value2 instanceof String;
+    protected Object materialize(final Object value) {
+        return value;
     }
 }
@@ -19,7 +19,6 @@ package com.revenat.javamm.interpreter.component.impl.calculator.arithmetic.bina
 
 import com.revenat.javamm.code.fragment.operator.BinaryOperator;
 import com.revenat.javamm.interpreter.component.BinaryExpressionCalculator;
-import com.revenat.javamm.interpreter.component.impl.error.JavammLineRuntimeError;
 
 import static com.revenat.javamm.code.fragment.operator.BinaryOperator.ARITHMETIC_MODULUS;
 import static com.revenat.javamm.code.fragment.operator.BinaryOperator.ASSIGNMENT_MODULUS;
@@ -43,20 +42,4 @@ public final class ModulusBinaryExpressionCalculator extends AbstractArithmeticB
     public static ModulusBinaryExpressionCalculator createAssignmentCalculator() {
         return new ModulusBinaryExpressionCalculator(ASSIGNMENT_MODULUS);
     }
-
-    @Override
-    protected Integer calculateForIntegers(final Object value1, final Object value2) {
-        final Integer v1 = (Integer) value1;
-        final Integer v2 = (Integer) value2;
-
-        if (v2 == 0) {
-            throw new JavammLineRuntimeError("/ by zero");
-        }
-        return v1 % v2;
-    }
-
-    @Override
-    protected Double calculateForDoubles(final Object value1, final Object value2) {
-        return ((Number) value1).doubleValue() % ((Number) value2).doubleValue();
-    }
 }
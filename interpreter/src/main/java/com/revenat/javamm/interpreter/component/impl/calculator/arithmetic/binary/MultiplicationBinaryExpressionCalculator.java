@@ -42,14 +42,4 @@ public final class MultiplicationBinaryExpressionCalculator extends AbstractArit
     public static MultiplicationBinaryExpressionCalculator createAssignmentCalculator() {
         return new MultiplicationBinaryExpressionCalculator(ASSIGNMENT_MULTIPLICATION);
     }
-
-    @Override
-    protected Integer calculateForIntegers(final Object value1, final Object value2) {
-        return (Integer) value1 * (Integer) value2;
-    }
-
-    @Override
-    protected Double calculateForDoubles(final Object value1, final Object value2) {
-        return ((Number) value1).doubleValue() * ((Number) value2).doubleValue();
-    }
 }
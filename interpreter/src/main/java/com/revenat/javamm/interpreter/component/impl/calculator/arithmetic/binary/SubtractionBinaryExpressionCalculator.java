@@ -42,14 +42,4 @@ public final class SubtractionBinaryExpressionCalculator extends AbstractArithme
     public static SubtractionBinaryExpressionCalculator createAssignmentCalculator() {
         return new SubtractionBinaryExpressionCalculator(ASSIGNMENT_SUBTRACTION);
     }
-
-    @Override
-    protected Integer calculateForIntegers(final Object value1, final Object value2) {
-        return (Integer) value1 - (Integer) value2;
-    }
-
-    @Override
-    protected Double calculateForDoubles(final Object value1, final Object value2) {
-        return ((Number) value1).doubleValue() - ((Number) value2).doubleValue();
-    }
 }
@@ -17,8 +17,10 @@
 
 package com.revenat.javamm.interpreter.component.impl.calculator.arithmetic.unary;
 
+import com.revenat.javamm.code.component.ExpressionContext;
 import com.revenat.javamm.code.fragment.operator.UnaryOperator;
 import com.revenat.javamm.interpreter.component.impl.calculator.AbstractUnaryExpressionCalculator;
+import com.revenat.javamm.interpreter.model.TypedValue;
 
 import static com.revenat.javamm.code.util.TypeUtils.confirmType;
 
@@ -34,16 +36,29 @@ abstract class AbstractArithmeticUnaryExpressionCalculator extends AbstractUnary
     @Override
     protected Object calculate(final Object value) {
         if (isInteger(value)) {
-            return calculateForInteger(value);
+            return calculateForInteger((Integer) value);
         } else if (isDouble(value)) {
-            return calculateForDouble(value);
+            return calculateForDouble((Double) value);
         }
         throw createNotSupportedTypesError(value);
     }
 
-    protected abstract Integer calculateForInteger(Object value);
+    @Override
+    public void calculate(final ExpressionContext expressionContext,
+                          final TypedValue operand,
+                          final TypedValue result) {
+        if (operand.isInteger()) {
+            result.setInteger(calculateForInteger(operand.getInteger()));
+        } else if (operand.isDouble()) {
+            result.setDouble(calculateForDouble(operand.getDouble()));
+        } else {
+            super.calculate(expressionContext, operand, result);
+        }
+    }
+
+    protected abstract int calculateForInteger(int value);
 
-    protected abstract Double calculateForDouble(Object value);
+    protected abstract double calculateForDouble(double value);
 
     private boolean isDouble(final Object value) {
         return confirmType(Double.class, value);
@@ -33,14 +33,12 @@ public class DecrementUnaryExpressionCalculator extends AbstractArithmeticUnaryE
     }
 
     @Override
-    protected Integer calculateForInteger(final Object value) {
-        int i = (Integer) value;
-        return --i;
+    protected int calculateForInteger(final int value) {
+        return value - 1;
     }
 
     @Override
-    protected Double calculateForDouble(final Object value) {
-        double d = (Double) value;
-        return --d;
+    protected double calculateForDouble(final double value) {
+        return value - 1;
     }
 }
@@ -18,6 +18,7 @@
 package com.revenat.javamm.interpreter.component.impl.calculator.arithmetic.unary;
 
 import com.revenat.javamm.code.fragment.operator.UnaryOperator;
+import com.revenat.javamm.code.util.OperatorUtils;
 import com.revenat.javamm.interpreter.component.UnaryExpressionCalculator;
 
 /**
@@ -33,12 +34,12 @@ public class MinusUnaryExpressionCalculator extends AbstractArithmeticUnaryExpre
     }
 
     @Override
-    protected Integer calculateForInteger(final Object value) {
-        return -(Integer) value;
+    protected int calculateForInteger(final int value) {
+        return OperatorUtils.calculateForInteger(getOperator(), value);
     }
 
     @Override
-    protected Double calculateForDouble(final Object value) {
-        return -(Double) value;
+    protected double calculateForDouble(final double value) {
+        return OperatorUtils.calculateForDouble(getOperator(), value);
     }
 }
@@ -21,8 +21,6 @@ import com.revenat.javamm.code.fragment.operator.UnaryOperator;
 import com.revenat.javamm.interpreter.component.UnaryExpressionCalculator;
 import com.revenat.javamm.interpreter.component.impl.calculator.AbstractUnaryExpressionCalculator;
 
-import static com.revenat.javamm.code.util.TypeUtils.confirmType;
-
 /**
  * {@linkplain UnaryExpressionCalculator Unary expression calculator}
  * implementation for 'arithmetical unary plus' ({@code +}) operator
@@ -34,16 +32,4 @@ public class PlusUnaryExpressionCalculator extends AbstractUnaryExpressionCalcul
     public PlusUnaryExpressionCalculator() {
         super(UnaryOperator.ARITHMETICAL_UNARY_PLUS);
     }
-
-    @Override
-    protected Object calculate(final Object value) {
-        if (isNumber(value)) {
-            return value;
-        }
-        throw createNotSupportedTypesError(value);
-    }
-
-    private boolean isNumber(final Object value) {
-        return confirmType(Number.class, value);
-    }
 }
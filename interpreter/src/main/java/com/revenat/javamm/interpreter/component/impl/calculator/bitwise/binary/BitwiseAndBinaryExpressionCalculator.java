@@ -19,6 +19,7 @@ package com.revenat.javamm.interpreter.component.impl.calculator.bitwise.binary;
 
 import com.revenat.javamm.code.fragment.operator.BinaryOperator;
 import com.revenat.javamm.interpreter.component.BinaryExpressionCalculator;
+import com.revenat.javamm.interpreter.component.impl.calculator.AbstractBinaryExpressionCalculator;
 
 import static com.revenat.javamm.code.fragment.operator.BinaryOperator.ASSIGNMENT_BITWISE_AND;
 import static com.revenat.javamm.code.fragment.operator.BinaryOperator.BITWISE_AND;
@@ -29,7 +30,7 @@ import static com.revenat.javamm.code.fragment.operator.BinaryOperator.BITWISE_A
  *
  * @author Vitaliy Dragun
  */
-public final class BitwiseAndBinaryExpressionCalculator extends AbstractBitwiseBinaryExpressionCalculator {
+public final class BitwiseAndBinaryExpressionCalculator extends AbstractBinaryExpressionCalculator {
 
     private BitwiseAndBinaryExpressionCalculator(final BinaryOperator operator) {
         super(operator);
@@ -42,14 +43,4 @@ public final class BitwiseAndBinaryExpressionCalculator extends AbstractBitwiseB
     public static BitwiseAndBinaryExpressionCalculator createAssignmentCalculator() {
         return new BitwiseAndBinaryExpressionCalculator(ASSIGNMENT_BITWISE_AND);
     }
-
-    @Override
-    protected Boolean calculateForBooleans(final Object value1, final Object value2) {
-        return (Boolean) value1 & (Boolean) value2;
-    }
-
-    @Override
-    protected Integer calculateForIntegers(final Object value1, final Object value2) {
-        return (Integer) value1 & (Integer) value2;
-    }
 }
@@ -19,6 +19,7 @@ package com.revenat.javamm.interpreter.component.impl.calculator.bitwise.binary;
 
 import com.revenat.javamm.code.fragment.operator.BinaryOperator;
 import com.revenat.javamm.interpreter.component.BinaryExpressionCalculator;
+import com.revenat.javamm.interpreter.component.impl.calculator.AbstractBinaryExpressionCalculator;
 
 import static com.revenat.javamm.code.fragment.operator.BinaryOperator.ASSIGNMENT_BITWISE_OR;
 import static com.revenat.javamm.code.fragment.operator.BinaryOperator.BITWISE_OR;
@@ -29,7 +30,7 @@ import static com.revenat.javamm.code.fragment.operator.BinaryOperator.BITWISE_O
  *
  * @author Vitaliy Dragun
  */
-public final class BitwiseOrBinaryExpressionCalculator extends AbstractBitwiseBinaryExpressionCalculator {
+public final class BitwiseOrBinaryExpressionCalculator extends AbstractBinaryExpressionCalculator {
 
     private BitwiseOrBinaryExpressionCalculator(final BinaryOperator operator) {
         super(operator);
@@ -42,14 +43,4 @@ public final class BitwiseOrBinaryExpressionCalculator extends AbstractBitwiseBi
     public static BitwiseOrBinaryExpressionCalculator createAssignmentCalculator() {
         return new BitwiseOrBinaryExpressionCalculator(ASSIGNMENT_BITWISE_OR);
     }
-
-    @Override
-    protected Boolean calculateForBooleans(final Object value1, final Object value2) {
-        return (Boolean) value1 | (Boolean) value2;
-    }
-
-    @Override
-    protected Integer calculateForIntegers(final Object value1, final Object value2) {
-        return (Integer) value1 | (Integer) value2;
-    }
 }
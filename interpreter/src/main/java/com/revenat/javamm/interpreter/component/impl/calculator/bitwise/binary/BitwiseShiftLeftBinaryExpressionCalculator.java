@@ -19,6 +19,7 @@ package com.revenat.javamm.interpreter.component.impl.calculator.bitwise.binary;
 
 import com.revenat.javamm.code.fragment.operator.BinaryOperator;
 import com.revenat.javamm.interpreter.component.BinaryExpressionCalculator;
+import com.revenat.javamm.interpreter.component.impl.calculator.AbstractBinaryExpressionCalculator;
 
 import static com.revenat.javamm.code.fragment.operator.BinaryOperator.ASSIGNMENT_BITWISE_SHIFT_LEFT;
 import static com.revenat.javamm.code.fragment.operator.BinaryOperator.BITWISE_SHIFT_LEFT;
@@ -29,7 +30,7 @@ import static com.revenat.javamm.code.fragment.operator.BinaryOperator.BITWISE_S
  *
  * @author Vitaliy Dragun
  */
-public final class BitwiseShiftLeftBinaryExpressionCalculator extends AbstractBitwiseShiftBinaryExpressionCalculator {
+public final class BitwiseShiftLeftBinaryExpressionCalculator extends AbstractBinaryExpressionCalculator {
 
     private BitwiseShiftLeftBinaryExpressionCalculator(final BinaryOperator operator) {
         super(operator);
@@ -42,9 +43,4 @@ public final class BitwiseShiftLeftBinaryExpressionCalculator extends AbstractBi
     public static BitwiseShiftLeftBinaryExpressionCalculator createAssignmentCalculator() {
         return new BitwiseShiftLeftBinaryExpressionCalculator(ASSIGNMENT_BITWISE_SHIFT_LEFT);
     }
-
-    @Override
-    protected Integer calculateForIntegers(final Object value1, final Object value2) {
-        return (Integer) value1 << (Integer) value2;
-    }
 }
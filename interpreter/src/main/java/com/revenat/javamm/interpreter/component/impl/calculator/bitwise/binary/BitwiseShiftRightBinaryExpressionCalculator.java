@@ -19,6 +19,7 @@ package com.revenat.javamm.interpreter.component.impl.calculator.bitwise.binary;
 
 import com.revenat.javamm.code.fragment.operator.BinaryOperator;
 import com.revenat.javamm.interpreter.component.BinaryExpressionCalculator;
+import com.revenat.javamm.interpreter.component.impl.calculator.AbstractBinaryExpressionCalculator;
 
 import static com.revenat.javamm.code.fragment.operator.BinaryOperator.ASSIGNMENT_BITWISE_SHIFT_RIGHT;
 import static com.revenat.javamm.code.fragment.operator.BinaryOperator.BITWISE_SHIFT_RIGHT;
@@ -29,7 +30,7 @@ import static com.revenat.javamm.code.fragment.operator.BinaryOperator.BITWISE_S
  *
  * @author Vitaliy Dragun
  */
-public final class BitwiseShiftRightBinaryExpressionCalculator extends AbstractBitwiseShiftBinaryExpressionCalculator {
+public final class BitwiseShiftRightBinaryExpressionCalculator extends AbstractBinaryExpressionCalculator {
 
     private BitwiseShiftRightBinaryExpressionCalculator(final BinaryOperator operator) {
         super(operator);
@@ -42,9 +43,4 @@ public final class BitwiseShiftRightBinaryExpressionCalculator extends AbstractB
     public static BitwiseShiftRightBinaryExpressionCalculator createAssignmentCalculator() {
         return new BitwiseShiftRightBinaryExpressionCalculator(ASSIGNMENT_BITWISE_SHIFT_RIGHT);
     }
-
-    @Override
-    protected Integer calculateForIntegers(final Object value1, final Object value2) {
-        return (Integer) value1 >> (Integer) value2;
-    }
 }
@@ -19,6 +19,7 @@ package com.revenat.javamm.interpreter.component.impl.calculator.bitwise.binary;
 
 import com.revenat.javamm.code.fragment.operator.BinaryOperator;
 import com.revenat.javamm.interpreter.component.BinaryExpressionCalculator;
+import com.revenat.javamm.interpreter.component.impl.calculator.AbstractBinaryExpressionCalculator;
 
 import static com.revenat.javamm.code.fragment.operator.BinaryOperator.ASSIGNMENT_BITWISE_SHIFT_RIGHT_ZERO_FILL;
 import static com.revenat.javamm.code.fragment.operator.BinaryOperator.BITWISE_SHIFT_RIGHT_ZERO_FILL;
@@ -29,8 +30,7 @@ import static com.revenat.javamm.code.fragment.operator.BinaryOperator.BITWISE_S
  *
  * @author Vitaliy Dragun
  */
-public final class BitwiseShiftRightZeroFillBinaryExpressionCalculator
-    extends AbstractBitwiseShiftBinaryExpressionCalculator {
+public final class BitwiseShiftRightZeroFillBinaryExpressionCalculator extends AbstractBinaryExpressionCalculator {
 
     private BitwiseShiftRightZeroFillBinaryExpressionCalculator(final BinaryOperator operator) {
         super(operator);
@@ -43,9 +43,4 @@ public final class BitwiseShiftRightZeroFillBinaryExpressionCalculator
     public static BitwiseShiftRightZeroFillBinaryExpressionCalculator createAssignmentCalculator() {
         return new BitwiseShiftRightZeroFillBinaryExpressionCalculator(ASSIGNMENT_BITWISE_SHIFT_RIGHT_ZERO_FILL);
     }
-
-    @Override
-    protected Integer calculateForIntegers(final Object value1, final Object value2) {
-        return (Integer) value1 >>> (Integer) value2;
-    }
 }
@@ -19,6 +19,7 @@ package com.revenat.javamm.interpreter.component.impl.calculator.bitwise.binary;
 
 import com.revenat.javamm.code.fragment.operator.BinaryOperator;
 import com.revenat.javamm.interpreter.component.BinaryExpressionCalculator;
+import com.revenat.javamm.interpreter.component.impl.calculator.AbstractBinaryExpressionCalculator;
 
 /**
  * {@linkplain BinaryExpressionCalculator Binary expression calculator}
@@ -26,7 +27,7 @@ import com.revenat.javamm.interpreter.component.BinaryExpressionCalculator;
  *
  * @author Vitaliy Dragun
  */
-public final class BitwiseXorBinaryExpressionCalculator extends AbstractBitwiseBinaryExpressionCalculator {
+public final class BitwiseXorBinaryExpressionCalculator extends AbstractBinaryExpressionCalculator {
 
     private BitwiseXorBinaryExpressionCalculator(final BinaryOperator operator) {
         super(operator);
@@ -39,14 +40,4 @@ public final class BitwiseXorBinaryExpressionCalculator extends AbstractBitwiseB
     public static BitwiseXorBinaryExpressionCalculator createAssignmentCalculator() {
         return new BitwiseXorBinaryExpressionCalculator(BinaryOperator.ASSIGNMENT_BITWISE_XOR);
     }
-
-    @Override
-    protected Boolean calculateForBooleans(final Object value1, final Object value2) {
-        return (Boolean) value1 ^ (Boolean) value2;
-    }
-
-    @Override
-    protected Integer calculateForIntegers(final Object value1, final Object value2) {
-        return (Integer) value1 ^ (Integer) value2;
-    }
 }
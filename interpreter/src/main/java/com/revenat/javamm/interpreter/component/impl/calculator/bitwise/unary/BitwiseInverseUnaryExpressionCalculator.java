@@ -21,8 +21,6 @@ import com.revenat.javamm.code.fragment.operator.UnaryOperator;
 import com.revenat.javamm.interpreter.component.UnaryExpressionCalculator;
 import com.revenat.javamm.interpreter.component.impl.calculator.AbstractUnaryExpressionCalculator;
 
-import static com.revenat.javamm.code.util.TypeUtils.confirmType;
-
 /**
  * {@linkplain UnaryExpressionCalculator Unary expression calculator}
  * implementation for 'bitwise unary inverse' ({@code ~}) operator
@@ -34,21 +32,4 @@ public class BitwiseInverseUnaryExpressionCalculator extends AbstractUnaryExpres
     public BitwiseInverseUnaryExpressionCalculator() {
         super(UnaryOperator.BITWISE_INVERSE);
     }
-
-    @Override
-    protected Object calculate(final Object value) {
-        if (isInteger(value)) {
-            return inverseBytesFor(value);
-        }
-        throw createNotSupportedTypesError(value);
-    }
-
-    private boolean isInteger(final Object value) {
-        return confirmType(Integer.class, value);
-    }
-
-    private Integer inverseBytesFor(final Object value) {
-        final int i = (Integer) value;
-        return ~i;
-    }
 }
@@ -21,6 +21,7 @@ import com.revenat.javamm.code.component.ExpressionContext;
 import com.revenat.javamm.code.fragment.Expression;
 import com.revenat.javamm.code.fragment.operator.BinaryOperator;
 import com.revenat.javamm.interpreter.component.BinaryExpressionCalculator;
+import com.revenat.javamm.interpreter.component.impl.calculator.AbstractBinaryExpressionCalculator;
 
 /**
  * {@linkplain BinaryExpressionCalculator Binary expression calculator}
@@ -28,7 +29,7 @@ import com.revenat.javamm.interpreter.component.BinaryExpressionCalculator;
  *
  * @author Vitaliy Dragun
  */
-public class LogicalOrBinaryExpressionCalculator extends AbstractLogicalBinaryExpressionCalculator {
+public class LogicalOrBinaryExpressionCalculator extends AbstractBinaryExpressionCalculator {
 
     public LogicalOrBinaryExpressionCalculator() {
         super(BinaryOperator.LOGICAL_OR);
@@ -47,11 +48,6 @@ public class LogicalOrBinaryExpressionCalculator extends AbstractLogicalBinaryEx
         }
     }
 
-    @Override
-    protected Boolean calculateForBooleans(final Object value1, final Object value2) {
-        return (Boolean) value1 || (Boolean) value2;
-    }
-
     private boolean isTruth(final Object operand) {
         return operand instanceof Boolean && (Boolean) operand;
     }
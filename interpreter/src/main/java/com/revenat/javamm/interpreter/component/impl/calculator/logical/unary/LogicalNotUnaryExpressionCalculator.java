@@ -21,8 +21,6 @@ import com.revenat.javamm.code.fragment.operator.UnaryOperator;
 import com.revenat.javamm.interpreter.component.UnaryExpressionCalculator;
 import com.revenat.javamm.interpreter.component.impl.calculator.AbstractUnaryExpressionCalculator;
 
-import static com.revenat.javamm.code.util.TypeUtils.confirmType;
-
 /**
  * {@linkplain UnaryExpressionCalculator Unary expression calculator}
  * implementation for 'logical not' ({@code !}) operator
@@ -34,20 +32,4 @@ public class LogicalNotUnaryExpressionCalculator extends AbstractUnaryExpression
     public LogicalNotUnaryExpressionCalculator() {
         super(UnaryOperator.LOGICAL_NOT);
     }
-
-    @Override
-    protected Object calculate(final Object value) {
-        if (isBoolean(value)) {
-            return calculateOpposite(value);
-        }
-        throw createNotSupportedTypesError(value);
-    }
-
-    private boolean calculateOpposite(final Object value) {
-        return !(Boolean) value;
-    }
-
-    private boolean isBoolean(final Object value) {
-        return confirmType(Boolean.class, value);
-    }
 }
@@ -17,11 +17,12 @@
 
 package com.revenat.javamm.interpreter.component.impl.calculator.predicate;
 
+import com.revenat.javamm.code.component.ExpressionContext;
 import com.revenat.javamm.code.fragment.operator.BinaryOperator;
+import com.revenat.javamm.code.util.OperatorUtils;
 import com.revenat.javamm.interpreter.component.BinaryExpressionCalculator;
 import com.revenat.javamm.interpreter.component.impl.calculator.AbstractBinaryExpressionCalculator;
-
-import static com.revenat.javamm.code.util.TypeUtils.confirmType;
+import com.revenat.javamm.interpreter.model.TypedValue;
 
 /**
  * {@linkplain BinaryExpressionCalculator Binary expression calculator}
@@ -36,34 +37,17 @@ public class IsEqualsBinaryExpressionCalculator extends AbstractBinaryExpression
     }
 
     @Override
-    protected Boolean calculate(final Object value1, final Object value2) {
-        if (areBooleanAndNonBoolean(value1, value2)) {
-            throw createNotSupportedTypesError(value1, value2);
+    public void calculate(final ExpressionContext expressionContext,
+                          final TypedValue operand1,
+                          final TypedValue operand2,
+                          final TypedValue result) {
+        if (operand1.isNumber() && operand2.isNumber()) {
+            result.setBoolean(OperatorUtils.compare(operand1.getDouble(), getOperator(), operand2.getDouble()));
+        } else if (operand1.isBoolean() && operand2.isBoolean()) {
+            result.setBoolean(OperatorUtils.calculateForBooleans(operand1.getBoolean(), getOperator(),
+                operand2.getBoolean()));
         } else {
-            return calculateEquals(value1, value2);
+            super.calculate(expressionContext, operand1, operand2, result);
         }
     }
-
-    private boolean areBooleanAndNonBoolean(final Object value1, final Object value2) {
-        return (confirmType(Boolean.class, value1) && !confirmType(Boolean.class, value2)) ||
-            (!confirmType(Boolean.class, value1) && confirmType(Boolean.class, value2));
-    }
-
-    private boolean calculateEquals(final Object value1, final Object value2) {
-        if (confirmType(Number.class, value1, value2)) {
-            return calculateEqualsForNumbers(value1, value2);
-        } else if (areNotNull(value1, value2)) {
-            return value1.equals(value2);
-        } else {
-            return value1 == value2;
-        }
-    }
-
-    private boolean areNotNull(final Object value1, final Object value2) {
-        return value1 != null && value2 != null;
-    }
-
-    private boolean calculateEqualsForNumbers(final Object value1, final Object value2) {
-        return ((Number) value1).doubleValue() == ((Number) value2).doubleValue();
-    }
 }
@@ -17,11 +17,12 @@
 
 package com.revenat.javamm.interpreter.component.impl.calculator.predicate;
 
+import com.revenat.javamm.code.component.ExpressionContext;
 import com.revenat.javamm.code.fragment.operator.BinaryOperator;
+import com.revenat.javamm.code.util.OperatorUtils;
 import com.revenat.javamm.interpreter.component.BinaryExpressionCalculator;
 import com.revenat.javamm.interpreter.component.impl.calculator.AbstractBinaryExpressionCalculator;
-
-import static com.revenat.javamm.code.util.TypeUtils.confirmType;
+import com.revenat.javamm.interpreter.model.TypedValue;
 
 /**
  * {@linkplain BinaryExpressionCalculator Binary expression calculator}
@@ -36,18 +37,14 @@ public class IsGreaterThanOrEqualsBinaryExpressionCalculator extends AbstractBin
     }
 
     @Override
-    protected Boolean calculate(final Object value1, final Object value2) {
-        if (areNumbers(value1, value2)) {
-            return calculateForNumbers(value1, value2);
+    public void calculate(final ExpressionContext expressionContext,
+                          final TypedValue operand1,
+                          final TypedValue operand2,
+                          final TypedValue result) {
+        if (operand1.isNumber() && operand2.isNumber()) {
+            result.setBoolean(OperatorUtils.compare(operand1.getDouble(), getOperator(), operand2.getDouble()));
+        } else {
+            super.calculate(expressionContext, operand1, operand2, result);
         }
-        throw createNotSupportedTypesError(value1, value2);
-    }
-
-    private boolean calculateForNumbers(final Object value1, final Object value2) {
-        return ((Number) value1).doubleValue() >= ((Number) value2).doubleValue();
-    }
-
-    private boolean areNumbers(final Object value1, final Object value2) {
-        return confirmType(Number.class, value1, value2);
     }
 }
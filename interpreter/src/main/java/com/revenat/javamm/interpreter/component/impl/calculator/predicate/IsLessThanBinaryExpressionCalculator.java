@@ -17,10 +17,12 @@
 
 package com.revenat.javamm.interpreter.component.impl.calculator.predicate;
 
+import com.revenat.javamm.code.component.ExpressionContext;
 import com.revenat.javamm.code.fragment.operator.BinaryOperator;
+import com.revenat.javamm.code.util.OperatorUtils;
 import com.revenat.javamm.interpreter.component.BinaryExpressionCalculator;
 import com.revenat.javamm.interpreter.component.impl.calculator.AbstractBinaryExpressionCalculator;
-import com.revenat.javamm.interpreter.component.impl.error.JavammLineRuntimeError;
+import com.revenat.javamm.interpreter.model.TypedValue;
 
 /**
  * {@linkplain BinaryExpressionCalculator Binary expression calculator}
@@ -29,23 +31,20 @@ import com.revenat.javamm.interpreter.component.impl.error.JavammLineRuntimeErro
  * @author Vitaliy Dragun
  */
 public class IsLessThanBinaryExpressionCalculator extends AbstractBinaryExpressionCalculator {
-    private final IsGreaterThanOrEqualsBinaryExpressionCalculator oppositeCalculator;
 
     public IsLessThanBinaryExpressionCalculator() {
         super(BinaryOperator.PREDICATE_LESS_THAN);
-        oppositeCalculator = new IsGreaterThanOrEqualsBinaryExpressionCalculator();
     }
 
     @Override
-    protected Object calculate(final Object value1, final Object value2) {
-        try {
-            return calculateWithOppositeCalculator(value1, value2);
-        } catch (final JavammLineRuntimeError e) {
-            throw createNotSupportedTypesError(value1, value2);
+    public void calculate(final ExpressionContext expressionContext,
+                          final TypedValue operand1,
+                          final TypedValue operand2,
+                          final TypedValue result) {
+        if (operand1.isNumber() && operand2.isNumber()) {
+            result.setBoolean(OperatorUtils.compare(operand1.getDouble(), getOperator(), operand2.getDouble()));
+        } else {
+            super.calculate(expressionContext, operand1, operand2, result);
         }
     }
-
-    private boolean calculateWithOppositeCalculator(final Object value1, final Object value2) {
-        return !oppositeCalculator.calculate(value1, value2);
-    }
 }
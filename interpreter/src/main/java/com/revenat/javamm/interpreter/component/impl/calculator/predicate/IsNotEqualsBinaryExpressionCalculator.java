@@ -17,10 +17,12 @@
 
 package com.revenat.javamm.interpreter.component.impl.calculator.predicate;
 
+import com.revenat.javamm.code.component.ExpressionContext;
 import com.revenat.javamm.code.fragment.operator.BinaryOperator;
+import com.revenat.javamm.code.util.OperatorUtils;
 import com.revenat.javamm.interpreter.component.BinaryExpressionCalculator;
 import com.revenat.javamm.interpreter.component.impl.calculator.AbstractBinaryExpressionCalculator;
-import com.revenat.javamm.interpreter.component.impl.error.JavammLineRuntimeError;
+import com.revenat.javamm.interpreter.model.TypedValue;
 
 /**
  * {@linkplain BinaryExpressionCalculator Binary expression calculator}
@@ -29,23 +31,23 @@ import com.revenat.javamm.interpreter.component.impl.error.JavammLineRuntimeErro
  * @author Vitaliy Dragun
  */
 public class IsNotEqualsBinaryExpressionCalculator extends AbstractBinaryExpressionCalculator {
-    private final IsEqualsBinaryExpressionCalculator oppositeCalculator;
 
     public IsNotEqualsBinaryExpressionCalculator() {
         super(BinaryOperator.PREDICATE_NOT_EQUALS);
-        oppositeCalculator = new IsEqualsBinaryExpressionCalculator();
     }
 
     @Override
-    protected Boolean calculate(final Object value1, final Object value2) {
-        try {
-            return calculateWithOppositeCalculator(value1, value2);
-        } catch (final JavammLineRuntimeError e) {
-            throw createNotSupportedTypesError(value1, value2);
+    public void calculate(final ExpressionContext expressionContext,
+                          final TypedValue operand1,
+                          final TypedValue operand2,
+                          final TypedValue result) {
+        if (operand1.isNumber() && operand2.isNumber()) {
+            result.setBoolean(OperatorUtils.compare(operand1.getDouble(), getOperator(), operand2.getDouble()));
+        } else if (operand1.isBoolean() && operand2.isBoolean()) {
+            result.setBoolean(OperatorUtils.calculateForBooleans(operand1.getBoolean(), getOperator(),
+                operand2.getBoolean()));
+        } else {
+            super.calculate(expressionContext, operand1, operand2, result);
         }
     }
-
-    private Boolean calculateWithOppositeCalculator(final Object value1, final Object value2) {
-        return !oppositeCalculator.calculate(value1, value2);
-    }
 }
@@ -17,13 +17,10 @@
 
 package com.revenat.javamm.interpreter.component.impl.calculator.predicate;
 
-import com.revenat.javamm.code.fragment.expression.TypeExpression;
 import com.revenat.javamm.code.fragment.operator.BinaryOperator;
 import com.revenat.javamm.interpreter.component.BinaryExpressionCalculator;
 import com.revenat.javamm.interpreter.component.impl.calculator.AbstractBinaryExpressionCalculator;
 
-import static com.revenat.javamm.code.util.TypeUtils.confirmType;
-
 /**
  * {@linkplain BinaryExpressionCalculator Binary expression calculator}
  * implementation for 'predicate typeof' ({@code typeof}) operator
@@ -35,22 +32,4 @@ public class TypeOfBinaryExpressionCalculator extends AbstractBinaryExpressionCa
     public TypeOfBinaryExpressionCalculator() {
         super(BinaryOperator.PREDICATE_TYPEOF);
     }
-
-    @Override
-    protected Object calculate(final Object value1, final Object value2) {
-        if (value1 == null) {
-            return false;
-        } else if (isTypeExpression(value2)) {
-            return verifySpecifiedType(value1, value2);
-        }
-        throw createNotSupportedTypesError(value1, value2);
-    }
-
-    private boolean verifySpecifiedType(final Object value, final Object type) {
-        return value.getClass().equals(((TypeExpression) type).getType());
-    }
-
-    private boolean isTypeExpression(final Object value2) {
-        return confirmType(TypeExpression.class, value2);
-    }
 }
@@ -0,0 +1,204 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.interpreter.component.impl.closure;
+
+import com.revenat.javamm.code.component.ExpressionContext;
+import com.revenat.javamm.code.fragment.ConcatenatedString;
+import com.revenat.javamm.code.fragment.Expression;
+import com.revenat.javamm.code.fragment.operator.BinaryOperator;
+import com.revenat.javamm.code.util.OperatorUtils;
+import com.revenat.javamm.interpreter.component.BinaryExpressionCalculator;
+import com.revenat.javamm.interpreter.component.impl.error.JavammLineRuntimeError;
+import com.revenat.javamm.interpreter.model.TypedValue;
+
+import static com.revenat.javamm.code.fragment.ConcatenatedString.isString;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Single binary operator occurrence in the compiled expression which records
+ * types of the operands it sees and specializes itself for integer, number or
+ * string operands. When operands of another type show up the site falls back
+ * to the generic {@linkplain BinaryExpressionCalculator calculator} for good.
+ * Operators which have no specialized implementation (logical, bitwise, typeof)
+ * always use the calculator, so their evaluation order is not changed.
+ *
+ * @author Vitaliy Dragun
+ */
+final class BinaryOperatorSite {
+
+    private final BinaryExpressionCalculator calculator;
+
+    private final IntegerOperation integerOperation;
+
+    private final DoubleOperation doubleOperation;
+
+    private final boolean concatenation;
+
+    private Specialization specialization;
+
+    BinaryOperatorSite(final BinaryExpressionCalculator calculator) {
+        this.calculator = requireNonNull(calculator);
+        final BinaryOperator operator = calculator.getOperator();
+        this.integerOperation = integerOperation(operator);
+        this.doubleOperation = doubleOperation(operator);
+        this.concatenation = operator == BinaryOperator.ARITHMETIC_ADDITION ||
+            operator == BinaryOperator.ASSIGNMENT_ADDITION;
+        this.specialization = integerOperation != null ? Specialization.UNINITIALIZED : Specialization.GENERIC;
+    }
+
+    Specialization getSpecialization() {
+        return specialization;
+    }
+
+    Object calculate(final ExpressionContext expressionContext, final Expression operand1, final Expression operand2) {
+        if (specialization == Specialization.GENERIC) {
+            return calculator.calculate(expressionContext, operand1, operand2);
+        }
+        final Object value1 = operand1.getValue(expressionContext);
+        final Object value2 = operand2.getValue(expressionContext);
+        if (!isAccepted(value1, value2)) {
+            specialization = respecialize(value1, value2);
+        }
+        switch (specialization) {
+            case INTEGER:
+                return integerOperation.calculate((Integer) value1, (Integer) value2);
+            case NUMBER:
+                return calculateForNumbers(value1, value2);
+            case STRING:
+                return ConcatenatedString.concat(value1, value2);
+            default:
+                return calculator.calculate(expressionContext, typedValue(value1), typedValue(value2));
+        }
+    }
+
+    private Object calculateForNumbers(final Object value1, final Object value2) {
+        if (value1 instanceof Integer && value2 instanceof Integer) {
+            return integerOperation.calculate((Integer) value1, (Integer) value2);
+        } else {
+            return doubleOperation.calculate(((Number) value1).doubleValue(), ((Number) value2).doubleValue());
+        }
+    }
+
+    private boolean isAccepted(final Object value1, final Object value2) {
+        switch (specialization) {
+            case INTEGER:
+                return value1 instanceof Integer && value2 instanceof Integer;
+            case NUMBER:
+                return value1 instanceof Number && value2 instanceof Number;
+            case STRING:
+                return isString(value1) || isString(value2);
+            default:
+                return false;
+        }
+    }
+
+    private Specialization respecialize(final Object value1, final Object value2) {
+        final Specialization observed = observe(value1, value2);
+        if (specialization == Specialization.UNINITIALIZED) {
+            return observed;
+        } else if (specialization == Specialization.INTEGER && observed == Specialization.NUMBER) {
+            return Specialization.NUMBER;
+        } else {
+            return Specialization.GENERIC;
+        }
+    }
+
+    private Specialization observe(final Object value1, final Object value2) {
+        if (value1 instanceof Integer && value2 instanceof Integer) {
+            return Specialization.INTEGER;
+        } else if (value1 instanceof Number && value2 instanceof Number) {
+            return Specialization.NUMBER;
+        } else if (concatenation && (isString(value1) || isString(value2))) {
+            return Specialization.STRING;
+        } else {
+            return Specialization.GENERIC;
+        }
+    }
+
+    private static Expression typedValue(final Object value) {
+        final TypedValue typedValue = new TypedValue();
+        typedValue.setObject(value);
+        return typedValue;
+    }
+
+    @SuppressWarnings("checkstyle:CyclomaticComplexity")
+    private static IntegerOperation integerOperation(final BinaryOperator operator) {
+        switch (operator) {
+            case ARITHMETIC_ADDITION:
+            case ARITHMETIC_SUBTRACTION:
+            case ARITHMETIC_MULTIPLICATION:
+            case ARITHMETIC_DIVISION:
+            case ARITHMETIC_MODULUS:
+            case ASSIGNMENT_ADDITION:
+            case ASSIGNMENT_SUBTRACTION:
+            case ASSIGNMENT_MULTIPLICATION:
+            case ASSIGNMENT_DIVISION:
+            case ASSIGNMENT_MODULUS:
+                return (value1, value2) -> calculateForIntegers(value1, operator, value2);
+            case PREDICATE_GREATER_THAN:
+            case PREDICATE_GREATER_THAN_OR_EQUALS:
+            case PREDICATE_LESS_THAN:
+            case PREDICATE_LESS_THAN_OR_EQUALS:
+            case PREDICATE_EQUALS:
+            case PREDICATE_NOT_EQUALS:
+                return (value1, value2) -> OperatorUtils.compare(value1, operator, value2);
+            default:
+                return null;
+        }
+    }
+
+    private static DoubleOperation doubleOperation(final BinaryOperator operator) {
+        switch (operator) {
+            case PREDICATE_GREATER_THAN:
+            case PREDICATE_GREATER_THAN_OR_EQUALS:
+            case PREDICATE_LESS_THAN:
+            case PREDICATE_LESS_THAN_OR_EQUALS:
+            case PREDICATE_EQUALS:
+            case PREDICATE_NOT_EQUALS:
+                return (value1, value2) -> OperatorUtils.compare(value1, operator, value2);
+            default:
+                return (value1, value2) -> OperatorUtils.calculateForDoubles(value1, operator, value2);
+        }
+    }
+
+    private static Object calculateForIntegers(final int value1, final BinaryOperator operator, final int value2) {
+        try {
+            return OperatorUtils.calculateForIntegers(value1, operator, value2);
+        } catch (final ArithmeticException e) {
+            throw new JavammLineRuntimeError("/ by zero");
+        }
+    }
+
+    /**
+     * Implementation of the operator for integer operands
+     */
+    @FunctionalInterface
+    private interface IntegerOperation {
+
+        Object calculate(int value1, int value2);
+    }
+
+    /**
+     * Implementation of the operator for double operands
+     */
+    @FunctionalInterface
+    private interface DoubleOperation {
+
+        Object calculate(double value1, double value2);
+    }
+}
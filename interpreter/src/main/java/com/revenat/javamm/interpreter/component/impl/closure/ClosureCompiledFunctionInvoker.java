@@ -0,0 +1,148 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.interpreter.component.impl.closure;
+
+import com.revenat.javamm.code.component.Console;
+import com.revenat.javamm.code.fragment.function.DeveloperFunction;
+import com.revenat.javamm.interpreter.component.BlockOperationInterpreter;
+import com.revenat.javamm.interpreter.component.CalculatorFacade;
+import com.revenat.javamm.interpreter.component.LocalContextBuilder;
+import com.revenat.javamm.interpreter.component.impl.DeveloperFunctionInvokerImpl;
+import com.revenat.javamm.interpreter.component.impl.MemoizationCache;
+import com.revenat.javamm.interpreter.component.impl.error.JavammStackOverflowError;
+import com.revenat.javamm.interpreter.component.impl.expression.OperandStack;
+import com.revenat.javamm.interpreter.model.CurrentRuntime;
+import com.revenat.javamm.interpreter.model.ExecutionContext;
+import com.revenat.javamm.interpreter.model.LocalContext;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Executes developer functions as trees of pre-bound operation and expression
+ * nodes. Unlike {@linkplain com.revenat.javamm.interpreter.component.impl.BlockOperationInterpreterImpl
+ * tree walking interpreter} it does not look up operation interpreters and
+ * expression evaluators for each executed operation and expression.
+ *
+ * <p>Body of the function is compiled when the function is bound: the function
+ * entered from the outside of the compiled code (main function) is bound on entry,
+ * and each function it invokes is bound when the invocation is compiled. Invocation
+ * nodes refer to the compiled functions directly, so neither the bodies nor the
+ * invoked functions are looked up during execution.
+ *
+ * @author Vitaliy Dragun
+ */
+public class ClosureCompiledFunctionInvoker extends DeveloperFunctionInvokerImpl {
+
+    private final LocalContextBuilder localContextBuilder;
+
+    private final CalculatorFacade calculatorFacade;
+
+    private final Console console;
+
+    private final MemoizationCache memoizationCache;
+
+    private final ThreadLocal<OperandStack> operandStacks = ThreadLocal.withInitial(OperandStack::new);
+
+    public ClosureCompiledFunctionInvoker(final LocalContextBuilder localContextBuilder,
+                                          final BlockOperationInterpreter blockOperationInterpreter,
+                                          final CalculatorFacade calculatorFacade,
+                                          final Console console,
+                                          final MemoizationCache memoizationCache) {
+        super(localContextBuilder, blockOperationInterpreter, memoizationCache);
+        this.localContextBuilder = requireNonNull(localContextBuilder);
+        this.calculatorFacade = requireNonNull(calculatorFacade);
+        this.console = requireNonNull(console);
+        this.memoizationCache = requireNonNull(memoizationCache);
+    }
+
+    @Override
+    protected Object interpretFunctionBody(final ExecutionContext executionContext, final DeveloperFunction function) {
+        final CompiledFunction compiledFunction =
+            new OperationNodeCompiler(calculatorFacade, console, this).bind(function);
+        return execute(executionContext, compiledFunction);
+    }
+
+    /**
+     * Returns operand stacks shared by all compiled postfix expressions
+     */
+    ThreadLocal<OperandStack> getOperandStacks() {
+        return operandStacks;
+    }
+
+    /**
+     * Invokes function which has been bound by the compiled invocation node
+     */
+    Object invoke(final ExecutionContext executionContext,
+                  final CompiledFunction function,
+                  final Object[] argumentValues) {
+        final DeveloperFunction developerFunction = function.getFunction();
+        if (!isMemoized(developerFunction)) {
+            return invokeFunction(executionContext, function, argumentValues);
+        }
+        final Object cachedResult = memoizationCache.get(developerFunction, argumentValues);
+        if (cachedResult != MemoizationCache.NOT_CACHED) {
+            return cachedResult;
+        }
+        final Object result = invokeFunction(executionContext, function, argumentValues);
+        memoizationCache.put(developerFunction, argumentValues, result);
+        return result;
+    }
+
+    private Object invokeFunction(final ExecutionContext executionContext,
+                                  final CompiledFunction function,
+                                  final Object[] argumentValues) {
+        final DeveloperFunction developerFunction = function.getFunction();
+        final CurrentRuntime currentRuntime = executionContext.getCurrentRuntime();
+        final LocalContext currentLocalContext = currentRuntime.getCurrentLocalContext();
+
+        final LocalContext separateLocalContext = localContextBuilder.buildLocalContext(developerFunction);
+        setFunctionParametersIntoLocalContext(developerFunction.getParameters(), argumentValues, separateLocalContext);
+        try {
+            currentRuntime.setCurrentLocalContext(separateLocalContext);
+            currentRuntime.enterToFunction(developerFunction);
+            return execute(executionContext, function);
+        } catch (final StackOverflowError e) {
+            // Error is thrown by the first invocation which has enough stack to build it
+            throw new JavammStackOverflowError("Stack overflow error. Stack of the JVM is exhausted");
+        } finally {
+            currentRuntime.setCurrentLocalContext(currentLocalContext);
+            currentRuntime.exitFromFunction();
+        }
+    }
+
+    /**
+     * Executes body of the function inside already prepared local context and
+     * performs the {@linkplain CompiledTailCall tail calls} it returns in place of it
+     */
+    private Object execute(final ExecutionContext executionContext, final CompiledFunction function) {
+        final CurrentRuntime currentRuntime = executionContext.getCurrentRuntime();
+        final LocalContext functionLocalContext = currentRuntime.getCurrentLocalContext();
+        Object result = getFunctionResult(executionContext, function.getBody().execute(executionContext));
+        while (result instanceof CompiledTailCall) {
+            final CompiledTailCall tailCall = (CompiledTailCall) result;
+            final CompiledFunction tailCalledFunction = tailCall.getFunction();
+            functionLocalContext.reset();
+            setFunctionParametersIntoLocalContext(tailCalledFunction.getFunction().getParameters(),
+                tailCall.getArgumentValues(), functionLocalContext);
+            currentRuntime.setCurrentLocalContext(functionLocalContext);
+            currentRuntime.replaceCurrentFunction(tailCalledFunction.getFunction());
+            result = getFunctionResult(executionContext, tailCalledFunction.getBody().execute(executionContext));
+        }
+        return result;
+    }
+}
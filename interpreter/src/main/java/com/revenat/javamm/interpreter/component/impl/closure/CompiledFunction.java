@@ -0,0 +1,52 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.interpreter.component.impl.closure;
+
+import com.revenat.javamm.code.fragment.function.DeveloperFunction;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Developer function bound to the tree of nodes compiled from its body. Function
+ * is bound before its body is compiled, so the recursive invocations inside the
+ * body refer to the same compiled function
+ *
+ * @author Vitaliy Dragun
+ */
+final class CompiledFunction {
+
+    private final DeveloperFunction function;
+
+    private CompiledOperation body;
+
+    CompiledFunction(final DeveloperFunction function) {
+        this.function = requireNonNull(function);
+    }
+
+    DeveloperFunction getFunction() {
+        return function;
+    }
+
+    CompiledOperation getBody() {
+        return requireNonNull(body, "body is not compiled yet");
+    }
+
+    void setBody(final CompiledOperation body) {
+        this.body = requireNonNull(body);
+    }
+}
@@ -0,0 +1,39 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.interpreter.component.impl.closure;
+
+import com.revenat.javamm.interpreter.model.Completion;
+import com.revenat.javamm.interpreter.model.ExecutionContext;
+
+/**
+ * Operation node which is already bound to everything it needs for execution,
+ * so it can be executed without any lookup of operation interpreters
+ *
+ * @author Vitaliy Dragun
+ */
+@FunctionalInterface
+interface CompiledOperation {
+
+    CompiledOperation NO_OPERATION = executionContext -> Completion.NORMAL;
+
+    /**
+     * Executes this node within the given {@linkplain ExecutionContext execution context}
+     * and returns its {@linkplain Completion completion status}
+     */
+    Completion execute(ExecutionContext executionContext);
+}
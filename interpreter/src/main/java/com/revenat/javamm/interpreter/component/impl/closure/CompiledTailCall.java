@@ -0,0 +1,49 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.interpreter.component.impl.closure;
+
+import com.revenat.javamm.interpreter.model.TailCall;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@linkplain TailCall Tail call} of the function which is already bound to its
+ * compiled body, so the function invoker performs it without compiling or
+ * looking up such body
+ *
+ * @author Vitaliy Dragun
+ */
+final class CompiledTailCall {
+
+    private final CompiledFunction function;
+
+    private final Object[] argumentValues;
+
+    CompiledTailCall(final CompiledFunction function, final Object[] argumentValues) {
+        this.function = requireNonNull(function);
+        this.argumentValues = requireNonNull(argumentValues);
+    }
+
+    CompiledFunction getFunction() {
+        return function;
+    }
+
+    Object[] getArgumentValues() {
+        return argumentValues;
+    }
+}
@@ -0,0 +1,498 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.interpreter.component.impl.closure;
+
+import com.revenat.javamm.code.component.ExpressionContext;
+import com.revenat.javamm.code.fragment.Expression;
+import com.revenat.javamm.code.fragment.Lexeme;
+import com.revenat.javamm.code.fragment.UpdatableExpression;
+import com.revenat.javamm.code.fragment.Variable;
+import com.revenat.javamm.code.fragment.expression.FunctionInvocationExpression;
+import com.revenat.javamm.code.fragment.expression.LocalBinaryExpression;
+import com.revenat.javamm.code.fragment.expression.PostfixNotationComplexExpression;
+import com.revenat.javamm.code.fragment.expression.TernaryConditionalExpression;
+import com.revenat.javamm.code.fragment.expression.UnaryAssignmentExpression;
+import com.revenat.javamm.code.fragment.expression.UnaryPostfixAssignmentExpression;
+import com.revenat.javamm.code.fragment.expression.UnaryPrefixAssignmentExpression;
+import com.revenat.javamm.code.fragment.expression.VariableExpression;
+import com.revenat.javamm.code.fragment.function.DeveloperFunction;
+import com.revenat.javamm.code.fragment.operator.BinaryOperator;
+import com.revenat.javamm.code.fragment.operator.UnaryOperator;
+import com.revenat.javamm.interpreter.component.BinaryExpressionCalculator;
+import com.revenat.javamm.interpreter.component.CalculatorFacade;
+import com.revenat.javamm.interpreter.component.FunctionInvoker;
+import com.revenat.javamm.interpreter.component.impl.error.JavammLineRuntimeError;
+import com.revenat.javamm.interpreter.component.impl.expression.OperandStack;
+import com.revenat.javamm.interpreter.model.ExecutionContext;
+import com.revenat.javamm.interpreter.model.LocalContext;
+import com.revenat.javamm.interpreter.model.TypedValue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static com.revenat.javamm.code.util.LexemeUtils.isBinaryOperator;
+import static com.revenat.javamm.code.util.LexemeUtils.isUnaryOperator;
+import static com.revenat.javamm.code.util.TypeUtils.confirmType;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Translates {@linkplain Expression expressions} into expression nodes which
+ * evaluate themselves directly instead of looking up evaluator in the
+ * {@linkplain ExpressionContext expression context} each time. Every operator
+ * becomes a self-specializing {@linkplain BinaryOperatorSite binary} or
+ * {@linkplain UnaryOperatorSite unary} operator site.
+ *
+ * @author Vitaliy Dragun
+ */
+final class ExpressionNodeCompiler {
+
+    private final CalculatorFacade calculatorFacade;
+
+    private final ClosureCompiledFunctionInvoker functionInvoker;
+
+    private final Function<DeveloperFunction, CompiledFunction> functionBinder;
+
+    private final ThreadLocal<TypedValue[]> typedValues =
+        ThreadLocal.withInitial(() -> new TypedValue[]{new TypedValue(), new TypedValue()});
+
+    /**
+     * @param functionBinder binds the linked function invoked by the compiled
+     *                       expression to its compiled body
+     */
+    ExpressionNodeCompiler(final CalculatorFacade calculatorFacade,
+                           final ClosureCompiledFunctionInvoker functionInvoker,
+                           final Function<DeveloperFunction, CompiledFunction> functionBinder) {
+        this.calculatorFacade = requireNonNull(calculatorFacade);
+        this.functionInvoker = requireNonNull(functionInvoker);
+        this.functionBinder = requireNonNull(functionBinder);
+    }
+
+    /**
+     * Returns expression node for specified expression. Expressions which are
+     * able to evaluate themselves (constants, {@code null}, types) are returned
+     * as is
+     */
+    Expression compile(final Expression expression) {
+        if (confirmType(VariableExpression.class, expression)) {
+            return compile((VariableExpression) expression);
+        } else if (confirmType(LocalBinaryExpression.class, expression)) {
+            return compileLocalBinaryExpression((LocalBinaryExpression) expression);
+        } else if (confirmType(PostfixNotationComplexExpression.class, expression)) {
+            return compilePostfixExpression((PostfixNotationComplexExpression) expression);
+        } else if (confirmType(TernaryConditionalExpression.class, expression)) {
+            return compileTernaryExpression((TernaryConditionalExpression) expression);
+        } else if (confirmType(FunctionInvocationExpression.class, expression)) {
+            return compileFunctionInvocation((FunctionInvocationExpression) expression);
+        } else if (confirmType(UnaryPrefixAssignmentExpression.class, expression)) {
+            return new UnaryPrefixAssignmentNode(compileUnaryAssignment((UnaryAssignmentExpression) expression));
+        } else if (confirmType(UnaryPostfixAssignmentExpression.class, expression)) {
+            return new UnaryPostfixAssignmentNode(compileUnaryAssignment((UnaryAssignmentExpression) expression));
+        } else {
+            return expression;
+        }
+    }
+
+    UpdatableExpression compile(final VariableExpression expression) {
+        return new VariableNode(expression.getVariable());
+    }
+
+    private Expression compileLocalBinaryExpression(final LocalBinaryExpression expression) {
+        return new LocalBinaryNode(
+            expression.getOperand1(),
+            calculatorFacade.getCalculator(expression.getOperator()),
+            expression.getOperand2(),
+            typedValues,
+            expression.toString());
+    }
+
+    private Expression compilePostfixExpression(final PostfixNotationComplexExpression expression) {
+        final List<PostfixStep> steps = new ArrayList<>();
+        for (final Lexeme lexeme : expression.getShortCircuitLexemes()) {
+            steps.add(compilePostfixStep(lexeme));
+        }
+        return new PostfixNode(steps.toArray(new PostfixStep[0]), expression.getMaxStackDepth(),
+            functionInvoker.getOperandStacks(), expression.toString());
+    }
+
+    private PostfixStep compilePostfixStep(final Lexeme lexeme) {
+        if (isBinaryOperator(lexeme)) {
+            return compileBinaryStep((BinaryOperator) lexeme);
+        } else if (isUnaryOperator(lexeme)) {
+            return compileUnaryStep((UnaryOperator) lexeme);
+        } else {
+            final Expression operand = compile((Expression) lexeme);
+            return (expressionContext, stack, top) -> stack.push(top, operand);
+        }
+    }
+
+    private PostfixStep compileBinaryStep(final BinaryOperator operator) {
+        final BinaryOperatorSite site = new BinaryOperatorSite(calculatorFacade.getCalculator(operator));
+        final boolean assignment = operator.isAssignment();
+        return (expressionContext, stack, top) -> {
+            final Expression secondOperand = stack.get(top - 1);
+            final Expression firstOperand = stack.get(top - 2);
+            final Object result = site.calculate(expressionContext, firstOperand, secondOperand);
+            if (assignment) {
+                ((UpdatableExpression) firstOperand).setValue(expressionContext, result);
+            }
+            return stack.pushResult(top - 2, result);
+        };
+    }
+
+    private PostfixStep compileUnaryStep(final UnaryOperator operator) {
+        final UnaryOperatorSite site = new UnaryOperatorSite(calculatorFacade.getCalculator(operator));
+        return (expressionContext, stack, top) ->
+            stack.pushResult(top - 1, site.calculate(expressionContext, stack.get(top - 1)));
+    }
+
+    private Expression compileTernaryExpression(final TernaryConditionalExpression expression) {
+        return new TernaryNode(calculatorFacade,
+            compile(expression.getPredicateOperand()),
+            compile(expression.getTrueClauseOperand()),
+            compile(expression.getFalseClauseOperand()));
+    }
+
+    private Expression compileFunctionInvocation(final FunctionInvocationExpression expression) {
+        final List<Expression> arguments = new ArrayList<>();
+        for (final Expression argument : expression.getArguments()) {
+            arguments.add(compile(argument));
+        }
+        if (expression.isLinked()) {
+            return new BoundFunctionInvocationNode(expression, arguments.toArray(new Expression[0]),
+                functionInvoker, functionBinder.apply(expression.getLinkedFunction()));
+        } else {
+            return new FunctionInvocationNode(expression, List.copyOf(arguments));
+        }
+    }
+
+    private UnaryAssignment compileUnaryAssignment(final UnaryAssignmentExpression expression) {
+        return new UnaryAssignment(
+            compile(expression.getOperand()),
+            new UnaryOperatorSite(calculatorFacade.getCalculator(expression.getOperator())),
+            expression.toString());
+    }
+
+    /**
+     * Step of the postfix expression evaluation which takes its operands from the top
+     * of the operand stack and puts its result there
+     */
+    @FunctionalInterface
+    private interface PostfixStep {
+
+        /**
+         * @return new top position of the operand stack
+         */
+        int apply(ExpressionContext expressionContext, OperandStack stack, int top);
+    }
+
+    private static final class VariableNode implements UpdatableExpression {
+
+        private final Variable variable;
+
+        private VariableNode(final Variable variable) {
+            this.variable = requireNonNull(variable);
+        }
+
+        @Override
+        public Object getValue(final ExpressionContext expressionContext) {
+            return ExecutionContext.of(expressionContext).getCurrentLocalContext().getVariableValue(variable);
+        }
+
+        @Override
+        public void setValue(final ExpressionContext expressionContext, final Object updatedValue) {
+            final LocalContext localContext = ExecutionContext.of(expressionContext).getCurrentLocalContext();
+            if (localContext.isVariableDefined(variable)) {
+                localContext.setVariableValue(variable, updatedValue);
+            } else {
+                throw new JavammLineRuntimeError("Variable '%s' is not defined", variable);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return variable.toString();
+        }
+    }
+
+    /**
+     * Evaluates its steps on the reusable {@linkplain OperandStack operand stack} of
+     * the current thread, so the evaluation allocates neither the stack nor the
+     * holders of the intermediate results
+     */
+    private static final class PostfixNode implements Expression {
+
+        private final PostfixStep[] steps;
+
+        private final int maxStackDepth;
+
+        private final ThreadLocal<OperandStack> operandStacks;
+
+        private final String originalExpression;
+
+        private PostfixNode(final PostfixStep[] steps,
+                            final int maxStackDepth,
+                            final ThreadLocal<OperandStack> operandStacks,
+                            final String originalExpression) {
+            this.steps = steps;
+            this.maxStackDepth = maxStackDepth;
+            this.operandStacks = operandStacks;
+            this.originalExpression = originalExpression;
+        }
+
+        @Override
+        public Object getValue(final ExpressionContext expressionContext) {
+            final OperandStack stack = operandStacks.get();
+            final int bottom = stack.allocate(maxStackDepth);
+            try {
+                int top = bottom;
+                for (final PostfixStep step : steps) {
+                    top = step.apply(expressionContext, stack, top);
+                }
+                return stack.get(top - 1).getValue(expressionContext);
+            } finally {
+                stack.release(bottom);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return originalExpression;
+        }
+    }
+
+    /**
+     * Evaluates binary operator of local variables and constants on the {@linkplain TypedValue
+     * typed values} of the operands, so integer variables are not boxed
+     */
+    private static final class LocalBinaryNode implements Expression {
+
+        private final Expression operand1;
+
+        private final BinaryExpressionCalculator calculator;
+
+        private final Expression operand2;
+
+        private final ThreadLocal<TypedValue[]> typedValues;
+
+        private final String originalExpression;
+
+        private LocalBinaryNode(final Expression operand1,
+                                final BinaryExpressionCalculator calculator,
+                                final Expression operand2,
+                                final ThreadLocal<TypedValue[]> typedValues,
+                                final String originalExpression) {
+            this.operand1 = operand1;
+            this.calculator = calculator;
+            this.operand2 = operand2;
+            this.typedValues = typedValues;
+            this.originalExpression = originalExpression;
+        }
+
+        @Override
+        public Object getValue(final ExpressionContext expressionContext) {
+            final ExecutionContext executionContext = ExecutionContext.of(expressionContext);
+            final TypedValue[] values = typedValues.get();
+            getOperandValue(executionContext, operand1, values[0]);
+            getOperandValue(executionContext, operand2, values[1]);
+            calculator.calculate(executionContext, values[0], values[1], values[0]);
+            return values[0].toObject();
+        }
+
+        private static void getOperandValue(final ExecutionContext executionContext,
+                                            final Expression operand,
+                                            final TypedValue value) {
+            if (confirmType(VariableExpression.class, operand)) {
+                final LocalContext localContext = executionContext.getCurrentLocalContext();
+                localContext.getVariableValue(((VariableExpression) operand).getVariable(), value);
+            } else {
+                value.setObject(operand.getValue(executionContext));
+            }
+        }
+
+        @Override
+        public String toString() {
+            return originalExpression;
+        }
+    }
+
+    private static final class TernaryNode implements Expression {
+
+        private final CalculatorFacade calculatorFacade;
+
+        private final Expression predicate;
+
+        private final Expression trueClause;
+
+        private final Expression falseClause;
+
+        private TernaryNode(final CalculatorFacade calculatorFacade,
+                            final Expression predicate,
+                            final Expression trueClause,
+                            final Expression falseClause) {
+            this.calculatorFacade = calculatorFacade;
+            this.predicate = predicate;
+            this.trueClause = trueClause;
+            this.falseClause = falseClause;
+        }
+
+        @Override
+        public Object getValue(final ExpressionContext expressionContext) {
+            if (calculatorFacade.isTrue(expressionContext, predicate)) {
+                return trueClause.getValue(expressionContext);
+            } else {
+                return falseClause.getValue(expressionContext);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s ? %s : %s", predicate, trueClause, falseClause);
+        }
+    }
+
+    /**
+     * Invocation of the function which is not linked, so it is looked up by name
+     */
+    private static final class FunctionInvocationNode implements Expression {
+
+        private final FunctionInvocationExpression expression;
+
+        private final List<Expression> arguments;
+
+        private FunctionInvocationNode(final FunctionInvocationExpression expression,
+                                       final List<Expression> arguments) {
+            this.expression = expression;
+            this.arguments = arguments;
+        }
+
+        @Override
+        public Object getValue(final ExpressionContext expressionContext) {
+            final ExecutionContext executionContext = ExecutionContext.of(expressionContext);
+            final FunctionInvoker functionInvoker = executionContext.getCurrentRuntime().getCurrentFunctionInvoker();
+            return functionInvoker.invoke(executionContext, expression.getFunctionName(), arguments);
+        }
+
+        @Override
+        public String toString() {
+            return expression.toString();
+        }
+    }
+
+    /**
+     * Invocation of the linked function which refers to its compiled body directly
+     */
+    private static final class BoundFunctionInvocationNode implements Expression {
+
+        private final FunctionInvocationExpression expression;
+
+        private final Expression[] arguments;
+
+        private final ClosureCompiledFunctionInvoker functionInvoker;
+
+        private final CompiledFunction function;
+
+        private BoundFunctionInvocationNode(final FunctionInvocationExpression expression,
+                                            final Expression[] arguments,
+                                            final ClosureCompiledFunctionInvoker functionInvoker,
+                                            final CompiledFunction function) {
+            this.expression = expression;
+            this.arguments = arguments;
+            this.functionInvoker = functionInvoker;
+            this.function = function;
+        }
+
+        @Override
+        public Object getValue(final ExpressionContext expressionContext) {
+            final ExecutionContext executionContext = ExecutionContext.of(expressionContext);
+            final Object[] argumentValues = new Object[arguments.length];
+            for (int i = 0; i < arguments.length; i++) {
+                argumentValues[i] = arguments[i].getValue(executionContext);
+            }
+            return functionInvoker.invoke(executionContext, function, argumentValues);
+        }
+
+        @Override
+        public String toString() {
+            return expression.toString();
+        }
+    }
+
+    private static final class UnaryAssignment {
+
+        private final UpdatableExpression operand;
+
+        private final UnaryOperatorSite site;
+
+        private final String originalExpression;
+
+        private UnaryAssignment(final UpdatableExpression operand,
+                                final UnaryOperatorSite site,
+                                final String originalExpression) {
+            this.operand = operand;
+            this.site = site;
+            this.originalExpression = originalExpression;
+        }
+
+        private Object assign(final ExpressionContext expressionContext) {
+            final Object value = site.calculate(expressionContext, operand);
+            operand.setValue(expressionContext, value);
+            return value;
+        }
+    }
+
+    private static final class UnaryPrefixAssignmentNode implements Expression {
+
+        private final UnaryAssignment assignment;
+
+        private UnaryPrefixAssignmentNode(final UnaryAssignment assignment) {
+            this.assignment = assignment;
+        }
+
+        @Override
+        public Object getValue(final ExpressionContext expressionContext) {
+            return assignment.assign(expressionContext);
+        }
+
+        @Override
+        public String toString() {
+            return assignment.originalExpression;
+        }
+    }
+
+    private static final class UnaryPostfixAssignmentNode implements Expression {
+
+        private final UnaryAssignment assignment;
+
+        private UnaryPostfixAssignmentNode(final UnaryAssignment assignment) {
+            this.assignment = assignment;
+        }
+
+        @Override
+        public Object getValue(final ExpressionContext expressionContext) {
+            final Object oldValue = assignment.operand.getValue(expressionContext);
+            assignment.assign(expressionContext);
+            return oldValue;
+        }
+
+        @Override
+        public String toString() {
+            return assignment.originalExpression;
+        }
+    }
+}
@@ -0,0 +1,437 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.interpreter.component.impl.closure;
+
+import com.revenat.javamm.code.component.Console;
+import com.revenat.javamm.code.exception.ConfigException;
+import com.revenat.javamm.code.fragment.Expression;
+import com.revenat.javamm.code.fragment.Operation;
+import com.revenat.javamm.code.fragment.UpdatableExpression;
+import com.revenat.javamm.code.fragment.Variable;
+import com.revenat.javamm.code.fragment.expression.FunctionInvocationExpression;
+import com.revenat.javamm.code.fragment.expression.VariableExpression;
+import com.revenat.javamm.code.fragment.function.DeveloperFunction;
+import com.revenat.javamm.code.fragment.operation.AbstractLoopOperation;
+import com.revenat.javamm.code.fragment.operation.Block;
+import com.revenat.javamm.code.fragment.operation.BreakOperation;
+import com.revenat.javamm.code.fragment.operation.CompoundAssignLocalOperation;
+import com.revenat.javamm.code.fragment.operation.ContinueOperation;
+import com.revenat.javamm.code.fragment.operation.DoWhileOperation;
+import com.revenat.javamm.code.fragment.operation.ExpressionOperation;
+import com.revenat.javamm.code.fragment.operation.ForOperation;
+import com.revenat.javamm.code.fragment.operation.IfElseOperation;
+import com.revenat.javamm.code.fragment.operation.IncrementLocalOperation;
+import com.revenat.javamm.code.fragment.operation.PrintlnOperation;
+import com.revenat.javamm.code.fragment.operation.ReturnOperation;
+import com.revenat.javamm.code.fragment.operation.SwitchBodyEntry;
+import com.revenat.javamm.code.fragment.operation.SwitchOperation;
+import com.revenat.javamm.code.fragment.operation.VariableAssignmentOperation;
+import com.revenat.javamm.code.fragment.operation.VariableDeclarationOperation;
+import com.revenat.javamm.code.fragment.operation.WhileOperation;
+import com.revenat.javamm.interpreter.component.BinaryExpressionCalculator;
+import com.revenat.javamm.interpreter.component.CalculatorFacade;
+import com.revenat.javamm.interpreter.component.UnaryExpressionCalculator;
+import com.revenat.javamm.interpreter.component.impl.error.JavammLineRuntimeError;
+import com.revenat.javamm.interpreter.model.Completion;
+import com.revenat.javamm.interpreter.model.CurrentRuntime;
+import com.revenat.javamm.interpreter.model.ExecutionContext;
+import com.revenat.javamm.interpreter.model.LocalContext;
+import com.revenat.javamm.interpreter.model.TypedValue;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static com.revenat.javamm.code.util.TypeUtils.confirmType;
+import static com.revenat.javamm.interpreter.component.impl.operation.block.NestedScopeLocalContextExecutor.executeInsideNestedScope;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Translates {@linkplain Block blocks} of operations into trees of
+ * {@linkplain CompiledOperation compiled operations}. Semantic of each
+ * compiled operation is the same as semantic of the corresponding operation
+ * interpreter.
+ *
+ * <p>Each compiler instance binds every function at most once, so the functions
+ * which invoke each other (or themselves) share the same compiled body
+ *
+ * @author Vitaliy Dragun
+ */
+@SuppressWarnings("checkstyle:ClassFanOutComplexity")
+final class OperationNodeCompiler {
+
+    private final CalculatorFacade calculatorFacade;
+
+    private final Console console;
+
+    private final ExpressionNodeCompiler expressionCompiler;
+
+    private final Map<DeveloperFunction, CompiledFunction> boundFunctions = new IdentityHashMap<>();
+
+    private final ThreadLocal<TypedValue[]> typedValues =
+        ThreadLocal.withInitial(() -> new TypedValue[]{new TypedValue(), new TypedValue()});
+
+    OperationNodeCompiler(final CalculatorFacade calculatorFacade,
+                          final Console console,
+                          final ClosureCompiledFunctionInvoker functionInvoker) {
+        this.calculatorFacade = requireNonNull(calculatorFacade);
+        this.console = requireNonNull(console);
+        this.expressionCompiler = new ExpressionNodeCompiler(calculatorFacade, functionInvoker, this::bind);
+    }
+
+    /**
+     * Returns specified function bound to its compiled body. Body is compiled on
+     * the first request only
+     */
+    CompiledFunction bind(final DeveloperFunction function) {
+        CompiledFunction compiledFunction = boundFunctions.get(function);
+        if (compiledFunction == null) {
+            compiledFunction = new CompiledFunction(function);
+            boundFunctions.put(function, compiledFunction);
+            compiledFunction.setBody(compileBlock(function.getBody()));
+        }
+        return compiledFunction;
+    }
+
+    /**
+     * Compiles operations of specified block, which will be executed inside
+     * current local context
+     */
+    private CompiledOperation compileBlock(final Block block) {
+        final List<Operation> operations = block.getOperations();
+        final CompiledOperation[] nodes = new CompiledOperation[operations.size()];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = compile(operations.get(i));
+        }
+        return new BlockNode(operations.toArray(new Operation[0]), nodes);
+    }
+
+    private CompiledOperation compileNestedScopeBlock(final Block block) {
+        if (block.isVariableDeclarationPresent()) {
+            final CompiledOperation body = compileBlock(block);
+            return executionContext -> executeInsideNestedScope(executionContext, () -> body.execute(executionContext));
+        } else {
+            return compileBlock(block);
+        }
+    }
+
+    @SuppressWarnings({"checkstyle:CyclomaticComplexity", "checkstyle:ReturnCount"})
+    private CompiledOperation compile(final Operation operation) {
+        if (confirmType(PrintlnOperation.class, operation)) {
+            return compilePrintln((PrintlnOperation) operation);
+        } else if (confirmType(VariableDeclarationOperation.class, operation)) {
+            return compileVariableDeclaration((VariableDeclarationOperation) operation);
+        } else if (confirmType(VariableAssignmentOperation.class, operation)) {
+            return compileVariableAssignment((VariableAssignmentOperation) operation);
+        } else if (confirmType(IncrementLocalOperation.class, operation)) {
+            return compileIncrementLocal((IncrementLocalOperation) operation);
+        } else if (confirmType(CompoundAssignLocalOperation.class, operation)) {
+            return compileCompoundAssignLocal((CompoundAssignLocalOperation) operation);
+        } else if (confirmType(ExpressionOperation.class, operation)) {
+            final Expression expression = compile(((ExpressionOperation) operation).getExpression());
+            return executionContext -> {
+                expression.getValue(executionContext);
+                return Completion.NORMAL;
+            };
+        } else if (confirmType(IfElseOperation.class, operation)) {
+            return compileIfElse((IfElseOperation) operation);
+        } else if (confirmType(WhileOperation.class, operation)) {
+            return compileWhile((WhileOperation) operation);
+        } else if (confirmType(DoWhileOperation.class, operation)) {
+            return compileDoWhile((DoWhileOperation) operation);
+        } else if (confirmType(ForOperation.class, operation)) {
+            return compileFor((ForOperation) operation);
+        } else if (confirmType(Block.class, operation)) {
+            return compileNestedScopeBlock((Block) operation);
+        } else if (confirmType(ContinueOperation.class, operation)) {
+            return executionContext -> Completion.CONTINUE;
+        } else if (confirmType(BreakOperation.class, operation)) {
+            return executionContext -> Completion.BREAK;
+        } else if (confirmType(SwitchOperation.class, operation)) {
+            return compileSwitch((SwitchOperation) operation);
+        } else if (confirmType(ReturnOperation.class, operation)) {
+            return compileReturn((ReturnOperation) operation);
+        } else {
+            throw new ConfigException("There is no compilation rule for " + operation.getClass());
+        }
+    }
+
+    private Expression compile(final Expression expression) {
+        return expressionCompiler.compile(expression);
+    }
+
+    private CompiledOperation compilePrintln(final PrintlnOperation operation) {
+        if (operation.getExpression().isPresent()) {
+            final Expression expression = compile(operation.getExpression().get());
+            return executionContext -> {
+                console.outPrintln(Objects.requireNonNullElse(expression.getValue(executionContext), ""));
+                return Completion.NORMAL;
+            };
+        } else {
+            return executionContext -> {
+                console.outPrintln("");
+                return Completion.NORMAL;
+            };
+        }
+    }
+
+    private CompiledOperation compileVariableDeclaration(final VariableDeclarationOperation operation) {
+        final Variable variable = operation.getVariable();
+        final Expression expression = compile(operation.getExpression());
+        final boolean constant = operation.isConstant();
+        return executionContext -> {
+            final LocalContext localContext = executionContext.getCurrentRuntime().getCurrentLocalContext();
+            if (localContext.isVariableDefined(variable)) {
+                throw new JavammLineRuntimeError("Variable '%s' already defined", variable);
+            }
+            final Object value = expression.getValue(executionContext);
+            if (constant) {
+                localContext.setFinalValue(variable, value);
+            } else {
+                localContext.setVariableValue(variable, value);
+            }
+            return Completion.NORMAL;
+        };
+    }
+
+    private CompiledOperation compileVariableAssignment(final VariableAssignmentOperation operation) {
+        final UpdatableExpression variableExpression = expressionCompiler.compile(operation.getVariableExpression());
+        final Expression valueExpression = compile(operation.getValueExpression());
+        return executionContext -> {
+            variableExpression.setValue(executionContext, valueExpression.getValue(executionContext));
+            return Completion.NORMAL;
+        };
+    }
+
+    /**
+     * Increments local variable in its {@linkplain TypedValue typed value}, so the
+     * integer is not boxed
+     */
+    private CompiledOperation compileIncrementLocal(final IncrementLocalOperation operation) {
+        final Variable variable = operation.getVariable();
+        final UnaryExpressionCalculator calculator = calculatorFacade.getCalculator(operation.getOperator());
+        return executionContext -> {
+            final LocalContext localContext = executionContext.getCurrentLocalContext();
+            final TypedValue value = typedValues.get()[0];
+            localContext.getVariableValue(variable, value);
+            calculator.calculate(executionContext, value, value);
+            localContext.setVariableValue(variable, value);
+            return Completion.NORMAL;
+        };
+    }
+
+    /**
+     * Assigns result of the binary operator to the local variable using {@linkplain TypedValue
+     * typed values} of the operands, so the integers are not boxed
+     */
+    private CompiledOperation compileCompoundAssignLocal(final CompoundAssignLocalOperation operation) {
+        final Variable variable = operation.getVariable();
+        final BinaryExpressionCalculator calculator = calculatorFacade.getCalculator(operation.getOperator());
+        final Expression operand = operation.getOperand();
+        final Variable operandVariable = confirmType(VariableExpression.class, operand)
+            ? ((VariableExpression) operand).getVariable()
+            : null;
+        return executionContext -> {
+            final LocalContext localContext = executionContext.getCurrentLocalContext();
+            final TypedValue[] values = typedValues.get();
+            localContext.getVariableValue(variable, values[0]);
+            if (operandVariable != null) {
+                localContext.getVariableValue(operandVariable, values[1]);
+            } else {
+                values[1].setObject(operand.getValue(executionContext));
+            }
+            calculator.calculate(executionContext, values[0], values[1], values[0]);
+            localContext.setVariableValue(variable, values[0]);
+            return Completion.NORMAL;
+        };
+    }
+
+    private CompiledOperation compileIfElse(final IfElseOperation operation) {
+        final Expression condition = compile(operation.getCondition());
+        final CompiledOperation trueBlock = compileNestedScopeBlock(operation.getTrueBlock());
+        final CompiledOperation falseBlock = operation.getFalseBlock()
+            .map(this::compileNestedScopeBlock)
+            .orElse(CompiledOperation.NO_OPERATION);
+        return executionContext -> {
+            if (calculatorFacade.isTrue(executionContext, condition)) {
+                return trueBlock.execute(executionContext);
+            } else {
+                return falseBlock.execute(executionContext);
+            }
+        };
+    }
+
+    private CompiledOperation compileWhile(final WhileOperation operation) {
+        final Expression condition = compile(operation.getCondition());
+        final CompiledOperation body = compileLoopBody(operation);
+        return executionContext -> {
+            while (calculatorFacade.isTrue(executionContext, condition)) {
+                final Completion completion = body.execute(executionContext);
+                if (completion != Completion.NORMAL) {
+                    return completeLoop(completion);
+                }
+            }
+            return Completion.NORMAL;
+        };
+    }
+
+    private CompiledOperation compileDoWhile(final DoWhileOperation operation) {
+        final Expression condition = compile(operation.getCondition());
+        final CompiledOperation body = compileLoopBody(operation);
+        return executionContext -> {
+            do {
+                final Completion completion = body.execute(executionContext);
+                if (completion != Completion.NORMAL) {
+                    return completeLoop(completion);
+                }
+            } while (calculatorFacade.isTrue(executionContext, condition));
+            return Completion.NORMAL;
+        };
+    }
+
+    private CompiledOperation compileFor(final ForOperation operation) {
+        final CompiledOperation init = compileBlock(operation.getInitBlock());
+        final Expression condition = compile(operation.getCondition());
+        final CompiledOperation update = compileBlock(operation.getUpdateBlock());
+        final CompiledOperation body = compileLoopBody(operation);
+        final CompiledOperation loop = executionContext -> {
+            for (init.execute(executionContext);
+                 calculatorFacade.isTrue(executionContext, condition);
+                 update.execute(executionContext)) {
+                final Completion completion = body.execute(executionContext);
+                if (completion != Completion.NORMAL) {
+                    return completeLoop(completion);
+                }
+            }
+            return Completion.NORMAL;
+        };
+        final boolean nestedScope = operation.getInitOperation()
+            .filter(o -> confirmType(VariableDeclarationOperation.class, o))
+            .isPresent();
+        if (nestedScope) {
+            return executionContext -> executeInsideNestedScope(executionContext, () -> loop.execute(executionContext));
+        } else {
+            return loop;
+        }
+    }
+
+    /**
+     * Compiles body of the loop. {@link Completion#CONTINUE} is handled by the
+     * compiled body, so it returns {@link Completion#NORMAL} in such case
+     */
+    private CompiledOperation compileLoopBody(final AbstractLoopOperation operation) {
+        final CompiledOperation body = compileNestedScopeBlock(operation.getBody());
+        return executionContext -> {
+            final CurrentRuntime currentRuntime = executionContext.getCurrentRuntime();
+            currentRuntime.pollTermination();
+            final Completion completion = body.execute(executionContext);
+            if (completion == Completion.NORMAL || completion == Completion.CONTINUE) {
+                currentRuntime.setCurrentOperation(operation);
+                return Completion.NORMAL;
+            } else {
+                return completion;
+            }
+        };
+    }
+
+    private static Completion completeLoop(final Completion bodyCompletion) {
+        return bodyCompletion == Completion.BREAK ? Completion.NORMAL : bodyCompletion;
+    }
+
+    private CompiledOperation compileSwitch(final SwitchOperation operation) {
+        final Expression condition = compile(operation.getCondition());
+        final List<SwitchBodyEntry> entries = operation.getEntries();
+        final int size = entries.size();
+        final CompiledOperation[] bodies = new CompiledOperation[size];
+        for (int i = 0; i < size; i++) {
+            bodies[i] = compileNestedScopeBlock(entries.get(i).getBody());
+        }
+        return executionContext -> {
+            final Object value = condition.getValue(executionContext);
+            for (int i = operation.getMatchedEntryPosition(value); i < size; i++) {
+                final Completion completion = bodies[i].execute(executionContext);
+                if (completion == Completion.BREAK) {
+                    return Completion.NORMAL;
+                } else if (completion != Completion.NORMAL) {
+                    return completion;
+                }
+            }
+            return Completion.NORMAL;
+        };
+    }
+
+    private CompiledOperation compileReturn(final ReturnOperation operation) {
+        if (operation.isTailCall()
+            && ((FunctionInvocationExpression) operation.getExpression().orElseThrow()).isLinked()) {
+            return compileTailCall((FunctionInvocationExpression) operation.getExpression().get());
+        } else if (operation.getExpression().isPresent()) {
+            final Expression expression = compile(operation.getExpression().get());
+            return executionContext -> {
+                executionContext.getCurrentRuntime().setReturnValue(Objects.requireNonNullElse(
+                    expression.getValue(executionContext), com.revenat.javamm.code.fragment.Void.INSTANCE));
+                return Completion.RETURN;
+            };
+        } else {
+            return executionContext -> {
+                executionContext.getCurrentRuntime().setReturnValue(com.revenat.javamm.code.fragment.Void.INSTANCE);
+                return Completion.RETURN;
+            };
+        }
+    }
+
+    private CompiledOperation compileTailCall(final FunctionInvocationExpression expression) {
+        final CompiledFunction function = bind(expression.getLinkedFunction());
+        final Expression[] arguments = expression.getArguments().stream()
+            .map(this::compile)
+            .toArray(Expression[]::new);
+        return executionContext -> {
+            final Object[] argumentValues = new Object[arguments.length];
+            for (int i = 0; i < arguments.length; i++) {
+                argumentValues[i] = arguments[i].getValue(executionContext);
+            }
+            executionContext.getCurrentRuntime().setReturnValue(new CompiledTailCall(function, argumentValues));
+            return Completion.RETURN;
+        };
+    }
+
+    private static final class BlockNode implements CompiledOperation {
+
+        private final Operation[] operations;
+
+        private final CompiledOperation[] nodes;
+
+        private BlockNode(final Operation[] operations, final CompiledOperation[] nodes) {
+            this.operations = operations;
+            this.nodes = nodes;
+        }
+
+        @Override
+        public Completion execute(final ExecutionContext executionContext) {
+            final CurrentRuntime currentRuntime = executionContext.getCurrentRuntime();
+            for (int i = 0; i < nodes.length; i++) {
+                currentRuntime.setCurrentOperation(operations[i]);
+                final Completion completion = nodes[i].execute(executionContext);
+                if (completion != Completion.NORMAL) {
+                    return completion;
+                }
+            }
+            return Completion.NORMAL;
+        }
+    }
+}
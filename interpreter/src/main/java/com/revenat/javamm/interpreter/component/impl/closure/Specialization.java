@@ -0,0 +1,53 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.interpreter.component.impl.closure;
+
+/**
+ * State of the self-specializing operator site. Site starts uninitialized,
+ * specializes for the operand types it sees first and only moves to the more
+ * general states when other operand types show up.
+ *
+ * @author Vitaliy Dragun
+ */
+enum Specialization {
+
+    /**
+     * Site has not been executed yet
+     */
+    UNINITIALIZED,
+
+    /**
+     * All operands seen so far are integers
+     */
+    INTEGER,
+
+    /**
+     * All operands seen so far are integers or doubles
+     */
+    NUMBER,
+
+    /**
+     * Site performs string concatenation
+     */
+    STRING,
+
+    /**
+     * Site delegates to the generic calculator
+     */
+    GENERIC
+}
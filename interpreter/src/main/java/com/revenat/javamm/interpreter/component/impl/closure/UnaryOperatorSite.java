@@ -0,0 +1,111 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.interpreter.component.impl.closure;
+
+import com.revenat.javamm.code.component.ExpressionContext;
+import com.revenat.javamm.code.fragment.Expression;
+import com.revenat.javamm.code.fragment.operator.UnaryOperator;
+import com.revenat.javamm.interpreter.component.UnaryExpressionCalculator;
+import com.revenat.javamm.interpreter.model.TypedValue;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Single unary operator occurrence in the compiled expression which specializes
+ * itself for integer or double operand and falls back to the generic
+ * {@linkplain UnaryExpressionCalculator calculator} when operand of another type
+ * shows up
+ *
+ * @author Vitaliy Dragun
+ */
+final class UnaryOperatorSite {
+
+    private final UnaryExpressionCalculator calculator;
+
+    private final int delta;
+
+    private final boolean negation;
+
+    private Specialization specialization;
+
+    UnaryOperatorSite(final UnaryExpressionCalculator calculator) {
+        this.calculator = requireNonNull(calculator);
+        final UnaryOperator operator = calculator.getOperator();
+        this.delta = operator == UnaryOperator.INCREMENT ? 1 : -1;
+        this.negation = operator == UnaryOperator.ARITHMETICAL_UNARY_MINUS;
+        this.specialization = isSpecializable(operator) ? Specialization.UNINITIALIZED : Specialization.GENERIC;
+    }
+
+    Specialization getSpecialization() {
+        return specialization;
+    }
+
+    Object calculate(final ExpressionContext expressionContext, final Expression operand) {
+        if (specialization == Specialization.GENERIC) {
+            return calculator.calculate(expressionContext, operand);
+        }
+        final Object value = operand.getValue(expressionContext);
+        if (!isAccepted(value)) {
+            specialization = respecialize(value);
+        }
+        switch (specialization) {
+            case INTEGER:
+                return negation ? -(Integer) value : (Integer) value + delta;
+            case NUMBER:
+                return calculateForNumber(value);
+            default:
+                final TypedValue typedValue = new TypedValue();
+                typedValue.setObject(value);
+                return calculator.calculate(expressionContext, typedValue);
+        }
+    }
+
+    private Object calculateForNumber(final Object value) {
+        if (value instanceof Integer) {
+            return negation ? -(Integer) value : (Integer) value + delta;
+        } else {
+            return negation ? -(Double) value : (Double) value + delta;
+        }
+    }
+
+    private boolean isAccepted(final Object value) {
+        if (specialization == Specialization.INTEGER) {
+            return value instanceof Integer;
+        } else if (specialization == Specialization.NUMBER) {
+            return value instanceof Integer || value instanceof Double;
+        } else {
+            return false;
+        }
+    }
+
+    private Specialization respecialize(final Object value) {
+        if (value instanceof Integer && specialization == Specialization.UNINITIALIZED) {
+            return Specialization.INTEGER;
+        } else if (value instanceof Double && specialization != Specialization.NUMBER) {
+            return Specialization.NUMBER;
+        } else {
+            return Specialization.GENERIC;
+        }
+    }
+
+    private static boolean isSpecializable(final UnaryOperator operator) {
+        return operator == UnaryOperator.INCREMENT ||
+            operator == UnaryOperator.DECREMENT ||
+            operator == UnaryOperator.ARITHMETICAL_UNARY_MINUS;
+    }
+}
@@ -21,6 +21,7 @@ import com.revenat.javamm.interpreter.error.JavammRuntimeError;
 import com.revenat.javamm.interpreter.model.CurrentRuntime;
 import com.revenat.javamm.interpreter.model.CurrentRuntimeProvider;
 import com.revenat.javamm.interpreter.model.StackTraceItem;
+import com.revenat.javamm.interpreter.model.StackTraceSnapshot;
 
 import java.util.List;
 
@@ -30,28 +31,56 @@ import static java.util.stream.Collectors.toUnmodifiableList;
 
 
 /**
- * Represents interpreter runtime error
+ * Represents interpreter runtime error.
+ *
+ * <p>Error captures only {@linkplain StackTraceSnapshot snapshot} of the current
+ * stack trace, and its message is formatted from the template and arguments only
+ * when it is requested, so errors which are caught and replaced by the interpreter
+ * itself are cheap. Stack trace of the JVM is not filled for such errors either
  *
  * @author Vitaliy Dragun
  */
 public class JavammLineRuntimeError extends JavammRuntimeError {
     private static final long serialVersionUID = -2098638364439526984L;
 
-    private final transient List<StackTraceItem> currentStackTrace;
+    private final transient Object[] args;
+
+    private final transient StackTraceSnapshot stackTraceSnapshot;
+
+    private transient List<StackTraceItem> currentStackTrace;
 
     public JavammLineRuntimeError(final String message) {
         super(message);
-        this.currentStackTrace = getCurrentRuntime().getCurrentStackTrace();
+        this.args = null;
+        this.stackTraceSnapshot = getCurrentRuntime().captureStackTrace();
     }
 
     public JavammLineRuntimeError(final String template, final Object... args) {
-        this(format(template, args));
+        super(template);
+        this.args = args;
+        this.stackTraceSnapshot = getCurrentRuntime().captureStackTrace();
+    }
+
+    /**
+     * @param stackTraceSnapshot snapshot of the stack trace captured by the subclass
+     */
+    protected JavammLineRuntimeError(final StackTraceSnapshot stackTraceSnapshot,
+                                     final String template,
+                                     final Object... args) {
+        super(template);
+        this.args = args;
+        this.stackTraceSnapshot = stackTraceSnapshot;
     }
 
-    private static CurrentRuntime getCurrentRuntime() {
+    protected static CurrentRuntime getCurrentRuntime() {
         return CurrentRuntimeProvider.getCurrentRuntime();
     }
 
+    @Override
+    protected String getErrorMessage() {
+        return args == null ? super.getErrorMessage() : format(super.getErrorMessage(), args);
+    }
+
     @Override
     public String getMessage() {
         return format("Runtime error: %s%s%s",
@@ -63,12 +92,15 @@ public class JavammLineRuntimeError extends JavammRuntimeError {
 
     @Override
     public List<StackTraceItem> getCurrentStackTrace() {
+        if (currentStackTrace == null) {
+            currentStackTrace = stackTraceSnapshot.getStackTrace();
+        }
         return currentStackTrace;
     }
 
     private String buildStackTrace() {
         return String.join(lineSeparator(),
-            currentStackTrace.stream()
+            getCurrentStackTrace().stream()
                 .map(this::toStackTraceString)
                 .collect(toUnmodifiableList())
         );
@@ -15,26 +15,22 @@
  * limitations under the License.
  */
 
-package com.revenat.javamm.interpreter.component.impl.operation.exception;
-
-import static com.revenat.javamm.code.syntax.Keywords.RETURN;
-import static java.util.Objects.requireNonNull;
+package com.revenat.javamm.interpreter.component.impl.error;
 
 /**
+ * Runtime error which is thrown when the stack of the script or of the JVM is exhausted.
+ * Only {@value #MAX_STACK_TRACE_SIZE} most recent frames of the stack trace are
+ * captured, so the error of the deep recursion stays cheap and readable
+ *
  * @author Vitaliy Dragun
  */
-public class ReturnOperationException extends InterruptOperationException {
-
-    private static final long serialVersionUID = 1L;
+public class JavammStackOverflowError extends JavammLineRuntimeError {
 
-    private final transient Object returnValue;
+    public static final int MAX_STACK_TRACE_SIZE = 64;
 
-    public ReturnOperationException(final Object returnValue) {
-        super(RETURN);
-        this.returnValue = requireNonNull(returnValue);
-    }
+    private static final long serialVersionUID = 1L;
 
-    public Object getReturnValue() {
-        return returnValue;
+    public JavammStackOverflowError(final String template, final Object... args) {
+        super(getCurrentRuntime().captureStackTrace(MAX_STACK_TRACE_SIZE), template, args);
     }
 }
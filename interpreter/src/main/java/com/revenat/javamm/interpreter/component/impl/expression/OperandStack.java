@@ -0,0 +1,103 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.interpreter.component.impl.expression;
+
+import com.revenat.javamm.code.fragment.Expression;
+import com.revenat.javamm.code.fragment.expression.PostfixNotationComplexExpression;
+import com.revenat.javamm.interpreter.model.TypedValue;
+
+import java.util.Arrays;
+
+/**
+ * Operand stack of the thread which evaluates {@linkplain PostfixNotationComplexExpression
+ * postfix notation expressions}. Each evaluation {@linkplain #allocate(int) reserves}
+ * {@linkplain PostfixNotationComplexExpression#getMaxStackDepth() max stack depth} slots
+ * and stores intermediate results in the preallocated {@linkplain TypedValue typed values}
+ * of these slots, so neither the stack nor the intermediate results are allocated per
+ * evaluation. Nested evaluations (e.g. function calls inside an expression) reserve their
+ * slots above the slots of the enclosing evaluation.
+ *
+ * @author Vitaliy Dragun
+ */
+public final class OperandStack {
+
+    private static final int INITIAL_CAPACITY = 32;
+
+    private Expression[] operands = new Expression[INITIAL_CAPACITY];
+
+    private TypedValue[] results = new TypedValue[INITIAL_CAPACITY];
+
+    private int limit;
+
+    public OperandStack() {
+        createResults(0);
+    }
+
+    /**
+     * Reserves specified number of slots
+     *
+     * @return position of the first reserved slot, which should be passed to
+     * {@link #release(int)} when the evaluation is completed
+     */
+    public int allocate(final int depth) {
+        final int bottom = limit;
+        limit += depth;
+        if (limit > operands.length) {
+            final int oldCapacity = operands.length;
+            final int capacity = Math.max(limit, oldCapacity * 2);
+            operands = Arrays.copyOf(operands, capacity);
+            results = Arrays.copyOf(results, capacity);
+            createResults(oldCapacity);
+        }
+        return bottom;
+    }
+
+    private void createResults(final int from) {
+        for (int i = from; i < results.length; i++) {
+            results[i] = new TypedValue();
+        }
+    }
+
+    public void release(final int bottom) {
+        limit = bottom;
+    }
+
+    public Expression get(final int index) {
+        return operands[index];
+    }
+
+    /**
+     * @return new top position of the stack
+     */
+    public int push(final int top, final Expression operand) {
+        operands[top] = operand;
+        return top + 1;
+    }
+
+    /**
+     * Stores specified result in the typed value of the slot instead of wrapping it
+     *
+     * @return new top position of the stack
+     */
+    public int pushResult(final int top, final Object result) {
+        final TypedValue value = results[top];
+        value.setObject(result);
+        operands[top] = value;
+        return top + 1;
+    }
+}
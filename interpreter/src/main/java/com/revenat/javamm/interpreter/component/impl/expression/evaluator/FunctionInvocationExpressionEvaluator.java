@@ -20,8 +20,7 @@ package com.revenat.javamm.interpreter.component.impl.expression.evaluator;
 import com.revenat.javamm.code.fragment.expression.FunctionInvocationExpression;
 import com.revenat.javamm.interpreter.component.ExpressionEvaluator;
 import com.revenat.javamm.interpreter.component.FunctionInvoker;
-
-import static com.revenat.javamm.interpreter.model.CurrentRuntimeProvider.getCurrentRuntime;
+import com.revenat.javamm.interpreter.model.ExecutionContext;
 
 /**
  * @author Vitaliy Dragun
@@ -34,12 +33,12 @@ public class FunctionInvocationExpressionEvaluator implements ExpressionEvaluato
     }
 
     @Override
-    public Object evaluate(final FunctionInvocationExpression expression) {
-        final FunctionInvoker functionInvoker = getFunctionInvoker();
-        return functionInvoker.invoke(expression.getFunctionName(), expression.getArguments());
-    }
-
-    private FunctionInvoker getFunctionInvoker() {
-        return getCurrentRuntime().getCurrentFunctionInvoker();
+    public Object evaluate(final ExecutionContext executionContext, final FunctionInvocationExpression expression) {
+        final FunctionInvoker functionInvoker = executionContext.getCurrentRuntime().getCurrentFunctionInvoker();
+        if (expression.isLinked()) {
+            return functionInvoker.invoke(executionContext, expression.getLinkedFunction(), expression.getArguments());
+        } else {
+            return functionInvoker.invoke(executionContext, expression.getFunctionName(), expression.getArguments());
+        }
     }
 }
@@ -0,0 +1,75 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.interpreter.component.impl.expression.evaluator;
+
+import com.revenat.javamm.code.fragment.Expression;
+import com.revenat.javamm.code.fragment.expression.LocalBinaryExpression;
+import com.revenat.javamm.code.fragment.expression.VariableExpression;
+import com.revenat.javamm.interpreter.component.CalculatorFacade;
+import com.revenat.javamm.interpreter.component.ExpressionEvaluator;
+import com.revenat.javamm.interpreter.model.ExecutionContext;
+import com.revenat.javamm.interpreter.model.LocalContext;
+import com.revenat.javamm.interpreter.model.TypedValue;
+
+import static com.revenat.javamm.code.util.TypeUtils.confirmType;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Responsible for evaluation {@linkplain LocalBinaryExpression local binary expressions}.
+ * Values of the local variables are read into the {@linkplain TypedValue typed values}
+ * which are passed to the calculator directly instead of walking the postfix lexemes
+ *
+ * @author Vitaliy Dragun
+ */
+public class LocalBinaryExpressionEvaluator implements ExpressionEvaluator<LocalBinaryExpression> {
+
+    private final CalculatorFacade calculatorFacade;
+
+    private final ThreadLocal<TypedValue[]> operands =
+        ThreadLocal.withInitial(() -> new TypedValue[]{new TypedValue(), new TypedValue()});
+
+    public LocalBinaryExpressionEvaluator(final CalculatorFacade calculatorFacade) {
+        this.calculatorFacade = requireNonNull(calculatorFacade);
+    }
+
+    @Override
+    public Class<LocalBinaryExpression> getExpressionClass() {
+        return LocalBinaryExpression.class;
+    }
+
+    @Override
+    public Object evaluate(final ExecutionContext executionContext, final LocalBinaryExpression expression) {
+        final TypedValue[] values = operands.get();
+        getOperandValue(executionContext, expression.getOperand1(), values[0]);
+        getOperandValue(executionContext, expression.getOperand2(), values[1]);
+        calculatorFacade.getCalculator(expression.getOperator())
+            .calculate(executionContext, values[0], values[1], values[0]);
+        return values[0].toObject();
+    }
+
+    private void getOperandValue(final ExecutionContext executionContext,
+                                 final Expression operand,
+                                 final TypedValue value) {
+        if (confirmType(VariableExpression.class, operand)) {
+            final LocalContext localContext = executionContext.getCurrentLocalContext();
+            localContext.getVariableValue(((VariableExpression) operand).getVariable(), value);
+        } else {
+            value.setObject(operand.getValue(executionContext));
+        }
+    }
+}
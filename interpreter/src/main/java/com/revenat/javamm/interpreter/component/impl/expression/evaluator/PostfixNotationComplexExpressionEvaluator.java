@@ -20,15 +20,15 @@ package com.revenat.javamm.interpreter.component.impl.expression.evaluator;
 import com.revenat.javamm.code.fragment.Expression;
 import com.revenat.javamm.code.fragment.Lexeme;
 import com.revenat.javamm.code.fragment.UpdatableExpression;
-import com.revenat.javamm.code.fragment.expression.ConstantExpression;
 import com.revenat.javamm.code.fragment.expression.PostfixNotationComplexExpression;
 import com.revenat.javamm.code.fragment.operator.BinaryOperator;
 import com.revenat.javamm.code.fragment.operator.UnaryOperator;
 import com.revenat.javamm.interpreter.component.CalculatorFacade;
 import com.revenat.javamm.interpreter.component.ExpressionEvaluator;
+import com.revenat.javamm.interpreter.component.impl.expression.OperandStack;
+import com.revenat.javamm.interpreter.model.ExecutionContext;
 
-import java.util.ArrayDeque;
-import java.util.Deque;
+import java.util.List;
 
 import static com.revenat.javamm.code.util.LexemeUtils.isBinaryOperator;
 import static com.revenat.javamm.code.util.LexemeUtils.isUnaryOperator;
@@ -37,13 +37,19 @@ import static com.revenat.javamm.code.util.LexemeUtils.isUnaryOperator;
  * Responsible for evaluation {@linkplain PostfixNotationComplexExpression postfix
  * notation expressions}
  *
+ * <p>Operands are evaluated on the reusable {@linkplain OperandStack operand stack}
+ * of the current thread, so neither the stack nor the intermediate results are
+ * allocated per evaluation.
+ *
  * @author Vitaliy Dragun
  */
-public class PostfixNotationComplexExpressionEvaluator extends AbstractExpressionEvaluator
+public class PostfixNotationComplexExpressionEvaluator
     implements ExpressionEvaluator<PostfixNotationComplexExpression> {
 
     private final CalculatorFacade calculator;
 
+    private final ThreadLocal<OperandStack> operandStacks = ThreadLocal.withInitial(OperandStack::new);
+
     public PostfixNotationComplexExpressionEvaluator(final CalculatorFacade calculator) {
         this.calculator = calculator;
     }
@@ -54,69 +60,59 @@ public class PostfixNotationComplexExpressionEvaluator extends AbstractExpressio
     }
 
     @Override
-    public Object evaluate(final PostfixNotationComplexExpression expression) {
-        final Deque<Expression> resultStack = new ArrayDeque<>();
-
-        for (final Lexeme lexeme : expression.getLexemes()) {
-            processLexeme(resultStack, lexeme);
+    public Object evaluate(final ExecutionContext executionContext, final PostfixNotationComplexExpression expression) {
+        final OperandStack stack = operandStacks.get();
+        final int bottom = stack.allocate(expression.getMaxStackDepth());
+        try {
+            final List<Lexeme> lexemes = expression.getShortCircuitLexemes();
+            int top = bottom;
+            for (int i = 0; i < lexemes.size(); i++) {
+                top = processLexeme(executionContext, stack, top, lexemes.get(i));
+            }
+            return evaluateResult(executionContext, stack, top);
+        } finally {
+            stack.release(bottom);
         }
-
-        return evaluateResult(resultStack);
     }
 
-    private void processLexeme(final Deque<Expression> stack, final Lexeme lexeme) {
+    private int processLexeme(final ExecutionContext executionContext,
+                              final OperandStack stack,
+                              final int top,
+                              final Lexeme lexeme) {
         if (isBinaryOperator(lexeme)) {
-            calculateBinaryOperationAndPutResultInStack((BinaryOperator) lexeme, stack);
+            return calculateBinaryOperationAndPutResultInStack(executionContext, (BinaryOperator) lexeme, stack, top);
         } else if (isUnaryOperator(lexeme)) {
-            calculateUnaryOperationAndPutResultInStack((UnaryOperator) lexeme, stack);
+            return calculateUnaryOperationAndPutResultInStack(executionContext, (UnaryOperator) lexeme, stack, top);
         } else {
-            putInStack((Expression) lexeme, stack);
+            return stack.push(top, (Expression) lexeme);
         }
     }
 
-    private void calculateBinaryOperationAndPutResultInStack(final BinaryOperator operator,
-                                                             final Deque<Expression> stack) {
-        final Expression secondOperand = stack.pop();
-        final Expression firstOperand = stack.pop();
-        final Object result = calculate(firstOperand, operator, secondOperand);
+    private int calculateBinaryOperationAndPutResultInStack(final ExecutionContext executionContext,
+                                                            final BinaryOperator operator,
+                                                            final OperandStack stack,
+                                                            final int top) {
+        final Expression secondOperand = stack.get(top - 1);
+        final Expression firstOperand = stack.get(top - 2);
+        final Object result = calculator.calculate(executionContext, firstOperand, operator, secondOperand);
 
         if (operator.isAssignment()) {
-            updateOperandValue(firstOperand, result);
+            ((UpdatableExpression) firstOperand).setValue(executionContext, result);
         }
 
-        stack.push(toExpression(result));
-    }
-
-    private void updateOperandValue(final Expression operandToUpdate, final Object newValue) {
-        ((UpdatableExpression) operandToUpdate).setValue(getExpressionContext(), newValue);
-    }
-
-    private void calculateUnaryOperationAndPutResultInStack(final UnaryOperator operator,
-                                                            final Deque<Expression> stack) {
-        final Expression operand = stack.pop();
-        final Object result = calculate(operand, operator);
-        stack.push(toExpression(result));
-    }
-
-    private void putInStack(final Expression expression, final Deque<Expression> stack) {
-        stack.push(expression);
-    }
-
-    private Object evaluateResult(final Deque<Expression> resultStack) {
-        return resultStack.pop().getValue(getExpressionContext());
-    }
-
-    private Object calculate(final Expression operand, final UnaryOperator operator) {
-        return calculator.calculate(getExpressionContext(), operator, operand);
+        return stack.pushResult(top - 2, result);
     }
 
-    private Object calculate(final Expression firstOperand,
-                             final BinaryOperator operator,
-                             final Expression secondOperand) {
-        return calculator.calculate(getExpressionContext(), firstOperand, operator, secondOperand);
+    private int calculateUnaryOperationAndPutResultInStack(final ExecutionContext executionContext,
+                                                           final UnaryOperator operator,
+                                                           final OperandStack stack,
+                                                           final int top) {
+        final Expression operand = stack.get(top - 1);
+        final Object result = calculator.calculate(executionContext, operator, operand);
+        return stack.pushResult(top - 1, result);
     }
 
-    private ConstantExpression toExpression(final Object result) {
-        return ConstantExpression.valueOf(result);
+    private Object evaluateResult(final ExecutionContext executionContext, final OperandStack stack, final int top) {
+        return stack.get(top - 1).getValue(executionContext);
     }
 }
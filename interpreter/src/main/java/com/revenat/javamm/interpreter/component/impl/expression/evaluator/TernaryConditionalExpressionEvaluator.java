@@ -20,12 +20,12 @@ package com.revenat.javamm.interpreter.component.impl.expression.evaluator;
 import com.revenat.javamm.code.fragment.expression.TernaryConditionalExpression;
 import com.revenat.javamm.interpreter.component.CalculatorFacade;
 import com.revenat.javamm.interpreter.component.ExpressionEvaluator;
+import com.revenat.javamm.interpreter.model.ExecutionContext;
 
 /**
  * @author Vitaliy Dragun
  */
-public class TernaryConditionalExpressionEvaluator extends AbstractExpressionEvaluator
-    implements ExpressionEvaluator<TernaryConditionalExpression> {
+public class TernaryConditionalExpressionEvaluator implements ExpressionEvaluator<TernaryConditionalExpression> {
 
     private final CalculatorFacade calculatorFacade;
 
@@ -39,16 +39,11 @@ public class TernaryConditionalExpressionEvaluator extends AbstractExpressionEva
     }
 
     @Override
-    public Object evaluate(final TernaryConditionalExpression expression) {
-        final boolean result = calculatorFacade.isTrue(getExpressionContext(), expression.getPredicateOperand());
-        return evaluate(expression, result);
-    }
-
-    private Object evaluate(final TernaryConditionalExpression expression, final boolean result) {
-        if (result) {
-            return expression.getTrueClauseOperand().getValue(getExpressionContext());
+    public Object evaluate(final ExecutionContext executionContext, final TernaryConditionalExpression expression) {
+        if (calculatorFacade.isTrue(executionContext, expression.getPredicateOperand())) {
+            return expression.getTrueClauseOperand().getValue(executionContext);
         } else {
-            return expression.getFalseClauseOperand().getValue(getExpressionContext());
+            return expression.getFalseClauseOperand().getValue(executionContext);
         }
     }
 }
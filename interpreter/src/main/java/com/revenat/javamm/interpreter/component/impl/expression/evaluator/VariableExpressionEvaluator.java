@@ -21,10 +21,9 @@ import com.revenat.javamm.code.fragment.Variable;
 import com.revenat.javamm.code.fragment.expression.VariableExpression;
 import com.revenat.javamm.interpreter.component.ExpressionEvaluator;
 import com.revenat.javamm.interpreter.component.impl.error.JavammLineRuntimeError;
+import com.revenat.javamm.interpreter.model.ExecutionContext;
 import com.revenat.javamm.interpreter.model.LocalContext;
 
-import static com.revenat.javamm.interpreter.model.CurrentRuntimeProvider.getCurrentRuntime;
-
 /**
  * Responsible for evaluating {@linkplain VariableExpression variable
  * expressions}
@@ -47,18 +46,10 @@ public class VariableExpressionEvaluator implements ExpressionEvaluator<Variable
      *                                local context}
      */
     @Override
-    public Object evaluate(final VariableExpression expression) {
-        final LocalContext localContext = getCurrentRuntime().getCurrentLocalContext();
+    public Object evaluate(final ExecutionContext executionContext, final VariableExpression expression) {
+        final LocalContext localContext = executionContext.getCurrentLocalContext();
         final Variable variable = expression.getVariable();
 
-        return getVariableValueIfDefined(variable, localContext);
-    }
-
-    private Object getVariableValueIfDefined(final Variable variable, final LocalContext localContext) {
-        if (localContext.isVariableDefined(variable)) {
-            return localContext.getVariableValue(variable);
-        } else {
-            throw new JavammLineRuntimeError("Variable '%s' is not defined", variable);
-        }
+        return localContext.getVariableValue(variable);
     }
 }
@@ -21,10 +21,9 @@ import com.revenat.javamm.code.fragment.Variable;
 import com.revenat.javamm.code.fragment.expression.VariableExpression;
 import com.revenat.javamm.interpreter.component.ExpressionUpdater;
 import com.revenat.javamm.interpreter.component.impl.error.JavammLineRuntimeError;
+import com.revenat.javamm.interpreter.model.ExecutionContext;
 import com.revenat.javamm.interpreter.model.LocalContext;
 
-import static com.revenat.javamm.interpreter.model.CurrentRuntimeProvider.getCurrentRuntime;
-
 /**
  * Responsible for updating already defined {@linkplain Variable variable}
  *
@@ -38,14 +37,16 @@ public class VariableExpressionUpdater implements ExpressionUpdater<VariableExpr
     }
 
     @Override
-    public void update(final VariableExpression expression, final Object updatedValue) {
+    public void update(final ExecutionContext executionContext,
+                       final VariableExpression expression,
+                       final Object updatedValue) {
         final Variable variable = expression.getVariable();
-        updateVariableIfDefined(variable, updatedValue);
+        updateVariableIfDefined(executionContext.getCurrentLocalContext(), variable, updatedValue);
     }
 
-    private void updateVariableIfDefined(final Variable variable, final Object updatedValue) {
-        final LocalContext localContext = getCurrentRuntime().getCurrentLocalContext();
-
+    private void updateVariableIfDefined(final LocalContext localContext,
+                                         final Variable variable,
+                                         final Object updatedValue) {
         if (localContext.isVariableDefined(variable)) {
             localContext.setVariableValue(variable, updatedValue);
         } else {
@@ -0,0 +1,213 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.interpreter.component.impl.jit;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Minimal writer of the JVM class files, which supports only features required
+ * for the {@linkplain FunctionBodyGenerator generated function bodies}: constant
+ * pool with classes and methods, public methods with {@code Code} attribute.
+ * <p>
+ * Class files are written in the version 49 format, which does not require
+ * stack map frames, so branches may be emitted without frame computation
+ *
+ * @author Vitaliy Dragun
+ */
+final class ClassFileBuilder {
+
+    static final int ACC_PUBLIC = 0x0001;
+
+    static final int ACC_FINAL = 0x0010;
+
+    private static final int ACC_SUPER = 0x0020;
+
+    private static final int MAGIC = 0xCAFEBABE;
+
+    private static final int CLASS_FILE_VERSION = 49;
+
+    private static final int CONSTANT_UTF8 = 1;
+
+    private static final int CONSTANT_CLASS = 7;
+
+    private static final int CONSTANT_METHOD_REF = 10;
+
+    private static final int CONSTANT_INTERFACE_METHOD_REF = 11;
+
+    private static final int CONSTANT_NAME_AND_TYPE = 12;
+
+    private final ByteArrayOutputStream constantPool = new ByteArrayOutputStream();
+
+    private final DataOutputStream constantPoolOutput = new DataOutputStream(constantPool);
+
+    private final Map<String, Integer> constantIndexes = new HashMap<>();
+
+    private final List<byte[]> methods = new ArrayList<>();
+
+    private final int thisClass;
+
+    private final int superClass;
+
+    private final int[] interfaces;
+
+    private int constantCount = 1;
+
+    ClassFileBuilder(final String className, final String superClassName, final String... interfaceNames) {
+        this.thisClass = classConstant(className);
+        this.superClass = classConstant(superClassName);
+        this.interfaces = new int[interfaceNames.length];
+        for (int i = 0; i < interfaceNames.length; i++) {
+            interfaces[i] = classConstant(interfaceNames[i]);
+        }
+    }
+
+    int classConstant(final String internalName) {
+        return constant("C" + internalName, out -> {
+            final int name = utf8Constant(internalName);
+            out.writeByte(CONSTANT_CLASS);
+            out.writeShort(name);
+        });
+    }
+
+    int methodConstant(final String owner, final String name, final String descriptor) {
+        return memberConstant(CONSTANT_METHOD_REF, owner, name, descriptor);
+    }
+
+    int interfaceMethodConstant(final String owner, final String name, final String descriptor) {
+        return memberConstant(CONSTANT_INTERFACE_METHOD_REF, owner, name, descriptor);
+    }
+
+    void addMethod(final int accessFlags,
+                   final String name,
+                   final String descriptor,
+                   final int maxStack,
+                   final int maxLocals,
+                   final byte[] code) {
+        final int nameIndex = utf8Constant(name);
+        final int descriptorIndex = utf8Constant(descriptor);
+        final int codeAttributeName = utf8Constant("Code");
+        methods.add(write(out -> {
+            out.writeShort(accessFlags);
+            out.writeShort(nameIndex);
+            out.writeShort(descriptorIndex);
+            out.writeShort(1);
+            out.writeShort(codeAttributeName);
+            out.writeInt(code.length + 12);
+            out.writeShort(maxStack);
+            out.writeShort(maxLocals);
+            out.writeInt(code.length);
+            out.write(code);
+            out.writeShort(0);
+            out.writeShort(0);
+        }));
+    }
+
+    byte[] build() {
+        return write(out -> {
+            out.writeInt(MAGIC);
+            out.writeShort(0);
+            out.writeShort(CLASS_FILE_VERSION);
+            out.writeShort(constantCount);
+            out.write(constantPool.toByteArray());
+            out.writeShort(ACC_PUBLIC | ACC_FINAL | ACC_SUPER);
+            out.writeShort(thisClass);
+            out.writeShort(superClass);
+            out.writeShort(interfaces.length);
+            for (final int anInterface : interfaces) {
+                out.writeShort(anInterface);
+            }
+            out.writeShort(0);
+            out.writeShort(methods.size());
+            for (final byte[] method : methods) {
+                out.write(method);
+            }
+            out.writeShort(0);
+        });
+    }
+
+    private int memberConstant(final int tag, final String owner, final String name, final String descriptor) {
+        return constant(tag + owner + '.' + name + descriptor, out -> {
+            final int ownerIndex = classConstant(owner);
+            final int nameAndType = nameAndTypeConstant(name, descriptor);
+            out.writeByte(tag);
+            out.writeShort(ownerIndex);
+            out.writeShort(nameAndType);
+        });
+    }
+
+    private int nameAndTypeConstant(final String name, final String descriptor) {
+        return constant("T" + name + ':' + descriptor, out -> {
+            final int nameIndex = utf8Constant(name);
+            final int descriptorIndex = utf8Constant(descriptor);
+            out.writeByte(CONSTANT_NAME_AND_TYPE);
+            out.writeShort(nameIndex);
+            out.writeShort(descriptorIndex);
+        });
+    }
+
+    private int utf8Constant(final String value) {
+        return constant("U" + value, out -> {
+            out.writeByte(CONSTANT_UTF8);
+            out.writeUTF(value);
+        });
+    }
+
+    /**
+     * Returns index of the already written constant with specified key or
+     * writes new one. Constants it depends on are written before it, since the
+     * writer is invoked before the index of the new constant is taken
+     */
+    private int constant(final String key, final BytesWriter writer) {
+        final Integer index = constantIndexes.get(key);
+        if (index != null) {
+            return index;
+        }
+        final byte[] bytes = write(writer);
+        try {
+            constantPoolOutput.write(bytes);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        final int newIndex = constantCount++;
+        constantIndexes.put(key, newIndex);
+        return newIndex;
+    }
+
+    private static byte[] write(final BytesWriter writer) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writer.write(out);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    @FunctionalInterface
+    private interface BytesWriter {
+
+        void write(DataOutputStream out) throws IOException;
+    }
+}
@@ -15,18 +15,18 @@
  * limitations under the License.
  */
 
-package com.revenat.javamm.interpreter.component.impl.operation.exception;
-
-import static com.revenat.javamm.code.syntax.Keywords.BREAK;
+package com.revenat.javamm.interpreter.component.impl.jit;
 
 /**
+ * Body of the developer function which is compiled into JVM class. It keeps no
+ * state, so single instance may be shared by all invocations of the function
+ *
  * @author Vitaliy Dragun
  */
-public class BreakOperationException extends InterruptOperationException {
-
-    private static final long serialVersionUID = 1L;
+interface CompiledFunctionBody {
 
-    public BreakOperationException() {
-        super(BREAK);
-    }
+    /**
+     * Executes function body and returns its result
+     */
+    Object execute(JitFrame frame);
 }
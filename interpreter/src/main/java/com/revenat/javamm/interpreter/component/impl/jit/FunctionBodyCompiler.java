@@ -0,0 +1,97 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.interpreter.component.impl.jit;
+
+import com.revenat.javamm.code.fragment.instruction.FunctionCode;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Compiles {@linkplain FunctionCode function code} into JVM classes and
+ * caches compiled bodies. Classes are defined as hidden classes if the running
+ * JVM supports them, so they are unloaded together with the function code,
+ * otherwise as ordinary classes of this package
+ *
+ * @author Vitaliy Dragun
+ */
+final class FunctionBodyCompiler {
+
+    private static final String CLASS_NAME_PREFIX =
+        FunctionBodyCompiler.class.getPackageName().replace('.', '/') + "/JitFunctionBody$";
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final Optional<Method> DEFINE_HIDDEN_CLASS = findDefineHiddenClassMethod();
+
+    private static final AtomicInteger CLASS_COUNTER = new AtomicInteger();
+
+    private final FunctionBodyGenerator generator = new FunctionBodyGenerator();
+
+    private final Map<FunctionCode, Optional<CompiledFunctionBody>> compiledBodies =
+        Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Returns compiled body for specified code or empty optional if such code
+     * can not be compiled
+     */
+    Optional<CompiledFunctionBody> compile(final FunctionCode functionCode) {
+        return compiledBodies.computeIfAbsent(functionCode, this::compileBody);
+    }
+
+    private Optional<CompiledFunctionBody> compileBody(final FunctionCode functionCode) {
+        final String className = CLASS_NAME_PREFIX + CLASS_COUNTER.incrementAndGet();
+        return generator.generate(className, functionCode).flatMap(this::defineAndInstantiate);
+    }
+
+    private Optional<CompiledFunctionBody> defineAndInstantiate(final byte[] classFile) {
+        try {
+            final Class<?> bodyClass = defineClass(classFile);
+            return Optional.of((CompiledFunctionBody) bodyClass.getDeclaredConstructor().newInstance());
+        } catch (final ReflectiveOperationException | LinkageError e) {
+            return Optional.empty();
+        }
+    }
+
+    private Class<?> defineClass(final byte[] classFile) throws ReflectiveOperationException {
+        if (DEFINE_HIDDEN_CLASS.isPresent()) {
+            final Method defineHiddenClass = DEFINE_HIDDEN_CLASS.get();
+            final Object noOptions = Array.newInstance(defineHiddenClass.getParameterTypes()[2].getComponentType(), 0);
+            return ((MethodHandles.Lookup) defineHiddenClass.invoke(LOOKUP, classFile, true, noOptions)).lookupClass();
+        } else {
+            return LOOKUP.defineClass(classFile);
+        }
+    }
+
+    private static Optional<Method> findDefineHiddenClassMethod() {
+        try {
+            final Class<?> classOption = Class.forName("java.lang.invoke.MethodHandles$Lookup$ClassOption");
+            final Class<?> classOptions = Array.newInstance(classOption, 0).getClass();
+            return Optional.of(MethodHandles.Lookup.class.getMethod(
+                "defineHiddenClass", byte[].class, boolean.class, classOptions));
+        } catch (final ClassNotFoundException | NoSuchMethodException e) {
+            return Optional.empty();
+        }
+    }
+}
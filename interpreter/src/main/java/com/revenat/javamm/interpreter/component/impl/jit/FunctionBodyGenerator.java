@@ -0,0 +1,520 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.interpreter.component.impl.jit;
+
+import com.revenat.javamm.code.fragment.instruction.FunctionCode;
+import com.revenat.javamm.code.fragment.instruction.OpCode;
+import com.revenat.javamm.code.fragment.instruction.SwitchTable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static com.revenat.javamm.code.fragment.instruction.OpCode.BINARY;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.CALL;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.CHECK_UNDEFINED;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.DEFINE_FINAL;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.DEFINE_VAR;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.ENTER_SCOPE;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.EXIT_SCOPE;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.FAIL;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.JUMP;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.JUMP_IF_BOOLEAN;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.JUMP_IF_FALSE;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.JUMP_IF_TRUE;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.LINE;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.LOAD_CONST;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.LOAD_VAR;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.MOVE;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.PRINTLN;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.PRINTLN_EMPTY;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.RETURN;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.RETURN_VOID;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.STORE_VAR;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.SWITCH;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.TAIL_CALL;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.UNARY;
+
+/**
+ * Translates {@linkplain FunctionCode linear function code} into JVM class
+ * which implements {@link CompiledFunctionBody}. Each register becomes JVM
+ * local variable and each instruction becomes short sequence of JVM
+ * instructions, which invokes corresponding {@link JitFrame} method, so the
+ * dispatch overhead disappears and the JIT compiler of the JVM is able to
+ * inline the whole function body
+ *
+ * @author Vitaliy Dragun
+ */
+@SuppressWarnings("checkstyle:ClassFanOutComplexity")
+final class FunctionBodyGenerator {
+
+    private static final String OBJECT = "java/lang/Object";
+
+    private static final String FRAME = "com/revenat/javamm/interpreter/component/impl/jit/JitFrame";
+
+    private static final String BODY = "com/revenat/javamm/interpreter/component/impl/jit/CompiledFunctionBody";
+
+    private static final String OBJECT_TYPE = "Ljava/lang/Object;";
+
+    private static final int MAX_STACK = 8;
+
+    private static final int MAX_LOCALS = 255;
+
+    private static final int MAX_SHORT = Short.MAX_VALUE;
+
+    private static final int FIRST_REGISTER_SLOT = 2;
+
+    private static final int ACONST_NULL = 0x01;
+
+    private static final int ICONST_0 = 0x03;
+
+    private static final int BIPUSH = 0x10;
+
+    private static final int SIPUSH = 0x11;
+
+    private static final int ALOAD = 0x19;
+
+    private static final int ALOAD_0 = 0x2a;
+
+    private static final int ALOAD_1 = 0x2b;
+
+    private static final int ASTORE = 0x3a;
+
+    private static final int AASTORE = 0x53;
+
+    private static final int DUP = 0x59;
+
+    private static final int IFEQ = 0x99;
+
+    private static final int IFNE = 0x9a;
+
+    private static final int GOTO = 0xa7;
+
+    private static final int LOOKUPSWITCH = 0xab;
+
+    private static final int ARETURN = 0xb0;
+
+    private static final int RETURN_VOID_JVM = 0xb1;
+
+    private static final int INVOKEVIRTUAL = 0xb6;
+
+    private static final int INVOKESPECIAL = 0xb7;
+
+    private static final int ANEWARRAY = 0xbd;
+
+    private static final int ATHROW = 0xbf;
+
+    /**
+     * Returns class file of the compiled function body or empty optional if
+     * specified code exceeds limits of the single JVM method
+     */
+    Optional<byte[]> generate(final String className, final FunctionCode functionCode) {
+        final int registerCount = functionCode.getRegisterCount();
+        if (FIRST_REGISTER_SLOT + registerCount > MAX_LOCALS || functionCode.getConstants().length > MAX_SHORT) {
+            return Optional.empty();
+        }
+        final ClassFileBuilder classFile = new ClassFileBuilder(className, OBJECT, BODY);
+        final Optional<byte[]> executeCode = new MethodWriter(classFile, functionCode).write();
+        if (executeCode.isPresent()) {
+            classFile.addMethod(ClassFileBuilder.ACC_PUBLIC, "<init>", "()V", 1, 1, constructorCode(classFile));
+            classFile.addMethod(ClassFileBuilder.ACC_PUBLIC | ClassFileBuilder.ACC_FINAL, "execute",
+                "(L" + FRAME + ";)" + OBJECT_TYPE, MAX_STACK, FIRST_REGISTER_SLOT + registerCount, executeCode.get());
+            return Optional.of(classFile.build());
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    private byte[] constructorCode(final ClassFileBuilder classFile) {
+        final CodeBuffer code = new CodeBuffer();
+        code.u1(ALOAD_0);
+        code.u1(INVOKESPECIAL);
+        code.u2(classFile.methodConstant(OBJECT, "<init>", "()V"));
+        code.u1(RETURN_VOID_JVM);
+        return code.toByteArray();
+    }
+
+    /**
+     * Writes code of the {@code execute} method
+     */
+    private static final class MethodWriter {
+
+        private final ClassFileBuilder classFile;
+
+        private final int[] instructions;
+
+        private final Object[] constants;
+
+        private final int registerCount;
+
+        private final CodeBuffer code = new CodeBuffer();
+
+        private final int[] jvmOffsets;
+
+        private final List<Jump> jumps = new ArrayList<>();
+
+        private MethodWriter(final ClassFileBuilder classFile, final FunctionCode functionCode) {
+            this.classFile = classFile;
+            this.instructions = functionCode.getInstructions();
+            this.registerCount = functionCode.getRegisterCount();
+            this.jvmOffsets = new int[instructions.length];
+            Arrays.fill(jvmOffsets, -1);
+            this.constants = functionCode.getConstants();
+        }
+
+        private Optional<byte[]> write() {
+            for (int register = 0; register < registerCount; register++) {
+                code.u1(ACONST_NULL);
+                storeRegister(register);
+            }
+            int pc = 0;
+            while (pc < instructions.length) {
+                jvmOffsets[pc] = code.size();
+                writeInstruction(pc);
+                pc += OpCode.getOperandCount(instructions[pc]) + 1;
+            }
+            if (code.size() > MAX_SHORT) {
+                return Optional.empty();
+            }
+            for (final Jump jump : jumps) {
+                final int offset = jvmOffsets[jump.target] - jump.instructionOffset;
+                if (jump.wide) {
+                    code.putU4(jump.operandOffset, offset);
+                } else {
+                    code.putU2(jump.operandOffset, offset);
+                }
+            }
+            return Optional.of(code.toByteArray());
+        }
+
+        @SuppressWarnings({"checkstyle:CyclomaticComplexity", "checkstyle:MethodLength"})
+        private void writeInstruction(final int pc) {
+            final int opCode = instructions[pc];
+            if (isBackwardJump(pc)) {
+                code.u1(ALOAD_1);
+                invokeVirtual(FRAME, "pollTermination", "()V");
+            }
+            switch (opCode) {
+                case LINE:
+                    invokeFrame("line", "(I)V", operand(pc, 1));
+                    break;
+                case LOAD_CONST:
+                    invokeFrame("constant", "(I)" + OBJECT_TYPE, operand(pc, 2));
+                    storeRegister(operand(pc, 1));
+                    break;
+                case LOAD_VAR:
+                    invokeFrame("load", "(I)" + OBJECT_TYPE, operand(pc, 2));
+                    storeRegister(operand(pc, 1));
+                    break;
+                case STORE_VAR:
+                    invokeFrameWithRegister("store", "(I" + OBJECT_TYPE + ")V", operand(pc, 1), operand(pc, 2));
+                    break;
+                case CHECK_UNDEFINED:
+                    invokeFrame("checkUndefined", "(I)V", operand(pc, 1));
+                    break;
+                case DEFINE_VAR:
+                    invokeFrameWithRegister("defineVariable", "(I" + OBJECT_TYPE + ")V", operand(pc, 1), operand(pc, 2));
+                    break;
+                case DEFINE_FINAL:
+                    invokeFrameWithRegister("defineFinal", "(I" + OBJECT_TYPE + ")V", operand(pc, 1), operand(pc, 2));
+                    break;
+                case MOVE:
+                    loadRegister(operand(pc, 2));
+                    storeRegister(operand(pc, 1));
+                    break;
+                case BINARY:
+                    code.u1(ALOAD_1);
+                    pushInt(operand(pc, 2));
+                    loadRegister(operand(pc, 3));
+                    loadRegister(operand(pc, 4));
+                    invokeVirtual(FRAME, "binary", "(I" + OBJECT_TYPE + OBJECT_TYPE + ")" + OBJECT_TYPE);
+                    storeRegister(operand(pc, 1));
+                    break;
+                case UNARY:
+                    invokeFrameWithRegister("unary", "(I" + OBJECT_TYPE + ")" + OBJECT_TYPE, operand(pc, 2), operand(pc, 3));
+                    storeRegister(operand(pc, 1));
+                    break;
+                case CALL:
+                    writeCall(pc);
+                    break;
+                case JUMP:
+                    jump(GOTO, operand(pc, 1));
+                    break;
+                case JUMP_IF_FALSE:
+                    writeCondition(pc);
+                    jump(IFEQ, operand(pc, 2));
+                    break;
+                case JUMP_IF_TRUE:
+                    writeCondition(pc);
+                    jump(IFNE, operand(pc, 2));
+                    break;
+                case JUMP_IF_BOOLEAN:
+                    code.u1(ALOAD_1);
+                    loadRegister(operand(pc, 1));
+                    pushInt(operand(pc, 2));
+                    invokeVirtual(FRAME, "isBoolean", "(" + OBJECT_TYPE + "I)Z");
+                    jump(IFNE, operand(pc, 3));
+                    break;
+                case ENTER_SCOPE:
+                    code.u1(ALOAD_1);
+                    invokeVirtual(FRAME, "enterScope", "()V");
+                    break;
+                case EXIT_SCOPE:
+                    code.u1(ALOAD_1);
+                    invokeVirtual(FRAME, "exitScope", "()V");
+                    break;
+                case SWITCH:
+                    writeSwitch(pc);
+                    break;
+                case PRINTLN:
+                    code.u1(ALOAD_1);
+                    loadRegister(operand(pc, 1));
+                    invokeVirtual(FRAME, "println", "(" + OBJECT_TYPE + ")V");
+                    break;
+                case PRINTLN_EMPTY:
+                    code.u1(ALOAD_1);
+                    code.u1(ACONST_NULL);
+                    invokeVirtual(FRAME, "println", "(" + OBJECT_TYPE + ")V");
+                    break;
+                case RETURN:
+                    code.u1(ALOAD_1);
+                    loadRegister(operand(pc, 1));
+                    invokeVirtual(FRAME, "result", "(" + OBJECT_TYPE + ")" + OBJECT_TYPE);
+                    code.u1(ARETURN);
+                    break;
+                case RETURN_VOID:
+                    code.u1(ALOAD_1);
+                    code.u1(ACONST_NULL);
+                    invokeVirtual(FRAME, "result", "(" + OBJECT_TYPE + ")" + OBJECT_TYPE);
+                    code.u1(ARETURN);
+                    break;
+                case FAIL:
+                    invokeFrame("fail", "(I)Ljava/lang/RuntimeException;", operand(pc, 1));
+                    code.u1(ATHROW);
+                    break;
+                case TAIL_CALL:
+                    writeArgumentsCall("tailCall", operand(pc, 1), operand(pc, 2), operand(pc, 3));
+                    code.u1(ARETURN);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown instruction " + opCode + " at " + pc);
+            }
+        }
+
+        private void writeCall(final int pc) {
+            writeArgumentsCall("call", operand(pc, 2), operand(pc, 3), operand(pc, 4));
+            storeRegister(operand(pc, 1));
+        }
+
+        /**
+         * Writes invocation of the frame method which accepts constant index and
+         * array of argument values loaded from consecutive registers
+         */
+        private void writeArgumentsCall(final String frameMethod,
+                                        final int constant,
+                                        final int firstArgument,
+                                        final int argumentCount) {
+            code.u1(ALOAD_1);
+            pushInt(constant);
+            pushInt(argumentCount);
+            code.u1(ANEWARRAY);
+            code.u2(classFile.classConstant(OBJECT));
+            for (int i = 0; i < argumentCount; i++) {
+                code.u1(DUP);
+                pushInt(i);
+                loadRegister(firstArgument + i);
+                code.u1(AASTORE);
+            }
+            invokeVirtual(FRAME, frameMethod, "(I[" + OBJECT_TYPE + ")" + OBJECT_TYPE);
+        }
+
+        private void writeCondition(final int pc) {
+            code.u1(ALOAD_1);
+            loadRegister(operand(pc, 1));
+            invokeVirtual(FRAME, "isTrue", "(" + OBJECT_TYPE + ")Z");
+        }
+
+        /**
+         * Writes {@code lookupswitch} which maps instruction offset returned by
+         * the switch table to the corresponding JVM offset
+         */
+        private void writeSwitch(final int pc) {
+            final SwitchTable switchTable = (SwitchTable) constants[operand(pc, 2)];
+            invokeFrameWithRegister("switchTarget", "(I" + OBJECT_TYPE + ")I", operand(pc, 2), operand(pc, 1));
+            final int[] targets = Arrays.stream(switchTable.getCaseTargets()).distinct().sorted().toArray();
+            final int instructionOffset = code.size();
+            code.u1(LOOKUPSWITCH);
+            while (code.size() % 4 != 0) {
+                code.u1(0);
+            }
+            jumps.add(new Jump(instructionOffset, code.size(), switchTable.getDefaultTarget(), true));
+            code.u4(0);
+            code.u4(targets.length);
+            for (final int target : targets) {
+                code.u4(target);
+                jumps.add(new Jump(instructionOffset, code.size(), target, true));
+                code.u4(0);
+            }
+        }
+
+        private void invokeFrame(final String name, final String descriptor, final int argument) {
+            code.u1(ALOAD_1);
+            pushInt(argument);
+            invokeVirtual(FRAME, name, descriptor);
+        }
+
+        private void invokeFrameWithRegister(final String name,
+                                             final String descriptor,
+                                             final int argument,
+                                             final int register) {
+            code.u1(ALOAD_1);
+            pushInt(argument);
+            loadRegister(register);
+            invokeVirtual(FRAME, name, descriptor);
+        }
+
+        private void invokeVirtual(final String owner, final String name, final String descriptor) {
+            code.u1(INVOKEVIRTUAL);
+            code.u2(classFile.methodConstant(owner, name, descriptor));
+        }
+
+        private void jump(final int jvmOpCode, final int target) {
+            final int instructionOffset = code.size();
+            code.u1(jvmOpCode);
+            jumps.add(new Jump(instructionOffset, code.size(), target, false));
+            code.u2(0);
+        }
+
+        private void pushInt(final int value) {
+            if (value >= -1 && value <= 5) {
+                code.u1(ICONST_0 + value);
+            } else if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+                code.u1(BIPUSH);
+                code.u1(value);
+            } else {
+                code.u1(SIPUSH);
+                code.u2(value);
+            }
+        }
+
+        private void loadRegister(final int register) {
+            code.u1(ALOAD);
+            code.u1(FIRST_REGISTER_SLOT + register);
+        }
+
+        private void storeRegister(final int register) {
+            code.u1(ASTORE);
+            code.u1(FIRST_REGISTER_SLOT + register);
+        }
+
+        private int operand(final int pc, final int index) {
+            return instructions[pc + index];
+        }
+
+        /**
+         * Backward jump is the loop back edge, so the frame polls termination flag
+         * before it
+         */
+        private boolean isBackwardJump(final int pc) {
+            switch (instructions[pc]) {
+                case JUMP:
+                    return operand(pc, 1) < pc;
+                case JUMP_IF_FALSE:
+                case JUMP_IF_TRUE:
+                    return operand(pc, 2) < pc;
+                case JUMP_IF_BOOLEAN:
+                    return operand(pc, 3) < pc;
+                default:
+                    return false;
+            }
+        }
+    }
+
+    /**
+     * Branch which offset is patched when JVM offsets of all instructions are known
+     */
+    private static final class Jump {
+
+        private final int instructionOffset;
+
+        private final int operandOffset;
+
+        private final int target;
+
+        private final boolean wide;
+
+        private Jump(final int instructionOffset, final int operandOffset, final int target, final boolean wide) {
+            this.instructionOffset = instructionOffset;
+            this.operandOffset = operandOffset;
+            this.target = target;
+            this.wide = wide;
+        }
+    }
+
+    /**
+     * Growable buffer of the method code
+     */
+    private static final class CodeBuffer {
+
+        private byte[] bytes = new byte[256];
+
+        private int size;
+
+        private void u1(final int value) {
+            ensureCapacity(1);
+            bytes[size++] = (byte) value;
+        }
+
+        private void u2(final int value) {
+            ensureCapacity(2);
+            putU2(size, value);
+            size += 2;
+        }
+
+        private void u4(final int value) {
+            ensureCapacity(4);
+            putU4(size, value);
+            size += 4;
+        }
+
+        private void putU2(final int offset, final int value) {
+            bytes[offset] = (byte) (value >>> 8);
+            bytes[offset + 1] = (byte) value;
+        }
+
+        private void putU4(final int offset, final int value) {
+            putU2(offset, value >>> 16);
+            putU2(offset + 2, value);
+        }
+
+        private int size() {
+            return size;
+        }
+
+        private byte[] toByteArray() {
+            return Arrays.copyOf(bytes, size);
+        }
+
+        private void ensureCapacity(final int required) {
+            if (size + required > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + required));
+            }
+        }
+    }
+}
@@ -0,0 +1,221 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.interpreter.component.impl.jit;
+
+import com.revenat.javamm.code.component.Console;
+import com.revenat.javamm.code.component.ExpressionContext;
+import com.revenat.javamm.code.fragment.Expression;
+import com.revenat.javamm.code.fragment.Variable;
+import com.revenat.javamm.code.fragment.expression.FunctionInvocationExpression;
+import com.revenat.javamm.code.fragment.instruction.SwitchTable;
+import com.revenat.javamm.interpreter.component.BinaryExpressionCalculator;
+import com.revenat.javamm.interpreter.component.FunctionInvoker;
+import com.revenat.javamm.interpreter.component.UnaryExpressionCalculator;
+import com.revenat.javamm.interpreter.component.impl.error.JavammLineRuntimeError;
+import com.revenat.javamm.interpreter.model.CurrentRuntime;
+import com.revenat.javamm.interpreter.model.ExecutionContext;
+import com.revenat.javamm.interpreter.model.LocalContext;
+import com.revenat.javamm.interpreter.model.TailCall;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+
+import static com.revenat.javamm.code.util.TypeUtils.getType;
+
+/**
+ * State of the single invocation of the {@linkplain CompiledFunctionBody compiled
+ * function body}. Generated code keeps temporary values in the JVM local
+ * variables and calls methods of this frame for everything else
+ *
+ * @author Vitaliy Dragun
+ */
+final class JitFrame {
+
+    private final Object[] constants;
+
+    private final ExecutionContext executionContext;
+
+    private final Console console;
+
+    private final BinaryExpressionCalculator[] binaryCalculators;
+
+    private final UnaryExpressionCalculator[] unaryCalculators;
+
+    private final CurrentRuntime currentRuntime;
+
+    private final Deque<LocalContext> parentScopes = new ArrayDeque<>();
+
+    private final ValueExpression operand1 = new ValueExpression();
+
+    private final ValueExpression operand2 = new ValueExpression();
+
+    private LocalContext localContext;
+
+    JitFrame(final Object[] constants,
+             final ExecutionContext executionContext,
+             final Console console,
+             final BinaryExpressionCalculator[] binaryCalculators,
+             final UnaryExpressionCalculator[] unaryCalculators) {
+        this.constants = constants;
+        this.executionContext = executionContext;
+        this.console = console;
+        this.binaryCalculators = binaryCalculators;
+        this.unaryCalculators = unaryCalculators;
+        this.currentRuntime = executionContext.getCurrentRuntime();
+        this.localContext = currentRuntime.getCurrentLocalContext();
+    }
+
+    void line(final int lineNumber) {
+        currentRuntime.setCurrentLineNumber(lineNumber);
+    }
+
+    void pollTermination() {
+        currentRuntime.pollTermination();
+    }
+
+    Object constant(final int constant) {
+        return constants[constant];
+    }
+
+    Object load(final int variable) {
+        return localContext.getVariableValue((Variable) constants[variable]);
+    }
+
+    void store(final int variable, final Object value) {
+        localContext.setVariableValue(requireDefined(variable), value);
+    }
+
+    void checkUndefined(final int variable) {
+        if (localContext.isVariableDefined((Variable) constants[variable])) {
+            throw new JavammLineRuntimeError("Variable '%s' already defined", constants[variable]);
+        }
+    }
+
+    void defineVariable(final int variable, final Object value) {
+        localContext.setVariableValue((Variable) constants[variable], value);
+    }
+
+    void defineFinal(final int variable, final Object value) {
+        localContext.setFinalValue((Variable) constants[variable], value);
+    }
+
+    Object binary(final int operator, final Object value1, final Object value2) {
+        operand1.value = value1;
+        operand2.value = value2;
+        return binaryCalculators[operator].calculate(executionContext, operand1, operand2);
+    }
+
+    Object unary(final int operator, final Object value) {
+        operand1.value = value;
+        return unaryCalculators[operator].calculate(executionContext, operand1);
+    }
+
+    Object call(final int invocation, final Object[] argumentValues) {
+        final FunctionInvocationExpression expression = (FunctionInvocationExpression) constants[invocation];
+        final FunctionInvoker functionInvoker = currentRuntime.getCurrentFunctionInvoker();
+        if (expression.isLinked()) {
+            return functionInvoker.invoke(executionContext, expression.getLinkedFunction(), argumentValues);
+        } else {
+            return functionInvoker.invoke(executionContext, expression.getFunctionName(), argumentValues);
+        }
+    }
+
+    Object tailCall(final int invocation, final Object[] argumentValues) {
+        final FunctionInvocationExpression expression = (FunctionInvocationExpression) constants[invocation];
+        if (expression.isLinked()) {
+            return new TailCall(expression.getLinkedFunction(), argumentValues);
+        } else {
+            return result(currentRuntime.getCurrentFunctionInvoker()
+                .invoke(executionContext, expression.getFunctionName(), argumentValues));
+        }
+    }
+
+    boolean isTrue(final Object value) {
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        } else {
+            throw new JavammLineRuntimeError("Condition expression should be boolean. Current type is %s",
+                getType(value));
+        }
+    }
+
+    boolean isBoolean(final Object value, final int expected) {
+        return value instanceof Boolean && (Boolean) value == (expected != 0);
+    }
+
+    void enterScope() {
+        parentScopes.push(localContext);
+        localContext = localContext.createChildLocalContext();
+        currentRuntime.setCurrentLocalContext(localContext);
+    }
+
+    void exitScope() {
+        localContext.dispose();
+        localContext = parentScopes.pop();
+        currentRuntime.setCurrentLocalContext(localContext);
+    }
+
+    int switchTarget(final int switchTable, final Object value) {
+        return ((SwitchTable) constants[switchTable]).getTarget(value);
+    }
+
+    void println(final Object value) {
+        console.outPrintln(Objects.requireNonNullElse(value, ""));
+    }
+
+    Object result(final Object value) {
+        return Objects.requireNonNullElse(value, com.revenat.javamm.code.fragment.Void.INSTANCE);
+    }
+
+    RuntimeException fail(final int message) {
+        return new JavammLineRuntimeError((String) constants[message]);
+    }
+
+    /**
+     * Disposes nested scopes which are left open because function body
+     * completed abruptly
+     */
+    void exitAllScopes() {
+        while (!parentScopes.isEmpty()) {
+            exitScope();
+        }
+    }
+
+    private Variable requireDefined(final int variable) {
+        final Variable value = (Variable) constants[variable];
+        if (localContext.isVariableDefined(value)) {
+            return value;
+        } else {
+            throw new JavammLineRuntimeError("Variable '%s' is not defined", value);
+        }
+    }
+
+    /**
+     * Reusable holder which passes values to the calculators
+     */
+    private static final class ValueExpression implements Expression {
+
+        private Object value;
+
+        @Override
+        public Object getValue(final ExpressionContext expressionContext) {
+            return value;
+        }
+    }
+}
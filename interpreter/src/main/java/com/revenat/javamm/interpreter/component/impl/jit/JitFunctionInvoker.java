@@ -0,0 +1,94 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.interpreter.component.impl.jit;
+
+import com.revenat.javamm.code.component.Console;
+import com.revenat.javamm.code.fragment.function.DeveloperFunction;
+import com.revenat.javamm.code.fragment.instruction.FunctionCode;
+import com.revenat.javamm.code.fragment.operator.BinaryOperator;
+import com.revenat.javamm.code.fragment.operator.UnaryOperator;
+import com.revenat.javamm.interpreter.component.BinaryExpressionCalculator;
+import com.revenat.javamm.interpreter.component.BlockOperationInterpreter;
+import com.revenat.javamm.interpreter.component.CalculatorFacade;
+import com.revenat.javamm.interpreter.component.LocalContextBuilder;
+import com.revenat.javamm.interpreter.component.UnaryExpressionCalculator;
+import com.revenat.javamm.interpreter.component.impl.DeveloperFunctionInvokerImpl;
+import com.revenat.javamm.interpreter.component.impl.MemoizationCache;
+import com.revenat.javamm.interpreter.model.ExecutionContext;
+
+import java.util.Optional;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Executes developer functions as JVM classes, which are generated from the
+ * {@linkplain FunctionCode function code} on the first invocation. Functions
+ * that can not be compiled are interpreted by the operation tree interpreter
+ *
+ * @author Vitaliy Dragun
+ */
+public class JitFunctionInvoker extends DeveloperFunctionInvokerImpl {
+
+    private final Console console;
+
+    private final BinaryExpressionCalculator[] binaryCalculators;
+
+    private final UnaryExpressionCalculator[] unaryCalculators;
+
+    private final FunctionBodyCompiler functionBodyCompiler = new FunctionBodyCompiler();
+
+    public JitFunctionInvoker(final LocalContextBuilder localContextBuilder,
+                              final BlockOperationInterpreter blockOperationInterpreter,
+                              final CalculatorFacade calculatorFacade,
+                              final Console console,
+                              final MemoizationCache memoizationCache) {
+        super(localContextBuilder, blockOperationInterpreter, memoizationCache);
+        this.console = requireNonNull(console);
+        this.binaryCalculators = new BinaryExpressionCalculator[BinaryOperator.values().length];
+        for (final BinaryOperator operator : BinaryOperator.values()) {
+            binaryCalculators[operator.ordinal()] = requireNonNull(calculatorFacade.getCalculator(operator));
+        }
+        this.unaryCalculators = new UnaryExpressionCalculator[UnaryOperator.values().length];
+        for (final UnaryOperator operator : UnaryOperator.values()) {
+            unaryCalculators[operator.ordinal()] = requireNonNull(calculatorFacade.getCalculator(operator));
+        }
+    }
+
+    @Override
+    protected Object interpretFunctionBody(final ExecutionContext executionContext, final DeveloperFunction function) {
+        final Optional<FunctionCode> code = function.getCode();
+        final Optional<CompiledFunctionBody> compiledBody = code.flatMap(functionBodyCompiler::compile);
+        if (compiledBody.isPresent()) {
+            return execute(executionContext, compiledBody.get(), code.get());
+        } else {
+            return super.interpretFunctionBody(executionContext, function);
+        }
+    }
+
+    private Object execute(final ExecutionContext executionContext,
+                           final CompiledFunctionBody compiledBody,
+                           final FunctionCode code) {
+        final JitFrame frame = new JitFrame(code.getConstants(), executionContext, console,
+            binaryCalculators, unaryCalculators);
+        try {
+            return compiledBody.execute(frame);
+        } finally {
+            frame.exitAllScopes();
+        }
+    }
+}
@@ -31,11 +31,11 @@ public class StackTraceItemImpl implements StackTraceItem {
 
     private final DeveloperFunction function;
 
-    private final SourceLine invokeSourceLine;
+    private final int invokeLineNumber;
 
-    public StackTraceItemImpl(final DeveloperFunction function, final SourceLine invokeSourceLine) {
+    public StackTraceItemImpl(final DeveloperFunction function, final int invokeLineNumber) {
         this.function = requireNonNull(function);
-        this.invokeSourceLine = requireNonNull(invokeSourceLine);
+        this.invokeLineNumber = invokeLineNumber;
     }
 
     @Override
@@ -45,17 +45,17 @@ public class StackTraceItemImpl implements StackTraceItem {
 
     @Override
     public String getModuleName() {
-        return invokeSourceLine.getModuleName();
+        return function.getDeclarationSourceLine().getModuleName();
     }
 
     @Override
     public int getSourceLineNumber() {
-        return invokeSourceLine.getLineNumber();
+        return invokeLineNumber;
     }
 
     @Override
     public SourceLine getSourceLine() {
-        return invokeSourceLine;
+        return function.getSourceLine(invokeLineNumber);
     }
 
     @Override
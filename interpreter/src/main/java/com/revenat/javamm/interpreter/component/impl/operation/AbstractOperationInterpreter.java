@@ -17,38 +17,20 @@
 
 package com.revenat.javamm.interpreter.component.impl.operation;
 
-import com.revenat.javamm.code.component.ExpressionContext;
 import com.revenat.javamm.code.fragment.Operation;
 import com.revenat.javamm.interpreter.component.OperationInterpreter;
-import com.revenat.javamm.interpreter.error.TerminateInterpreterException;
-
-import static java.util.Objects.requireNonNull;
+import com.revenat.javamm.interpreter.model.Completion;
+import com.revenat.javamm.interpreter.model.ExecutionContext;
 
 /**
  * @author Vitaliy Dragun
  */
 public abstract class AbstractOperationInterpreter<T extends Operation> implements OperationInterpreter<T> {
-    protected final ExpressionContext expressionContext;
-
-    public AbstractOperationInterpreter(final ExpressionContext expressionContext) {
-        this.expressionContext = requireNonNull(expressionContext);
-    }
 
     @Override
-    public final void interpret(final T operation) {
-        checkForTermination();
-        interpretOperation(operation);
-    }
-
-    protected final void checkForTermination() {
-        if (isTerminated()) {
-            throw new TerminateInterpreterException();
-        }
-    }
-
-    protected boolean isTerminated() {
-        return Thread.interrupted();
+    public final Completion interpret(final ExecutionContext executionContext, final T operation) {
+        return interpretOperation(executionContext, operation);
     }
 
-    protected abstract void interpretOperation(T operation);
+    protected abstract Completion interpretOperation(ExecutionContext executionContext, T operation);
 }
@@ -17,12 +17,13 @@
 
 package com.revenat.javamm.interpreter.component.impl.operation.block;
 
-import com.revenat.javamm.code.component.ExpressionContext;
 import com.revenat.javamm.code.fragment.Operation;
 import com.revenat.javamm.code.fragment.operation.Block;
 import com.revenat.javamm.interpreter.component.BlockOperationInterpreter;
 import com.revenat.javamm.interpreter.component.BlockOperationInterpreterAware;
 import com.revenat.javamm.interpreter.component.impl.operation.AbstractOperationInterpreter;
+import com.revenat.javamm.interpreter.model.Completion;
+import com.revenat.javamm.interpreter.model.ExecutionContext;
 
 import static java.util.Objects.requireNonNull;
 
@@ -34,10 +35,6 @@ abstract class AbstractBlockOperationInterpreter<T extends Operation> extends Ab
 
     private BlockOperationInterpreter blockOperationInterpreter;
 
-    protected AbstractBlockOperationInterpreter(final ExpressionContext expressionContext) {
-        super(expressionContext);
-    }
-
     protected BlockOperationInterpreter getBlockOperationInterpreter() {
         return requireNonNull(blockOperationInterpreter, "blockOperationInterpreter is not set");
     }
@@ -47,8 +44,17 @@ abstract class AbstractBlockOperationInterpreter<T extends Operation> extends Ab
         this.blockOperationInterpreter = requireNonNull(blockOperationInterpreter);
     }
 
-    protected void interpretBlock(final Block block) {
-        NestedScopeLocalContextExecutor.executeInsideNestedScope(
-            () -> getBlockOperationInterpreter().interpret(block));
+    /**
+     * Interprets specified block inside nested scope. Nested scope is not created
+     * if the block does not {@linkplain Block#isVariableDeclarationPresent() declare}
+     * any variables, since there is nothing to define in such scope
+     */
+    protected Completion interpretBlock(final ExecutionContext executionContext, final Block block) {
+        if (block.isVariableDeclarationPresent()) {
+            return NestedScopeLocalContextExecutor.executeInsideNestedScope(executionContext,
+                () -> getBlockOperationInterpreter().interpret(executionContext, block));
+        } else {
+            return getBlockOperationInterpreter().interpret(executionContext, block);
+        }
     }
 }
@@ -17,13 +17,12 @@
 
 package com.revenat.javamm.interpreter.component.impl.operation.block;
 
-import com.revenat.javamm.code.component.ExpressionContext;
 import com.revenat.javamm.code.fragment.operation.AbstractLoopOperation;
 import com.revenat.javamm.interpreter.component.CalculatorFacade;
-import com.revenat.javamm.interpreter.component.impl.operation.exception.BreakOperationException;
-import com.revenat.javamm.interpreter.component.impl.operation.exception.ContinueOperationException;
+import com.revenat.javamm.interpreter.model.Completion;
+import com.revenat.javamm.interpreter.model.CurrentRuntime;
+import com.revenat.javamm.interpreter.model.ExecutionContext;
 
-import static com.revenat.javamm.interpreter.model.CurrentRuntimeProvider.getCurrentRuntime;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -34,34 +33,42 @@ abstract class AbstractLoopBlockOperationInterpreter<T extends AbstractLoopOpera
 
     protected final CalculatorFacade calculatorFacade;
 
-    protected AbstractLoopBlockOperationInterpreter(final ExpressionContext expressionContext,
-                                                    final CalculatorFacade calculatorFacade) {
-        super(expressionContext);
+    protected AbstractLoopBlockOperationInterpreter(final CalculatorFacade calculatorFacade) {
         this.calculatorFacade = requireNonNull(calculatorFacade);
     }
 
     @Override
-    protected final void interpretOperation(final T operation) {
-        try {
-            processLoopOperation(operation);
-        } catch (final BreakOperationException e) {
-            // do nothing. End loop execution
-        }
+    protected final Completion interpretOperation(final ExecutionContext executionContext, final T operation) {
+        final Completion completion = processLoopOperation(executionContext, operation);
+        return completion == Completion.BREAK ? Completion.NORMAL : completion;
     }
 
-    protected abstract void processLoopOperation(T operation);
+    /**
+     * Interprets loop until its condition becomes false or until loop body completes
+     * with {@link Completion#BREAK} or {@link Completion#RETURN}
+     *
+     * @return {@link Completion#NORMAL} or abrupt completion status of the loop body
+     */
+    protected abstract Completion processLoopOperation(ExecutionContext executionContext, T operation);
 
-    final void interpretLoopBody(final T operation) {
-        checkForTermination();
-        try {
-            interpretBlock(operation.getBody());
-        } catch (final ContinueOperationException e) {
-            // do nothing. Current iteration skipped
+    /**
+     * Interprets single iteration of the loop. {@link Completion#CONTINUE} is handled
+     * here, so it is never returned. Each iteration is a loop back edge, so it
+     * {@linkplain CurrentRuntime#pollTermination() polls} termination flag
+     */
+    final Completion interpretLoopBody(final ExecutionContext executionContext, final T operation) {
+        final CurrentRuntime currentRuntime = executionContext.getCurrentRuntime();
+        currentRuntime.pollTermination();
+        final Completion completion = interpretBlock(executionContext, operation.getBody());
+        if (completion == Completion.NORMAL || completion == Completion.CONTINUE) {
+            currentRuntime.setCurrentOperation(operation);
+            return Completion.NORMAL;
+        } else {
+            return completion;
         }
-        getCurrentRuntime().setCurrentOperation(operation);
     }
 
-    final boolean isConditionTrue(final T operation) {
-        return calculatorFacade.isTrue(expressionContext, operation.getCondition());
+    final boolean isConditionTrue(final ExecutionContext executionContext, final T operation) {
+        return calculatorFacade.isTrue(executionContext, operation.getCondition());
     }
 }
@@ -17,18 +17,18 @@
 
 package com.revenat.javamm.interpreter.component.impl.operation.block;
 
-import com.revenat.javamm.code.component.ExpressionContext;
 import com.revenat.javamm.code.fragment.operation.DoWhileOperation;
 import com.revenat.javamm.interpreter.component.CalculatorFacade;
+import com.revenat.javamm.interpreter.model.Completion;
+import com.revenat.javamm.interpreter.model.ExecutionContext;
 
 /**
  * @author Vitaliy Dragun
  */
 public class DoWhileOperationInterpreter extends AbstractLoopBlockOperationInterpreter<DoWhileOperation> {
 
-    public DoWhileOperationInterpreter(final ExpressionContext expressionContext,
-                                       final CalculatorFacade calculatorFacade) {
-        super(expressionContext, calculatorFacade);
+    public DoWhileOperationInterpreter(final CalculatorFacade calculatorFacade) {
+        super(calculatorFacade);
     }
 
     @Override
@@ -37,9 +37,14 @@ public class DoWhileOperationInterpreter extends AbstractLoopBlockOperationInter
     }
 
     @Override
-    protected void processLoopOperation(final DoWhileOperation operation) {
+    protected Completion processLoopOperation(final ExecutionContext executionContext,
+                                              final DoWhileOperation operation) {
         do {
-            interpretLoopBody(operation);
-        } while (isConditionTrue(operation));
+            final Completion completion = interpretLoopBody(executionContext, operation);
+            if (completion != Completion.NORMAL) {
+                return completion;
+            }
+        } while (isConditionTrue(executionContext, operation));
+        return Completion.NORMAL;
     }
 }
@@ -17,13 +17,13 @@
 
 package com.revenat.javamm.interpreter.component.impl.operation.block;
 
-import com.revenat.javamm.code.component.ExpressionContext;
-import com.revenat.javamm.code.fragment.Operation;
 import com.revenat.javamm.code.fragment.operation.Block;
 import com.revenat.javamm.code.fragment.operation.ForInitOperation;
 import com.revenat.javamm.code.fragment.operation.ForOperation;
 import com.revenat.javamm.code.fragment.operation.VariableDeclarationOperation;
 import com.revenat.javamm.interpreter.component.CalculatorFacade;
+import com.revenat.javamm.interpreter.model.Completion;
+import com.revenat.javamm.interpreter.model.ExecutionContext;
 
 import java.util.Optional;
 
@@ -34,9 +34,8 @@ import static com.revenat.javamm.code.util.TypeUtils.confirmType;
  */
 public class ForOperationInterpreter extends AbstractLoopBlockOperationInterpreter<ForOperation> {
 
-    public ForOperationInterpreter(final ExpressionContext expressionContext,
-                                   final CalculatorFacade calculatorFacade) {
-        super(expressionContext, calculatorFacade);
+    public ForOperationInterpreter(final CalculatorFacade calculatorFacade) {
+        super(calculatorFacade);
     }
 
     @Override
@@ -45,31 +44,30 @@ public class ForOperationInterpreter extends AbstractLoopBlockOperationInterpret
     }
 
     @Override
-    protected void processLoopOperation(final ForOperation operation) {
+    protected Completion processLoopOperation(final ExecutionContext executionContext, final ForOperation operation) {
         if (isVariableDeclaredInsideInitializationScope(operation)) {
-            NestedScopeLocalContextExecutor.executeInsideNestedScope(() -> interpretForOperation(operation));
+            return NestedScopeLocalContextExecutor.executeInsideNestedScope(executionContext,
+                () -> interpretForOperation(executionContext, operation));
         } else {
-            interpretForOperation(operation);
+            return interpretForOperation(executionContext, operation);
         }
     }
 
-    private void interpretForOperation(final ForOperation operation) {
-        for (interpretInitializationClause(operation); isConditionTrue(operation); interpretUpdateClause(operation)) {
-            interpretLoopBody(operation);
+    private Completion interpretForOperation(final ExecutionContext executionContext, final ForOperation operation) {
+        final Block updateBlock = operation.getUpdateBlock();
+        for (interpret(executionContext, operation.getInitBlock());
+             isConditionTrue(executionContext, operation);
+             interpret(executionContext, updateBlock)) {
+            final Completion completion = interpretLoopBody(executionContext, operation);
+            if (completion != Completion.NORMAL) {
+                return completion;
+            }
         }
+        return Completion.NORMAL;
     }
 
-    private void interpretInitializationClause(final ForOperation operation) {
-        operation.getInitOperation().ifPresent(this::interpretAsBlock);
-    }
-
-    private void interpretUpdateClause(final ForOperation operation) {
-        operation.getUpdateOperation().ifPresent(this::interpretAsBlock);
-    }
-
-    private void interpretAsBlock(final Operation operation) {
-        final Block block = new Block(operation, operation.getSourceLine());
-        getBlockOperationInterpreter().interpret(block);
+    private void interpret(final ExecutionContext executionContext, final Block block) {
+        getBlockOperationInterpreter().interpret(executionContext, block);
     }
 
     private boolean isVariableDeclaredInsideInitializationScope(final ForOperation operation) {
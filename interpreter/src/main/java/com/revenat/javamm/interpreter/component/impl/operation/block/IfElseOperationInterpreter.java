@@ -17,9 +17,10 @@
 
 package com.revenat.javamm.interpreter.component.impl.operation.block;
 
-import com.revenat.javamm.code.component.ExpressionContext;
 import com.revenat.javamm.code.fragment.operation.IfElseOperation;
 import com.revenat.javamm.interpreter.component.CalculatorFacade;
+import com.revenat.javamm.interpreter.model.Completion;
+import com.revenat.javamm.interpreter.model.ExecutionContext;
 
 /**
  * @author Vitaliy Dragun
@@ -28,9 +29,7 @@ public class IfElseOperationInterpreter extends AbstractBlockOperationInterprete
 
     private final CalculatorFacade calculatorFacade;
 
-    public IfElseOperationInterpreter(final ExpressionContext expressionContext,
-                                      final CalculatorFacade calculatorFacade) {
-        super(expressionContext);
+    public IfElseOperationInterpreter(final CalculatorFacade calculatorFacade) {
         this.calculatorFacade = calculatorFacade;
     }
 
@@ -40,11 +39,13 @@ public class IfElseOperationInterpreter extends AbstractBlockOperationInterprete
     }
 
     @Override
-    protected void interpretOperation(final IfElseOperation operation) {
-        if (calculatorFacade.isTrue(expressionContext, operation.getCondition())) {
-            interpretBlock(operation.getTrueBlock());
+    protected Completion interpretOperation(final ExecutionContext executionContext, final IfElseOperation operation) {
+        if (calculatorFacade.isTrue(executionContext, operation.getCondition())) {
+            return interpretBlock(executionContext, operation.getTrueBlock());
+        } else if (operation.getFalseBlock().isPresent()) {
+            return interpretBlock(executionContext, operation.getFalseBlock().get());
         } else {
-            operation.getFalseBlock().ifPresent(this::interpretBlock);
+            return Completion.NORMAL;
         }
     }
 }
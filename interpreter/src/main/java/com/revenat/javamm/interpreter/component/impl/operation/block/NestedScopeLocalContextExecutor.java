@@ -17,41 +17,51 @@
 
 package com.revenat.javamm.interpreter.component.impl.operation.block;
 
+import com.revenat.javamm.interpreter.model.Completion;
+import com.revenat.javamm.interpreter.model.CurrentRuntime;
+import com.revenat.javamm.interpreter.model.ExecutionContext;
 import com.revenat.javamm.interpreter.model.LocalContext;
 
-import static com.revenat.javamm.interpreter.model.CurrentRuntimeProvider.getCurrentRuntime;
+import java.util.function.Supplier;
 
-final class NestedScopeLocalContextExecutor {
+public final class NestedScopeLocalContextExecutor {
+
+    private final CurrentRuntime currentRuntime;
 
     private final LocalContext parentContext;
 
     private final LocalContext childContext;
 
-    private NestedScopeLocalContextExecutor() {
-        parentContext = getCurrentRuntime().getCurrentLocalContext();
+    private NestedScopeLocalContextExecutor(final ExecutionContext executionContext) {
+        currentRuntime = executionContext.getCurrentRuntime();
+        parentContext = currentRuntime.getCurrentLocalContext();
         childContext = parentContext.createChildLocalContext();
     }
 
     /**
      * Creates nested scope with {@linkplain LocalContext child local context} for
-     * provided {@linkplain Runnable action} and destroys such child local context
-     * when specified {@code action} finishes
+     * provided {@code action} and destroys such child local context when specified
+     * {@code action} finishes
+     *
+     * @return {@linkplain Completion completion status} of the specified {@code action}
      */
-    static void executeInsideNestedScope(final Runnable action) {
-        final NestedScopeLocalContextExecutor scopeExecutor = new NestedScopeLocalContextExecutor();
+    public static Completion executeInsideNestedScope(final ExecutionContext executionContext,
+                                                      final Supplier<Completion> action) {
+        final NestedScopeLocalContextExecutor scopeExecutor = new NestedScopeLocalContextExecutor(executionContext);
         try {
             scopeExecutor.setChildLocalContextForNestedBlock();
-            action.run();
+            return action.get();
         } finally {
             scopeExecutor.disposeChildLocalContext();
         }
     }
 
     private void setChildLocalContextForNestedBlock() {
-        getCurrentRuntime().setCurrentLocalContext(childContext);
+        currentRuntime.setCurrentLocalContext(childContext);
     }
 
     private void disposeChildLocalContext() {
-        getCurrentRuntime().setCurrentLocalContext(parentContext);
+        childContext.dispose();
+        currentRuntime.setCurrentLocalContext(parentContext);
     }
 }
@@ -17,25 +17,22 @@
 
 package com.revenat.javamm.interpreter.component.impl.operation.block;
 
-import com.revenat.javamm.code.component.ExpressionContext;
 import com.revenat.javamm.code.fragment.operation.Block;
+import com.revenat.javamm.interpreter.model.Completion;
+import com.revenat.javamm.interpreter.model.ExecutionContext;
 
 /**
  * @author Vitaliy Dragun
  */
 public class SimpleBlockOperationInterpreter extends AbstractBlockOperationInterpreter<Block> {
 
-    public SimpleBlockOperationInterpreter(final ExpressionContext expressionContext) {
-        super(expressionContext);
-    }
-
     @Override
     public Class<Block> getOperationClass() {
         return Block.class;
     }
 
     @Override
-    protected void interpretOperation(final Block operation) {
-        interpretBlock(operation);
+    protected Completion interpretOperation(final ExecutionContext executionContext, final Block operation) {
+        return interpretBlock(executionContext, operation);
     }
 }
@@ -17,66 +17,41 @@
 
 package com.revenat.javamm.interpreter.component.impl.operation.block;
 
-import com.revenat.javamm.code.component.ExpressionContext;
 import com.revenat.javamm.code.fragment.operation.SwitchBodyEntry;
-import com.revenat.javamm.code.fragment.operation.SwitchCaseEntry;
 import com.revenat.javamm.code.fragment.operation.SwitchOperation;
-import com.revenat.javamm.interpreter.component.impl.operation.exception.BreakOperationException;
+import com.revenat.javamm.interpreter.model.Completion;
+import com.revenat.javamm.interpreter.model.ExecutionContext;
 
 import java.util.List;
-import java.util.Objects;
 
 /**
  * @author Vitaliy Dragun
  */
 public class SwitchOperationInterpreter extends AbstractBlockOperationInterpreter<SwitchOperation> {
 
-    public SwitchOperationInterpreter(final ExpressionContext expressionContext) {
-        super(expressionContext);
-    }
-
     @Override
     public Class<SwitchOperation> getOperationClass() {
         return SwitchOperation.class;
     }
 
     @Override
-    protected void interpretOperation(final SwitchOperation operation) {
-        final Object switchConditionValue = operation.getCondition().getValue(expressionContext);
-        interpretEntries(findMatchedEntries(switchConditionValue, operation.getEntries()));
-    }
-
-    private List<SwitchBodyEntry> findMatchedEntries(final Object switchValue, final List<SwitchBodyEntry> entries) {
-        int defaultEntryPosition = entries.size();
-        for (int i = 0; i < entries.size(); i++) {
-            final SwitchBodyEntry current = entries.get(i);
-            defaultEntryPosition = current.isDefault() ? i : defaultEntryPosition;
-            if (areMatch(switchValue, current)) {
-                return entries.subList(i, entries.size());
-            }
-        }
-        return entries.subList(defaultEntryPosition, entries.size());
-    }
-
-    private void interpretEntries(final List<SwitchBodyEntry> entries) {
-        for (final SwitchBodyEntry entry : entries) {
-            try {
-                interpretBlock(entry.getBody());
-            } catch (final BreakOperationException e) {
-                break;
+    protected Completion interpretOperation(final ExecutionContext executionContext, final SwitchOperation operation) {
+        final Object switchConditionValue = operation.getCondition().getValue(executionContext);
+        return interpretEntries(executionContext, operation.getEntries(),
+            operation.getMatchedEntryPosition(switchConditionValue));
+    }
+
+    private Completion interpretEntries(final ExecutionContext executionContext,
+                                        final List<SwitchBodyEntry> entries,
+                                        final int matchedEntryPosition) {
+        for (int i = matchedEntryPosition; i < entries.size(); i++) {
+            final Completion completion = interpretBlock(executionContext, entries.get(i).getBody());
+            if (completion == Completion.BREAK) {
+                return Completion.NORMAL;
+            } else if (completion != Completion.NORMAL) {
+                return completion;
             }
         }
-    }
-
-    private boolean areMatch(final Object switchConditionValue, final SwitchBodyEntry entry) {
-        return !entry.isDefault() && areEqual(switchConditionValue, getCaseValue(entry));
-    }
-
-    private Object getCaseValue(final SwitchBodyEntry entry) {
-        return ((SwitchCaseEntry) entry).getExpression().getValue();
-    }
-
-    private boolean areEqual(final Object switchConditionValue, final Object caseExpressionValue) {
-        return Objects.equals(switchConditionValue, caseExpressionValue);
+        return Completion.NORMAL;
     }
 }
@@ -17,18 +17,18 @@
 
 package com.revenat.javamm.interpreter.component.impl.operation.block;
 
-import com.revenat.javamm.code.component.ExpressionContext;
 import com.revenat.javamm.code.fragment.operation.WhileOperation;
 import com.revenat.javamm.interpreter.component.CalculatorFacade;
+import com.revenat.javamm.interpreter.model.Completion;
+import com.revenat.javamm.interpreter.model.ExecutionContext;
 
 /**
  * @author Vitaliy Dragun
  */
 public class WhileOperationInterpreter extends AbstractLoopBlockOperationInterpreter<WhileOperation> {
 
-    public WhileOperationInterpreter(final ExpressionContext expressionContext,
-                                     final CalculatorFacade calculatorFacade) {
-        super(expressionContext, calculatorFacade);
+    public WhileOperationInterpreter(final CalculatorFacade calculatorFacade) {
+        super(calculatorFacade);
     }
 
     @Override
@@ -37,9 +37,13 @@ public class WhileOperationInterpreter extends AbstractLoopBlockOperationInterpr
     }
 
     @Override
-    protected void processLoopOperation(final WhileOperation operation) {
-        while (isConditionTrue(operation)) {
-            interpretLoopBody(operation);
+    protected Completion processLoopOperation(final ExecutionContext executionContext, final WhileOperation operation) {
+        while (isConditionTrue(executionContext, operation)) {
+            final Completion completion = interpretLoopBody(executionContext, operation);
+            if (completion != Completion.NORMAL) {
+                return completion;
+            }
         }
+        return Completion.NORMAL;
     }
 }
@@ -17,27 +17,23 @@
 
 package com.revenat.javamm.interpreter.component.impl.operation.simple;
 
-import com.revenat.javamm.code.component.ExpressionContext;
 import com.revenat.javamm.code.fragment.operation.BreakOperation;
 import com.revenat.javamm.interpreter.component.impl.operation.AbstractOperationInterpreter;
-import com.revenat.javamm.interpreter.component.impl.operation.exception.BreakOperationException;
+import com.revenat.javamm.interpreter.model.Completion;
+import com.revenat.javamm.interpreter.model.ExecutionContext;
 
 /**
  * @author Vitaliy Dragun
  */
 public class BreakOperationInterpreter extends AbstractOperationInterpreter<BreakOperation> {
 
-    public BreakOperationInterpreter(final ExpressionContext expressionContext) {
-        super(expressionContext);
-    }
-
     @Override
     public Class<BreakOperation> getOperationClass() {
         return BreakOperation.class;
     }
 
     @Override
-    protected void interpretOperation(final BreakOperation operation) {
-        throw new BreakOperationException();
+    protected Completion interpretOperation(final ExecutionContext executionContext, final BreakOperation operation) {
+        return Completion.BREAK;
     }
 }
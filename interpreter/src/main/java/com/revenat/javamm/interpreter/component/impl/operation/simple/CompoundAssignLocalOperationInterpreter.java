@@ -0,0 +1,80 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.interpreter.component.impl.operation.simple;
+
+import com.revenat.javamm.code.fragment.Expression;
+import com.revenat.javamm.code.fragment.expression.VariableExpression;
+import com.revenat.javamm.code.fragment.operation.CompoundAssignLocalOperation;
+import com.revenat.javamm.interpreter.component.CalculatorFacade;
+import com.revenat.javamm.interpreter.component.impl.operation.AbstractOperationInterpreter;
+import com.revenat.javamm.interpreter.model.Completion;
+import com.revenat.javamm.interpreter.model.ExecutionContext;
+import com.revenat.javamm.interpreter.model.LocalContext;
+import com.revenat.javamm.interpreter.model.TypedValue;
+
+import static com.revenat.javamm.code.util.TypeUtils.confirmType;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Applies compound assignment operator to the local variable directly in the
+ * {@linkplain LocalContext local context} using {@linkplain TypedValue typed values}
+ * of the operands
+ *
+ * @author Vitaliy Dragun
+ */
+public class CompoundAssignLocalOperationInterpreter
+    extends AbstractOperationInterpreter<CompoundAssignLocalOperation> {
+
+    private final CalculatorFacade calculatorFacade;
+
+    private final ThreadLocal<TypedValue[]> operands =
+        ThreadLocal.withInitial(() -> new TypedValue[]{new TypedValue(), new TypedValue()});
+
+    public CompoundAssignLocalOperationInterpreter(final CalculatorFacade calculatorFacade) {
+        this.calculatorFacade = requireNonNull(calculatorFacade);
+    }
+
+    @Override
+    public Class<CompoundAssignLocalOperation> getOperationClass() {
+        return CompoundAssignLocalOperation.class;
+    }
+
+    @Override
+    protected Completion interpretOperation(final ExecutionContext executionContext,
+                                            final CompoundAssignLocalOperation operation) {
+        final LocalContext localContext = executionContext.getCurrentLocalContext();
+        final TypedValue[] values = operands.get();
+        localContext.getVariableValue(operation.getVariable(), values[0]);
+        getOperandValue(executionContext, localContext, operation.getOperand(), values[1]);
+        calculatorFacade.getCalculator(operation.getOperator())
+            .calculate(executionContext, values[0], values[1], values[0]);
+        localContext.setVariableValue(operation.getVariable(), values[0]);
+        return Completion.NORMAL;
+    }
+
+    private void getOperandValue(final ExecutionContext executionContext,
+                                 final LocalContext localContext,
+                                 final Expression operand,
+                                 final TypedValue value) {
+        if (confirmType(VariableExpression.class, operand)) {
+            localContext.getVariableValue(((VariableExpression) operand).getVariable(), value);
+        } else {
+            value.setObject(operand.getValue(executionContext));
+        }
+    }
+}
@@ -17,27 +17,24 @@
 
 package com.revenat.javamm.interpreter.component.impl.operation.simple;
 
-import com.revenat.javamm.code.component.ExpressionContext;
 import com.revenat.javamm.code.fragment.operation.ContinueOperation;
 import com.revenat.javamm.interpreter.component.impl.operation.AbstractOperationInterpreter;
-import com.revenat.javamm.interpreter.component.impl.operation.exception.ContinueOperationException;
+import com.revenat.javamm.interpreter.model.Completion;
+import com.revenat.javamm.interpreter.model.ExecutionContext;
 
 /**
  * @author Vitaliy Dragun
  */
 public class ContinueOperationInterpreter extends AbstractOperationInterpreter<ContinueOperation> {
 
-    public ContinueOperationInterpreter(final ExpressionContext expressionContext) {
-        super(expressionContext);
-    }
-
     @Override
     public Class<ContinueOperation> getOperationClass() {
         return ContinueOperation.class;
     }
 
     @Override
-    protected void interpretOperation(final ContinueOperation operation) {
-        throw new ContinueOperationException();
+    protected Completion interpretOperation(final ExecutionContext executionContext,
+                                            final ContinueOperation operation) {
+        return Completion.CONTINUE;
     }
 }
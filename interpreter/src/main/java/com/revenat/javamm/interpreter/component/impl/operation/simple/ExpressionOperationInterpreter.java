@@ -17,26 +17,25 @@
 
 package com.revenat.javamm.interpreter.component.impl.operation.simple;
 
-import com.revenat.javamm.code.component.ExpressionContext;
 import com.revenat.javamm.code.fragment.operation.ExpressionOperation;
 import com.revenat.javamm.interpreter.component.impl.operation.AbstractOperationInterpreter;
+import com.revenat.javamm.interpreter.model.Completion;
+import com.revenat.javamm.interpreter.model.ExecutionContext;
 
 /**
  * @author Vitaliy Dragun
  */
 public class ExpressionOperationInterpreter extends AbstractOperationInterpreter<ExpressionOperation> {
 
-    public ExpressionOperationInterpreter(final ExpressionContext expressionContext) {
-        super(expressionContext);
-    }
-
     @Override
     public Class<ExpressionOperation> getOperationClass() {
         return ExpressionOperation.class;
     }
 
     @Override
-    protected void interpretOperation(final ExpressionOperation operation) {
-        operation.getExpression().getValue(expressionContext);
+    protected Completion interpretOperation(final ExecutionContext executionContext,
+                                            final ExpressionOperation operation) {
+        operation.getExpression().getValue(executionContext);
+        return Completion.NORMAL;
     }
 }
@@ -0,0 +1,62 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.interpreter.component.impl.operation.simple;
+
+import com.revenat.javamm.code.fragment.operation.IncrementLocalOperation;
+import com.revenat.javamm.interpreter.component.CalculatorFacade;
+import com.revenat.javamm.interpreter.component.impl.operation.AbstractOperationInterpreter;
+import com.revenat.javamm.interpreter.model.Completion;
+import com.revenat.javamm.interpreter.model.ExecutionContext;
+import com.revenat.javamm.interpreter.model.LocalContext;
+import com.revenat.javamm.interpreter.model.TypedValue;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Increments or decrements local variable directly in the {@linkplain LocalContext
+ * local context} using {@linkplain TypedValue typed value}, so neither the postfix
+ * expression evaluator nor boxing of the integer is involved
+ *
+ * @author Vitaliy Dragun
+ */
+public class IncrementLocalOperationInterpreter extends AbstractOperationInterpreter<IncrementLocalOperation> {
+
+    private final CalculatorFacade calculatorFacade;
+
+    private final ThreadLocal<TypedValue> values = ThreadLocal.withInitial(TypedValue::new);
+
+    public IncrementLocalOperationInterpreter(final CalculatorFacade calculatorFacade) {
+        this.calculatorFacade = requireNonNull(calculatorFacade);
+    }
+
+    @Override
+    public Class<IncrementLocalOperation> getOperationClass() {
+        return IncrementLocalOperation.class;
+    }
+
+    @Override
+    protected Completion interpretOperation(final ExecutionContext executionContext,
+                                            final IncrementLocalOperation operation) {
+        final LocalContext localContext = executionContext.getCurrentLocalContext();
+        final TypedValue value = values.get();
+        localContext.getVariableValue(operation.getVariable(), value);
+        calculatorFacade.getCalculator(operation.getOperator()).calculate(executionContext, value, value);
+        localContext.setVariableValue(operation.getVariable(), value);
+        return Completion.NORMAL;
+    }
+}
@@ -18,9 +18,10 @@
 package com.revenat.javamm.interpreter.component.impl.operation.simple;
 
 import com.revenat.javamm.code.component.Console;
-import com.revenat.javamm.code.component.ExpressionContext;
 import com.revenat.javamm.code.fragment.operation.PrintlnOperation;
 import com.revenat.javamm.interpreter.component.impl.operation.AbstractOperationInterpreter;
+import com.revenat.javamm.interpreter.model.Completion;
+import com.revenat.javamm.interpreter.model.ExecutionContext;
 
 import static java.util.Objects.requireNonNull;
 
@@ -33,8 +34,7 @@ public class PrintlnOperationInterpreter extends AbstractOperationInterpreter<Pr
 
     private final Console console;
 
-    public PrintlnOperationInterpreter(final ExpressionContext expressionContext, final Console console) {
-        super(expressionContext);
+    public PrintlnOperationInterpreter(final Console console) {
         this.console = requireNonNull(console);
     }
 
@@ -44,9 +44,10 @@ public class PrintlnOperationInterpreter extends AbstractOperationInterpreter<Pr
     }
 
     @Override
-    protected void interpretOperation(final PrintlnOperation operation) {
+    protected Completion interpretOperation(final ExecutionContext executionContext, final PrintlnOperation operation) {
         console.outPrintln(operation.getExpression()
-            .map(expression -> expression.getValue(expressionContext))
+            .map(expression -> expression.getValue(executionContext))
             .orElse(""));
+        return Completion.NORMAL;
     }
 }
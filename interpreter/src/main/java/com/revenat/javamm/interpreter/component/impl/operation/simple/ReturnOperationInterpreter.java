@@ -17,12 +17,15 @@
 
 package com.revenat.javamm.interpreter.component.impl.operation.simple;
 
-import com.revenat.javamm.code.component.ExpressionContext;
 import com.revenat.javamm.code.fragment.Expression;
+import com.revenat.javamm.code.fragment.expression.FunctionInvocationExpression;
 import com.revenat.javamm.code.fragment.operation.ReturnOperation;
 import com.revenat.javamm.interpreter.component.impl.operation.AbstractOperationInterpreter;
-import com.revenat.javamm.interpreter.component.impl.operation.exception.ReturnOperationException;
+import com.revenat.javamm.interpreter.model.Completion;
+import com.revenat.javamm.interpreter.model.ExecutionContext;
+import com.revenat.javamm.interpreter.model.TailCall;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -30,24 +33,39 @@ import java.util.Optional;
  */
 public class ReturnOperationInterpreter extends AbstractOperationInterpreter<ReturnOperation> {
 
-    public ReturnOperationInterpreter(final ExpressionContext expressionContext) {
-        super(expressionContext);
-    }
-
     @Override
     public Class<ReturnOperation> getOperationClass() {
         return ReturnOperation.class;
     }
 
     @Override
-    protected void interpretOperation(final ReturnOperation operation) {
-        final Object returnValue = getReturnValue(operation.getExpression());
-        throw new ReturnOperationException(returnValue);
+    protected Completion interpretOperation(final ExecutionContext executionContext, final ReturnOperation operation) {
+        final Object returnValue = operation.isTailCall()
+            ? getTailCallOrReturnValue(executionContext,
+                (FunctionInvocationExpression) operation.getExpression().orElseThrow())
+            : getReturnValue(executionContext, operation.getExpression());
+        executionContext.getCurrentRuntime().setReturnValue(returnValue);
+        return Completion.RETURN;
+    }
+
+    private Object getTailCallOrReturnValue(final ExecutionContext executionContext,
+                                            final FunctionInvocationExpression expression) {
+        if (expression.isLinked()) {
+            final List<Expression> arguments = expression.getArguments();
+            final Object[] argumentValues = new Object[arguments.size()];
+            for (int i = 0; i < argumentValues.length; i++) {
+                argumentValues[i] = arguments.get(i).getValue(executionContext);
+            }
+            return new TailCall(expression.getLinkedFunction(), argumentValues);
+        } else {
+            return expression.getValue(executionContext);
+        }
     }
 
-    private Object getReturnValue(final Optional<Expression> optionalExpression) {
+    private Object getReturnValue(final ExecutionContext executionContext,
+                                  final Optional<Expression> optionalExpression) {
         return optionalExpression
-            .map(e -> e.getValue(expressionContext))
+            .map(e -> e.getValue(executionContext))
             .orElse(com.revenat.javamm.code.fragment.Void.INSTANCE);
     }
 }
@@ -17,27 +17,26 @@
 
 package com.revenat.javamm.interpreter.component.impl.operation.simple;
 
-import com.revenat.javamm.code.component.ExpressionContext;
 import com.revenat.javamm.code.fragment.operation.VariableAssignmentOperation;
 import com.revenat.javamm.interpreter.component.impl.operation.AbstractOperationInterpreter;
+import com.revenat.javamm.interpreter.model.Completion;
+import com.revenat.javamm.interpreter.model.ExecutionContext;
 
 /**
  * @author Vitaliy Dragun
  */
 public class VariableAssignmentOperationInterpreter extends AbstractOperationInterpreter<VariableAssignmentOperation> {
 
-    public VariableAssignmentOperationInterpreter(final ExpressionContext expressionContext) {
-        super(expressionContext);
-    }
-
     @Override
     public Class<VariableAssignmentOperation> getOperationClass() {
         return VariableAssignmentOperation.class;
     }
 
     @Override
-    protected void interpretOperation(final VariableAssignmentOperation operation) {
-        final Object updatedValue = operation.getValueExpression().getValue(expressionContext);
-        operation.getVariableExpression().setValue(expressionContext, updatedValue);
+    protected Completion interpretOperation(final ExecutionContext executionContext,
+                                            final VariableAssignmentOperation operation) {
+        final Object updatedValue = operation.getValueExpression().getValue(executionContext);
+        operation.getVariableExpression().setValue(executionContext, updatedValue);
+        return Completion.NORMAL;
     }
 }
@@ -17,15 +17,14 @@
 
 package com.revenat.javamm.interpreter.component.impl.operation.simple;
 
-import com.revenat.javamm.code.component.ExpressionContext;
 import com.revenat.javamm.code.fragment.Variable;
 import com.revenat.javamm.code.fragment.operation.VariableDeclarationOperation;
 import com.revenat.javamm.interpreter.component.impl.error.JavammLineRuntimeError;
 import com.revenat.javamm.interpreter.component.impl.operation.AbstractOperationInterpreter;
+import com.revenat.javamm.interpreter.model.Completion;
+import com.revenat.javamm.interpreter.model.ExecutionContext;
 import com.revenat.javamm.interpreter.model.LocalContext;
 
-import static com.revenat.javamm.interpreter.model.CurrentRuntimeProvider.getCurrentRuntime;
-
 /**
  * Interprets {@linkplain VariableDeclarationOperation variable declaration
  * operation}
@@ -35,10 +34,6 @@ import static com.revenat.javamm.interpreter.model.CurrentRuntimeProvider.getCur
 public class VariableDeclarationOperationInterpreter
     extends AbstractOperationInterpreter<VariableDeclarationOperation> {
 
-    public VariableDeclarationOperationInterpreter(final ExpressionContext expressionContext) {
-        super(expressionContext);
-    }
-
     @Override
     public Class<VariableDeclarationOperation> getOperationClass() {
         return VariableDeclarationOperation.class;
@@ -55,12 +50,14 @@ public class VariableDeclarationOperationInterpreter
      *                                context}
      */
     @Override
-    protected void interpretOperation(final VariableDeclarationOperation operation) {
-        final LocalContext localContext = getCurrentRuntime().getCurrentLocalContext();
+    protected Completion interpretOperation(final ExecutionContext executionContext,
+                                            final VariableDeclarationOperation operation) {
+        final LocalContext localContext = executionContext.getCurrentLocalContext();
         final Variable variable = operation.getVariable();
 
         assertVariableIsNotDefinedInLocalContext(localContext, variable);
-        defineVariableInLocalContext(variable, localContext, operation);
+        defineVariableInLocalContext(executionContext, variable, localContext, operation);
+        return Completion.NORMAL;
     }
 
     private void assertVariableIsNotDefinedInLocalContext(final LocalContext localContext, final Variable variable) {
@@ -69,10 +66,11 @@ public class VariableDeclarationOperationInterpreter
         }
     }
 
-    private void defineVariableInLocalContext(final Variable variable,
+    private void defineVariableInLocalContext(final ExecutionContext executionContext,
+                                              final Variable variable,
                                               final LocalContext localContext,
                                               final VariableDeclarationOperation operation) {
-        final Object variableValue = operation.getExpression().getValue(expressionContext);
+        final Object variableValue = operation.getExpression().getValue(executionContext);
 
         if (operation.isConstant()) {
             localContext.setFinalValue(variable, variableValue);
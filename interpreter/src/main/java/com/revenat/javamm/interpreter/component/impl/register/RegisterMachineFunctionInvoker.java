@@ -0,0 +1,547 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.interpreter.component.impl.register;
+
+import com.revenat.javamm.code.component.Console;
+import com.revenat.javamm.code.fragment.FunctionName;
+import com.revenat.javamm.code.fragment.Variable;
+import com.revenat.javamm.code.fragment.expression.FunctionInvocationExpression;
+import com.revenat.javamm.code.fragment.function.DeveloperFunction;
+import com.revenat.javamm.code.fragment.instruction.FunctionCode;
+import com.revenat.javamm.code.fragment.instruction.SwitchTable;
+import com.revenat.javamm.code.fragment.operator.BinaryOperator;
+import com.revenat.javamm.code.fragment.operator.UnaryOperator;
+import com.revenat.javamm.interpreter.component.BinaryExpressionCalculator;
+import com.revenat.javamm.interpreter.component.BlockOperationInterpreter;
+import com.revenat.javamm.interpreter.component.CalculatorFacade;
+import com.revenat.javamm.interpreter.component.LocalContextBuilder;
+import com.revenat.javamm.interpreter.component.UnaryExpressionCalculator;
+import com.revenat.javamm.interpreter.component.impl.DeveloperFunctionInvokerImpl;
+import com.revenat.javamm.interpreter.component.impl.MemoizationCache;
+import com.revenat.javamm.interpreter.component.impl.error.JavammLineRuntimeError;
+import com.revenat.javamm.interpreter.model.CurrentRuntime;
+import com.revenat.javamm.interpreter.model.ExecutionContext;
+import com.revenat.javamm.interpreter.model.LocalContext;
+import com.revenat.javamm.interpreter.model.TailCall;
+import com.revenat.javamm.interpreter.model.TypedValue;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import static com.revenat.javamm.code.fragment.instruction.OpCode.BINARY;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.CALL;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.CHECK_UNDEFINED;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.DEFINE_FINAL;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.DEFINE_VAR;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.ENTER_SCOPE;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.EXIT_SCOPE;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.FAIL;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.JUMP;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.JUMP_IF_BOOLEAN;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.JUMP_IF_FALSE;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.JUMP_IF_TRUE;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.LINE;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.LOAD_CONST;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.LOAD_VAR;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.MOVE;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.PRINTLN;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.PRINTLN_EMPTY;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.RETURN;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.RETURN_VOID;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.STORE_VAR;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.SWITCH;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.TAIL_CALL;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.UNARY;
+import static com.revenat.javamm.code.util.TypeUtils.getType;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Executes {@linkplain FunctionCode linear register based code} of the
+ * developer functions in a single dispatch loop. Functions without such code
+ * are interpreted by the operation tree interpreter. Registers are
+ * {@linkplain TypedValue typed values}, so integer and double arithmetic does not
+ * allocate boxes.
+ *
+ * <p>Invocations of the linked functions which have such code are performed in the
+ * same dispatch loop: frame of the invoked function is pushed onto the heap allocated
+ * call stack of the thread instead of the recursive invocation, so deep recursion of
+ * the script does not consume stack of the JVM. Frames with their register files are
+ * reused by the invocations at the same call depth. Results of the memoized
+ * functions are looked up in the {@linkplain MemoizationCache cache} before the
+ * frame is pushed and cached when the frame returns.
+ *
+ * @author Vitaliy Dragun
+ */
+@SuppressWarnings("checkstyle:ClassFanOutComplexity")
+public class RegisterMachineFunctionInvoker extends DeveloperFunctionInvokerImpl {
+
+    private final LocalContextBuilder localContextBuilder;
+
+    private final Console console;
+
+    private final BinaryExpressionCalculator[] binaryCalculators;
+
+    private final UnaryExpressionCalculator[] unaryCalculators;
+
+    private final MemoizationCache memoizationCache;
+
+    private final ThreadLocal<FrameStack> frameStacks = ThreadLocal.withInitial(FrameStack::new);
+
+    public RegisterMachineFunctionInvoker(final LocalContextBuilder localContextBuilder,
+                                          final BlockOperationInterpreter blockOperationInterpreter,
+                                          final CalculatorFacade calculatorFacade,
+                                          final Console console,
+                                          final MemoizationCache memoizationCache) {
+        super(localContextBuilder, blockOperationInterpreter, memoizationCache);
+        this.localContextBuilder = requireNonNull(localContextBuilder);
+        this.console = requireNonNull(console);
+        this.memoizationCache = requireNonNull(memoizationCache);
+        this.binaryCalculators = new BinaryExpressionCalculator[BinaryOperator.values().length];
+        for (final BinaryOperator operator : BinaryOperator.values()) {
+            binaryCalculators[operator.ordinal()] = requireNonNull(calculatorFacade.getCalculator(operator));
+        }
+        this.unaryCalculators = new UnaryExpressionCalculator[UnaryOperator.values().length];
+        for (final UnaryOperator operator : UnaryOperator.values()) {
+            unaryCalculators[operator.ordinal()] = requireNonNull(calculatorFacade.getCalculator(operator));
+        }
+    }
+
+    @Override
+    protected Object interpretFunctionBody(final ExecutionContext executionContext, final DeveloperFunction function) {
+        final Optional<FunctionCode> code = function.getCode();
+        if (code.isPresent()) {
+            return execute(executionContext, code.get());
+        } else {
+            return super.interpretFunctionBody(executionContext, function);
+        }
+    }
+
+    private Object execute(final ExecutionContext executionContext, final FunctionCode code) {
+        final FrameStack frameStack = frameStacks.get();
+        final CurrentRuntime currentRuntime = executionContext.getCurrentRuntime();
+        final int bottom = frameStack.depth;
+        frameStack.push(code, currentRuntime.getCurrentLocalContext());
+        try {
+            return execute(frameStack, bottom, executionContext);
+        } finally {
+            while (frameStack.depth > bottom + 1) {
+                exitFunction(frameStack, currentRuntime);
+            }
+            currentRuntime.setCurrentLocalContext(frameStack.pop().disposeScopes());
+        }
+    }
+
+    @SuppressWarnings({
+        "checkstyle:CyclomaticComplexity",
+        "checkstyle:JavaNCSS",
+        "checkstyle:MethodLength",
+        "checkstyle:ReturnCount",
+        "checkstyle:ExecutableStatementCount"
+    })
+    private Object execute(final FrameStack frameStack, final int bottom, final ExecutionContext executionContext) {
+        final CurrentRuntime currentRuntime = executionContext.getCurrentRuntime();
+        Frame frame = frameStack.top();
+        frames:
+        while (true) {
+            final int[] instructions = frame.code.getInstructions();
+            final Object[] constants = frame.code.getConstants();
+            final TypedValue[] registers = frame.registers;
+            final Deque<LocalContext> parentScopes = frame.parentScopes;
+            LocalContext localContext = frame.localContext;
+            int pc = frame.pc;
+            final Object result;
+            dispatch:
+            while (true) {
+                switch (instructions[pc]) {
+                    case LINE:
+                        currentRuntime.setCurrentLineNumber(instructions[pc + 1]);
+                        pc += 2;
+                        break;
+                    case LOAD_CONST:
+                        registers[instructions[pc + 1]].setObject(constants[instructions[pc + 2]]);
+                        pc += 3;
+                        break;
+                    case LOAD_VAR:
+                        localContext.getVariableValue((Variable) constants[instructions[pc + 2]],
+                            registers[instructions[pc + 1]]);
+                        pc += 3;
+                        break;
+                    case STORE_VAR:
+                        setVariableValue(localContext, (Variable) constants[instructions[pc + 1]],
+                            registers[instructions[pc + 2]]);
+                        pc += 3;
+                        break;
+                    case CHECK_UNDEFINED:
+                        checkUndefined(localContext, (Variable) constants[instructions[pc + 1]]);
+                        pc += 2;
+                        break;
+                    case DEFINE_VAR:
+                        localContext.setVariableValue((Variable) constants[instructions[pc + 1]],
+                            registers[instructions[pc + 2]]);
+                        pc += 3;
+                        break;
+                    case DEFINE_FINAL:
+                        localContext.setFinalValue((Variable) constants[instructions[pc + 1]],
+                            registers[instructions[pc + 2]].toObject());
+                        pc += 3;
+                        break;
+                    case MOVE:
+                        registers[instructions[pc + 1]].set(registers[instructions[pc + 2]]);
+                        pc += 3;
+                        break;
+                    case BINARY:
+                        binaryCalculators[instructions[pc + 2]].calculate(executionContext,
+                            registers[instructions[pc + 3]], registers[instructions[pc + 4]],
+                            registers[instructions[pc + 1]]);
+                        pc += 5;
+                        break;
+                    case UNARY:
+                        unaryCalculators[instructions[pc + 2]].calculate(executionContext,
+                            registers[instructions[pc + 3]], registers[instructions[pc + 1]]);
+                        pc += 4;
+                        break;
+                    case CALL: {
+                        final FunctionInvocationExpression expression =
+                            (FunctionInvocationExpression) constants[instructions[pc + 2]];
+                        if (hasCode(expression)) {
+                            final DeveloperFunction function = expression.getLinkedFunction();
+                            final Object[] memoizedArguments = isMemoized(function)
+                                ? getArgumentValues(registers, instructions[pc + 3], instructions[pc + 4])
+                                : null;
+                            final Object cachedResult = memoizedArguments != null
+                                ? memoizationCache.get(function, memoizedArguments)
+                                : MemoizationCache.NOT_CACHED;
+                            if (cachedResult != MemoizationCache.NOT_CACHED) {
+                                registers[instructions[pc + 1]].setObject(cachedResult);
+                                pc += 5;
+                                break;
+                            }
+                            frame.pc = pc + 5;
+                            frame.resultRegister = instructions[pc + 1];
+                            frame = enterFunction(frameStack, currentRuntime, function, registers,
+                                instructions[pc + 3]);
+                            frame.setMemoizedInvocation(function, memoizedArguments);
+                            continue frames;
+                        }
+                        registers[instructions[pc + 1]].setObject(invokeFunction(executionContext,
+                            expression.getFunctionName(), registers, instructions[pc + 3], instructions[pc + 4]));
+                        pc += 5;
+                        break;
+                    }
+                    case JUMP:
+                        pc = jump(currentRuntime, pc, instructions[pc + 1]);
+                        break;
+                    case JUMP_IF_FALSE:
+                        pc = requireBoolean(registers[instructions[pc + 1]])
+                            ? pc + 3
+                            : jump(currentRuntime, pc, instructions[pc + 2]);
+                        break;
+                    case JUMP_IF_TRUE:
+                        pc = requireBoolean(registers[instructions[pc + 1]])
+                            ? jump(currentRuntime, pc, instructions[pc + 2])
+                            : pc + 3;
+                        break;
+                    case JUMP_IF_BOOLEAN:
+                        pc = isBoolean(registers[instructions[pc + 1]], instructions[pc + 2] != 0)
+                            ? jump(currentRuntime, pc, instructions[pc + 3])
+                            : pc + 4;
+                        break;
+                    case ENTER_SCOPE:
+                        parentScopes.push(localContext);
+                        localContext = localContext.createChildLocalContext();
+                        frame.localContext = localContext;
+                        currentRuntime.setCurrentLocalContext(localContext);
+                        pc += 1;
+                        break;
+                    case EXIT_SCOPE:
+                        localContext.dispose();
+                        localContext = parentScopes.pop();
+                        frame.localContext = localContext;
+                        currentRuntime.setCurrentLocalContext(localContext);
+                        pc += 1;
+                        break;
+                    case SWITCH:
+                        pc = ((SwitchTable) constants[instructions[pc + 2]])
+                            .getTarget(registers[instructions[pc + 1]].toObject());
+                        break;
+                    case PRINTLN:
+                        console.outPrintln(Objects.requireNonNullElse(registers[instructions[pc + 1]].toObject(), ""));
+                        pc += 2;
+                        break;
+                    case PRINTLN_EMPTY:
+                        console.outPrintln("");
+                        pc += 1;
+                        break;
+                    case RETURN:
+                        result = Objects.requireNonNullElse(registers[instructions[pc + 1]].toObject(),
+                            com.revenat.javamm.code.fragment.Void.INSTANCE);
+                        break dispatch;
+                    case RETURN_VOID:
+                        result = com.revenat.javamm.code.fragment.Void.INSTANCE;
+                        break dispatch;
+                    case FAIL:
+                        throw new JavammLineRuntimeError((String) constants[instructions[pc + 1]]);
+                    case TAIL_CALL: {
+                        final FunctionInvocationExpression expression =
+                            (FunctionInvocationExpression) constants[instructions[pc + 1]];
+                        if (hasCode(expression)) {
+                            replaceFunction(frame, currentRuntime, expression.getLinkedFunction(), instructions[pc + 2]);
+                            continue frames;
+                        }
+                        if (frameStack.depth == bottom + 1) {
+                            return tailCall(executionContext, expression, registers, instructions[pc + 2],
+                                instructions[pc + 3]);
+                        }
+                        result = Objects.requireNonNullElse(invokeFunction(executionContext,
+                            expression.getFunctionName(), registers, instructions[pc + 2], instructions[pc + 3]),
+                            com.revenat.javamm.code.fragment.Void.INSTANCE);
+                        break dispatch;
+                    }
+                    default:
+                        throw new IllegalStateException("Unknown instruction " + instructions[pc] + " at " + pc);
+                }
+            }
+            if (frameStack.depth == bottom + 1) {
+                return result;
+            }
+            if (frame.memoizedArguments != null) {
+                memoizationCache.put(frame.memoizedFunction, frame.memoizedArguments, result);
+            }
+            frame = exitFunction(frameStack, currentRuntime);
+            frame.registers[frame.resultRegister].setObject(result);
+        }
+    }
+
+    private boolean hasCode(final FunctionInvocationExpression expression) {
+        return expression.isLinked() && expression.getLinkedFunction().getCode().isPresent();
+    }
+
+    /**
+     * Pushes frame of the invoked function onto the heap allocated call stack
+     * instead of the recursive invocation, so the depth of the script call stack
+     * is limited by the max stack size of the current runtime only
+     */
+    private Frame enterFunction(final FrameStack frameStack,
+                                final CurrentRuntime currentRuntime,
+                                final DeveloperFunction function,
+                                final TypedValue[] registers,
+                                final int firstArgument) {
+        final LocalContext localContext = localContextBuilder.buildLocalContext(function);
+        setParameters(function, localContext, registers, firstArgument);
+        final Frame frame = frameStack.push(function.getCode().orElseThrow(), localContext);
+        currentRuntime.setCurrentLocalContext(localContext);
+        currentRuntime.enterToFunction(function);
+        return frame;
+    }
+
+    private Frame exitFunction(final FrameStack frameStack, final CurrentRuntime currentRuntime) {
+        frameStack.pop().disposeScopes();
+        final Frame frame = frameStack.top();
+        currentRuntime.setCurrentLocalContext(frame.localContext);
+        currentRuntime.exitFromFunction();
+        return frame;
+    }
+
+    private void replaceFunction(final Frame frame,
+                                 final CurrentRuntime currentRuntime,
+                                 final DeveloperFunction function,
+                                 final int firstArgument) {
+        final LocalContext localContext = frame.disposeScopes();
+        localContext.reset();
+        setParameters(function, localContext, frame.registers, firstArgument);
+        final FunctionCode code = function.getCode().orElseThrow();
+        frame.setCode(code, localContext);
+        currentRuntime.setCurrentLocalContext(localContext);
+        currentRuntime.replaceCurrentFunction(function);
+    }
+
+    private void setParameters(final DeveloperFunction function,
+                               final LocalContext localContext,
+                               final TypedValue[] registers,
+                               final int firstArgument) {
+        final List<Variable> parameters = function.getParameters();
+        for (int i = 0; i < parameters.size(); i++) {
+            localContext.setVariableValue(parameters.get(i), registers[firstArgument + i]);
+        }
+    }
+
+    private void setVariableValue(final LocalContext localContext, final Variable variable, final TypedValue value) {
+        if (localContext.isVariableDefined(variable)) {
+            localContext.setVariableValue(variable, value);
+        } else {
+            throw new JavammLineRuntimeError("Variable '%s' is not defined", variable);
+        }
+    }
+
+    private void checkUndefined(final LocalContext localContext, final Variable variable) {
+        if (localContext.isVariableDefined(variable)) {
+            throw new JavammLineRuntimeError("Variable '%s' already defined", variable);
+        }
+    }
+
+    private Object invokeFunction(final ExecutionContext executionContext,
+                                  final FunctionName functionName,
+                                  final TypedValue[] registers,
+                                  final int firstArgument,
+                                  final int argumentCount) {
+        return executionContext.getCurrentRuntime().getCurrentFunctionInvoker().invoke(executionContext, functionName,
+            getArgumentValues(registers, firstArgument, argumentCount));
+    }
+
+    private Object[] getArgumentValues(final TypedValue[] registers, final int firstArgument, final int argumentCount) {
+        final Object[] argumentValues = new Object[argumentCount];
+        for (int i = 0; i < argumentCount; i++) {
+            argumentValues[i] = registers[firstArgument + i].toObject();
+        }
+        return argumentValues;
+    }
+
+    private Object tailCall(final ExecutionContext executionContext,
+                            final FunctionInvocationExpression expression,
+                            final TypedValue[] registers,
+                            final int firstArgument,
+                            final int argumentCount) {
+        if (expression.isLinked()) {
+            return new TailCall(expression.getLinkedFunction(),
+                getArgumentValues(registers, firstArgument, argumentCount));
+        } else {
+            return Objects.requireNonNullElse(
+                invokeFunction(executionContext, expression.getFunctionName(), registers, firstArgument, argumentCount),
+                com.revenat.javamm.code.fragment.Void.INSTANCE);
+        }
+    }
+
+    private boolean requireBoolean(final TypedValue value) {
+        if (value.isBoolean()) {
+            return value.getBoolean();
+        } else {
+            throw new JavammLineRuntimeError("Condition expression should be boolean. Current type is %s",
+                getType(value.toObject()));
+        }
+    }
+
+    private boolean isBoolean(final TypedValue value, final boolean expected) {
+        return value.isBoolean() && value.getBoolean() == expected;
+    }
+
+    /**
+     * Backward jump is the loop back edge, so it
+     * {@linkplain CurrentRuntime#pollTermination() polls} termination flag
+     */
+    private int jump(final CurrentRuntime currentRuntime, final int pc, final int target) {
+        if (target < pc) {
+            currentRuntime.pollTermination();
+        }
+        return target;
+    }
+
+    /**
+     * Heap allocated call stack of the thread. Frames are reused by the
+     * invocations at the same call depth
+     */
+    private static final class FrameStack {
+
+        private Frame[] frames = new Frame[16];
+
+        private int depth;
+
+        private Frame push(final FunctionCode code, final LocalContext localContext) {
+            if (depth == frames.length) {
+                frames = Arrays.copyOf(frames, depth * 2);
+            }
+            if (frames[depth] == null) {
+                frames[depth] = new Frame();
+            }
+            final Frame frame = frames[depth++];
+            frame.setCode(code, localContext);
+            frame.setMemoizedInvocation(null, null);
+            return frame;
+        }
+
+        private Frame top() {
+            return frames[depth - 1];
+        }
+
+        private Frame pop() {
+            return frames[--depth];
+        }
+    }
+
+    /**
+     * Registers, scopes and return point of the single function invocation
+     */
+    private static final class Frame {
+
+        private final Deque<LocalContext> parentScopes = new ArrayDeque<>();
+
+        private TypedValue[] registers = new TypedValue[0];
+
+        private FunctionCode code;
+
+        private LocalContext localContext;
+
+        private int pc;
+
+        private int resultRegister;
+
+        private DeveloperFunction memoizedFunction;
+
+        private Object[] memoizedArguments;
+
+        private void setCode(final FunctionCode code, final LocalContext localContext) {
+            this.code = code;
+            this.localContext = localContext;
+            this.pc = 0;
+            ensureRegisterCount(code.getRegisterCount());
+        }
+
+        /**
+         * Result of the memoized invocation is cached when the frame returns. Tail calls
+         * performed inside the frame do not change the memoized invocation
+         */
+        private void setMemoizedInvocation(final DeveloperFunction function, final Object[] arguments) {
+            this.memoizedFunction = function;
+            this.memoizedArguments = arguments;
+        }
+
+        private void ensureRegisterCount(final int registerCount) {
+            if (registers.length < registerCount) {
+                final int oldCount = registers.length;
+                registers = Arrays.copyOf(registers, registerCount);
+                for (int i = oldCount; i < registerCount; i++) {
+                    registers[i] = new TypedValue();
+                }
+            }
+        }
+
+        /**
+         * Disposes all nested scopes of the invocation and returns its root local context
+         */
+        private LocalContext disposeScopes() {
+            while (!parentScopes.isEmpty()) {
+                localContext.dispose();
+                localContext = parentScopes.pop();
+            }
+            return localContext;
+        }
+    }
+}
@@ -40,7 +40,14 @@ public abstract class JavammRuntimeError extends JavammError {
     }
 
     public final String getSimpleMessage() {
-        return String.format("Runtime error: %s", super.getMessage());
+        return String.format("Runtime error: %s", getErrorMessage());
+    }
+
+    /**
+     * Returns message of this error without any decoration
+     */
+    protected String getErrorMessage() {
+        return super.getMessage();
     }
 
     public List<StackTraceItem> getCurrentStackTrace() {
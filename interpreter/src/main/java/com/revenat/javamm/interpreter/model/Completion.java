@@ -0,0 +1,42 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.interpreter.model;
+
+/**
+ * Completion status of the interpreted operation. Abrupt completions are
+ * propagated through the enclosing blocks up to the operation which handles
+ * them, e.g. {@link #BREAK} is handled by the nearest loop or switch and
+ * {@link #RETURN} by the function invoker. The value returned from the
+ * function is stored in the {@linkplain CurrentRuntime#setReturnValue(Object)
+ * current runtime}.
+ *
+ * @author Vitaliy Dragun
+ */
+public enum Completion {
+
+    /**
+     * Operation completed normally, so the next operation should be interpreted
+     */
+    NORMAL,
+
+    BREAK,
+
+    CONTINUE,
+
+    RETURN
+}
@@ -21,6 +21,7 @@ import com.revenat.javamm.code.fragment.Operation;
 import com.revenat.javamm.code.fragment.SourceLine;
 import com.revenat.javamm.code.fragment.function.DeveloperFunction;
 import com.revenat.javamm.interpreter.component.FunctionInvoker;
+import com.revenat.javamm.interpreter.error.TerminateInterpreterException;
 
 import java.util.List;
 
@@ -33,19 +34,20 @@ import java.util.List;
 public interface CurrentRuntime {
 
     /**
-     * Returns source line which interpreter process at the moment
+     * Returns source line which interpreter process at the moment. Source line is
+     * looked up by the {@linkplain #setCurrentLineNumber(int) current line number}
+     * in the currently executed function
      *
-     * @throws NullPointerException if current source line has not been defined yet
+     * @throws NullPointerException if current function has not been defined yet
      */
     SourceLine getCurrentSourceLine();
 
     /**
-     * Sets current source line
-     *
-     * @throws NullPointerException if provided {@code currentSourceLine} is
-     *                              {@code null}
+     * Sets number of the source line which interpreter process at the moment. Only
+     * the number is kept, so the position is cheap enough to be updated before
+     * each executed operation
      */
-    void setCurrentSourceLine(SourceLine currentSourceLine);
+    void setCurrentLineNumber(int lineNumber);
 
     /**
      * Returns current {@linkplain LocalContext local context} that keeps local
@@ -70,7 +72,7 @@ public interface CurrentRuntime {
      * @throws NullPointerException if specified {@code operation} is {@code null}
      */
     default void setCurrentOperation(final Operation operation) {
-        setCurrentSourceLine(operation.getSourceLine());
+        setCurrentLineNumber(operation.getLineNumber());
     }
 
     FunctionInvoker getCurrentFunctionInvoker();
@@ -86,9 +88,61 @@ public interface CurrentRuntime {
      */
     void exitFromFunction();
 
+    /**
+     * Designates that currently executed function is replaced by given function
+     * which has been invoked from its {@linkplain TailCall tail position}, so the
+     * depth of the stack trace does not change
+     */
+    void replaceCurrentFunction(DeveloperFunction developerFunction);
+
+    /**
+     * Safepoint poll which is performed at function entries and loop back edges.
+     * Termination flag is checked once per fixed number of polls, so the
+     * interpretation stops no later than after such number of polls since the
+     * {@linkplain #requestTermination() termination request}
+     *
+     * @throws TerminateInterpreterException if termination has been requested
+     */
+    void pollTermination();
+
+    /**
+     * Sets termination flag of this runtime. Can be invoked from any thread
+     */
+    void requestTermination();
+
+    /**
+     * Stores value returned from the currently executed function
+     *
+     * @throws NullPointerException if specified {@code returnValue} is
+     *                              {@code null}
+     */
+    void setReturnValue(Object returnValue);
+
+    /**
+     * Returns value stored by the last {@link #setReturnValue(Object)} call and
+     * clears it
+     *
+     * @throws NullPointerException if return value has not been set
+     */
+    Object releaseReturnValue();
+
     /**
      * Returns current stack trace which represents flow of execution's path from
      * main function to currently executing line of code
      */
-    List<StackTraceItem> getCurrentStackTrace();
+    default List<StackTraceItem> getCurrentStackTrace() {
+        return captureStackTrace().getStackTrace();
+    }
+
+    /**
+     * Captures current stack trace by copying its frames without building their
+     * items, so it is cheap enough to be captured by each runtime error
+     */
+    StackTraceSnapshot captureStackTrace();
+
+    /**
+     * Captures at most the specified number of the most recent frames of the current
+     * stack trace, so the stack trace of the deep recursion is not copied entirely
+     */
+    StackTraceSnapshot captureStackTrace(int maxFrameCount);
 }
@@ -24,6 +24,11 @@ import static java.util.Objects.requireNonNull;
  * to obtain access to it from every point in the application where it may be
  * needed.
  *
+ * <p>Interpreters and evaluators receive the runtime explicitly through the
+ * {@linkplain ExecutionContext execution context}, so this provider is used only
+ * where the context is not available, e.g. by runtime errors which capture the
+ * stack trace of the script
+ *
  * @author Vitaliy Dragun
  */
 public final class CurrentRuntimeProvider {
@@ -0,0 +1,53 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.revenat.javamm.interpreter.model;
+
+import com.revenat.javamm.code.component.ExpressionContext;
+
+/**
+ * {@linkplain ExpressionContext Expression context} bound to the {@linkplain
+ * CurrentRuntime runtime} of a single interpretation. It is passed explicitly
+ * through operation interpreters, expression evaluators and function invokers,
+ * so they do not look up the current runtime of the thread
+ *
+ * @author Vitaliy Dragun
+ */
+public interface ExecutionContext extends ExpressionContext {
+
+    CurrentRuntime getCurrentRuntime();
+
+    /**
+     * Returns {@linkplain CurrentRuntime#getCurrentLocalContext() current local
+     * context} of the bound runtime
+     */
+    default LocalContext getCurrentLocalContext() {
+        return getCurrentRuntime().getCurrentLocalContext();
+    }
+
+    /**
+     * Returns execution context which evaluates expressions within the specified
+     * expression context
+     *
+     * @throws ClassCastException if specified expression context is not bound to
+     *                            the runtime
+     */
+    static ExecutionContext of(final ExpressionContext expressionContext) {
+        return (ExecutionContext) expressionContext;
+    }
+}
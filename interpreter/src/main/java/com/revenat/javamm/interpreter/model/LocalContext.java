@@ -60,6 +60,26 @@ public interface LocalContext {
      */
     Object getVariableValue(Variable variable);
 
+    /**
+     * Copies value of the specified variable into provided {@linkplain TypedValue
+     * typed value} holder
+     *
+     * @throws JavammRuntimeError if there is no variable with such name in this
+     *                            local context.
+     */
+    default void getVariableValue(final Variable variable, final TypedValue value) {
+        value.setObject(getVariableValue(variable));
+    }
+
+    /**
+     * Same as {@link #setVariableValue(Variable, Object)} for the
+     * {@linkplain TypedValue typed value}. Implementations may keep primitive
+     * values unboxed.
+     */
+    default void setVariableValue(final Variable variable, final TypedValue value) {
+        setVariableValue(variable, value.toObject());
+    }
+
     /**
      * Creates child local context with all content from parent local context and
      * next features: 1) if variable already defined in parent context, then updating
@@ -68,4 +88,18 @@ public interface LocalContext {
      * parent
      */
     LocalContext createChildLocalContext();
+
+    /**
+     * Disposes child local context: all variables/finals which have been defined
+     * via this child local context become undefined. Has no effect for the root
+     * local context of the function.
+     */
+    void dispose();
+
+    /**
+     * Undefines all variables/finals of this local context, so the root local
+     * context of the function can be reused by the function invoked from its
+     * {@linkplain TailCall tail position}
+     */
+    void reset();
 }
@@ -0,0 +1,66 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.interpreter.model;
+
+/**
+ * Snapshot of the counters of the memoization cache which keeps results of the
+ * pure functions
+ *
+ * @author Vitaliy Dragun
+ */
+public final class MemoizationStatistics {
+
+    private final long hitCount;
+
+    private final long missCount;
+
+    private final int cachedResultCount;
+
+    public MemoizationStatistics(final long hitCount, final long missCount, final int cachedResultCount) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.cachedResultCount = cachedResultCount;
+    }
+
+    /**
+     * Returns number of the invocations of the pure functions answered from the cache
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns number of the invocations of the pure functions which were not found in
+     * the cache and were executed
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Returns number of the results kept in the cache at the moment
+     */
+    public int getCachedResultCount() {
+        return cachedResultCount;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("hits=%d, misses=%d, cached results=%d", hitCount, missCount, cachedResultCount);
+    }
+}
@@ -0,0 +1,36 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.interpreter.model;
+
+import java.util.List;
+
+/**
+ * Immutable snapshot of the current stack trace which is cheap to capture.
+ * Readable {@linkplain StackTraceItem stack trace items} are built only on demand
+ *
+ * @author Vitaliy Dragun
+ */
+@FunctionalInterface
+public interface StackTraceSnapshot {
+
+    /**
+     * Returns stack trace captured by this snapshot, starting from the most
+     * recently invoked function
+     */
+    List<StackTraceItem> getStackTrace();
+}
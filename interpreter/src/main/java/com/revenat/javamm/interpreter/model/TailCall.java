@@ -0,0 +1,52 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.interpreter.model;
+
+import com.revenat.javamm.code.fragment.function.DeveloperFunction;
+import com.revenat.javamm.code.fragment.operation.ReturnOperation;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Invocation of the function from the {@linkplain ReturnOperation#isTailCall() tail position}
+ * with already evaluated argument values. It is stored as the
+ * {@linkplain CurrentRuntime#setReturnValue(Object) return value} of the current function,
+ * so the function invoker performs it in place of the current function instead of
+ * invoking it recursively.
+ *
+ * @author Vitaliy Dragun
+ */
+public final class TailCall {
+
+    private final DeveloperFunction function;
+
+    private final Object[] argumentValues;
+
+    public TailCall(final DeveloperFunction function, final Object[] argumentValues) {
+        this.function = requireNonNull(function);
+        this.argumentValues = requireNonNull(argumentValues);
+    }
+
+    public DeveloperFunction getFunction() {
+        return function;
+    }
+
+    public Object[] getArgumentValues() {
+        return argumentValues;
+    }
+}
@@ -0,0 +1,189 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.interpreter.model;
+
+import com.revenat.javamm.code.component.ExpressionContext;
+import com.revenat.javamm.code.fragment.Expression;
+
+/**
+ * Mutable type-tagged holder of the runtime value. Integer, double and boolean
+ * values are kept in the primitive slot and boxed only when they leave the
+ * typed hot paths, so calculators and local contexts can exchange numbers without
+ * allocation. Can be passed to the calculators as already evaluated
+ * {@linkplain Expression operand}.
+ *
+ * @author Vitaliy Dragun
+ */
+public final class TypedValue implements Expression {
+
+    private Type type = Type.REFERENCE;
+
+    private long primitive;
+
+    private Object object;
+
+    public Type getType() {
+        return type;
+    }
+
+    public boolean isInteger() {
+        return type == Type.INTEGER;
+    }
+
+    public boolean isDouble() {
+        return type == Type.DOUBLE;
+    }
+
+    public boolean isNumber() {
+        return type == Type.INTEGER || type == Type.DOUBLE;
+    }
+
+    public boolean isBoolean() {
+        return type == Type.BOOLEAN;
+    }
+
+    /**
+     * Returns integer value
+     *
+     * @throws IllegalStateException if this value is not an integer
+     */
+    public int getInteger() {
+        if (type != Type.INTEGER) {
+            throw new IllegalStateException("Value is not an integer: " + type);
+        }
+        return (int) primitive;
+    }
+
+    /**
+     * Returns double value. Integer values are widened to double.
+     *
+     * @throws IllegalStateException if this value is not a number
+     */
+    public double getDouble() {
+        if (type == Type.DOUBLE) {
+            return Double.longBitsToDouble(primitive);
+        } else if (type == Type.INTEGER) {
+            return (int) primitive;
+        } else {
+            throw new IllegalStateException("Value is not a number: " + type);
+        }
+    }
+
+    /**
+     * Returns boolean value
+     *
+     * @throws IllegalStateException if this value is not a boolean
+     */
+    public boolean getBoolean() {
+        if (type != Type.BOOLEAN) {
+            throw new IllegalStateException("Value is not a boolean: " + type);
+        }
+        return primitive != 0;
+    }
+
+    public void setInteger(final int value) {
+        type = Type.INTEGER;
+        primitive = value;
+        object = null;
+    }
+
+    public void setDouble(final double value) {
+        type = Type.DOUBLE;
+        primitive = Double.doubleToRawLongBits(value);
+        object = null;
+    }
+
+    public void setBoolean(final boolean value) {
+        type = Type.BOOLEAN;
+        primitive = value ? 1 : 0;
+        object = value;
+    }
+
+    /**
+     * Sets the value represented by the object. Integers, doubles and booleans are
+     * unboxed into the primitive slot, while the specified box is kept so it is not
+     * created again by {@link #toObject()}
+     */
+    public void setObject(final Object value) {
+        if (value instanceof Integer) {
+            type = Type.INTEGER;
+            primitive = (Integer) value;
+        } else if (value instanceof Double) {
+            type = Type.DOUBLE;
+            primitive = Double.doubleToRawLongBits((Double) value);
+        } else if (value instanceof Boolean) {
+            type = Type.BOOLEAN;
+            primitive = (Boolean) value ? 1 : 0;
+        } else {
+            type = Type.REFERENCE;
+            primitive = 0;
+        }
+        object = value;
+    }
+
+    /**
+     * Copies state of the specified value into this one
+     */
+    public void set(final TypedValue value) {
+        type = value.type;
+        primitive = value.primitive;
+        object = value.object;
+    }
+
+    /**
+     * Returns {@code true} if this value is a primitive which has not been boxed yet
+     */
+    public boolean isUnboxed() {
+        return type != Type.REFERENCE && object == null;
+    }
+
+    /**
+     * Returns boxed representation of this value. The box is created lazily and is
+     * cached until this value is changed.
+     */
+    public Object toObject() {
+        if (isUnboxed()) {
+            object = type == Type.INTEGER ? (Object) (int) primitive : (Object) Double.longBitsToDouble(primitive);
+        }
+        return object;
+    }
+
+    @Override
+    public Object getValue(final ExpressionContext expressionContext) {
+        return toObject();
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(toObject());
+    }
+
+    /**
+     * Runtime type of the {@linkplain TypedValue typed value}
+     */
+    public enum Type {
+
+        INTEGER,
+
+        DOUBLE,
+
+        BOOLEAN,
+
+        REFERENCE
+    }
+}
@@ -17,6 +17,7 @@
 
 package com.revenat.javamm.interpreter;
 
+import com.revenat.javamm.code.component.Console;
 import com.revenat.juinit.addons.ReplaceCamelCase;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.DisplayNameGeneration;
@@ -52,4 +53,37 @@ class InterpreterConfiguratorTest {
 
         assertThat(interpreterA, sameInstance(interpreterB));
     }
+
+    @Test
+    @Order(3)
+    void shouldProvideWithInterpreterForClosureCompiledExecutionEngine() {
+        final InterpreterConfigurator configurator =
+            new InterpreterConfigurator(Console.DEFAULT, ExecutionEngine.CLOSURE_COMPILED,
+                InterpreterConfigurator.DEFAULT_TAIL_CALL_STACK_TRACE_SIZE, InterpreterConfigurator.MAX_STACK_SIZE,
+                InterpreterConfigurator.DEFAULT_MEMOIZATION_CACHE_SIZE);
+
+        assertNotNull(configurator.getInterpreter());
+    }
+
+    @Test
+    @Order(4)
+    void shouldProvideWithInterpreterForRegisterMachineExecutionEngine() {
+        final InterpreterConfigurator configurator =
+            new InterpreterConfigurator(Console.DEFAULT, ExecutionEngine.REGISTER_MACHINE,
+                InterpreterConfigurator.DEFAULT_TAIL_CALL_STACK_TRACE_SIZE, InterpreterConfigurator.MAX_STACK_SIZE,
+                InterpreterConfigurator.DEFAULT_MEMOIZATION_CACHE_SIZE);
+
+        assertNotNull(configurator.getInterpreter());
+    }
+
+    @Test
+    @Order(5)
+    void shouldProvideWithInterpreterForJitCompiledExecutionEngine() {
+        final InterpreterConfigurator configurator =
+            new InterpreterConfigurator(Console.DEFAULT, ExecutionEngine.JIT_COMPILED,
+                InterpreterConfigurator.DEFAULT_TAIL_CALL_STACK_TRACE_SIZE, InterpreterConfigurator.MAX_STACK_SIZE,
+                InterpreterConfigurator.DEFAULT_MEMOIZATION_CACHE_SIZE);
+
+        assertNotNull(configurator.getInterpreter());
+    }
 }
@@ -102,7 +102,7 @@ class BlockOperationInterpreterTest {
     void shouldFailIfTryToHandleUnsupportedOperation() {
         blockInterpreter = new BlockOperationInterpreterImpl(Set.of());
 
-        assertThrows(ConfigException.class, () -> blockInterpreter.interpret(blockOf(new OperationDummy())));
+        assertThrows(ConfigException.class, () -> blockInterpreter.interpret(TestCurrentRuntimeManager.getExecutionContext(), blockOf(new OperationDummy())));
     }
 
     @Test
@@ -110,7 +110,7 @@ class BlockOperationInterpreterTest {
     void shouldInterpretBlockOfSupportedOperations() {
         blockInterpreter = new BlockOperationInterpreterImpl(Set.of(OPERATION_A_INTERPRETER));
 
-        blockInterpreter.interpret(blockOf(new OperationDummy(), new OperationDummy()));
+        blockInterpreter.interpret(TestCurrentRuntimeManager.getExecutionContext(), blockOf(new OperationDummy(), new OperationDummy()));
 
         assertInterpreterWorked(OPERATION_A_INTERPRETER, 2);
     }
@@ -121,7 +121,7 @@ class BlockOperationInterpreterTest {
         blockInterpreter = new BlockOperationInterpreterImpl(Set.of(OPERATION_A_INTERPRETER));
         final Block block = blockOf(new OperationDummy(), new OperationDummy());
 
-        blockInterpreter.interpret(block);
+        blockInterpreter.interpret(TestCurrentRuntimeManager.getExecutionContext(), block);
 
         assertUpdateRuntimeWith(block.getOperations());
     }
@@ -19,9 +19,15 @@ package com.revenat.javamm.interpreter.component.impl;
 
 import com.revenat.javamm.code.fragment.Operation;
 import com.revenat.javamm.code.fragment.SourceLine;
+import com.revenat.javamm.code.fragment.function.DeveloperFunction;
+import com.revenat.javamm.code.fragment.function.OverloadableFunctionName;
+import com.revenat.javamm.code.fragment.operation.Block;
 import com.revenat.javamm.interpreter.component.FunctionInvoker;
+import com.revenat.javamm.interpreter.error.TerminateInterpreterException;
 import com.revenat.javamm.interpreter.model.CurrentRuntime;
 import com.revenat.javamm.interpreter.model.LocalContext;
+import com.revenat.javamm.interpreter.model.StackTraceItem;
+import com.revenat.javamm.interpreter.model.StackTraceSnapshot;
 import com.revenat.javamm.interpreter.test.doubles.LocalContextDummy;
 import com.revenat.juinit.addons.ReplaceCamelCase;
 import org.junit.jupiter.api.BeforeEach;
@@ -35,9 +41,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+
 import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.fail;
 
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 @DisplayNameGeneration(ReplaceCamelCase.class)
@@ -47,12 +58,20 @@ class CurrentRuntimeTest {
 
     private static final int ANY_MAX_STACK_SIZE = 10;
 
-    private static final SourceLine CURRENT_SOURCE_LINE = SourceLine.EMPTY_SOURCE_LINE;
+    private static final SourceLine DECLARATION_SOURCE_LINE = new SourceLine("test", 1, List.of("function", "test"));
+
+    private static final SourceLine CURRENT_SOURCE_LINE = new SourceLine("test", 2, List.of("println", "(", ")"));
 
     private static final LocalContext DUMMY_LOCAL_CONTEXT = new LocalContextDummy();
 
     private static final Operation OPERATION_STUB = () -> CURRENT_SOURCE_LINE;
 
+    private static final DeveloperFunction FUNCTION = new DeveloperFunction.Builder()
+        .setName(new SimpleFunctionName())
+        .setDeclarationSourceLine(DECLARATION_SOURCE_LINE)
+        .setBody(new Block(OPERATION_STUB, DECLARATION_SOURCE_LINE))
+        .build();
+
     @Mock
     private FunctionInvoker functionInvoker;
 
@@ -78,11 +97,20 @@ class CurrentRuntimeTest {
     @Test
     @Order(4)
     void shouldReturnCurrentSourceLineIfDefined() {
-        runtime.setCurrentSourceLine(CURRENT_SOURCE_LINE);
+        runtime.enterToFunction(FUNCTION);
+        runtime.setCurrentLineNumber(CURRENT_SOURCE_LINE.getLineNumber());
 
         assertThat(runtime.getCurrentSourceLine(), sameInstance(CURRENT_SOURCE_LINE));
     }
 
+    @Test
+    @Order(5)
+    void shouldReturnDeclarationSourceLineOfEnteredFunction() {
+        runtime.enterToFunction(FUNCTION);
+
+        assertThat(runtime.getCurrentSourceLine(), sameInstance(DECLARATION_SOURCE_LINE));
+    }
+
     @Test
     @Order(6)
     void shouldReturnCurrentLocalContextIfDefined() {
@@ -94,8 +122,102 @@ class CurrentRuntimeTest {
     @Test
     @Order(7)
     void shouldSetCurrentOperation() {
+        runtime.enterToFunction(FUNCTION);
         runtime.setCurrentOperation(OPERATION_STUB);
 
         assertThat(runtime.getCurrentSourceLine(), sameInstance(OPERATION_STUB.getSourceLine()));
     }
+
+    @Test
+    @Order(8)
+    void shouldFailToReleaseReturnValueIfNotSet() {
+        assertThrows(NullPointerException.class, () -> runtime.releaseReturnValue());
+    }
+
+    @Test
+    @Order(9)
+    void shouldReleaseReturnValueOnlyOnce() {
+        final Object returnValue = new Object();
+        runtime.setReturnValue(returnValue);
+
+        assertThat(runtime.releaseReturnValue(), sameInstance(returnValue));
+        assertThrows(NullPointerException.class, () -> runtime.releaseReturnValue());
+    }
+
+    @Test
+    @Order(10)
+    void shouldNotTerminateIfTerminationHasNotBeenRequested() {
+        for (int i = 0; i < 3 * CurrentRuntimeImpl.DEFAULT_TERMINATION_POLL_INTERVAL; i++) {
+            runtime.pollTermination();
+        }
+    }
+
+    @Test
+    @Order(11)
+    void shouldTerminateNoLaterThanAfterPollIntervalPollsSinceTerminationRequest() {
+        final int pollInterval = 16;
+        final CurrentRuntime currentRuntime = new CurrentRuntimeImpl(functionInvoker, ANY_MAX_STACK_SIZE, 0, pollInterval);
+        for (int i = 0; i < pollInterval / 2; i++) {
+            currentRuntime.pollTermination();
+        }
+        currentRuntime.requestTermination();
+
+        int polls = 0;
+        try {
+            while (polls <= pollInterval) {
+                polls++;
+                currentRuntime.pollTermination();
+            }
+        } catch (final TerminateInterpreterException e) {
+            assertThat(polls, lessThanOrEqualTo(pollInterval));
+            return;
+        }
+        fail("Runtime has not been terminated after " + polls + " polls");
+    }
+
+    @Test
+    @Order(12)
+    void canNotBeCreatedWithNonPositiveTerminationPollInterval() {
+        assertThrows(IllegalArgumentException.class, () -> new CurrentRuntimeImpl(functionInvoker, ANY_MAX_STACK_SIZE, 0, 0));
+    }
+
+    @Test
+    @Order(13)
+    void shouldKeepCapturedStackTraceWhenCallerFramesAreReused() {
+        runtime.enterToFunction(FUNCTION);
+        runtime.setCurrentLineNumber(CURRENT_SOURCE_LINE.getLineNumber());
+        runtime.enterToFunction(FUNCTION);
+        final StackTraceSnapshot snapshot = runtime.captureStackTrace();
+
+        runtime.exitFromFunction();
+        runtime.setCurrentLineNumber(DECLARATION_SOURCE_LINE.getLineNumber());
+        runtime.enterToFunction(FUNCTION);
+
+        final List<StackTraceItem> stackTrace = snapshot.getStackTrace();
+        assertEquals(2, stackTrace.size());
+        assertThat(stackTrace.get(0).getSourceLine(), sameInstance(DECLARATION_SOURCE_LINE));
+        assertThat(stackTrace.get(1).getSourceLine(), sameInstance(CURRENT_SOURCE_LINE));
+    }
+
+    @Test
+    @Order(14)
+    void shouldCaptureOnlySpecifiedNumberOfMostRecentFrames() {
+        runtime.enterToFunction(FUNCTION);
+        runtime.setCurrentLineNumber(DECLARATION_SOURCE_LINE.getLineNumber());
+        runtime.enterToFunction(FUNCTION);
+        runtime.setCurrentLineNumber(CURRENT_SOURCE_LINE.getLineNumber());
+        runtime.enterToFunction(FUNCTION);
+
+        final List<StackTraceItem> stackTrace = runtime.captureStackTrace(2).getStackTrace();
+
+        assertEquals(2, stackTrace.size());
+        assertThat(stackTrace.get(1).getSourceLine(), sameInstance(CURRENT_SOURCE_LINE));
+    }
+
+    private static class SimpleFunctionName extends OverloadableFunctionName {
+
+        private SimpleFunctionName() {
+            super("test", 0);
+        }
+    }
 }
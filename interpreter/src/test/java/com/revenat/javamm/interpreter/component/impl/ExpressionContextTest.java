@@ -21,7 +21,10 @@ import com.revenat.javamm.code.component.ExpressionContext;
 import com.revenat.javamm.code.exception.ConfigException;
 import com.revenat.javamm.interpreter.component.ExpressionEvaluator;
 import com.revenat.javamm.interpreter.component.ExpressionUpdater;
+import com.revenat.javamm.interpreter.model.CurrentRuntime;
+import com.revenat.javamm.interpreter.model.ExecutionContext;
 import com.revenat.javamm.interpreter.test.builder.ExpressionContextBuilder;
+import com.revenat.javamm.interpreter.test.doubles.CurrentRuntimeDummy;
 import com.revenat.javamm.interpreter.test.doubles.ExpressionDummy;
 import com.revenat.javamm.interpreter.test.doubles.ExpressionEvaluatorStub;
 import com.revenat.javamm.interpreter.test.doubles.ExpressionUpdaterSpy;
@@ -131,4 +134,14 @@ class ExpressionContextTest {
         assertThat(expressionUpdaterSpy.getLastUpdatedExpression(), sameInstance(DUMMY_UPDATABLE_EXPRESSION));
         assertThat(expressionUpdaterSpy.getLastUpdatedValue(), sameInstance(TEST_VALUE));
     }
+
+    @Test
+    @Order(7)
+    void shouldBeBoundToRuntimeOfTheInterpretation() {
+        final CurrentRuntime currentRuntime = new CurrentRuntimeDummy();
+
+        final ExecutionContext executionContext = new ExpressionContextBuilder().withCurrentRuntime(currentRuntime).build();
+
+        assertThat(executionContext.getCurrentRuntime(), sameInstance(currentRuntime));
+    }
 }
@@ -21,6 +21,7 @@ import com.revenat.javamm.code.fragment.SourceLine;
 import com.revenat.javamm.code.fragment.Variable;
 import com.revenat.javamm.interpreter.component.impl.error.JavammLineRuntimeError;
 import com.revenat.javamm.interpreter.model.LocalContext;
+import com.revenat.javamm.interpreter.model.TypedValue;
 import com.revenat.javamm.interpreter.test.doubles.VariableStub;
 import com.revenat.javamm.interpreter.test.helper.TestCurrentRuntimeManager;
 import com.revenat.juinit.addons.ReplaceCamelCase;
@@ -35,6 +36,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 
 import static com.revenat.javamm.interpreter.test.helper.CustomAsserts.assertErrorMessageContains;
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -45,9 +47,11 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 @DisplayNameGeneration(ReplaceCamelCase.class)
 @DisplayName("a local context")
 class LocalContextTest {
-    private static final Variable VARIABLE = new VariableStub("var");
+    private static final int FRAME_SIZE = 2;
 
-    private static final Variable FINAL = new VariableStub("final");
+    private static final Variable VARIABLE = new VariableStub("var", 0);
+
+    private static final Variable FINAL = new VariableStub("final", 1);
 
     private static final Object FINAL_VALUE = "final value";
 
@@ -80,7 +84,7 @@ class LocalContextTest {
 
         @BeforeEach
         void setUp() {
-            localContext = new LocalContextImpl();
+            localContext = new LocalContextImpl(FRAME_SIZE);
         }
 
         @Test
@@ -137,7 +141,7 @@ class LocalContextTest {
 
         @BeforeEach
         void setUp() {
-            localContext = new LocalContextImpl();
+            localContext = new LocalContextImpl(FRAME_SIZE);
             localContext.setFinalValue(FINAL, FINAL_VALUE);
         }
 
@@ -160,7 +164,7 @@ class LocalContextTest {
         @Test
         @Order(3)
         void shouldFailToDefineVariableWithSameName() {
-            final Variable nameLikeFinal = new VariableStub("final");
+            final Variable nameLikeFinal = new VariableStub("final", 1);
 
             final JavammLineRuntimeError e = assertThrows(
                 JavammLineRuntimeError.class,
@@ -177,7 +181,7 @@ class LocalContextTest {
 
         @BeforeEach
         void setUp() {
-            localContext = new LocalContextImpl();
+            localContext = new LocalContextImpl(FRAME_SIZE);
             localContext.setVariableValue(VARIABLE, VAR_VALUE);
         }
 
@@ -200,7 +204,7 @@ class LocalContextTest {
         @Test
         @Order(3)
         void shouldFailToDefineFinalWithSameName() {
-            final Variable nameLikeVar = new VariableStub("var");
+            final Variable nameLikeVar = new VariableStub("var", 0);
 
             final JavammLineRuntimeError e = assertThrows(
                 JavammLineRuntimeError.class,
@@ -209,4 +213,169 @@ class LocalContextTest {
             assertErrorMessageContains(e, "variable with same name is already defined");
         }
     }
+
+    @Nested
+    @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+    @DisplayName("when child local context created")
+    class WhenChildLocalContextCreatedTest {
+        private LocalContext childLocalContext;
+
+        @BeforeEach
+        void setUp() {
+            localContext = new LocalContextImpl(FRAME_SIZE);
+            localContext.setVariableValue(VARIABLE, VAR_VALUE);
+            childLocalContext = localContext.createChildLocalContext();
+        }
+
+        @Test
+        @Order(1)
+        void shouldUpdateVariableOfParentLocalContext() {
+            final String newVariableValue = "new variable value";
+
+            childLocalContext.setVariableValue(VARIABLE, newVariableValue);
+            childLocalContext.dispose();
+
+            assertValue(VARIABLE, newVariableValue);
+        }
+
+        @Test
+        @Order(2)
+        void shouldUndefineFinalDefinedInChildWhenDisposed() {
+            childLocalContext.setFinalValue(FINAL, FINAL_VALUE);
+            assertDefined(FINAL);
+
+            childLocalContext.dispose();
+
+            assertNotDefined(FINAL);
+            assertDefined(VARIABLE);
+        }
+
+        @Test
+        @Order(3)
+        void shouldAllowToDefineFinalAgainAfterDisposed() {
+            childLocalContext.setFinalValue(FINAL, FINAL_VALUE);
+            childLocalContext.dispose();
+
+            final String anotherFinalValue = "another final value";
+            localContext.createChildLocalContext().setFinalValue(FINAL, anotherFinalValue);
+
+            assertValue(FINAL, anotherFinalValue);
+        }
+    }
+
+    @Nested
+    @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+    @DisplayName("when typed values are used")
+    class WhenTypedValuesUsedTest {
+        private final TypedValue value = new TypedValue();
+
+        @BeforeEach
+        void setUp() {
+            localContext = new LocalContextImpl(FRAME_SIZE);
+        }
+
+        @Test
+        @Order(1)
+        void shouldDefineVariableWithUnboxedInteger() {
+            value.setInteger(1000);
+
+            localContext.setVariableValue(VARIABLE, value);
+
+            assertDefined(VARIABLE);
+            assertThat(localContext.getVariableValue(VARIABLE), is(1000));
+        }
+
+        @Test
+        @Order(2)
+        void shouldReturnUnboxedDoubleAsTypedValue() {
+            value.setDouble(2.5);
+            localContext.setVariableValue(VARIABLE, value);
+
+            final TypedValue actual = new TypedValue();
+            localContext.getVariableValue(VARIABLE, actual);
+
+            assertTrue(actual.isUnboxed());
+            assertThat(actual.getDouble(), is(2.5));
+        }
+
+        @Test
+        @Order(3)
+        void shouldBoxUnboxedValueOnlyOnce() {
+            value.setInteger(1000);
+            localContext.setVariableValue(VARIABLE, value);
+
+            assertValue(VARIABLE, localContext.getVariableValue(VARIABLE));
+        }
+
+        @Test
+        @Order(4)
+        void shouldReturnObjectValueAsTypedValue() {
+            localContext.setVariableValue(VARIABLE, VAR_VALUE);
+
+            localContext.getVariableValue(VARIABLE, value);
+
+            assertThat(value.toObject(), sameInstance(VAR_VALUE));
+        }
+
+        @Test
+        @Order(5)
+        void shouldFailToChangeFinalWithTypedValue() {
+            localContext.setFinalValue(FINAL, FINAL_VALUE);
+            value.setInteger(1);
+
+            final JavammLineRuntimeError e = assertThrows(JavammLineRuntimeError.class,
+                () -> localContext.setVariableValue(FINAL, value));
+
+            assertErrorMessageContains(e, "can not be changed");
+        }
+
+        @Test
+        @Order(6)
+        void shouldUndefineUnboxedVariableDefinedInChildWhenDisposed() {
+            final LocalContext childLocalContext = localContext.createChildLocalContext();
+            value.setInteger(1);
+
+            childLocalContext.setVariableValue(VARIABLE, value);
+            childLocalContext.dispose();
+
+            assertNotDefined(VARIABLE);
+        }
+    }
+
+    @Nested
+    @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+    @DisplayName("when built for verified function")
+    class WhenVerifiedTest {
+
+        @BeforeEach
+        void setUp() {
+            localContext = new LocalContextImpl(FRAME_SIZE, true);
+            localContext.setFinalValue(FINAL, FINAL_VALUE);
+        }
+
+        @Test
+        @Order(1)
+        void shouldGetValueForThatFinal() {
+            assertValue(FINAL, FINAL_VALUE);
+        }
+
+        @Test
+        @Order(2)
+        void shouldNotCheckFinalsSinceCompilerHasVerifiedThem() {
+            localContext.setVariableValue(FINAL, VAR_VALUE);
+
+            assertValue(FINAL, VAR_VALUE);
+        }
+
+        @Test
+        @Order(3)
+        void shouldUndefineVariablesOfDisposedChildContext() {
+            final LocalContext childContext = localContext.createChildLocalContext();
+            childContext.setVariableValue(VARIABLE, VAR_VALUE);
+
+            childContext.dispose();
+
+            assertNotDefined(VARIABLE);
+        }
+    }
 }
@@ -0,0 +1,126 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.interpreter.component.impl;
+
+import com.revenat.javamm.code.fragment.SourceLine;
+import com.revenat.javamm.code.fragment.function.DeveloperFunction;
+import com.revenat.javamm.code.fragment.function.OverloadableFunctionName;
+import com.revenat.javamm.code.fragment.operation.Block;
+import com.revenat.javamm.interpreter.model.MemoizationStatistics;
+import com.revenat.juinit.addons.ReplaceCamelCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayNameGeneration(ReplaceCamelCase.class)
+@DisplayName("a memoization cache")
+class MemoizationCacheTest {
+
+    private final DeveloperFunction pureFunction = createFunction("pure").asPure();
+
+    @Test
+    @Order(1)
+    void shouldNotAllowNegativeSize() {
+        assertThrows(IllegalArgumentException.class, () -> new MemoizationCache(-1));
+    }
+
+    @Test
+    @Order(2)
+    void shouldBeApplicableOnlyToPureFunctionsIfEnabled() {
+        assertTrue(new MemoizationCache(1).isApplicable(pureFunction));
+        assertFalse(new MemoizationCache(1).isApplicable(createFunction("impure")));
+        assertFalse(new MemoizationCache(0).isApplicable(pureFunction));
+    }
+
+    @Test
+    @Order(3)
+    void shouldCountHitsAndMisses() {
+        final MemoizationCache cache = new MemoizationCache(10);
+
+        assertSame(MemoizationCache.NOT_CACHED, cache.get(pureFunction, new Object[]{1}));
+        cache.put(pureFunction, new Object[]{1}, 2);
+        assertEquals(2, cache.get(pureFunction, new Object[]{1}));
+        assertSame(MemoizationCache.NOT_CACHED, cache.get(pureFunction, new Object[]{1.0}));
+
+        final MemoizationStatistics statistics = cache.getStatistics();
+        assertEquals(1, statistics.getHitCount());
+        assertEquals(2, statistics.getMissCount());
+        assertEquals(1, statistics.getCachedResultCount());
+    }
+
+    @Test
+    @Order(4)
+    void shouldCacheNullResult() {
+        final MemoizationCache cache = new MemoizationCache(10);
+
+        cache.put(pureFunction, new Object[]{null}, null);
+
+        assertNull(cache.get(pureFunction, new Object[]{null}));
+    }
+
+    @Test
+    @Order(5)
+    void shouldEvictLeastRecentlyUsedResult() {
+        final MemoizationCache cache = new MemoizationCache(2);
+        cache.put(pureFunction, new Object[]{1}, 1);
+        cache.put(pureFunction, new Object[]{2}, 2);
+        cache.get(pureFunction, new Object[]{1});
+
+        cache.put(pureFunction, new Object[]{3}, 3);
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.get(pureFunction, new Object[]{1}));
+        assertSame(MemoizationCache.NOT_CACHED, cache.get(pureFunction, new Object[]{2}));
+    }
+
+    @Test
+    @Order(6)
+    void shouldNotShareResultsOfDifferentFunctions() {
+        final MemoizationCache cache = new MemoizationCache(10);
+        cache.put(pureFunction, new Object[]{1}, 1);
+
+        assertSame(MemoizationCache.NOT_CACHED, cache.get(createFunction("pure").asPure(), new Object[]{1}));
+    }
+
+    private DeveloperFunction createFunction(final String name) {
+        return new DeveloperFunction.Builder()
+            .setName(new SimpleFunctionName(name))
+            .setBody(new Block(List.of(), SourceLine.EMPTY_SOURCE_LINE))
+            .build();
+    }
+
+    private static class SimpleFunctionName extends OverloadableFunctionName {
+
+        private SimpleFunctionName(final String name) {
+            super(name, 1);
+        }
+    }
+}
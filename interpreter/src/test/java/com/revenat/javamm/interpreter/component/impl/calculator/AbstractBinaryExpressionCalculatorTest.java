@@ -22,6 +22,7 @@ import com.revenat.javamm.code.fragment.Expression;
 import com.revenat.javamm.code.fragment.SourceLine;
 import com.revenat.javamm.code.fragment.operator.BinaryOperator;
 import com.revenat.javamm.interpreter.component.BinaryExpressionCalculator;
+import com.revenat.javamm.interpreter.model.TypedValue;
 import com.revenat.javamm.interpreter.test.doubles.ExpressionContextDummy;
 import com.revenat.javamm.interpreter.test.doubles.ExpressionStub;
 import com.revenat.javamm.interpreter.test.helper.TestCurrentRuntimeManager;
@@ -78,6 +79,24 @@ public abstract class AbstractBinaryExpressionCalculatorTest {
         return calculator.calculate(EXPRESSION_CONTEXT_DUMMY, operand1, operand2);
     }
 
+    protected Object calculateTyped(final Object operand1, final Object operand2) {
+        final TypedValue result = new TypedValue();
+        calculator.calculate(EXPRESSION_CONTEXT_DUMMY, typedValue(operand1), typedValue(operand2), result);
+        return result.toObject();
+    }
+
+    protected TypedValue typedValue(final Object value) {
+        final TypedValue typedValue = new TypedValue();
+        if (value instanceof Integer) {
+            typedValue.setInteger((Integer) value);
+        } else if (value instanceof Double) {
+            typedValue.setDouble((Double) value);
+        } else {
+            typedValue.setObject(value);
+        }
+        return typedValue;
+    }
+
     protected void assertCalculatorSupportsOperator(final BinaryExpressionCalculator calc, final BinaryOperator operator) {
         assertThat(calc.getOperator(), is(operator));
     }
@@ -23,6 +23,7 @@ import com.revenat.javamm.code.fragment.SourceLine;
 import com.revenat.javamm.code.fragment.operator.UnaryOperator;
 import com.revenat.javamm.interpreter.component.BinaryExpressionCalculator;
 import com.revenat.javamm.interpreter.component.UnaryExpressionCalculator;
+import com.revenat.javamm.interpreter.model.TypedValue;
 import com.revenat.javamm.interpreter.test.doubles.ExpressionContextDummy;
 import com.revenat.javamm.interpreter.test.doubles.ExpressionStub;
 import com.revenat.javamm.interpreter.test.helper.TestCurrentRuntimeManager;
@@ -78,4 +79,22 @@ public abstract class AbstractUnaryExpressionCalculatorTest {
     protected Object calculate(final Object operand) {
         return calculator.calculate(EXPRESSION_CONTEXT_DUMMY, expressionWithValue(operand));
     }
+
+    protected Object calculateTyped(final Object operand) {
+        final TypedValue result = new TypedValue();
+        calculator.calculate(EXPRESSION_CONTEXT_DUMMY, typedValue(operand), result);
+        return result.toObject();
+    }
+
+    protected TypedValue typedValue(final Object value) {
+        final TypedValue typedValue = new TypedValue();
+        if (value instanceof Integer) {
+            typedValue.setInteger((Integer) value);
+        } else if (value instanceof Double) {
+            typedValue.setDouble((Double) value);
+        } else {
+            typedValue.setObject(value);
+        }
+        return typedValue;
+    }
 }
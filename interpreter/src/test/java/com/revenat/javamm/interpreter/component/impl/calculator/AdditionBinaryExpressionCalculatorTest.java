@@ -126,6 +126,27 @@ class AdditionBinaryExpressionCalculatorTest extends AbstractBinaryExpressionCal
             getType(value1), getType(value2));
     }
 
+    @Test
+    @Order(10)
+    void shouldCalculateTypedOperandsLikeBoxedOnes() {
+        assertThat(calculateTyped(1, 2), is(3));
+        assertThat(calculateTyped(1.0, 2.5), is(3.5));
+        assertThat(calculateTyped(2, 5.5), is(7.5));
+        assertThat(calculateTyped("Hello ", 10), is("Hello 10"));
+        assertThat(calculateTyped(5.5, " hello"), is("5.5 hello"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("unsupportedPairs")
+    @Order(11)
+    void shouldFailToCalculateAdditionOfUnsupportedTypedOperands(final Object value1, final Object value2) {
+        final JavammLineRuntimeError e = assertThrows(JavammLineRuntimeError.class,
+            () -> calculateTyped(value1, value2));
+
+        assertErrorMessageContains(e, "Operator '+' is not supported for types: %s and %s",
+            getType(value1), getType(value2));
+    }
+
     @Override
     protected BinaryExpressionCalculator createCalculatorUnderTest() {
         return AdditionBinaryExpressionCalculator.createNormalCalculator();
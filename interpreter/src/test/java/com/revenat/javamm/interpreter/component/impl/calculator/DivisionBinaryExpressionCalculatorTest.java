@@ -108,6 +108,22 @@ class DivisionBinaryExpressionCalculatorTest extends AbstractBinaryExpressionCal
             getType(value1), getType(value2));
     }
 
+    @Test
+    @Order(8)
+    void shouldCalculateTypedOperandsLikeBoxedOnes() {
+        assertThat(calculateTyped(7, 2), is(3));
+        assertThat(calculateTyped(7.0, 2), is(3.5));
+        assertThat(calculateTyped(3.5, 0), is(POSITIVE_INFINITY));
+    }
+
+    @Test
+    @Order(9)
+    void shouldFailIfDivideTypedIntegerByZero() {
+        final JavammLineRuntimeError e = assertThrows(JavammLineRuntimeError.class, () -> calculateTyped(5, 0));
+
+        assertErrorMessageContains(e, "/ by zero");
+    }
+
     @Override
     protected BinaryExpressionCalculator createCalculatorUnderTest() {
         return DivisionBinaryExpressionCalculator.createNormalCalculator();
@@ -68,6 +68,23 @@ class IncrementUnaryExpressionCalculatorTest extends AbstractUnaryExpressionCalc
         assertErrorMessageContains(e, "Operator '++' is not supported for type: %s", getType(value));
     }
 
+    @Test
+    @Order(4)
+    void shouldReturnIncrementedValueByOneForTypedNumbers() {
+        assertThat(calculateTyped(10), is(11));
+        assertThat(calculateTyped(-10), is(-9));
+        assertThat(calculateTyped(2.5), is(3.5));
+    }
+
+    @ParameterizedTest
+    @MethodSource("unsupportedTypesProvider")
+    @Order(5)
+    void shouldFailIfTypedValueNotANumber(final Object value) {
+        final JavammLineRuntimeError e = assertThrows(JavammLineRuntimeError.class, () -> calculateTyped(value));
+
+        assertErrorMessageContains(e, "Operator '++' is not supported for type: %s", getType(value));
+    }
+
     @Override
     protected UnaryExpressionCalculator createCalculatorUnderTest() {
         return new IncrementUnaryExpressionCalculator();
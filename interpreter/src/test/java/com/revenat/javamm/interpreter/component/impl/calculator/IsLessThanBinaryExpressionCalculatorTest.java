@@ -83,6 +83,27 @@ class IsLessThanBinaryExpressionCalculatorTest extends AbstractBinaryExpressionC
             getType(value1), getType(value2));
     }
 
+    @Test
+    @Order(4)
+    void shouldCalculateLessThanOperationForTypedNumbers() {
+        assertThat(calculateTyped(0, 0.001), is(true));
+        assertThat(calculateTyped(2, 1), is(false));
+        assertThat(calculateTyped(5, 5.0), is(false));
+        assertThat(calculateTyped(Double.NaN, 1), is(true));
+    }
+
+    @ParameterizedTest
+    @MethodSource("unsupportedPairsProvider")
+    @Order(5)
+    void shouldFailToCalculateLessThanOperationForTypedValuesOtherThanNumbers(final Object value1,
+                                                                              final Object value2) {
+        final JavammLineRuntimeError e = assertThrows(JavammLineRuntimeError.class,
+            () -> calculateTyped(value1, value2));
+
+        CustomAsserts.assertErrorMessageContains(e, "Operator '<' is not supported for types: %s and %s",
+            getType(value1), getType(value2));
+    }
+
     @Override
     protected BinaryExpressionCalculator createCalculatorUnderTest() {
         return new IsLessThanBinaryExpressionCalculator();
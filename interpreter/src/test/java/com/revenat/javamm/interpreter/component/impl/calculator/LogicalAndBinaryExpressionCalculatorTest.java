@@ -107,6 +107,13 @@ public class LogicalAndBinaryExpressionCalculatorTest extends AbstractBinaryExpr
             getType(operand1), getType(operand2));
     }
 
+    @Test
+    @Order(7)
+    void shouldReturnFalseForTypedOperandsIfFirstIsFalse() {
+        assertThat(calculateTyped(false, 10), is(false));
+        assertThat(calculateTyped(true, true), is(true));
+    }
+
     @Override
     protected BinaryExpressionCalculator createCalculatorUnderTest() {
         return new LogicalAndBinaryExpressionCalculator();
@@ -0,0 +1,160 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.interpreter.component.impl.closure;
+
+import com.revenat.javamm.code.component.ExpressionContext;
+import com.revenat.javamm.code.fragment.SourceLine;
+import com.revenat.javamm.interpreter.component.BinaryExpressionCalculator;
+import com.revenat.javamm.interpreter.component.impl.calculator.arithmetic.binary.AdditionBinaryExpressionCalculator;
+import com.revenat.javamm.interpreter.component.impl.calculator.arithmetic.binary.DivisionBinaryExpressionCalculator;
+import com.revenat.javamm.interpreter.component.impl.calculator.logical.bianry.LogicalAndBinaryExpressionCalculator;
+import com.revenat.javamm.interpreter.component.impl.calculator.predicate.IsLessThanBinaryExpressionCalculator;
+import com.revenat.javamm.interpreter.component.impl.error.JavammLineRuntimeError;
+import com.revenat.javamm.interpreter.test.doubles.ExpressionContextDummy;
+import com.revenat.javamm.interpreter.test.doubles.ExpressionStub;
+import com.revenat.javamm.interpreter.test.helper.TestCurrentRuntimeManager;
+import com.revenat.juinit.addons.ReplaceCamelCase;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import static com.revenat.javamm.interpreter.test.helper.CustomAsserts.assertErrorMessageContains;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayNameGeneration(ReplaceCamelCase.class)
+@DisplayName("a binary operator site")
+class BinaryOperatorSiteTest {
+    private static final ExpressionContext EXPRESSION_CONTEXT_DUMMY = new ExpressionContextDummy();
+
+    @BeforeAll
+    static void setupCurrentRuntimeStub() {
+        TestCurrentRuntimeManager.setFakeCurrentRuntime(SourceLine.EMPTY_SOURCE_LINE);
+    }
+
+    @AfterAll
+    static void releaseCurrentRuntime() {
+        TestCurrentRuntimeManager.releaseFakeCurrentRuntime();
+    }
+
+    private static Object calculate(final BinaryOperatorSite site, final Object value1, final Object value2) {
+        return site.calculate(EXPRESSION_CONTEXT_DUMMY, new ExpressionStub(value1), new ExpressionStub(value2));
+    }
+
+    private static BinaryOperatorSite createSite(final BinaryExpressionCalculator calculator) {
+        return new BinaryOperatorSite(calculator);
+    }
+
+    @Test
+    @Order(1)
+    void shouldBeUninitializedBeforeFirstCalculation() {
+        final BinaryOperatorSite site = createSite(AdditionBinaryExpressionCalculator.createNormalCalculator());
+
+        assertThat(site.getSpecialization(), is(Specialization.UNINITIALIZED));
+    }
+
+    @Test
+    @Order(2)
+    void shouldSpecializeForIntegers() {
+        final BinaryOperatorSite site = createSite(AdditionBinaryExpressionCalculator.createNormalCalculator());
+
+        assertThat(calculate(site, 1, 2), is(3));
+        assertThat(site.getSpecialization(), is(Specialization.INTEGER));
+    }
+
+    @Test
+    @Order(3)
+    void shouldWidenIntegerSpecializationToNumbers() {
+        final BinaryOperatorSite site = createSite(AdditionBinaryExpressionCalculator.createNormalCalculator());
+        calculate(site, 1, 2);
+
+        assertThat(calculate(site, 1, 2.5), is(3.5));
+        assertThat(site.getSpecialization(), is(Specialization.NUMBER));
+        assertThat(calculate(site, 3, 4), is(7));
+    }
+
+    @Test
+    @Order(4)
+    void shouldSpecializeAdditionForStrings() {
+        final BinaryOperatorSite site = createSite(AdditionBinaryExpressionCalculator.createNormalCalculator());
+
+        assertThat(calculate(site, "a", 1), is("a1"));
+        assertThat(calculate(site, null, "b"), is("nullb"));
+        assertThat(site.getSpecialization(), is(Specialization.STRING));
+    }
+
+    @Test
+    @Order(5)
+    void shouldDeoptimizeToGenericCalculatorWhenNewTypeShowsUp() {
+        final BinaryOperatorSite site = createSite(AdditionBinaryExpressionCalculator.createNormalCalculator());
+        calculate(site, 1, 2);
+
+        assertThat(calculate(site, "a", 2), is("a2"));
+        assertThat(site.getSpecialization(), is(Specialization.GENERIC));
+        assertThat(calculate(site, 2, 3), is(5));
+    }
+
+    @Test
+    @Order(6)
+    void shouldReportCalculatorErrorForUnsupportedTypes() {
+        final BinaryOperatorSite site = createSite(AdditionBinaryExpressionCalculator.createNormalCalculator());
+        calculate(site, 1, 2);
+
+        final JavammLineRuntimeError e = assertThrows(JavammLineRuntimeError.class, () -> calculate(site, 1, true));
+
+        assertErrorMessageContains(e, "Operator '+' is not supported for types: integer and boolean");
+    }
+
+    @Test
+    @Order(7)
+    void shouldKeepIntegerDivisionByZeroError() {
+        final BinaryOperatorSite site = createSite(DivisionBinaryExpressionCalculator.createNormalCalculator());
+        calculate(site, 4, 2);
+
+        final JavammLineRuntimeError e = assertThrows(JavammLineRuntimeError.class, () -> calculate(site, 4, 0));
+
+        assertErrorMessageContains(e, "/ by zero");
+        assertThat(site.getSpecialization(), is(Specialization.INTEGER));
+    }
+
+    @Test
+    @Order(8)
+    void shouldCompareNumbersLikeCalculator() {
+        final BinaryOperatorSite site = createSite(new IsLessThanBinaryExpressionCalculator());
+
+        assertThat(calculate(site, 1, 2), is(true));
+        assertThat(calculate(site, 2.5, 2), is(false));
+        assertThat(calculate(site, Double.NaN, 2), is(true));
+    }
+
+    @Test
+    @Order(9)
+    void shouldAlwaysUseCalculatorForOperatorsWithoutSpecializations() {
+        final BinaryOperatorSite site = createSite(new LogicalAndBinaryExpressionCalculator());
+
+        assertThat(calculate(site, false, 10), is(false));
+        assertThat(site.getSpecialization(), is(Specialization.GENERIC));
+    }
+}
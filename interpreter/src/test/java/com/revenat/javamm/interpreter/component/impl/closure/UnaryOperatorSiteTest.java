@@ -0,0 +1,105 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.interpreter.component.impl.closure;
+
+import com.revenat.javamm.code.component.ExpressionContext;
+import com.revenat.javamm.code.fragment.SourceLine;
+import com.revenat.javamm.interpreter.component.impl.calculator.arithmetic.unary.IncrementUnaryExpressionCalculator;
+import com.revenat.javamm.interpreter.component.impl.calculator.arithmetic.unary.MinusUnaryExpressionCalculator;
+import com.revenat.javamm.interpreter.component.impl.calculator.logical.unary.LogicalNotUnaryExpressionCalculator;
+import com.revenat.javamm.interpreter.component.impl.error.JavammLineRuntimeError;
+import com.revenat.javamm.interpreter.test.doubles.ExpressionContextDummy;
+import com.revenat.javamm.interpreter.test.doubles.ExpressionStub;
+import com.revenat.javamm.interpreter.test.helper.TestCurrentRuntimeManager;
+import com.revenat.juinit.addons.ReplaceCamelCase;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import static com.revenat.javamm.interpreter.test.helper.CustomAsserts.assertErrorMessageContains;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayNameGeneration(ReplaceCamelCase.class)
+@DisplayName("an unary operator site")
+class UnaryOperatorSiteTest {
+    private static final ExpressionContext EXPRESSION_CONTEXT_DUMMY = new ExpressionContextDummy();
+
+    @BeforeAll
+    static void setupCurrentRuntimeStub() {
+        TestCurrentRuntimeManager.setFakeCurrentRuntime(SourceLine.EMPTY_SOURCE_LINE);
+    }
+
+    @AfterAll
+    static void releaseCurrentRuntime() {
+        TestCurrentRuntimeManager.releaseFakeCurrentRuntime();
+    }
+
+    private static Object calculate(final UnaryOperatorSite site, final Object value) {
+        return site.calculate(EXPRESSION_CONTEXT_DUMMY, new ExpressionStub(value));
+    }
+
+    @Test
+    @Order(1)
+    void shouldSpecializeIncrementForIntegersAndWidenToDoubles() {
+        final UnaryOperatorSite site = new UnaryOperatorSite(new IncrementUnaryExpressionCalculator());
+
+        assertThat(calculate(site, 1), is(2));
+        assertThat(site.getSpecialization(), is(Specialization.INTEGER));
+        assertThat(calculate(site, 1.5), is(2.5));
+        assertThat(site.getSpecialization(), is(Specialization.NUMBER));
+        assertThat(calculate(site, 5), is(6));
+    }
+
+    @Test
+    @Order(2)
+    void shouldNegateNumbers() {
+        final UnaryOperatorSite site = new UnaryOperatorSite(new MinusUnaryExpressionCalculator());
+
+        assertThat(calculate(site, 1), is(-1));
+        assertThat(calculate(site, -2.5), is(2.5));
+    }
+
+    @Test
+    @Order(3)
+    void shouldDeoptimizeAndReportCalculatorErrorForUnsupportedType() {
+        final UnaryOperatorSite site = new UnaryOperatorSite(new IncrementUnaryExpressionCalculator());
+        calculate(site, 1);
+
+        final JavammLineRuntimeError e = assertThrows(JavammLineRuntimeError.class, () -> calculate(site, "1"));
+
+        assertErrorMessageContains(e, "Operator '++' is not supported for type: string");
+        assertThat(site.getSpecialization(), is(Specialization.GENERIC));
+    }
+
+    @Test
+    @Order(4)
+    void shouldAlwaysUseCalculatorForOperatorsWithoutSpecializations() {
+        final UnaryOperatorSite site = new UnaryOperatorSite(new LogicalNotUnaryExpressionCalculator());
+
+        assertThat(calculate(site, true), is(false));
+        assertThat(site.getSpecialization(), is(Specialization.GENERIC));
+    }
+}
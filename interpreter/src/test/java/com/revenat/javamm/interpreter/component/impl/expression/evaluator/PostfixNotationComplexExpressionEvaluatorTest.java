@@ -0,0 +1,160 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.interpreter.component.impl.expression.evaluator;
+
+import com.revenat.javamm.code.component.ExpressionContext;
+import com.revenat.javamm.code.fragment.Expression;
+import com.revenat.javamm.code.fragment.Lexeme;
+import com.revenat.javamm.code.fragment.expression.PostfixNotationComplexExpression;
+import com.revenat.javamm.code.fragment.operator.BinaryOperator;
+import com.revenat.javamm.code.fragment.operator.UnaryOperator;
+import com.revenat.javamm.interpreter.component.BinaryExpressionCalculator;
+import com.revenat.javamm.interpreter.component.CalculatorFacade;
+import com.revenat.javamm.interpreter.component.UnaryExpressionCalculator;
+import com.revenat.javamm.interpreter.model.ExecutionContext;
+import com.revenat.javamm.interpreter.test.doubles.ExecutionContextStub;
+import com.revenat.javamm.interpreter.test.doubles.ExpressionStub;
+import com.revenat.juinit.addons.ReplaceCamelCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.List;
+
+import static com.revenat.javamm.code.fragment.operator.BinaryOperator.ARITHMETIC_ADDITION;
+import static com.revenat.javamm.code.fragment.operator.BinaryOperator.ARITHMETIC_MULTIPLICATION;
+import static com.revenat.javamm.code.fragment.operator.UnaryOperator.ARITHMETICAL_UNARY_MINUS;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayNameGeneration(ReplaceCamelCase.class)
+@DisplayName("a postfix notation complex expression evaluator")
+class PostfixNotationComplexExpressionEvaluatorTest {
+    private static final ExecutionContext EXECUTION_CONTEXT = new ExecutionContextStub();
+
+    private PostfixNotationComplexExpressionEvaluator expressionEvaluator;
+
+    @BeforeEach
+    void setUp() {
+        expressionEvaluator = new PostfixNotationComplexExpressionEvaluator(new IntegerCalculatorFacadeStub());
+    }
+
+    @Test
+    @Order(1)
+    void shouldDefineClassForExpressionItCanEvaluate() {
+        assertThat(expressionEvaluator.getExpressionClass(), is(PostfixNotationComplexExpression.class));
+    }
+
+    @Test
+    @Order(2)
+    void shouldEvaluateBinaryOperations() {
+        final PostfixNotationComplexExpression expression = createPostfixExpression("2 * 3 + 4",
+            value(2), value(3), ARITHMETIC_MULTIPLICATION, value(4), ARITHMETIC_ADDITION);
+
+        assertThat(expressionEvaluator.evaluate(EXECUTION_CONTEXT, expression), is(10));
+    }
+
+    @Test
+    @Order(3)
+    void shouldEvaluateUnaryOperations() {
+        final PostfixNotationComplexExpression expression = createPostfixExpression("-(1 + 2)",
+            value(1), value(2), ARITHMETIC_ADDITION, ARITHMETICAL_UNARY_MINUS);
+
+        assertThat(expressionEvaluator.evaluate(EXECUTION_CONTEXT, expression), is(-3));
+    }
+
+    @Test
+    @Order(4)
+    void shouldEvaluateSameExpressionRepeatedly() {
+        final PostfixNotationComplexExpression expression = createPostfixExpression("1 + (2 + (3 + 4))",
+            value(1), value(2), value(3), value(4), ARITHMETIC_ADDITION, ARITHMETIC_ADDITION, ARITHMETIC_ADDITION);
+
+        assertThat(expressionEvaluator.evaluate(EXECUTION_CONTEXT, expression), is(10));
+        assertThat(expressionEvaluator.evaluate(EXECUTION_CONTEXT, expression), is(10));
+    }
+
+    @Test
+    @Order(5)
+    void shouldKeepIntermediateResultsIntactDuringNestedEvaluation() {
+        final PostfixNotationComplexExpression nestedExpression = createPostfixExpression("10 * 2 + 40",
+            value(10), value(2), ARITHMETIC_MULTIPLICATION, value(40), ARITHMETIC_ADDITION);
+        final Expression nestedOperand = new Expression() {
+            @Override
+            public Object getValue(final ExpressionContext expressionContext) {
+                return expressionEvaluator.evaluate(ExecutionContext.of(expressionContext), nestedExpression);
+            }
+        };
+        final PostfixNotationComplexExpression expression = createPostfixExpression("(1 + 2) + nested",
+            value(1), value(2), ARITHMETIC_ADDITION, nestedOperand, ARITHMETIC_ADDITION);
+
+        assertThat(expressionEvaluator.evaluate(EXECUTION_CONTEXT, expression), is(63));
+    }
+
+    private static Expression value(final Object value) {
+        return new ExpressionStub(value);
+    }
+
+    private static PostfixNotationComplexExpression createPostfixExpression(final String originalExpression,
+                                                                            final Lexeme... lexemes) {
+        return new PostfixNotationComplexExpression(List.of(lexemes), originalExpression);
+    }
+
+    /**
+     * Supports integer addition, multiplication and negation only. Evaluates the second
+     * operand before the first one to expose any corruption of already calculated operands.
+     */
+    private static final class IntegerCalculatorFacadeStub implements CalculatorFacade {
+
+        @Override
+        public Object calculate(final ExpressionContext expressionContext,
+                                final Expression operand1,
+                                final BinaryOperator operator,
+                                final Expression operand2) {
+            final int value2 = (Integer) operand2.getValue(expressionContext);
+            final int value1 = (Integer) operand1.getValue(expressionContext);
+            return operator == ARITHMETIC_ADDITION ? value1 + value2 : value1 * value2;
+        }
+
+        @Override
+        public Object calculate(final ExpressionContext expressionContext,
+                                final UnaryOperator operator,
+                                final Expression operand) {
+            return -(Integer) operand.getValue(expressionContext);
+        }
+
+        @Override
+        public BinaryExpressionCalculator getCalculator(final BinaryOperator operator) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public UnaryExpressionCalculator getCalculator(final UnaryOperator operator) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean isTrue(final ExpressionContext expressionContext, final Expression expression) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
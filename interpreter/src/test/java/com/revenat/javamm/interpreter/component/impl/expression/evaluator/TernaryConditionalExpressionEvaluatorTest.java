@@ -78,8 +78,6 @@ class TernaryConditionalExpressionEvaluatorTest {
     void setUp() {
         final CalculatorFacade calculatorFacade = createCalculatorStub();
         expressionEvaluator = new TernaryConditionalExpressionEvaluator(calculatorFacade);
-        expressionEvaluator.setExpressionContext(mock(ExpressionContext.class));
-
     }
 
     @Test
@@ -93,7 +91,7 @@ class TernaryConditionalExpressionEvaluatorTest {
     void shouldReturnTrueClauseValueIfTernaryExpressionPredicateEvaluatesToTrue() {
         final TernaryConditionalExpression ternaryExpression = createTernaryExpression(true, TRUE_CLAUSE_VALUE, FALSE_CLAUSE_VALUE);
 
-        final Object result = expressionEvaluator.evaluate(ternaryExpression);
+        final Object result = expressionEvaluator.evaluate(TestCurrentRuntimeManager.getExecutionContext(), ternaryExpression);
 
         assertThat(result, is(TRUE_CLAUSE_VALUE));
     }
@@ -103,7 +101,7 @@ class TernaryConditionalExpressionEvaluatorTest {
     void shouldReturnFalseClauseValueIfTernaryExpressionPredicateEvaluatesToFalse() {
         final TernaryConditionalExpression ternaryExpression = createTernaryExpression(false, TRUE_CLAUSE_VALUE, FALSE_CLAUSE_VALUE);
 
-        final Object result = expressionEvaluator.evaluate(ternaryExpression);
+        final Object result = expressionEvaluator.evaluate(TestCurrentRuntimeManager.getExecutionContext(), ternaryExpression);
 
         assertThat(result, is(FALSE_CLAUSE_VALUE));
     }
@@ -114,7 +112,8 @@ class TernaryConditionalExpressionEvaluatorTest {
         final TernaryConditionalExpression ternaryExpression =
             createTernaryExpression(ANY_NON_BOOLEAN_VALUE, TRUE_CLAUSE_VALUE, FALSE_CLAUSE_VALUE);
 
-        final JavammLineRuntimeError e = assertThrows(JavammLineRuntimeError.class, () -> expressionEvaluator.evaluate(ternaryExpression));
+        final JavammLineRuntimeError e = assertThrows(JavammLineRuntimeError.class,
+            () -> expressionEvaluator.evaluate(TestCurrentRuntimeManager.getExecutionContext(), ternaryExpression));
 
         CustomAsserts.assertErrorMessageContains(e, "Condition expression should be boolean");
     }
@@ -78,7 +78,7 @@ class VariableExpressionEvaluatorTest {
 
         assertThrows(
             JavammLineRuntimeError.class,
-            () -> evaluator.evaluate(VARIABLE_EXPRESSION));
+            () -> evaluator.evaluate(TestCurrentRuntimeManager.getExecutionContext(), VARIABLE_EXPRESSION));
     }
 
     @Test
@@ -87,7 +87,7 @@ class VariableExpressionEvaluatorTest {
         TestCurrentRuntimeManager.getLocalContextSpy().setVariableDefined(true);
         TestCurrentRuntimeManager.getLocalContextSpy().setVariableValue(VARIABLE_VALUE);
 
-        final Object value = evaluator.evaluate(VARIABLE_EXPRESSION);
+        final Object value = evaluator.evaluate(TestCurrentRuntimeManager.getExecutionContext(), VARIABLE_EXPRESSION);
 
         assertThat(value, equalTo(VARIABLE_VALUE));
     }
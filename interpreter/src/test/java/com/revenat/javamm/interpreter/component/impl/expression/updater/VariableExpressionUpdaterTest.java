@@ -79,7 +79,7 @@ class VariableExpressionUpdaterTest {
         TestCurrentRuntimeManager.getLocalContextSpy().setVariableDefined(false);
 
         final JavammLineRuntimeError e = assertThrows(JavammLineRuntimeError.class,
-            () -> variableExpressionUpdater.update(VARIABLE_EXPRESSION, UPDATED_VARIABLE_VALUE));
+            () -> variableExpressionUpdater.update(TestCurrentRuntimeManager.getExecutionContext(), VARIABLE_EXPRESSION, UPDATED_VARIABLE_VALUE));
 
         assertErrorMessageContains(e, "Variable '%s' is not defined", VARIABLE);
     }
@@ -89,7 +89,7 @@ class VariableExpressionUpdaterTest {
     void shouldUpdateVariableExpression() {
         TestCurrentRuntimeManager.getLocalContextSpy().setVariableDefined(true);
 
-        variableExpressionUpdater.update(VARIABLE_EXPRESSION, UPDATED_VARIABLE_VALUE);
+        variableExpressionUpdater.update(TestCurrentRuntimeManager.getExecutionContext(), VARIABLE_EXPRESSION, UPDATED_VARIABLE_VALUE);
 
         assertThat(TestCurrentRuntimeManager.getLocalContextSpy().getLastVarValue(), is(UPDATED_VARIABLE_VALUE));
     }
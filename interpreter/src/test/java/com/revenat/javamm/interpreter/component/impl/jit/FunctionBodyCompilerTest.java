@@ -0,0 +1,83 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.interpreter.component.impl.jit;
+
+import com.revenat.javamm.code.fragment.instruction.FunctionCode;
+import com.revenat.javamm.code.fragment.instruction.SwitchTable;
+import com.revenat.juinit.addons.ReplaceCamelCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.List;
+import java.util.Optional;
+
+import static com.revenat.javamm.code.fragment.instruction.OpCode.JUMP;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.JUMP_IF_FALSE;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.LOAD_CONST;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.RETURN;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.RETURN_VOID;
+import static com.revenat.javamm.code.fragment.instruction.OpCode.SWITCH;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayNameGeneration(ReplaceCamelCase.class)
+@DisplayName("a function body compiler")
+class FunctionBodyCompilerTest {
+
+    private final FunctionBodyCompiler compiler = new FunctionBodyCompiler();
+
+    @Test
+    @Order(1)
+    void shouldCompileCodeWithBranches() {
+        final FunctionCode code = new FunctionCode(new int[]{
+            LOAD_CONST, 0, 0,
+            JUMP_IF_FALSE, 0, 12,
+            SWITCH, 0, 1,
+            JUMP, 12,
+            RETURN_VOID,
+            RETURN, 0
+        }, List.of(true, new SwitchTable(new Object[]{true}, new int[]{11}, 12)), 1);
+
+        assertTrue(compiler.compile(code).isPresent());
+    }
+
+    @Test
+    @Order(2)
+    void shouldReturnSameBodyForSameCode() {
+        final FunctionCode code = new FunctionCode(new int[]{RETURN_VOID}, List.of(), 0);
+
+        final Optional<CompiledFunctionBody> first = compiler.compile(code);
+        final Optional<CompiledFunctionBody> second = compiler.compile(code);
+
+        assertSame(first.orElseThrow(), second.orElseThrow());
+    }
+
+    @Test
+    @Order(3)
+    void shouldNotCompileCodeWhichDoesNotFitIntoJvmMethod() {
+        final FunctionCode code = new FunctionCode(new int[]{RETURN_VOID}, List.of(), 1000);
+
+        assertFalse(compiler.compile(code).isPresent());
+    }
+}
@@ -17,9 +17,9 @@
 
 package com.revenat.javamm.interpreter.component.impl.operation;
 
-import com.revenat.javamm.code.component.ExpressionContext;
-import com.revenat.javamm.interpreter.error.TerminateInterpreterException;
-import com.revenat.javamm.interpreter.test.doubles.ExpressionContextDummy;
+import com.revenat.javamm.interpreter.model.Completion;
+import com.revenat.javamm.interpreter.model.ExecutionContext;
+import com.revenat.javamm.interpreter.test.doubles.ExecutionContextStub;
 import com.revenat.javamm.interpreter.test.doubles.OperationDummy;
 import com.revenat.juinit.addons.ReplaceCamelCase;
 import org.junit.jupiter.api.DisplayName;
@@ -31,14 +31,13 @@ import org.junit.jupiter.api.TestMethodOrder;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.sameInstance;
-import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 @DisplayNameGeneration(ReplaceCamelCase.class)
 @DisplayName("a abstract operation interpreter")
 class AbstractOperationInterpreterTest {
 
-    private final AbstractOperationInterpreterSpy abstractInterpreter = new AbstractOperationInterpreterSpy(new ExpressionContextDummy());
+    private final AbstractOperationInterpreterSpy abstractInterpreter = new AbstractOperationInterpreterSpy();
 
     private void assertOperationInterpreted(final OperationDummy operationToInterpret) {
         assertThat(abstractInterpreter.getInterpretedOperation(), sameInstance(operationToInterpret));
@@ -46,58 +45,48 @@ class AbstractOperationInterpreterTest {
 
     @Test
     @Order(1)
-    void canNotBeCreatedWithoutExpressionContext() {
-        assertThrows(NullPointerException.class, () -> new AbstractOperationInterpreterSpy(null));
-    }
-
-    @Test
-    @Order(2)
     void shouldInterpretOperation() {
         final OperationDummy operationToInterpret = new OperationDummy();
 
-        abstractInterpreter.interpret(operationToInterpret);
+        abstractInterpreter.interpret(new ExecutionContextStub(), operationToInterpret);
 
         assertOperationInterpreted(operationToInterpret);
     }
 
     @Test
-    @Order(3)
-    void shouldFailToInterpretIfTerminated() {
-        abstractInterpreter.setTerminated();
+    @Order(2)
+    void shouldInterpretOperationWithinSpecifiedExecutionContext() {
+        final ExecutionContext executionContext = new ExecutionContextStub();
+
+        abstractInterpreter.interpret(executionContext, new OperationDummy());
 
-        assertThrows(TerminateInterpreterException.class, () -> abstractInterpreter.interpret(new OperationDummy()));
+        assertThat(abstractInterpreter.getExecutionContext(), sameInstance(executionContext));
     }
 
     private static class AbstractOperationInterpreterSpy extends AbstractOperationInterpreter<OperationDummy> {
-        private boolean isTerminated = false;
-
         private OperationDummy interpretedOperation = null;
 
-        public AbstractOperationInterpreterSpy(final ExpressionContext expressionContext) {
-            super(expressionContext);
-        }
+        private ExecutionContext executionContext = null;
 
         OperationDummy getInterpretedOperation() {
             return interpretedOperation;
         }
 
+        ExecutionContext getExecutionContext() {
+            return executionContext;
+        }
+
         @Override
         public Class<OperationDummy> getOperationClass() {
             return OperationDummy.class;
         }
 
         @Override
-        protected void interpretOperation(final OperationDummy operation) {
+        protected Completion interpretOperation(final ExecutionContext executionContext,
+                                                final OperationDummy operation) {
+            this.executionContext = executionContext;
             this.interpretedOperation = operation;
-        }
-
-        @Override
-        protected boolean isTerminated() {
-            return isTerminated;
-        }
-
-        void setTerminated() {
-            this.isTerminated = true;
+            return Completion.NORMAL;
         }
     }
 }
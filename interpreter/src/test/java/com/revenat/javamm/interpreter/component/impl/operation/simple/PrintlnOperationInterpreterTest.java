@@ -20,7 +20,7 @@ package com.revenat.javamm.interpreter.component.impl.operation.simple;
 import com.revenat.javamm.code.component.Console;
 import com.revenat.javamm.code.fragment.SourceLine;
 import com.revenat.javamm.code.fragment.operation.PrintlnOperation;
-import com.revenat.javamm.interpreter.test.doubles.ExpressionContextDummy;
+import com.revenat.javamm.interpreter.test.doubles.ExecutionContextStub;
 import com.revenat.javamm.interpreter.test.doubles.ExpressionStub;
 import com.revenat.juinit.addons.ReplaceCamelCase;
 import org.junit.jupiter.api.AfterAll;
@@ -58,7 +58,7 @@ class PrintlnOperationInterpreterTest {
     @BeforeEach
     void setUp() {
         System.setOut(new PrintStream(memoryOutput));
-        interpreter = new PrintlnOperationInterpreter(new ExpressionContextDummy(), Console.DEFAULT);
+        interpreter = new PrintlnOperationInterpreter(Console.DEFAULT);
     }
 
     @Test
@@ -71,7 +71,7 @@ class PrintlnOperationInterpreterTest {
     void shouldInterpretPrintlnOperation() {
         final PrintlnOperation operation = printlnOperation("Hello");
 
-        interpreter.interpret(operation);
+        interpreter.interpret(new ExecutionContextStub(), operation);
 
         assertOutput("Hello");
     }
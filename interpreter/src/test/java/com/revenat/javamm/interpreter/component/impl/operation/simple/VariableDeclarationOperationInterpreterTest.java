@@ -17,13 +17,11 @@
 
 package com.revenat.javamm.interpreter.component.impl.operation.simple;
 
-import com.revenat.javamm.code.component.ExpressionContext;
 import com.revenat.javamm.code.fragment.Expression;
 import com.revenat.javamm.code.fragment.SourceLine;
 import com.revenat.javamm.code.fragment.Variable;
 import com.revenat.javamm.code.fragment.operation.VariableDeclarationOperation;
 import com.revenat.javamm.interpreter.component.impl.error.JavammLineRuntimeError;
-import com.revenat.javamm.interpreter.test.doubles.ExpressionContextDummy;
 import com.revenat.javamm.interpreter.test.doubles.ExpressionStub;
 import com.revenat.javamm.interpreter.test.doubles.VariableStub;
 import com.revenat.javamm.interpreter.test.helper.TestCurrentRuntimeManager;
@@ -51,8 +49,6 @@ class VariableDeclarationOperationInterpreterTest {
 
     private static final SourceLine SOURCE_LINE_DUMMY = SourceLine.EMPTY_SOURCE_LINE;
 
-    private static final ExpressionContext EXPRESSION_CONTEXT_DUMMY = new ExpressionContextDummy();
-
     private static final Expression EXPRESSION_STUB = new ExpressionStub(VARIABLE_VALUE);
 
     private Variable variableStub;
@@ -74,7 +70,7 @@ class VariableDeclarationOperationInterpreterTest {
         TestCurrentRuntimeManager.refreshLocalContext();
         variableStub = new VariableStub("name");
 
-        interpreter = new VariableDeclarationOperationInterpreter(EXPRESSION_CONTEXT_DUMMY);
+        interpreter = new VariableDeclarationOperationInterpreter();
     }
 
     private VariableDeclarationOperation constantDeclaration() {
@@ -106,13 +102,13 @@ class VariableDeclarationOperationInterpreterTest {
     void shouldFailToDeclareVariableIfThereIsOneWithSameName() {
         TestCurrentRuntimeManager.getLocalContextSpy().setVariableDefined(true);
 
-        assertThrows(JavammLineRuntimeError.class, () -> interpreter.interpret(constantDeclaration()));
+        assertThrows(JavammLineRuntimeError.class, () -> interpreter.interpret(TestCurrentRuntimeManager.getExecutionContext(), constantDeclaration()));
     }
 
     @Test
     @Order(3)
     void shouldDeclareVariable() {
-        interpreter.interpret(notConstantDeclaration());
+        interpreter.interpret(TestCurrentRuntimeManager.getExecutionContext(), notConstantDeclaration());
 
         assertVariableDeclared();
     }
@@ -120,7 +116,7 @@ class VariableDeclarationOperationInterpreterTest {
     @Test
     @Order(4)
     void shouldDeclareFinal() {
-        interpreter.interpret(constantDeclaration());
+        interpreter.interpret(TestCurrentRuntimeManager.getExecutionContext(), constantDeclaration());
 
         assertFinalDeclared();
     }
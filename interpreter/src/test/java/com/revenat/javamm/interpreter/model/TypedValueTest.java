@@ -0,0 +1,127 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.interpreter.model;
+
+import com.revenat.juinit.addons.ReplaceCamelCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayNameGeneration(ReplaceCamelCase.class)
+@DisplayName("a typed value")
+class TypedValueTest {
+
+    private TypedValue value;
+
+    @BeforeEach
+    void setUp() {
+        value = new TypedValue();
+    }
+
+    @Test
+    @Order(1)
+    void shouldBeNullReferenceByDefault() {
+        assertThat(value.getType(), is(TypedValue.Type.REFERENCE));
+        assertNull(value.toObject());
+    }
+
+    @Test
+    @Order(2)
+    void shouldKeepIntegerUnboxedUntilRequestedAsObject() {
+        value.setInteger(1000);
+
+        assertTrue(value.isUnboxed());
+        assertThat(value.getInteger(), is(1000));
+        assertThat(value.getDouble(), is(1000.0));
+
+        final Object box = value.toObject();
+
+        assertThat(box, is(1000));
+        assertFalse(value.isUnboxed());
+        assertThat(value.toObject(), sameInstance(box));
+    }
+
+    @Test
+    @Order(3)
+    void shouldKeepDoubleUnboxedUntilRequestedAsObject() {
+        value.setDouble(2.5);
+
+        assertTrue(value.isUnboxed());
+        assertThat(value.getDouble(), is(2.5));
+        assertThat(value.toObject(), is(2.5));
+    }
+
+    @Test
+    @Order(4)
+    void shouldUnboxObjectsAndKeepTheirBoxes() {
+        final Object box = 1000;
+
+        value.setObject(box);
+
+        assertThat(value.getType(), is(TypedValue.Type.INTEGER));
+        assertThat(value.getInteger(), is(1000));
+        assertThat(value.toObject(), sameInstance(box));
+    }
+
+    @Test
+    @Order(5)
+    void shouldRecognizeBooleansAndReferences() {
+        value.setObject(true);
+        assertTrue(value.isBoolean());
+        assertTrue(value.getBoolean());
+
+        value.setObject("text");
+        assertThat(value.getType(), is(TypedValue.Type.REFERENCE));
+        assertThat(value.toObject(), is("text"));
+    }
+
+    @Test
+    @Order(6)
+    void shouldCopyStateOfAnotherValue() {
+        final TypedValue another = new TypedValue();
+        another.setDouble(-1.5);
+
+        value.set(another);
+
+        assertThat(value.getType(), is(TypedValue.Type.DOUBLE));
+        assertThat(value.getDouble(), is(-1.5));
+    }
+
+    @Test
+    @Order(7)
+    void shouldFailToReturnPrimitiveOfAnotherType() {
+        value.setObject("text");
+
+        assertThrows(IllegalStateException.class, value::getInteger);
+        assertThrows(IllegalStateException.class, value::getDouble);
+        assertThrows(IllegalStateException.class, value::getBoolean);
+    }
+}
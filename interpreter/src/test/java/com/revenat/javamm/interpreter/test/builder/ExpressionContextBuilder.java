@@ -17,10 +17,12 @@
 
 package com.revenat.javamm.interpreter.test.builder;
 
-import com.revenat.javamm.code.component.ExpressionContext;
 import com.revenat.javamm.interpreter.component.ExpressionEvaluator;
 import com.revenat.javamm.interpreter.component.ExpressionUpdater;
-import com.revenat.javamm.interpreter.component.impl.ExpressionContextImpl;
+import com.revenat.javamm.interpreter.component.impl.ExecutionContextBuilderImpl;
+import com.revenat.javamm.interpreter.model.CurrentRuntime;
+import com.revenat.javamm.interpreter.model.ExecutionContext;
+import com.revenat.javamm.interpreter.test.doubles.CurrentRuntimeDummy;
 
 import java.util.Arrays;
 import java.util.HashSet;
@@ -34,6 +36,8 @@ public class ExpressionContextBuilder {
 
     private final Set<ExpressionUpdater<?>> updaters;
 
+    private CurrentRuntime currentRuntime = new CurrentRuntimeDummy();
+
     public ExpressionContextBuilder() {
         this.evaluators = new HashSet<>();
         this.updaters = new HashSet<>();
@@ -49,7 +53,13 @@ public class ExpressionContextBuilder {
         return this;
     }
 
-    public ExpressionContext build() {
-        return new ExpressionContextImpl(Set.copyOf(evaluators), Set.copyOf(updaters));
+    public ExpressionContextBuilder withCurrentRuntime(final CurrentRuntime currentRuntime) {
+        this.currentRuntime = currentRuntime;
+        return this;
+    }
+
+    public ExecutionContext build() {
+        return new ExecutionContextBuilderImpl(Set.copyOf(evaluators), Set.copyOf(updaters))
+            .buildExecutionContext(currentRuntime);
     }
 }
@@ -19,6 +19,8 @@ package com.revenat.javamm.interpreter.test.doubles;
 
 import com.revenat.javamm.code.fragment.Operation;
 import com.revenat.javamm.interpreter.component.OperationInterpreter;
+import com.revenat.javamm.interpreter.model.Completion;
+import com.revenat.javamm.interpreter.model.ExecutionContext;
 
 public abstract class AbstractOperationInterpreterSpy<T extends Operation> implements OperationInterpreter<T> {
     private int numberOfInterpretedOperations = 0;
@@ -31,7 +33,8 @@ public abstract class AbstractOperationInterpreterSpy<T extends Operation> imple
     public abstract Class<T> getOperationClass();
 
     @Override
-    public void interpret(final T operation) {
+    public Completion interpret(final ExecutionContext executionContext, final T operation) {
         numberOfInterpretedOperations++;
+        return Completion.NORMAL;
     }
 }
\ No newline at end of file
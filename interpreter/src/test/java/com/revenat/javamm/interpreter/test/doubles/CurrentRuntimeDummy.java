@@ -22,9 +22,7 @@ import com.revenat.javamm.code.fragment.function.DeveloperFunction;
 import com.revenat.javamm.interpreter.component.FunctionInvoker;
 import com.revenat.javamm.interpreter.model.CurrentRuntime;
 import com.revenat.javamm.interpreter.model.LocalContext;
-import com.revenat.javamm.interpreter.model.StackTraceItem;
-
-import java.util.List;
+import com.revenat.javamm.interpreter.model.StackTraceSnapshot;
 
 public class CurrentRuntimeDummy implements CurrentRuntime {
 
@@ -34,7 +32,7 @@ public class CurrentRuntimeDummy implements CurrentRuntime {
     }
 
     @Override
-    public void setCurrentSourceLine(final SourceLine currentSourceLine) {
+    public void setCurrentLineNumber(final int lineNumber) {
     }
 
     @Override
@@ -60,7 +58,33 @@ public class CurrentRuntimeDummy implements CurrentRuntime {
     }
 
     @Override
-    public List<StackTraceItem> getCurrentStackTrace() {
+    public void replaceCurrentFunction(final DeveloperFunction developerFunction) {
+    }
+
+    @Override
+    public void pollTermination() {
+    }
+
+    @Override
+    public void requestTermination() {
+    }
+
+    @Override
+    public void setReturnValue(final Object returnValue) {
+    }
+
+    @Override
+    public Object releaseReturnValue() {
+        return null;
+    }
+
+    @Override
+    public StackTraceSnapshot captureStackTrace() {
+        return null;
+    }
+
+    @Override
+    public StackTraceSnapshot captureStackTrace(final int maxFrameCount) {
         return null;
     }
 }
\ No newline at end of file
@@ -0,0 +1,51 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.revenat.javamm.interpreter.test.doubles;
+
+import com.revenat.javamm.code.fragment.Expression;
+import com.revenat.javamm.code.fragment.UpdatableExpression;
+import com.revenat.javamm.interpreter.model.CurrentRuntime;
+import com.revenat.javamm.interpreter.model.ExecutionContext;
+
+public class ExecutionContextStub implements ExecutionContext {
+    private final CurrentRuntime currentRuntime;
+
+    public ExecutionContextStub() {
+        this(new CurrentRuntimeDummy());
+    }
+
+    public ExecutionContextStub(final CurrentRuntime currentRuntime) {
+        this.currentRuntime = currentRuntime;
+    }
+
+    @Override
+    public CurrentRuntime getCurrentRuntime() {
+        return currentRuntime;
+    }
+
+    @Override
+    public Object getValue(final Expression expression) {
+        return expression.getValue(this);
+    }
+
+    @Override
+    public void setValue(final UpdatableExpression updatableExpression, final Object updatedValue) {
+        updatableExpression.setValue(this, updatedValue);
+    }
+}
@@ -18,6 +18,7 @@
 package com.revenat.javamm.interpreter.test.doubles;
 
 import com.revenat.javamm.interpreter.component.ExpressionEvaluator;
+import com.revenat.javamm.interpreter.model.ExecutionContext;
 
 public class ExpressionEvaluatorStub implements ExpressionEvaluator<ExpressionDummy> {
     private Object evaluatedValue = null;
@@ -32,7 +33,7 @@ public class ExpressionEvaluatorStub implements ExpressionEvaluator<ExpressionDu
     }
 
     @Override
-    public Object evaluate(final ExpressionDummy expression) {
+    public Object evaluate(final ExecutionContext executionContext, final ExpressionDummy expression) {
         return evaluatedValue;
     }
 }
\ No newline at end of file
@@ -19,6 +19,7 @@ package com.revenat.javamm.interpreter.test.doubles;
 
 import com.revenat.javamm.code.fragment.UpdatableExpression;
 import com.revenat.javamm.interpreter.component.ExpressionUpdater;
+import com.revenat.javamm.interpreter.model.ExecutionContext;
 
 public class ExpressionUpdaterSpy implements ExpressionUpdater<UpdatableExpressionDummy> {
     private UpdatableExpression lastUpdatedExpression = null;
@@ -31,7 +32,9 @@ public class ExpressionUpdaterSpy implements ExpressionUpdater<UpdatableExpressi
     }
 
     @Override
-    public void update(final UpdatableExpressionDummy expression, final Object updatedValue) {
+    public void update(final ExecutionContext executionContext,
+                       final UpdatableExpressionDummy expression,
+                       final Object updatedValue) {
         this.lastUpdatedExpression = expression;
         this.lastUpdatedValue = updatedValue;
     }
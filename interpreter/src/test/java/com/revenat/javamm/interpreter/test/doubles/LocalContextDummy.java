@@ -47,4 +47,12 @@ public class LocalContextDummy implements LocalContext {
     public LocalContext createChildLocalContext() {
         return null;
     }
+
+    @Override
+    public void dispose() {
+    }
+
+    @Override
+    public void reset() {
+    }
 }
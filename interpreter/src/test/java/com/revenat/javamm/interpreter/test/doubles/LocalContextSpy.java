@@ -18,6 +18,7 @@
 package com.revenat.javamm.interpreter.test.doubles;
 
 import com.revenat.javamm.code.fragment.Variable;
+import com.revenat.javamm.interpreter.component.impl.error.JavammLineRuntimeError;
 import com.revenat.javamm.interpreter.model.LocalContext;
 
 public class LocalContextSpy implements LocalContext {
@@ -87,6 +88,9 @@ public class LocalContextSpy implements LocalContext {
 
     @Override
     public Object getVariableValue(final Variable variable) {
+        if (!isVariableDefined) {
+            throw new JavammLineRuntimeError("Variable '%s' is not defined", variable);
+        }
         return variableValue;
     }
 
@@ -94,4 +98,12 @@ public class LocalContextSpy implements LocalContext {
     public LocalContext createChildLocalContext() {
         return this;
     }
+
+    @Override
+    public void dispose() {
+    }
+
+    @Override
+    public void reset() {
+    }
 }
\ No newline at end of file
@@ -22,8 +22,15 @@ import com.revenat.javamm.code.fragment.Variable;
 public class VariableStub implements Variable {
     private final String name;
 
+    private final int slot;
+
     public VariableStub(final String name) {
+        this(name, 0);
+    }
+
+    public VariableStub(final String name, final int slot) {
         this.name = name;
+        this.slot = slot;
     }
 
     @Override
@@ -31,6 +38,11 @@ public class VariableStub implements Variable {
         return name;
     }
 
+    @Override
+    public int getSlot() {
+        return slot;
+    }
+
     @Override
     public int hashCode() {
         final int prime = 31;
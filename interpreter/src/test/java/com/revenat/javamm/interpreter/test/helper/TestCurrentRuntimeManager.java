@@ -23,8 +23,10 @@ import com.revenat.javamm.code.fragment.function.DeveloperFunction;
 import com.revenat.javamm.interpreter.component.FunctionInvoker;
 import com.revenat.javamm.interpreter.model.CurrentRuntime;
 import com.revenat.javamm.interpreter.model.CurrentRuntimeProvider;
+import com.revenat.javamm.interpreter.model.ExecutionContext;
 import com.revenat.javamm.interpreter.model.LocalContext;
-import com.revenat.javamm.interpreter.model.StackTraceItem;
+import com.revenat.javamm.interpreter.model.StackTraceSnapshot;
+import com.revenat.javamm.interpreter.test.doubles.ExecutionContextStub;
 import com.revenat.javamm.interpreter.test.doubles.LocalContextSpy;
 
 import java.util.ArrayList;
@@ -59,6 +61,10 @@ public final class TestCurrentRuntimeManager {
         return currentRuntime;
     }
 
+    public static ExecutionContext getExecutionContext() {
+        return new ExecutionContextStub(currentRuntime);
+    }
+
     public static void setFakeCurrentRuntime(final SourceLine sourceLine) {
         currentRuntime = new FakeCurrentRuntime(localContext, sourceLine);
         CurrentRuntimeProvider.setCurrentRuntime(currentRuntime);
@@ -69,7 +75,9 @@ public final class TestCurrentRuntimeManager {
 
         private LocalContext localContext;
 
-        private SourceLine sourceLine;
+        private Object returnValue;
+
+        private final SourceLine sourceLine;
 
         private FakeCurrentRuntime(final LocalContext localContext, final SourceLine sourceLine) {
             this.localContext = localContext;
@@ -90,8 +98,7 @@ public final class TestCurrentRuntimeManager {
         }
 
         @Override
-        public void setCurrentSourceLine(final SourceLine currentSourceLine) {
-            sourceLine = currentSourceLine;
+        public void setCurrentLineNumber(final int lineNumber) {
         }
 
         @Override
@@ -107,7 +114,6 @@ public final class TestCurrentRuntimeManager {
         @Override
         public void setCurrentOperation(final Operation operation) {
             processedOperations.add(operation);
-            CurrentRuntime.super.setCurrentOperation(operation);
         }
 
         @Override
@@ -124,8 +130,37 @@ public final class TestCurrentRuntimeManager {
         }
 
         @Override
-        public List<StackTraceItem> getCurrentStackTrace() {
-            return List.of();
+        public void replaceCurrentFunction(final DeveloperFunction developerFunction) {
+        }
+
+        @Override
+        public void pollTermination() {
+        }
+
+        @Override
+        public void requestTermination() {
+        }
+
+        @Override
+        public void setReturnValue(final Object returnValue) {
+            this.returnValue = returnValue;
+        }
+
+        @Override
+        public Object releaseReturnValue() {
+            final Object value = returnValue;
+            returnValue = null;
+            return value;
+        }
+
+        @Override
+        public StackTraceSnapshot captureStackTrace() {
+            return List::of;
+        }
+
+        @Override
+        public StackTraceSnapshot captureStackTrace(final int maxFrameCount) {
+            return List::of;
         }
     }
 }
@@ -21,6 +21,7 @@ import com.revenat.javamm.code.fragment.SourceCode;
 import com.revenat.javamm.compiler.error.JavammSyntaxError;
 import com.revenat.javamm.interpreter.error.JavammRuntimeError;
 import com.revenat.javamm.interpreter.error.TerminateInterpreterException;
+import com.revenat.javamm.interpreter.model.MemoizationStatistics;
 
 /**
  * Represents virtual machine responsible for compiling javamm language source
@@ -42,4 +43,20 @@ public interface VirtualMachine {
      *                                       component has been abruptly terminated
      */
     void run(SourceCode... sourceCodes);
+
+    /**
+     * Requests termination of the source code which is interpreted at the moment.
+     * {@link #run(SourceCode...)} stops at the nearest loop iteration or function
+     * invocation and throws {@link TerminateInterpreterException}. The request is
+     * kept for the next {@link #run(SourceCode...)} if it has not started
+     * interpretation yet. Later runs are not affected, so the virtual machine can
+     * be reused after termination. Can be invoked from any thread
+     */
+    void terminate();
+
+    /**
+     * Returns counters of the memoization cache of the pure functions accumulated by all
+     * {@link #run(SourceCode...)} invocations of this virtual machine
+     */
+    MemoizationStatistics getMemoizationStatistics();
 }
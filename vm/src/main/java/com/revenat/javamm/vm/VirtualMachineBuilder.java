@@ -22,8 +22,10 @@ import com.revenat.javamm.code.fragment.ByteCode;
 import com.revenat.javamm.code.fragment.SourceCode;
 import com.revenat.javamm.compiler.Compiler;
 import com.revenat.javamm.compiler.CompilerConfigurator;
+import com.revenat.javamm.interpreter.ExecutionEngine;
 import com.revenat.javamm.interpreter.Interpreter;
 import com.revenat.javamm.interpreter.InterpreterConfigurator;
+import com.revenat.javamm.interpreter.model.MemoizationStatistics;
 
 import static java.util.Objects.requireNonNull;
 
@@ -37,11 +39,87 @@ public class VirtualMachineBuilder {
 
     private Console console = Console.DEFAULT;
 
+    private ExecutionEngine executionEngine = ExecutionEngine.TREE_WALKING;
+
+    private int tailCallStackTraceSize = InterpreterConfigurator.DEFAULT_TAIL_CALL_STACK_TRACE_SIZE;
+
+    private int maxStackSize = InterpreterConfigurator.MAX_STACK_SIZE;
+
+    private boolean superinstructionsEnabled = true;
+
+    private boolean scopeVerificationEnabled = true;
+
+    private int memoizationCacheSize = InterpreterConfigurator.DEFAULT_MEMOIZATION_CACHE_SIZE;
+
     public VirtualMachineBuilder setConsole(final Console console) {
         this.console = requireNonNull(console);
         return this;
     }
 
+    public VirtualMachineBuilder setExecutionEngine(final ExecutionEngine executionEngine) {
+        this.executionEngine = requireNonNull(executionEngine);
+        return this;
+    }
+
+    /**
+     * Sets number of the most recent functions replaced by the tail calls which
+     * are kept in the stack trace of each stack frame for error reporting
+     */
+    public VirtualMachineBuilder setTailCallStackTraceSize(final int tailCallStackTraceSize) {
+        if (tailCallStackTraceSize < 0) {
+            throw new IllegalArgumentException("tailCallStackTraceSize can not be negative");
+        }
+        this.tailCallStackTraceSize = tailCallStackTraceSize;
+        return this;
+    }
+
+    /**
+     * Sets max depth of the script call stack. Deep recursion requires the
+     * {@linkplain ExecutionEngine#REGISTER_MACHINE execution engine} with the heap
+     * allocated call stack, because other engines consume stack of the JVM for each
+     * script invocation
+     */
+    public VirtualMachineBuilder setMaxStackSize(final int maxStackSize) {
+        if (maxStackSize <= 0) {
+            throw new IllegalArgumentException("maxStackSize should be positive");
+        }
+        this.maxStackSize = maxStackSize;
+        return this;
+    }
+
+    /**
+     * Enables or disables compilation of the common operation shapes (e.g. {@code i++}
+     * or {@code i < n}) into the superinstructions with dedicated interpreters
+     */
+    public VirtualMachineBuilder setSuperinstructionsEnabled(final boolean superinstructionsEnabled) {
+        this.superinstructionsEnabled = superinstructionsEnabled;
+        return this;
+    }
+
+    /**
+     * Enables or disables compile time verification of the variable scopes. Using of
+     * undefined variable, changing of final and declaring of already defined variable
+     * are reported as syntax errors by the verification and as runtime errors without
+     * it. Variables of the verified code are accessed without runtime checks
+     */
+    public VirtualMachineBuilder setScopeVerificationEnabled(final boolean scopeVerificationEnabled) {
+        this.scopeVerificationEnabled = scopeVerificationEnabled;
+        return this;
+    }
+
+    /**
+     * Sets max number of the memoized results of the pure functions, i.e. functions
+     * which do not print anything and invoke only pure functions. Zero disables
+     * memoization, which is the default
+     */
+    public VirtualMachineBuilder setMemoizationCacheSize(final int memoizationCacheSize) {
+        if (memoizationCacheSize < 0) {
+            throw new IllegalArgumentException("memoizationCacheSize can not be negative");
+        }
+        this.memoizationCacheSize = memoizationCacheSize;
+        return this;
+    }
+
     public VirtualMachine build() {
         return new VirtualMachineImpl(
             buildCompilerConfiguration().getCompiler(),
@@ -49,11 +127,12 @@ public class VirtualMachineBuilder {
     }
 
     private CompilerConfigurator buildCompilerConfiguration() {
-        return new CompilerConfigurator();
+        return new CompilerConfigurator(superinstructionsEnabled, scopeVerificationEnabled);
     }
 
     private InterpreterConfigurator buildInterpreterConfigurator() {
-        return new InterpreterConfigurator(console);
+        return new InterpreterConfigurator(console, executionEngine, tailCallStackTraceSize, maxStackSize,
+            memoizationCacheSize);
     }
 
     private static final class VirtualMachineImpl implements VirtualMachine {
@@ -71,5 +150,15 @@ public class VirtualMachineBuilder {
             final ByteCode byteCode = compiler.compile(sourceCodes);
             interpreter.interpret(byteCode);
         }
+
+        @Override
+        public void terminate() {
+            interpreter.terminate();
+        }
+
+        @Override
+        public MemoizationStatistics getMemoizationStatistics() {
+            return interpreter.getMemoizationStatistics();
+        }
     }
 }
@@ -21,7 +21,7 @@
 module javamm.vm {
     requires transitive javamm.code;
     requires javamm.compiler;
-    requires javamm.interpreter;
+    requires transitive javamm.interpreter;
 
     exports com.revenat.javamm.vm;
 }
\ No newline at end of file
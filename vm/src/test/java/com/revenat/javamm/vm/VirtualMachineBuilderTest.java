@@ -17,6 +17,7 @@
 
 package com.revenat.javamm.vm;
 
+import com.revenat.javamm.interpreter.ExecutionEngine;
 import com.revenat.juinit.addons.ReplaceCamelCase;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.DisplayNameGeneration;
@@ -26,6 +27,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 @DisplayNameGeneration(ReplaceCamelCase.class)
@@ -37,4 +39,16 @@ class VirtualMachineBuilderTest {
     void shouldBuildNewVirtualMachine() {
         assertNotNull(new VirtualMachineBuilder().build());
     }
+
+    @Test
+    @Order(2)
+    void shouldBuildNewVirtualMachineWithClosureCompiledExecutionEngine() {
+        assertNotNull(new VirtualMachineBuilder().setExecutionEngine(ExecutionEngine.CLOSURE_COMPILED).build());
+    }
+
+    @Test
+    @Order(3)
+    void shouldNotAllowNullExecutionEngine() {
+        assertThrows(NullPointerException.class, () -> new VirtualMachineBuilder().setExecutionEngine(null));
+    }
 }
@@ -0,0 +1,46 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.vm.benchmark;
+
+import java.lang.reflect.Method;
+
+/**
+ * Reads allocated bytes of the current thread from {@code com.sun.management.ThreadMXBean}.
+ * Reflection is used, so the benchmarks do not make the vm module depend on
+ * the management modules.
+ *
+ * @author Vitaliy Dragun
+ */
+final class AllocationCounter {
+
+    private final Object threadMXBean;
+
+    private final Method getThreadAllocatedBytes;
+
+    AllocationCounter() throws ReflectiveOperationException {
+        threadMXBean = Class.forName("java.lang.management.ManagementFactory")
+            .getMethod("getThreadMXBean")
+            .invoke(null);
+        getThreadAllocatedBytes = Class.forName("com.sun.management.ThreadMXBean")
+            .getMethod("getThreadAllocatedBytes", long.class);
+    }
+
+    long getAllocatedBytes() throws ReflectiveOperationException {
+        return (Long) getThreadAllocatedBytes.invoke(threadMXBean, Thread.currentThread().getId());
+    }
+}
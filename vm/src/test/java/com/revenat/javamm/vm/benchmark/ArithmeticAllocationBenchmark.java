@@ -0,0 +1,118 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.vm.benchmark;
+
+import com.revenat.javamm.code.fragment.SourceCode;
+import com.revenat.javamm.interpreter.ExecutionEngine;
+import com.revenat.javamm.vm.VirtualMachine;
+import com.revenat.javamm.vm.VirtualMachineBuilder;
+
+import java.util.List;
+
+/**
+ * Measures heap allocation of the integer and double loops written in the
+ * style of {@code demo-recursive-iterative.javamm} for every
+ * {@linkplain ExecutionEngine execution engine}. The register machine calculates
+ * all values on the typed registers, tree walking and closure compiled engines
+ * use typed values for the superinstructions only and the JIT compiled engine
+ * calculates boxed values. Engines differ in more than the value representation,
+ * so the effect of a change is shown by running the benchmark for the same
+ * engine on the builds before and after it.
+ *
+ * <p>Run from the class path with optional number of loop iterations and optional
+ * execution engine (all engines by default), for example:
+ * {@code java -cp <classes> com.revenat.javamm.vm.benchmark.ArithmeticAllocationBenchmark 200000 REGISTER_MACHINE}
+ *
+ * @author Vitaliy Dragun
+ */
+public final class ArithmeticAllocationBenchmark {
+
+    private static final int DEFAULT_ITERATIONS = 200_000;
+
+    private static final int WARM_UP_ROUNDS = 3;
+
+    private ArithmeticAllocationBenchmark() {
+    }
+
+    public static void main(final String[] args) throws ReflectiveOperationException {
+        final int iterations = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ITERATIONS;
+        final List<ExecutionEngine> executionEngines = args.length > 1
+            ? List.of(ExecutionEngine.valueOf(args[1]))
+            : List.of(ExecutionEngine.values());
+        final SourceCode sourceCode = createSourceCode(iterations);
+        final AllocationCounter allocationCounter = new AllocationCounter();
+
+        System.out.printf("%-18s %14s %12s %14s%n", "engine", "bytes/iter", "time, ms", "MB/s");
+        for (final ExecutionEngine executionEngine : executionEngines) {
+            final VirtualMachine virtualMachine = new VirtualMachineBuilder()
+                .setConsole(new SilentConsole())
+                .setExecutionEngine(executionEngine)
+                .setMemoizationCacheSize(0)
+                .build();
+            for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+                virtualMachine.run(sourceCode);
+            }
+
+            final long allocatedBefore = allocationCounter.getAllocatedBytes();
+            final long startTime = System.nanoTime();
+            virtualMachine.run(sourceCode);
+            final long elapsedNanos = System.nanoTime() - startTime;
+            final long allocated = allocationCounter.getAllocatedBytes() - allocatedBefore;
+
+            System.out.printf("%-18s %14.1f %12d %14.1f%n",
+                executionEngine,
+                (double) allocated / iterations,
+                elapsedNanos / 1_000_000,
+                allocated / 1024.0 / 1024.0 / (elapsedNanos / 1_000_000_000.0));
+        }
+    }
+
+    private static SourceCode createSourceCode(final int iterations) {
+        final List<String> lines = List.of(
+            "function main() {",
+            "    var total = 0",
+            "    var average = 0.0",
+            "    for (var i = 0; i < " + iterations + "; i++) {",
+            "        total += factorialIterative(i % 12)",
+            "        average = average + (i - average) / (i + 1.0)",
+            "    }",
+            "    println(total)",
+            "    println(average)",
+            "}",
+            "",
+            "function factorialIterative(value) {",
+            "    var res = 1",
+            "    for (var i = 1; i <= value; i++) {",
+            "        res *= i",
+            "    }",
+            "    return res",
+            "}"
+        );
+        return new SourceCode() {
+            @Override
+            public String getModuleName() {
+                return "benchmark";
+            }
+
+            @Override
+            public List<String> getLines() {
+                return lines;
+            }
+        };
+    }
+}
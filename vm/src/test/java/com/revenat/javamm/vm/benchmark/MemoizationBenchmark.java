@@ -0,0 +1,104 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.vm.benchmark;
+
+import com.revenat.javamm.code.fragment.SourceCode;
+import com.revenat.javamm.interpreter.ExecutionEngine;
+import com.revenat.javamm.interpreter.InterpreterConfigurator;
+import com.revenat.javamm.vm.VirtualMachine;
+import com.revenat.javamm.vm.VirtualMachineBuilder;
+
+import java.util.List;
+
+/**
+ * Measures time of the exponential recursive function with and without
+ * memoization of the pure functions for every {@linkplain ExecutionEngine
+ * execution engine}.
+ *
+ * <p>Run from the class path with optional argument of the function, for example:
+ * {@code java -cp <classes> com.revenat.javamm.vm.benchmark.MemoizationBenchmark 22}
+ *
+ * @author Vitaliy Dragun
+ */
+public final class MemoizationBenchmark {
+
+    private static final int DEFAULT_FIBONACCI_ARGUMENT = 22;
+
+    private static final int MAX_STACK_SIZE = 1_000;
+
+    private static final int WARM_UP_ROUNDS = 3;
+
+    private MemoizationBenchmark() {
+    }
+
+    public static void main(final String[] args) {
+        final int fibonacciArgument = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_FIBONACCI_ARGUMENT;
+        final SourceCode sourceCode = createSourceCode(fibonacciArgument);
+
+        System.out.printf("%-18s %16s %16s%n", "engine", "plain, ms", "memoized, ms");
+        for (final ExecutionEngine executionEngine : ExecutionEngine.values()) {
+            System.out.printf("%-18s %16.2f %16.2f%n",
+                executionEngine,
+                measure(executionEngine, 0, sourceCode),
+                measure(executionEngine, InterpreterConfigurator.DEFAULT_MEMOIZATION_CACHE_SIZE, sourceCode));
+        }
+    }
+
+    private static double measure(final ExecutionEngine executionEngine,
+                                  final int memoizationCacheSize,
+                                  final SourceCode sourceCode) {
+        final VirtualMachine virtualMachine = new VirtualMachineBuilder()
+            .setConsole(new SilentConsole())
+            .setExecutionEngine(executionEngine)
+            .setMaxStackSize(MAX_STACK_SIZE)
+            .setMemoizationCacheSize(memoizationCacheSize)
+            .build();
+        for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+            virtualMachine.run(sourceCode);
+        }
+        final long startTime = System.nanoTime();
+        virtualMachine.run(sourceCode);
+        return (System.nanoTime() - startTime) / 1_000_000.0;
+    }
+
+    private static SourceCode createSourceCode(final int fibonacciArgument) {
+        final List<String> lines = List.of(
+            "function main() {",
+            "    println(fibonacci(" + fibonacciArgument + "))",
+            "}",
+            "",
+            "function fibonacci(n) {",
+            "    if (n < 2) {",
+            "        return n",
+            "    }",
+            "    return fibonacci(n - 1) + fibonacci(n - 2)",
+            "}"
+        );
+        return new SourceCode() {
+            @Override
+            public String getModuleName() {
+                return "benchmark";
+            }
+
+            @Override
+            public List<String> getLines() {
+                return lines;
+            }
+        };
+    }
+}
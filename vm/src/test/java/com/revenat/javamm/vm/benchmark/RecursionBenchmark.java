@@ -0,0 +1,130 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.vm.benchmark;
+
+import com.revenat.javamm.code.fragment.SourceCode;
+import com.revenat.javamm.interpreter.ExecutionEngine;
+import com.revenat.javamm.vm.VirtualMachine;
+import com.revenat.javamm.vm.VirtualMachineBuilder;
+
+import java.util.List;
+
+/**
+ * Measures time and heap allocation of the recursive function calls with
+ * early {@code return} and of the loops with {@code continue} and {@code break}
+ * for every {@linkplain ExecutionEngine execution engine}.
+ *
+ * <p>Run from the class path with optional number of iterations, for example:
+ * {@code java -cp <classes> com.revenat.javamm.vm.benchmark.RecursionBenchmark 5000}
+ *
+ * @author Vitaliy Dragun
+ */
+public final class RecursionBenchmark {
+
+    private static final int DEFAULT_ITERATIONS = 5_000;
+
+    private static final int FIBONACCI_ARGUMENT = 8;
+
+    /**
+     * Number of function calls made by {@code fibonacci(8)}
+     */
+    private static final int FIBONACCI_CALLS = 67;
+
+    private static final int WARM_UP_ROUNDS = 3;
+
+    private RecursionBenchmark() {
+    }
+
+    public static void main(final String[] args) throws ReflectiveOperationException {
+        final int iterations = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ITERATIONS;
+        final SourceCode sourceCode = createSourceCode(iterations);
+        final AllocationCounter allocationCounter = new AllocationCounter();
+
+        System.out.printf("%-18s %14s %12s %14s%n", "engine", "bytes/call", "time, ms", "calls/ms");
+        for (final ExecutionEngine executionEngine : ExecutionEngine.values()) {
+            final VirtualMachine virtualMachine = new VirtualMachineBuilder()
+                .setConsole(new SilentConsole())
+                .setExecutionEngine(executionEngine)
+                .setMemoizationCacheSize(0)
+                .build();
+            for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+                virtualMachine.run(sourceCode);
+            }
+
+            final long allocatedBefore = allocationCounter.getAllocatedBytes();
+            final long startTime = System.nanoTime();
+            virtualMachine.run(sourceCode);
+            final long elapsedNanos = System.nanoTime() - startTime;
+            final long allocated = allocationCounter.getAllocatedBytes() - allocatedBefore;
+            final long calls = (long) iterations * FIBONACCI_CALLS;
+
+            System.out.printf("%-18s %14.1f %12d %14.1f%n",
+                executionEngine,
+                (double) allocated / calls,
+                elapsedNanos / 1_000_000,
+                calls / (elapsedNanos / 1_000_000.0));
+        }
+    }
+
+    private static SourceCode createSourceCode(final int iterations) {
+        final List<String> lines = List.of(
+            "function main() {",
+            "    var total = 0",
+            "    for (var i = 0; i < " + iterations + "; i++) {",
+            "        total += fibonacci(" + FIBONACCI_ARGUMENT + ")",
+            "        total += countOdd(i % 50)",
+            "    }",
+            "    println(total)",
+            "}",
+            "",
+            "function fibonacci(n) {",
+            "    if (n < 2) {",
+            "        return n",
+            "    }",
+            "    return fibonacci(n - 1) + fibonacci(n - 2)",
+            "}",
+            "",
+            "function countOdd(limit) {",
+            "    var count = 0",
+            "    var i = 0",
+            "    while (true) {",
+            "        i++",
+            "        if (i > limit) {",
+            "            break",
+            "        }",
+            "        if (i % 2 == 0) {",
+            "            continue",
+            "        }",
+            "        count++",
+            "    }",
+            "    return count",
+            "}"
+        );
+        return new SourceCode() {
+            @Override
+            public String getModuleName() {
+                return "benchmark";
+            }
+
+            @Override
+            public List<String> getLines() {
+                return lines;
+            }
+        };
+    }
+}
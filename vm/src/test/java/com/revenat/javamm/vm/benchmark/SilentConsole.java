@@ -15,25 +15,24 @@
  * limitations under the License.
  */
 
-package com.revenat.javamm.interpreter.component.impl.operation.exception;
+package com.revenat.javamm.vm.benchmark;
 
-import static java.util.Objects.requireNonNull;
+import com.revenat.javamm.code.component.Console;
 
 /**
+ * Console which ignores output of the benchmarked programs
+ *
  * @author Vitaliy Dragun
  */
-public abstract class InterruptOperationException extends RuntimeException {
-
-    private static final long serialVersionUID = 1L;
-
-    private final String operation;
+final class SilentConsole implements Console {
 
-    InterruptOperationException(final String operation) {
-        super(null, null, false, false);
-        this.operation = requireNonNull(operation);
+    @Override
+    public void outPrintln(final Object value) {
+        // benchmark output is not interesting
     }
 
-    public final String getOperation() {
-        return operation;
+    @Override
+    public void errPrintln(final String message) {
+        System.err.println(message);
     }
 }
@@ -0,0 +1,91 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.revenat.javamm.vm.benchmark;
+
+import com.revenat.javamm.code.fragment.SourceCode;
+import com.revenat.javamm.interpreter.ExecutionEngine;
+import com.revenat.javamm.vm.VirtualMachine;
+import com.revenat.javamm.vm.VirtualMachineBuilder;
+
+import java.util.List;
+
+/**
+ * Measures time of the loop that builds a long string with repeated concatenation
+ * for every {@linkplain ExecutionEngine execution engine}.
+ *
+ * <p>Run from the class path with optional number of concatenations, for example:
+ * {@code java -cp <classes> com.revenat.javamm.vm.benchmark.StringConcatenationBenchmark 50000}
+ *
+ * @author Vitaliy Dragun
+ */
+public final class StringConcatenationBenchmark {
+
+    private static final int DEFAULT_CONCATENATION_COUNT = 50_000;
+
+    private static final int WARM_UP_ROUNDS = 3;
+
+    private StringConcatenationBenchmark() {
+    }
+
+    public static void main(final String[] args) {
+        final int concatenationCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_CONCATENATION_COUNT;
+        final SourceCode sourceCode = createSourceCode(concatenationCount);
+
+        System.out.printf("%-18s %16s%n", "engine", "time, ms");
+        for (final ExecutionEngine executionEngine : ExecutionEngine.values()) {
+            System.out.printf("%-18s %16.2f%n", executionEngine, measure(executionEngine, sourceCode));
+        }
+    }
+
+    private static double measure(final ExecutionEngine executionEngine, final SourceCode sourceCode) {
+        final VirtualMachine virtualMachine = new VirtualMachineBuilder()
+            .setConsole(new SilentConsole())
+            .setExecutionEngine(executionEngine)
+            .build();
+        for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+            virtualMachine.run(sourceCode);
+        }
+        final long startTime = System.nanoTime();
+        virtualMachine.run(sourceCode);
+        return (System.nanoTime() - startTime) / 1_000_000.0;
+    }
+
+    private static SourceCode createSourceCode(final int concatenationCount) {
+        final List<String> lines = List.of(
+            "function main() {",
+            "    var report = ''",
+            "    for (var i = 0; i < " + concatenationCount + "; i++) {",
+            "        report += 'line ' + i + ';'",
+            "    }",
+            "    println(report == '')",
+            "}"
+        );
+        return new SourceCode() {
+            @Override
+            public String getModuleName() {
+                return "benchmark";
+            }
+
+            @Override
+            public List<String> getLines() {
+                return lines;
+            }
+        };
+    }
+}
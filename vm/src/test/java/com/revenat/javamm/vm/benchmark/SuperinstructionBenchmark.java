@@ -0,0 +1,111 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.vm.benchmark;
+
+import com.revenat.javamm.code.fragment.SourceCode;
+import com.revenat.javamm.interpreter.ExecutionEngine;
+import com.revenat.javamm.vm.VirtualMachine;
+import com.revenat.javamm.vm.VirtualMachineBuilder;
+
+import java.util.List;
+
+/**
+ * Compares time and heap allocation of the loop built from the most common operation
+ * shapes ({@code i++}, {@code i < n}, {@code sum += i}, {@code x = x op y}) with
+ * superinstructions enabled and disabled for every {@linkplain ExecutionEngine execution
+ * engine}. Superinstructions have dedicated interpreters in the tree walking engine and
+ * dedicated nodes in the closure compiled engine, other engines show that they do not
+ * suffer from them.
+ *
+ * <p>Run from the class path with optional number of loop iterations, for example:
+ * {@code java -cp <classes> com.revenat.javamm.vm.benchmark.SuperinstructionBenchmark 200000}
+ *
+ * @author Vitaliy Dragun
+ */
+public final class SuperinstructionBenchmark {
+
+    private static final int DEFAULT_ITERATIONS = 200_000;
+
+    private static final int WARM_UP_ROUNDS = 3;
+
+    private SuperinstructionBenchmark() {
+    }
+
+    public static void main(final String[] args) throws ReflectiveOperationException {
+        final int iterations = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ITERATIONS;
+        final SourceCode sourceCode = createSourceCode(iterations);
+        final AllocationCounter allocationCounter = new AllocationCounter();
+
+        System.out.printf("%-18s %-16s %14s %12s %14s%n", "engine", "superinstructions", "bytes/iter", "time, ms",
+            "ns/iter");
+        for (final ExecutionEngine executionEngine : ExecutionEngine.values()) {
+            for (final boolean superinstructionsEnabled : new boolean[]{false, true}) {
+                final VirtualMachine virtualMachine = new VirtualMachineBuilder()
+                    .setConsole(new SilentConsole())
+                    .setExecutionEngine(executionEngine)
+                    .setSuperinstructionsEnabled(superinstructionsEnabled)
+                    .build();
+                for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+                    virtualMachine.run(sourceCode);
+                }
+
+                final long allocatedBefore = allocationCounter.getAllocatedBytes();
+                final long startTime = System.nanoTime();
+                virtualMachine.run(sourceCode);
+                final long elapsedNanos = System.nanoTime() - startTime;
+                final long allocated = allocationCounter.getAllocatedBytes() - allocatedBefore;
+
+                System.out.printf("%-18s %-16s %14.1f %12d %14.1f%n",
+                    executionEngine,
+                    superinstructionsEnabled ? "enabled" : "disabled",
+                    (double) allocated / iterations,
+                    elapsedNanos / 1_000_000,
+                    (double) elapsedNanos / iterations);
+            }
+        }
+    }
+
+    private static SourceCode createSourceCode(final int iterations) {
+        final List<String> lines = List.of(
+            "function main() {",
+            "    var n = " + iterations,
+            "    var sum = 0",
+            "    var x = 1",
+            "    var i = 0",
+            "    while (i < n) {",
+            "        sum += i",
+            "        x = x * 3",
+            "        x = x % 1000",
+            "        i++",
+            "    }",
+            "    println(sum + x)",
+            "}"
+        );
+        return new SourceCode() {
+            @Override
+            public String getModuleName() {
+                return "benchmark";
+            }
+
+            @Override
+            public List<String> getLines() {
+                return lines;
+            }
+        };
+    }
+}
@@ -18,6 +18,7 @@
 package com.revenat.javamm.vm.integration;
 
 import com.revenat.javamm.code.fragment.SourceCode;
+import com.revenat.javamm.interpreter.ExecutionEngine;
 import com.revenat.javamm.vm.VirtualMachine;
 import com.revenat.javamm.vm.VirtualMachineBuilder;
 import org.junit.jupiter.api.AfterEach;
@@ -42,7 +43,19 @@ public abstract class AbstractIntegrationTest {
 
     private final SpyPrintStream testOutputStream = new SpyPrintStream();
 
-    private final VirtualMachine virtualMachine = new VirtualMachineBuilder().build();
+    private final VirtualMachine virtualMachine;
+
+    protected AbstractIntegrationTest() {
+        this(ExecutionEngine.TREE_WALKING);
+    }
+
+    protected AbstractIntegrationTest(final ExecutionEngine executionEngine) {
+        this(new VirtualMachineBuilder().setExecutionEngine(executionEngine));
+    }
+
+    protected AbstractIntegrationTest(final VirtualMachineBuilder virtualMachineBuilder) {
+        virtualMachine = virtualMachineBuilder.build();
+    }
 
     public static String buildErrorMsg(final String msg, final int lineNumber) {
         return String.format("Runtime error: %s%s    at main() [%s:%s]",
@@ -74,6 +87,13 @@ public abstract class AbstractIntegrationTest {
         virtualMachine.run(new TestSourceCode(validOperations, MODULE_NAME));
     }
 
+    /**
+     * Requests termination of the code which is run at the moment
+     */
+    protected final void terminate() {
+        virtualMachine.terminate();
+    }
+
     protected final void runBlock(final String operation) {
         runBlock(List.of(operation));
     }
@@ -18,6 +18,7 @@
 package com.revenat.javamm.vm.integration;
 
 import com.revenat.javamm.interpreter.error.JavammRuntimeError;
+import com.revenat.javamm.vm.VirtualMachineBuilder;
 import com.revenat.juinit.addons.ReplaceCamelCase;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.DisplayNameGeneration;
@@ -39,6 +40,14 @@ import static org.junit.jupiter.params.provider.Arguments.arguments;
 @DisplayName("an interpreter")
 public class BlockScopeVariables_IntegrationTest extends AbstractIntegrationTest {
 
+    /**
+     * Variable scopes are verified by compiler by default, so the runtime scopes are
+     * tested without verification
+     */
+    public BlockScopeVariables_IntegrationTest() {
+        super(new VirtualMachineBuilder().setScopeVerificationEnabled(false));
+    }
+
     @ParameterizedTest
     @ArgumentsSource(BlockScopeProvider.class)
     @DisplayName("should throw runtime error if try to access variable defined inside inner scope from outside")
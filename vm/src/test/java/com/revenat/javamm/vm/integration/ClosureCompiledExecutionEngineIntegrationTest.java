@@ -0,0 +1,201 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.vm.integration;
+
+import com.revenat.javamm.interpreter.ExecutionEngine;
+import com.revenat.javamm.interpreter.error.JavammRuntimeError;
+import com.revenat.javamm.vm.VirtualMachine;
+import com.revenat.javamm.vm.VirtualMachineBuilder;
+import com.revenat.juinit.addons.ReplaceCamelCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.ArgumentsProvider;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.revenat.javamm.vm.helper.CustomAsserts.assertErrorMessageContains;
+import static java.lang.System.lineSeparator;
+import static java.util.List.of;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayNameGeneration(ReplaceCamelCase.class)
+@DisplayName("a closure compiled execution engine")
+public class ClosureCompiledExecutionEngineIntegrationTest extends AbstractIntegrationTest {
+
+    /**
+     * Variable scopes are verified by compiler by default, so runtime scope checks of the
+     * engine are tested with the virtual machine which does not verify them
+     */
+    private final VirtualMachine unverifiedVirtualMachine = new VirtualMachineBuilder()
+        .setExecutionEngine(ExecutionEngine.CLOSURE_COMPILED)
+        .setScopeVerificationEnabled(false)
+        .build();
+
+    public ClosureCompiledExecutionEngineIntegrationTest() {
+        super(ExecutionEngine.CLOSURE_COMPILED);
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(ProgramProvider.class)
+    @Order(1)
+    void shouldProduceSameOutputAsTreeWalkingEngine(final List<String> lines, final List<Object> expectedOutput) {
+        assertDoesNotThrow(() -> {
+            runCode(lines);
+            assertExpectedOutput(expectedOutput);
+        });
+    }
+
+    @Test
+    @Order(2)
+    void shouldFailIfVariableIsUsedOutsideItsScope() {
+        final List<String> lines = of(
+            "function main() {",
+            "if (true) {",
+            "   var a = 5",
+            "}",
+            "println (a)",
+            "}"
+        );
+
+        final JavammRuntimeError e = assertThrows(JavammRuntimeError.class,
+            () -> unverifiedVirtualMachine.run(new TestSourceCode(lines, MODULE_NAME)));
+
+        assertErrorMessageContains(e, buildErrorMsg("Variable 'a' is not defined", 5));
+    }
+
+    @Test
+    @Order(3)
+    void shouldThrowRuntimeErrorWithStackTrace() {
+        final List<String> lines = of(
+            "function main() {",
+            "   var a = div(1)",
+            "}",
+            "function div(a) {",
+            "   return a / 0",
+            "}"
+        );
+
+        final JavammRuntimeError e = assertThrows(JavammRuntimeError.class, () -> runCode(lines));
+
+        assertErrorMessageContains(e, buildErrorMsg("/ by zero",
+            "    at div(a) [test:5]" + lineSeparator() + "    at main() [test:2]"));
+    }
+
+    static final class ProgramProvider implements ArgumentsProvider {
+
+        @Override
+        public Stream<? extends Arguments> provideArguments(final ExtensionContext context) {
+            return Stream.of(
+                arguments(of(
+                    "function main() {",
+                    "   println (factorial(5))",
+                    "}",
+                    "function factorial(n) {",
+                    "   return n <= 1 ? 1 : n * factorial(n - 1)",
+                    "}"
+                ), of(120)),
+                arguments(of(
+                    "function main() {",
+                    "   println (print(1) + print(2) * print(3))",
+                    "}",
+                    "function print(a) {",
+                    "   println (a)",
+                    "   return a",
+                    "}"
+                ), of(2, 3, 1, 7)),
+                arguments(of(
+                    "function main() {",
+                    "   for (var i = 0; i < 5; i++) {",
+                    "       if (i == 1) {",
+                    "           continue",
+                    "       }",
+                    "       if (i == 3) {",
+                    "           break",
+                    "       }",
+                    "       println (i)",
+                    "   }",
+                    "   var j = 3",
+                    "   while (j-- > 0) {",
+                    "       println (j)",
+                    "   }",
+                    "   do {",
+                    "       j += 10",
+                    "   }",
+                    "   while (j < 25)",
+                    "   println (j)",
+                    "}"
+                ), of(0, 2, 2, 1, 0, 29)),
+                arguments(of(
+                    "function main() {",
+                    "   var a = 2",
+                    "   switch (a) {",
+                    "       case 1: {",
+                    "           println (1)",
+                    "       }",
+                    "       case 2: {",
+                    "           println (2)",
+                    "       }",
+                    "       case 3: {",
+                    "           println (3)",
+                    "           break",
+                    "       }",
+                    "       default: {",
+                    "           println ('default')",
+                    "       }",
+                    "   }",
+                    "}"
+                ), of(2, 3)),
+                arguments(of(
+                    "function main() {",
+                    "   var a = 1",
+                    "   println (a++ + ++a)",
+                    "   a <<= 2",
+                    "   println (a)",
+                    "   println (nothing())",
+                    "}",
+                    "function nothing() {",
+                    "   return",
+                    "}"
+                ), of(4, 12, com.revenat.javamm.code.fragment.Void.INSTANCE)),
+                arguments(of(
+                    "function main() {",
+                    "   println (sum(1000, 0))",
+                    "}",
+                    "function sum(n, result) {",
+                    "   if (n == 0) {",
+                    "       return result",
+                    "   }",
+                    "   return sum(n - 1, result + n)",
+                    "}"
+                ), of(500500))
+            );
+        }
+    }
+}
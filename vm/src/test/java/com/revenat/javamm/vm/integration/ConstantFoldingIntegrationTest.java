@@ -0,0 +1,141 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.vm.integration;
+
+import com.revenat.javamm.code.exception.JavammError;
+import com.revenat.javamm.interpreter.ExecutionEngine;
+import com.revenat.javamm.vm.VirtualMachine;
+import com.revenat.javamm.vm.VirtualMachineBuilder;
+import com.revenat.juinit.addons.ReplaceCamelCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.lang.String.format;
+import static java.util.List.of;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Compares results of the operators which compiler folds for constant operands with
+ * results of the same operators which interpreter calculates for variables
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayNameGeneration(ReplaceCamelCase.class)
+@DisplayName("a constant folding")
+public class ConstantFoldingIntegrationTest extends AbstractIntegrationTest {
+
+    private static final List<String> OPERANDS = of(
+        "0", "7", "-3", "2.5", "0.0", "(0.0 / 0.0)", "true", "false", "''", "'ab'", "null"
+    );
+
+    private static final List<String> BINARY_OPERATORS = of(
+        "*", "/", "%", "+", "-",
+        ">", ">=", "<", "<=", "==", "!=",
+        "&", "|", "^", ">>", "<<", ">>>",
+        "&&", "||"
+    );
+
+    private static final List<String> UNARY_OPERATORS = of("+", "-", "~", "!");
+
+    @ParameterizedTest
+    @EnumSource(ExecutionEngine.class)
+    @Order(1)
+    void shouldCalculateBinaryOperatorsAsInterpreter(final ExecutionEngine executionEngine) {
+        final VirtualMachine virtualMachine = buildVirtualMachine(executionEngine);
+        final List<String> differences = new ArrayList<>();
+        for (final String operator : BINARY_OPERATORS) {
+            for (final String operand1 : OPERANDS) {
+                for (final String operand2 : OPERANDS) {
+                    final String folded = format("(%s) %s (%s)", operand1, operator, operand2);
+                    final String interpreted = format("a %s b", operator);
+                    compare(virtualMachine, operand1, operand2, folded, interpreted, differences);
+                }
+            }
+        }
+
+        assertThat(differences, equalTo(List.of()));
+    }
+
+    @ParameterizedTest
+    @EnumSource(ExecutionEngine.class)
+    @Order(2)
+    void shouldCalculateUnaryOperatorsAsInterpreter(final ExecutionEngine executionEngine) {
+        final VirtualMachine virtualMachine = buildVirtualMachine(executionEngine);
+        final List<String> differences = new ArrayList<>();
+        for (final String operator : UNARY_OPERATORS) {
+            for (final String operand : OPERANDS) {
+                final String folded = format("%s(%s)", operator, operand);
+                final String interpreted = format("%s(a)", operator);
+                compare(virtualMachine, operand, "null", folded, interpreted, differences);
+            }
+        }
+
+        assertThat(differences, equalTo(List.of()));
+    }
+
+    private VirtualMachine buildVirtualMachine(final ExecutionEngine executionEngine) {
+        return new VirtualMachineBuilder()
+            .setExecutionEngine(executionEngine)
+            .build();
+    }
+
+    private void compare(final VirtualMachine virtualMachine,
+                         final String operand1,
+                         final String operand2,
+                         final String folded,
+                         final String interpreted,
+                         final List<String> differences) {
+        final String expected = run(virtualMachine, operand1, operand2, interpreted);
+        final String actual = run(virtualMachine, operand1, operand2, folded);
+        if (!expected.equals(actual)) {
+            differences.add(format("%s: %s, but interpreter: %s", folded, actual, expected));
+        }
+    }
+
+    /**
+     * Runs the expression after declarations of the variables, so the constant expression
+     * and the expression with variables fail at the same line
+     */
+    private String run(final VirtualMachine virtualMachine,
+                       final String operand1,
+                       final String operand2,
+                       final String expression) {
+        final List<String> lines = of(
+            "function main() {",
+            "   var a = " + operand1,
+            "   var b = " + operand2,
+            "   println (" + expression + ")",
+            "}"
+        );
+        final int outputSize = getOutput().size();
+        try {
+            virtualMachine.run(new TestSourceCode(lines, MODULE_NAME));
+        } catch (final JavammError e) {
+            return e.getMessage();
+        }
+        return String.valueOf(getOutput().subList(outputSize, getOutput().size()));
+    }
+}
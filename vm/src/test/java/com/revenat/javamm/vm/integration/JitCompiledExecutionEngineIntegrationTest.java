@@ -0,0 +1,106 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.vm.integration;
+
+import com.revenat.javamm.interpreter.ExecutionEngine;
+import com.revenat.javamm.interpreter.error.JavammRuntimeError;
+import com.revenat.javamm.vm.VirtualMachine;
+import com.revenat.javamm.vm.VirtualMachineBuilder;
+import com.revenat.juinit.addons.ReplaceCamelCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+import java.util.List;
+
+import static com.revenat.javamm.vm.helper.CustomAsserts.assertErrorMessageContains;
+import static java.lang.System.lineSeparator;
+import static java.util.List.of;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayNameGeneration(ReplaceCamelCase.class)
+@DisplayName("a jit compiled execution engine")
+public class JitCompiledExecutionEngineIntegrationTest extends AbstractIntegrationTest {
+
+    /**
+     * Variable scopes are verified by compiler by default, so runtime scope checks of the
+     * engine are tested with the virtual machine which does not verify them
+     */
+    private final VirtualMachine unverifiedVirtualMachine = new VirtualMachineBuilder()
+        .setExecutionEngine(ExecutionEngine.JIT_COMPILED)
+        .setScopeVerificationEnabled(false)
+        .build();
+
+    public JitCompiledExecutionEngineIntegrationTest() {
+        super(ExecutionEngine.JIT_COMPILED);
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(ClosureCompiledExecutionEngineIntegrationTest.ProgramProvider.class)
+    @Order(1)
+    void shouldProduceSameOutputAsTreeWalkingEngine(final List<String> lines, final List<Object> expectedOutput) {
+        assertDoesNotThrow(() -> {
+            runCode(lines);
+            assertExpectedOutput(expectedOutput);
+        });
+    }
+
+    @Test
+    @Order(2)
+    void shouldFailIfVariableIsUsedOutsideItsScope() {
+        final List<String> lines = of(
+            "function main() {",
+            "while (true) {",
+            "   var a = 5",
+            "   break",
+            "}",
+            "println (a)",
+            "}"
+        );
+
+        final JavammRuntimeError e = assertThrows(JavammRuntimeError.class,
+            () -> unverifiedVirtualMachine.run(new TestSourceCode(lines, MODULE_NAME)));
+
+        assertErrorMessageContains(e, buildErrorMsg("Variable 'a' is not defined", 6));
+    }
+
+    @Test
+    @Order(3)
+    void shouldThrowRuntimeErrorWithStackTrace() {
+        final List<String> lines = of(
+            "function main() {",
+            "   var a = div(1)",
+            "}",
+            "function div(a) {",
+            "   return a / 0",
+            "}"
+        );
+
+        final JavammRuntimeError e = assertThrows(JavammRuntimeError.class, () -> runCode(lines));
+
+        assertErrorMessageContains(e, buildErrorMsg("/ by zero",
+            "    at div(a) [test:5]" + lineSeparator() + "    at main() [test:2]"));
+    }
+}
@@ -0,0 +1,180 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.vm.integration;
+
+import com.revenat.javamm.interpreter.ExecutionEngine;
+import com.revenat.javamm.interpreter.error.JavammRuntimeError;
+import com.revenat.javamm.interpreter.model.MemoizationStatistics;
+import com.revenat.javamm.vm.VirtualMachine;
+import com.revenat.javamm.vm.VirtualMachineBuilder;
+import com.revenat.juinit.addons.ReplaceCamelCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.List;
+
+import static java.util.List.of;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayNameGeneration(ReplaceCamelCase.class)
+@DisplayName("a memoization of the pure functions")
+public class MemoizationIntegrationTest extends AbstractIntegrationTest {
+
+    private static final int MAX_STACK_SIZE = 100;
+
+    private static final int MEMOIZATION_CACHE_SIZE = 4096;
+
+    @ParameterizedTest
+    @EnumSource(ExecutionEngine.class)
+    @Order(1)
+    void shouldTurnExponentialRecursionIntoLinearOne(final ExecutionEngine executionEngine) {
+        final List<String> lines = of(
+            "function main() {",
+            "   println(fibonacci(40))",
+            "   println(fibonacci(40.0))",
+            "}",
+            "function fibonacci(n) {",
+            "   if (n < 2) {",
+            "       return n",
+            "   }",
+            "   return fibonacci(n - 1) + fibonacci(n - 2)",
+            "}"
+        );
+
+        assertDoesNotThrow(() -> run(executionEngine, lines));
+
+        assertExpectedOutput(of(102334155, 1.02334155E8));
+    }
+
+    @ParameterizedTest
+    @EnumSource(ExecutionEngine.class)
+    @Order(2)
+    void shouldInvokeFunctionWhichPrintsEachTime(final ExecutionEngine executionEngine) {
+        final List<String> lines = of(
+            "function main() {",
+            "   var sum = 0",
+            "   for (var i = 0; i < 3; i++) {",
+            "       sum += twice(5)",
+            "   }",
+            "   println(sum)",
+            "}",
+            "function twice(value) {",
+            "   return log(value) * 2",
+            "}",
+            "function log(value) {",
+            "   println(value)",
+            "   return value",
+            "}"
+        );
+
+        assertDoesNotThrow(() -> run(executionEngine, lines));
+
+        assertExpectedOutput(of(5, 5, 5, 30));
+    }
+
+    @Test
+    @Order(3)
+    void shouldNotMemoizeFailedInvocation() {
+        final List<String> lines = of(
+            "function main() {",
+            "   println(divide(1, 2))",
+            "   println(divide(1, 0))",
+            "}",
+            "function divide(a, b) {",
+            "   return a / b",
+            "}"
+        );
+
+        final JavammRuntimeError expected = assertThrows(JavammRuntimeError.class,
+            () -> build(ExecutionEngine.TREE_WALKING, 0).run(new TestSourceCode(lines, MODULE_NAME)));
+        final JavammRuntimeError actual = assertThrows(JavammRuntimeError.class,
+            () -> run(ExecutionEngine.TREE_WALKING, lines));
+
+        assertThat(actual.getMessage(), equalTo(expected.getMessage()));
+    }
+
+    @Test
+    @Order(4)
+    void shouldDistinguishArgumentsOfDifferentTypes() {
+        final List<String> lines = of(
+            "function main() {",
+            "   println(describe(1))",
+            "   println(describe(1.0))",
+            "   println(describe('1'))",
+            "   println(describe(null))",
+            "   println(describe(1))",
+            "}",
+            "function describe(value) {",
+            "   return value + ' ' + (value == null)",
+            "}"
+        );
+
+        assertDoesNotThrow(() -> run(ExecutionEngine.TREE_WALKING, lines));
+
+        assertExpectedOutput(of("1 false", "1.0 false", "1 false", "null true", "1 false"));
+    }
+
+    @ParameterizedTest
+    @EnumSource(ExecutionEngine.class)
+    @Order(5)
+    void shouldCountHitsAndMissesOfMemoizationCache(final ExecutionEngine executionEngine) {
+        final List<String> lines = of(
+            "function main() {",
+            "   println(fibonacci(10))",
+            "}",
+            "function fibonacci(n) {",
+            "   if (n < 2) {",
+            "       return n",
+            "   }",
+            "   return fibonacci(n - 1) + fibonacci(n - 2)",
+            "}"
+        );
+        final VirtualMachine virtualMachine =
+            build(executionEngine, MEMOIZATION_CACHE_SIZE);
+
+        virtualMachine.run(new TestSourceCode(lines, MODULE_NAME));
+
+        final MemoizationStatistics statistics = virtualMachine.getMemoizationStatistics();
+        assertThat(statistics.getMissCount(), equalTo(11L));
+        assertThat(statistics.getHitCount(), equalTo(8L));
+        assertThat(statistics.getCachedResultCount(), equalTo(11));
+    }
+
+    private void run(final ExecutionEngine executionEngine, final List<String> lines) {
+        build(executionEngine, MEMOIZATION_CACHE_SIZE)
+            .run(new TestSourceCode(lines, MODULE_NAME));
+    }
+
+    private VirtualMachine build(final ExecutionEngine executionEngine, final int memoizationCacheSize) {
+        return new VirtualMachineBuilder()
+            .setExecutionEngine(executionEngine)
+            .setMaxStackSize(MAX_STACK_SIZE)
+            .setMemoizationCacheSize(memoizationCacheSize)
+            .build();
+    }
+}
@@ -0,0 +1,125 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.vm.integration;
+
+import com.revenat.javamm.interpreter.ExecutionEngine;
+import com.revenat.javamm.interpreter.error.JavammRuntimeError;
+import com.revenat.juinit.addons.ReplaceCamelCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+import java.util.List;
+
+import static com.revenat.javamm.vm.helper.CustomAsserts.assertErrorMessageContains;
+import static java.util.List.of;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayNameGeneration(ReplaceCamelCase.class)
+@DisplayName("a register machine execution engine")
+public class RegisterMachineExecutionEngineIntegrationTest extends AbstractIntegrationTest {
+
+    public RegisterMachineExecutionEngineIntegrationTest() {
+        super(ExecutionEngine.REGISTER_MACHINE);
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(ClosureCompiledExecutionEngineIntegrationTest.ProgramProvider.class)
+    @Order(1)
+    void shouldProduceSameOutputAsTreeWalkingEngine(final List<String> lines, final List<Object> expectedOutput) {
+        assertDoesNotThrow(() -> {
+            runCode(lines);
+            assertExpectedOutput(expectedOutput);
+        });
+    }
+
+    @Test
+    @Order(2)
+    void shouldNotEvaluateSecondOperandIfResultIsKnownFromFirstOne() {
+        final List<String> lines = of(
+            "function main() {",
+            "   println (false && print(1))",
+            "   println (true || print(2))",
+            "   println (true && print(true))",
+            "}",
+            "function print(a) {",
+            "   println (a)",
+            "   return a",
+            "}"
+        );
+
+        assertDoesNotThrow(() -> runCode(lines));
+
+        assertExpectedOutput(of(false, true, true, true));
+    }
+
+    @Test
+    @Order(3)
+    void shouldBreakOutOfLoopFromSwitchNestedScope() {
+        final List<String> lines = of(
+            "for (var i = 0; i < 3; i++) {",
+            "   switch (i) {",
+            "       case 1: {",
+            "           var a = i",
+            "           continue",
+            "       }",
+            "   }",
+            "   var a = i * 10",
+            "   println (a)",
+            "}"
+        );
+
+        assertDoesNotThrow(() -> runBlock(lines));
+
+        assertExpectedOutput(of(0, 20));
+    }
+
+    @Test
+    @Order(4)
+    void shouldFailIfBreakIsUsedOutsideLoop() {
+        final List<String> lines = of(
+            "var a = 5",
+            "break"
+        );
+
+        final JavammRuntimeError e = assertThrows(JavammRuntimeError.class, () -> runBlock(lines));
+
+        assertErrorMessageContains(e, buildErrorMsg("Operation 'break' is not expected here", 3));
+    }
+
+    @Test
+    @Order(5)
+    void shouldFailIfConditionIsNotBoolean() {
+        final List<String> lines = of(
+            "var a = 5",
+            "while (a) {",
+            "}"
+        );
+
+        final JavammRuntimeError e = assertThrows(JavammRuntimeError.class, () -> runBlock(lines));
+
+        assertErrorMessageContains(e, buildErrorMsg("Condition expression should be boolean. Current type is integer", 3));
+    }
+}
@@ -0,0 +1,97 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.vm.integration;
+
+import com.revenat.javamm.interpreter.ExecutionEngine;
+import com.revenat.javamm.vm.VirtualMachine;
+import com.revenat.javamm.vm.VirtualMachineBuilder;
+import com.revenat.juinit.addons.ReplaceCamelCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.List;
+
+import static java.util.List.of;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+
+@DisplayNameGeneration(ReplaceCamelCase.class)
+@DisplayName("a repeated string concatenation")
+public class StringConcatenationIntegrationTest extends AbstractIntegrationTest {
+
+    private static final List<String> LINES = of(
+        "function main() {",
+        "   var s = ''",
+        "   for (var i = 0; i < 200; i++) {",
+        "       s += i % 10",
+        "   }",
+        "   final prefix = s",
+        "   s = s + '!'",
+        "   var t = prefix + '?'",
+        "   var expected = ''",
+        "   for (var i = 0; i < 20; i++) {",
+        "       expected = expected + '0123456789'",
+        "   }",
+        "   println(prefix == expected)",
+        "   println(s == expected + '!')",
+        "   println(t == expected + '?')",
+        "   println(s typeof string)",
+        "   final expectedHash = #(expected + '!')",
+        "   println(#s == expectedHash)",
+        "   println(s != t)",
+        "   switch (t) {",
+        "       case '' : {",
+        "           println('empty')",
+        "           break",
+        "       }",
+        "       case '" + "0123456789".repeat(20) + "?' : {",
+        "           println(length(prefix + prefix))",
+        "       }",
+        "   }",
+        "   println(describe(prefix + 1))",
+        "}",
+        "function length(value) {",
+        "   var count = 0",
+        "   var text = ''",
+        "   while (text != value) {",
+        "       text = text + '0123456789'",
+        "       count += 10",
+        "   }",
+        "   return count",
+        "}",
+        "function describe(value) {",
+        "   if (value typeof string) {",
+        "       return 'string'",
+        "   }",
+        "   return 'other'",
+        "}"
+    );
+
+    @ParameterizedTest
+    @EnumSource(ExecutionEngine.class)
+    void shouldTreatConcatenatedStringAsAnyOtherString(final ExecutionEngine executionEngine) {
+        final VirtualMachine virtualMachine = new VirtualMachineBuilder()
+            .setExecutionEngine(executionEngine)
+            .build();
+
+        assertDoesNotThrow(() -> virtualMachine.run(new TestSourceCode(LINES, MODULE_NAME)));
+
+        assertExpectedOutput(of(true, true, true, true, true, true, 400, "string"));
+    }
+}
@@ -0,0 +1,146 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.vm.integration;
+
+import com.revenat.javamm.code.exception.JavammError;
+import com.revenat.javamm.vm.VirtualMachine;
+import com.revenat.javamm.vm.VirtualMachineBuilder;
+import com.revenat.juinit.addons.ReplaceCamelCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.ArgumentsProvider;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static java.util.List.of;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayNameGeneration(ReplaceCamelCase.class)
+@DisplayName("a superinstruction")
+public class SuperinstructionIntegrationTest extends AbstractIntegrationTest {
+
+    private final VirtualMachine genericVirtualMachine = new VirtualMachineBuilder()
+        .setSuperinstructionsEnabled(false)
+        .build();
+
+    @Test
+    @Order(1)
+    void shouldSupportAllTypesOfOperands() {
+        final List<String> lines = of(
+            "var i = 0",
+            "i++",
+            "++i",
+            "i--",
+            "println (i)",
+            "var d = 1.5",
+            "d++",
+            "println (d)",
+            "var s = 'a'",
+            "s += 1",
+            "s += i",
+            "println (s)",
+            "var sum = 0",
+            "for (var k = 0; k < 5; k++) {",
+            "   sum += k",
+            "}",
+            "println (sum)",
+            "var x = 3",
+            "x = x * x",
+            "println (x)",
+            "println (x > i)"
+        );
+
+        assertDoesNotThrow(() -> runBlock(lines));
+
+        assertExpectedOutput(of(1, 2.5, "a11", 10, 9, true));
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(InvalidOperationProvider.class)
+    @Order(2)
+    void shouldReportSameErrorAsGenericOperation(final List<String> lines) {
+        final JavammError expected = assertThrows(JavammError.class, () -> runGeneric(lines));
+
+        final JavammError actual = assertThrows(JavammError.class, () -> runBlock(lines));
+
+        assertThat(actual.getMessage(), equalTo(expected.getMessage()));
+    }
+
+    private void runGeneric(final List<String> lines) {
+        final List<String> validOperations = new ArrayList<>();
+        validOperations.add("function main() {");
+        validOperations.addAll(lines);
+        validOperations.add("}");
+        genericVirtualMachine.run(new TestSourceCode(validOperations, MODULE_NAME));
+    }
+
+    static final class InvalidOperationProvider implements ArgumentsProvider {
+
+        @Override
+        public Stream<? extends Arguments> provideArguments(final ExtensionContext context) {
+            return Stream.of(
+                arguments(of(
+                    "final a = 1",
+                    "a++"
+                )),
+                arguments(of(
+                    "var a = 'text'",
+                    "a--"
+                )),
+                arguments(of(
+                    "var a = true",
+                    "a += 1"
+                )),
+                arguments(of(
+                    "var a = 1",
+                    "a += b"
+                )),
+                arguments(of(
+                    "var a = 1",
+                    "println (a < 'text')"
+                )),
+                arguments(of(
+                    "var a = 1",
+                    "println (a / 0)"
+                )),
+                arguments(of(
+                    "var a = 1",
+                    "{",
+                    "   var b = 2",
+                    "}",
+                    "b++"
+                ))
+            );
+        }
+    }
+}
@@ -0,0 +1,206 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.vm.integration;
+
+import com.revenat.javamm.code.component.Console;
+import com.revenat.javamm.code.fragment.SourceCode;
+import com.revenat.javamm.interpreter.ExecutionEngine;
+import com.revenat.javamm.interpreter.error.TerminateInterpreterException;
+import com.revenat.javamm.vm.VirtualMachine;
+import com.revenat.javamm.vm.VirtualMachineBuilder;
+import com.revenat.juinit.addons.ReplaceCamelCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.List.of;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayNameGeneration(ReplaceCamelCase.class)
+@DisplayName("a virtual machine")
+class TerminationIntegrationTest {
+
+    private static final long STOP_TIMEOUT_SECONDS = 10;
+
+    @Test
+    @Order(1)
+    void shouldTerminateInfiniteLoopInEachExecutionEngine() throws InterruptedException {
+        assertTerminated(of(
+            "function main() {",
+            "   println('started')",
+            "   while (true) {",
+            "   }",
+            "}"
+        ));
+    }
+
+    @Test
+    @Order(2)
+    void shouldTerminateInfiniteNestedLoopsInEachExecutionEngine() throws InterruptedException {
+        assertTerminated(of(
+            "function main() {",
+            "   println('started')",
+            "   var i = 0",
+            "   do {",
+            "       for (var j = 0; j < 10; j++) {",
+            "           i = i + j",
+            "       }",
+            "   }",
+            "   while (true)",
+            "}"
+        ));
+    }
+
+    @Test
+    @Order(3)
+    void shouldTerminateInfiniteTailRecursionInEachExecutionEngine() throws InterruptedException {
+        assertTerminated(of(
+            "function main() {",
+            "   println('started')",
+            "   loop(0)",
+            "}",
+            "function loop(n) {",
+            "   return loop(n + 1)",
+            "}"
+        ));
+    }
+
+    @Test
+    @Order(4)
+    void shouldNotRunSourceCodeIfTerminatedBeforeRunInEachExecutionEngine() {
+        for (final ExecutionEngine executionEngine : ExecutionEngine.values()) {
+            final StartedConsole console = new StartedConsole();
+            final VirtualMachine virtualMachine = new VirtualMachineBuilder()
+                .setConsole(console)
+                .setExecutionEngine(executionEngine)
+                .build();
+
+            virtualMachine.terminate();
+
+            assertThrows(TerminateInterpreterException.class,
+                () -> virtualMachine.run(sourceCode(of(
+                    "function main() {",
+                    "   println('started')",
+                    "}"
+                ))), executionEngine + " not terminated");
+            assertEquals(1L, console.started.getCount(), executionEngine + " started");
+        }
+    }
+
+    @Test
+    @Order(5)
+    void shouldRunSourceCodeAgainAfterTerminationInEachExecutionEngine() {
+        for (final ExecutionEngine executionEngine : ExecutionEngine.values()) {
+            final VirtualMachine virtualMachine = new VirtualMachineBuilder()
+                .setConsole(new StartedConsole())
+                .setExecutionEngine(executionEngine)
+                .build();
+            virtualMachine.terminate();
+            assertThrows(TerminateInterpreterException.class,
+                () -> virtualMachine.run(sourceCode(of(
+                    "function main() {",
+                    "}"
+                ))), executionEngine + " not terminated");
+
+            assertCompletedAfterTermination(virtualMachine, executionEngine);
+        }
+    }
+
+    private void assertTerminated(final List<String> lines) throws InterruptedException {
+        for (final ExecutionEngine executionEngine : ExecutionEngine.values()) {
+            final StartedConsole console = new StartedConsole();
+            final VirtualMachine virtualMachine = new VirtualMachineBuilder()
+                .setConsole(console)
+                .setExecutionEngine(executionEngine)
+                .build();
+            final AtomicReference<Throwable> error = new AtomicReference<>();
+            final Thread thread = new Thread(() -> {
+                try {
+                    virtualMachine.run(sourceCode(lines));
+                } catch (final RuntimeException e) {
+                    error.set(e);
+                }
+            });
+            thread.setDaemon(true);
+            thread.start();
+            assertTrue(console.started.await(STOP_TIMEOUT_SECONDS, TimeUnit.SECONDS), executionEngine + " not started");
+
+            virtualMachine.terminate();
+            thread.join(TimeUnit.SECONDS.toMillis(STOP_TIMEOUT_SECONDS));
+
+            assertFalse(thread.isAlive(), executionEngine + " not terminated");
+            assertTrue(error.get() instanceof TerminateInterpreterException, executionEngine + " failed with " + error);
+            assertCompletedAfterTermination(virtualMachine, executionEngine);
+        }
+    }
+
+    private void assertCompletedAfterTermination(final VirtualMachine virtualMachine,
+                                                 final ExecutionEngine executionEngine) {
+        final SourceCode sourceCode = sourceCode(of(
+            "function main() {",
+            "   for (var i = 0; i < 1000; i++) {",
+            "   }",
+            "}"
+        ));
+        assertDoesNotThrow(() -> virtualMachine.run(sourceCode), executionEngine + " terminated again");
+    }
+
+    private SourceCode sourceCode(final List<String> lines) {
+        return new SourceCode() {
+            @Override
+            public String getModuleName() {
+                return "termination";
+            }
+
+            @Override
+            public List<String> getLines() {
+                return lines;
+            }
+        };
+    }
+
+    /**
+     * Console which signals that the program has started its infinite part
+     */
+    private static final class StartedConsole implements Console {
+
+        private final CountDownLatch started = new CountDownLatch(1);
+
+        @Override
+        public void outPrintln(final Object value) {
+            started.countDown();
+        }
+
+        @Override
+        public void errPrintln(final String message) {
+        }
+    }
+}
@@ -23,6 +23,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -53,6 +54,27 @@ public class ComplexExpressionEvaluationIntegrationTest extends AbstractIntegrat
         evaluate(expression, expectedResult);
     }
 
+    @Test
+    @Order(2)
+    void shouldNotEvaluateUnneededOperandsOfNestedLogicalOperators() {
+        final List<String> lines = List.of(
+            "function main() {",
+            "   println (false && (print(1) || print(2)))",
+            "   println (true || (print(3) && print(4)))",
+            "   println (print(false) && (print(5) > 0 || print(6) > 0) || true)",
+            "   println (1 < 2 && (false || print(true) && print(7) > 0))",
+            "}",
+            "function print(a) {",
+            "   println (a)",
+            "   return a",
+            "}"
+        );
+
+        assertDoesNotThrow(() -> runCode(lines));
+
+        assertThat(getOutput(), equalTo(List.of(false, true, false, true, true, 7, true)));
+    }
+
     private void evaluate(final String expression, final Object expectedResult) {
         assertDoesNotThrow(() -> runBlock(putInsidePrintlnOperation(expression)));
         assertThat(getOutput(), equalTo(List.of(expectedResult)));
@@ -0,0 +1,160 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.vm.integration.function;
+
+import com.revenat.javamm.interpreter.ExecutionEngine;
+import com.revenat.javamm.interpreter.error.JavammRuntimeError;
+import com.revenat.javamm.vm.VirtualMachineBuilder;
+import com.revenat.javamm.vm.integration.AbstractIntegrationTest;
+import com.revenat.juinit.addons.ReplaceCamelCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.List;
+
+import static com.revenat.javamm.vm.helper.CustomAsserts.assertErrorMessageContains;
+import static java.lang.String.format;
+import static java.util.List.of;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayNameGeneration(ReplaceCamelCase.class)
+@DisplayName("an interpreter with the heap allocated call stack")
+public class HeapCallStackIntegrationTest extends AbstractIntegrationTest {
+
+    private static final int MAX_STACK_SIZE = 20_000;
+
+    public HeapCallStackIntegrationTest() {
+        super(new VirtualMachineBuilder()
+            .setExecutionEngine(ExecutionEngine.REGISTER_MACHINE)
+            .setMaxStackSize(MAX_STACK_SIZE)
+            .setMemoizationCacheSize(0));
+    }
+
+    @Test
+    @Order(1)
+    void shouldInvokeDeeplyRecursiveFunction() {
+        final List<String> lines = of(
+            "function main() {",
+            "   println(sum(15000))",
+            "}",
+            "function sum(n) {",
+            "   if (n == 0) {",
+            "       return 0",
+            "   }",
+            "   return n + sum(n - 1)",
+            "}"
+        );
+
+        assertDoesNotThrow(() -> runCode(lines));
+
+        assertExpectedOutput(of(112507500));
+    }
+
+    @Test
+    @Order(2)
+    void shouldPutResultOfEachInvocationIntoRegisterOfInvoker() {
+        final List<String> lines = of(
+            "function main() {",
+            "   println(fib(20))",
+            "}",
+            "function fib(n) {",
+            "   if (n < 2) {",
+            "       return n",
+            "   }",
+            "   return fib(n - 1) + fib(n - 2)",
+            "}"
+        );
+
+        assertDoesNotThrow(() -> runCode(lines));
+
+        assertExpectedOutput(of(6765));
+    }
+
+    @Test
+    @Order(3)
+    void shouldRestoreLocalVariablesOfInvokerAfterInvocation() {
+        final List<String> lines = of(
+            "function main() {",
+            "   var total = 0",
+            "   for (var i = 1; i <= 3; i++) {",
+            "       final depth = depth(i * 1000)",
+            "       total = total + depth + i",
+            "   }",
+            "   println(total)",
+            "}",
+            "function depth(n) {",
+            "   if (n == 0) {",
+            "       return 0",
+            "   }",
+            "   final one = 1",
+            "   return one + depth(n - 1)",
+            "}"
+        );
+
+        assertDoesNotThrow(() -> runCode(lines));
+
+        assertExpectedOutput(of(6006));
+    }
+
+    @Test
+    @Order(4)
+    void shouldFailWithStackOverflowIfConfiguredMaxStackSizeIsExceeded() {
+        final List<String> lines = of(
+            "function main() {",
+            "   println(sum(" + MAX_STACK_SIZE + "))",
+            "}",
+            "function sum(n) {",
+            "   if (n == 0) {",
+            "       return 0",
+            "   }",
+            "   return n + sum(n - 1)",
+            "}"
+        );
+
+        final JavammRuntimeError e = assertThrows(JavammRuntimeError.class, () -> runCode(lines));
+
+        assertErrorMessageContains(e, format("Stack overflow error. Max stack size is %d", MAX_STACK_SIZE));
+    }
+
+    @Test
+    @Order(5)
+    void shouldRestoreStackTraceOfInvokerAfterDeepRecursion() {
+        final List<String> lines = of(
+            "function main() {",
+            "   final depth = sum(10000)",
+            "   println(depth / 0)",
+            "}",
+            "function sum(n) {",
+            "   if (n == 0) {",
+            "       return 0",
+            "   }",
+            "   return n + sum(n - 1)",
+            "}"
+        );
+
+        final JavammRuntimeError e = assertThrows(JavammRuntimeError.class, () -> runCode(lines));
+
+        assertErrorMessageContains(e, buildErrorMsg("/ by zero", 3));
+    }
+}
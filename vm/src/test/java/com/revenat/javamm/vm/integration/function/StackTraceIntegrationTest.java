@@ -17,8 +17,12 @@
 
 package com.revenat.javamm.vm.integration.function;
 
+import com.revenat.javamm.code.fragment.SourceCode;
+import com.revenat.javamm.interpreter.ExecutionEngine;
 import com.revenat.javamm.interpreter.error.JavammRuntimeError;
 import com.revenat.javamm.interpreter.model.StackTraceItem;
+import com.revenat.javamm.vm.VirtualMachine;
+import com.revenat.javamm.vm.VirtualMachineBuilder;
 import com.revenat.javamm.vm.integration.AbstractIntegrationTest;
 import com.revenat.juinit.addons.ReplaceCamelCase;
 import org.junit.jupiter.api.DisplayName;
@@ -27,6 +31,8 @@ import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 
 import java.util.List;
 import java.util.stream.Stream;
@@ -40,6 +46,7 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
@@ -47,6 +54,10 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 @DisplayName("an interpreter")
 public class StackTraceIntegrationTest extends AbstractIntegrationTest {
 
+    private static final int DEEP_RECURSION_DEPTH = 200_000;
+
+    private static final int MAX_STACK_OVERFLOW_STACK_TRACE_SIZE = 64;
+
     @Test
     @Order(1)
     void shouldThrowRuntimeErrorWithStackTrace() {
@@ -101,8 +112,35 @@ public class StackTraceIntegrationTest extends AbstractIntegrationTest {
         assertErrorMessageContains(e, expectedErrorMessage);
     }
 
-    @Test
+    @ParameterizedTest
+    @EnumSource(ExecutionEngine.class)
     @Order(3)
+    void shouldCaptureBoundedStackTraceOfDeepRecursionOverflow(final ExecutionEngine executionEngine) {
+        final List<String> lines = List.of(
+            "function main() {",
+            "   sum(" + DEEP_RECURSION_DEPTH + ")",
+            "}",
+            "function sum(n) {",
+            "   if (n == 0) {",
+            "       return 0",
+            "   }",
+            "   return n + sum(n - 1)",
+            "}"
+        );
+        final VirtualMachine virtualMachine = new VirtualMachineBuilder()
+            .setExecutionEngine(executionEngine)
+            .setMaxStackSize(DEEP_RECURSION_DEPTH / 2)
+            .build();
+
+        final JavammRuntimeError e = assertThrows(JavammRuntimeError.class,
+            () -> virtualMachine.run(sourceCode(lines)));
+
+        assertErrorMessageContains(e, "Stack overflow error");
+        assertThat(e.getCurrentStackTrace().size(), lessThanOrEqualTo(MAX_STACK_OVERFLOW_STACK_TRACE_SIZE));
+    }
+
+    @Test
+    @Order(4)
     void shouldThrowRuntimeErrorWithoutStackTraceIfNoFunctionWasInvoked() {
         final List<String> lines = List.of(
             "function test() {",
@@ -116,6 +154,48 @@ public class StackTraceIntegrationTest extends AbstractIntegrationTest {
         assertThat(e.getCurrentStackTrace(), is(empty()));
     }
 
+    @Test
+    @Order(5)
+    void shouldNotIncludeFunctionsWhichHaveAlreadyReturnedInStackTrace() {
+        final List<String> lines = List.of(
+            "function main() {",
+            "   first()",
+            "   second(0)",
+            "}",
+
+            "function first() {",
+            "   return second(1) + 1",
+            "}",
+
+            "function second(a) {",
+            "   return 1 / a",
+            "}"
+        );
+
+        final String expectedStackTrace = Stream.of(
+            format("    at second(a) [%s:9]", MODULE_NAME),
+            format("    at main() [%s:3]", MODULE_NAME)
+        ).collect(joining(lineSeparator()));
+
+        final JavammRuntimeError e = assertThrows(JavammRuntimeError.class, () -> runCode(lines));
+
+        assertErrorMessageContains(e, buildErrorMsg("/ by zero", expectedStackTrace));
+    }
+
+    private SourceCode sourceCode(final List<String> lines) {
+        return new SourceCode() {
+            @Override
+            public String getModuleName() {
+                return MODULE_NAME;
+            }
+
+            @Override
+            public List<String> getLines() {
+                return lines;
+            }
+        };
+    }
+
     private void assertStackTraceItem(final StackTraceItem stackTraceItem,
                                       final String expectedModuleName,
                                       final String expectedFunctionName,
@@ -0,0 +1,146 @@
+
+/*
+ * Copyright (c) 2019. http://devonline.academy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.revenat.javamm.vm.integration.function;
+
+import com.revenat.javamm.interpreter.error.JavammRuntimeError;
+import com.revenat.javamm.vm.VirtualMachineBuilder;
+import com.revenat.javamm.vm.integration.AbstractIntegrationTest;
+import com.revenat.juinit.addons.ReplaceCamelCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.revenat.javamm.interpreter.InterpreterConfigurator.MAX_STACK_SIZE;
+import static com.revenat.javamm.vm.helper.CustomAsserts.assertErrorMessageContains;
+import static java.lang.String.format;
+import static java.lang.System.lineSeparator;
+import static java.util.List.of;
+import static java.util.stream.Collectors.joining;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayNameGeneration(ReplaceCamelCase.class)
+@DisplayName("an interpreter")
+public class TailCallIntegrationTest extends AbstractIntegrationTest {
+
+    private static final int TAIL_CALL_STACK_TRACE_SIZE = 2;
+
+    public TailCallIntegrationTest() {
+        super(new VirtualMachineBuilder().setTailCallStackTraceSize(TAIL_CALL_STACK_TRACE_SIZE));
+    }
+
+    @Test
+    @Order(1)
+    void shouldInvokeSelfRecursiveFunctionFromTailPositionWithoutGrowingOfStack() {
+        final List<String> lines = of(
+            "function main() {",
+            "   println(sum(10000, 0))",
+            "}",
+            "function sum(n, result) {",
+            "   if (n == 0) {",
+            "       return result",
+            "   }",
+            "   return sum(n - 1, result + n)",
+            "}"
+        );
+
+        assertDoesNotThrow(() -> runCode(lines));
+
+        assertExpectedOutput(of(50005000));
+    }
+
+    @Test
+    @Order(2)
+    void shouldInvokeMutuallyRecursiveFunctionsFromTailPositionWithoutGrowingOfStack() {
+        final List<String> lines = of(
+            "function main() {",
+            "   println(isEven(1001))",
+            "   println(isOdd(1001))",
+            "}",
+            "function isEven(n) {",
+            "   if (n == 0) {",
+            "       return true",
+            "   }",
+            "   return isOdd(n - 1)",
+            "}",
+            "function isOdd(n) {",
+            "   if (n == 0) {",
+            "       return false",
+            "   }",
+            "   return isEven(n - 1)",
+            "}"
+        );
+
+        assertDoesNotThrow(() -> runCode(lines));
+
+        assertExpectedOutput(of(false, true));
+    }
+
+    @Test
+    @Order(3)
+    void shouldFailWithStackOverflowIfRecursiveInvocationIsNotInTailPosition() {
+        final List<String> lines = of(
+            "function main() {",
+            "   println(sum(100))",
+            "}",
+            "function sum(n) {",
+            "   if (n == 0) {",
+            "       return 0",
+            "   }",
+            "   return n + sum(n - 1)",
+            "}"
+        );
+
+        final JavammRuntimeError e = assertThrows(JavammRuntimeError.class, () -> runCode(lines));
+
+        assertErrorMessageContains(e, format("Stack overflow error. Max stack size is %d", MAX_STACK_SIZE));
+    }
+
+    @Test
+    @Order(4)
+    void shouldKeepTruncatedStackTraceOfFunctionsReplacedByTailCalls() {
+        final List<String> lines = of(
+            "function main() {",
+            "   println(countdown(100))",
+            "}",
+            "function countdown(n) {",
+            "   if (n == 0) {",
+            "       return 1 / n",
+            "   }",
+            "   return countdown(n - 1)",
+            "}"
+        );
+        final String expectedStackTrace = Stream.of(
+            format("    at countdown(n) [%s:6]", MODULE_NAME),
+            format("    at countdown(n) [%s:8]", MODULE_NAME),
+            format("    at countdown(n) [%s:8]", MODULE_NAME),
+            format("    at main() [%s:2]", MODULE_NAME)
+        ).collect(joining(lineSeparator()));
+
+        final JavammRuntimeError e = assertThrows(JavammRuntimeError.class, () -> runCode(lines));
+
+        assertErrorMessageContains(e, buildErrorMsg("/ by zero", expectedStackTrace));
+    }
+}
@@ -18,6 +18,7 @@
 package com.revenat.javamm.vm.integration.operation;
 
 import com.revenat.javamm.interpreter.error.JavammRuntimeError;
+import com.revenat.javamm.interpreter.error.TerminateInterpreterException;
 import com.revenat.javamm.vm.integration.AbstractIntegrationTest;
 import com.revenat.juinit.addons.ReplaceCamelCase;
 import org.junit.jupiter.api.AfterAll;
@@ -108,8 +109,11 @@ public class DoWhileOperationInterpreterIntegrationTest extends AbstractIntegrat
             future.get(INFINITE_LOOP_TIMEOUT_IN_MILLISECONDS, MILLISECONDS);
             fail("Expected infinite loop");
         } catch (final TimeoutException e) {
-            // do nothing. TimeoutException is expected.
-            assertTrue(future.cancel(true));
+            // TimeoutException is expected, so the infinite loop is terminated
+            terminate();
+            final ExecutionException terminated = assertThrows(ExecutionException.class,
+                () -> future.get(INFINITE_LOOP_TIMEOUT_IN_MILLISECONDS, MILLISECONDS));
+            assertTrue(terminated.getCause() instanceof TerminateInterpreterException);
         }
     }
 
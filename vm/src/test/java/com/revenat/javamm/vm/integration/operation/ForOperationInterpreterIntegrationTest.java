@@ -17,7 +17,9 @@
 
 package com.revenat.javamm.vm.integration.operation;
 
+import com.revenat.javamm.compiler.error.JavammSyntaxError;
 import com.revenat.javamm.interpreter.error.JavammRuntimeError;
+import com.revenat.javamm.interpreter.error.TerminateInterpreterException;
 import com.revenat.javamm.vm.integration.AbstractIntegrationTest;
 import com.revenat.juinit.addons.ReplaceCamelCase;
 import org.junit.jupiter.api.AfterAll;
@@ -108,8 +110,11 @@ public class ForOperationInterpreterIntegrationTest extends AbstractIntegrationT
             future.get(INFINITE_LOOP_TIMEOUT_IN_MILLISECONDS, MILLISECONDS);
             fail("Expected infinite loop");
         } catch (final TimeoutException e) {
-            // do nothing. TimeoutException is expected.
-            assertTrue(future.cancel(true));
+            // TimeoutException is expected, so the infinite loop is terminated
+            terminate();
+            final ExecutionException terminated = assertThrows(ExecutionException.class,
+                () -> future.get(INFINITE_LOOP_TIMEOUT_IN_MILLISECONDS, MILLISECONDS));
+            assertTrue(terminated.getCause() instanceof TerminateInterpreterException);
         }
     }
 
@@ -123,10 +128,9 @@ public class ForOperationInterpreterIntegrationTest extends AbstractIntegrationT
             "println (i)"
         );
 
-        final JavammRuntimeError e = assertThrows(JavammRuntimeError.class, () -> runBlock(lines));
+        final JavammSyntaxError e = assertThrows(JavammSyntaxError.class, () -> runBlock(lines));
 
-        assertErrorMessageContains(e, buildErrorMsg("Variable 'i' is not defined", 5));
-        assertExpectedOutput(of(0, 1, 2, 3, 4));
+        assertErrorMessageContains(e, "Syntax error in 'test' [Line: 5]: Variable 'i' is not defined");
     }
 
     static class ForOperationProvider implements ArgumentsProvider {
@@ -238,7 +238,45 @@ public class SwitchOperationInterpreterIntegrationTest extends AbstractIntegrati
                     "   }",
                     "}",
                     "println ('after switch')"
-                ), of("default", 3, 1, "after switch"))
+                ), of("default", 3, 1, "after switch")),
+                // 11 ------------------------------------------
+                arguments(of(
+                    "// TestCase 11: string case match without break, with default",
+                    "var a = 'b'",
+                    "switch ( a ) {",
+                    "   case 'a' : {",
+                    "       println ('a')",
+                    "   }",
+                    "   case 'b' : {",
+                    "       println ('b')",
+                    "   }",
+                    "   default : {",
+                    "       println ('default')",
+                    "   }",
+                    "   case 'c' : {",
+                    "       println ('c')",
+                    "   }",
+                    "}",
+                    "println ('after switch')"
+                ), of("b", "default", "c", "after switch")),
+                // 12 ------------------------------------------
+                arguments(of(
+                    "// TestCase 12: sparse case match with break, with default",
+                    "var a = 1000",
+                    "switch ( a ) {",
+                    "   case 1 : {",
+                    "       println (1)",
+                    "   }",
+                    "   case 1000 : {",
+                    "       println (1000)",
+                    "       break",
+                    "   }",
+                    "   default : {",
+                    "       println ('default')",
+                    "   }",
+                    "}",
+                    "println ('after switch')"
+                ), of(1000, "after switch"))
             );
         }
     }